@@ -0,0 +1,122 @@
+package com.aol.cyclops.benchmarks.collections;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.aol.cyclops.data.collections.extensions.standard.ListX;
+import com.aol.cyclops.reactor.collections.extensions.persistent.LazyPBagX;
+import com.aol.cyclops.reactor.collections.extensions.persistent.LazyPStackX;
+import com.aol.cyclops.reactor.collections.extensions.persistent.LazyPVectorX;
+import com.aol.cyclops.reactor.collections.extensions.standard.LazyDequeX;
+import com.aol.cyclops.reactor.collections.extensions.standard.LazyListX;
+import com.aol.cyclops.reactor.collections.extensions.standard.LazySetX;
+
+/**
+ * map / filter / flatMap chains materialized from each lazy collection type, against the same chain on a JDK Stream and
+ * on an eager ListX.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class LazyCollectionChainBenchmark {
+
+    @Param({ "100", "10000", "1000000" })
+    int size;
+
+    List<Integer> data;
+
+    @Setup
+    public void setup() {
+        data = ListX.range(0, size);
+    }
+
+    @Benchmark
+    public int jdkStream() {
+        return data.stream()
+                   .map(i -> i + 1)
+                   .filter(i -> i % 3 != 0)
+                   .flatMap(i -> Stream.of(i, -i))
+                   .collect(Collectors.toList())
+                   .size();
+    }
+
+    @Benchmark
+    public int listX() {
+        return ListX.fromIterable(data)
+                    .map(i -> i + 1)
+                    .filter(i -> i % 3 != 0)
+                    .flatMap(i -> ListX.of(i, -i))
+                    .size();
+    }
+
+    @Benchmark
+    public int lazyListX() {
+        return LazyListX.fromIterable(data)
+                        .map(i -> i + 1)
+                        .filter(i -> i % 3 != 0)
+                        .flatMap(i -> ListX.of(i, -i))
+                        .size();
+    }
+
+    @Benchmark
+    public int lazySetX() {
+        return LazySetX.fromIterable(data)
+                       .map(i -> i + 1)
+                       .filter(i -> i % 3 != 0)
+                       .flatMap(i -> ListX.of(i, -i))
+                       .size();
+    }
+
+    @Benchmark
+    public int lazyDequeX() {
+        return LazyDequeX.fromIterable(data)
+                         .map(i -> i + 1)
+                         .filter(i -> i % 3 != 0)
+                         .flatMap(i -> ListX.of(i, -i))
+                         .size();
+    }
+
+    @Benchmark
+    public int lazyPVectorX() {
+        return LazyPVectorX.fromIterable(data)
+                           .map(i -> i + 1)
+                           .filter(i -> i % 3 != 0)
+                           .flatMap(i -> ListX.of(i, -i))
+                           .size();
+    }
+
+    @Benchmark
+    public int lazyPStackX() {
+        return LazyPStackX.fromIterable(data)
+                          .map(i -> i + 1)
+                          .filter(i -> i % 3 != 0)
+                          .flatMap(i -> ListX.of(i, -i))
+                          .size();
+    }
+
+    @Benchmark
+    public int lazyPBagX() {
+        return LazyPBagX.fromIterable(data)
+                        .map(i -> i + 1)
+                        .filter(i -> i % 3 != 0)
+                        .flatMap(i -> ListX.of(i, -i))
+                        .size();
+    }
+}
@@ -0,0 +1,165 @@
+package com.aol.cyclops.benchmarks.collections;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Collector;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.aol.cyclops.data.collections.extensions.standard.ListX;
+import com.aol.cyclops.reactor.collections.extensions.base.LazyFluentCollection;
+import com.aol.cyclops.reactor.collections.extensions.standard.LazyListX;
+import com.aol.cyclops.util.ExceptionSoftener;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Materializing a LazyListX shared by 1, 8 and 64 concurrent readers. One reader materializes the collection, the others
+ * wait on its shared completion handle - compared against the previous spin loop (reproduced in
+ * {@link SpinLazyCollection}).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class LazyCollectionContentionBenchmark {
+
+    @Param({ "100000" })
+    int size;
+
+    @Param({ "1", "8", "64" })
+    int readers;
+
+    ExecutorService exec;
+
+    @Setup
+    public void setup() {
+        exec = Executors.newFixedThreadPool(readers);
+    }
+
+    @TearDown
+    public void tearDown() {
+        exec.shutdown();
+    }
+
+    @Benchmark
+    public LazyListX<Integer> sharedMaterialization() throws InterruptedException {
+        final LazyListX<Integer> lazy = LazyListX.fromPublisher(Flux.range(0, size));
+        readConcurrently(lazy::size);
+        return lazy;
+    }
+
+    /**
+     * Baseline : the previous materialization strategy (see {@link SpinLazyCollection})
+     */
+    @Benchmark
+    public SpinLazyCollection<Integer, List<Integer>> spinMaterialization() throws InterruptedException {
+        final SpinLazyCollection<Integer, List<Integer>> lazy = new SpinLazyCollection<>(
+                                                                                         Flux.range(0, size),
+                                                                                         ListX.defaultCollector());
+        readConcurrently(() -> lazy.get()
+                                   .size());
+        return lazy;
+    }
+
+    private void readConcurrently(final Runnable read) throws InterruptedException {
+        final CountDownLatch go = new CountDownLatch(
+                                                     1);
+        final CountDownLatch done = new CountDownLatch(
+                                                       readers);
+        for (int i = 0; i < readers; i++) {
+            exec.execute(() -> {
+                try {
+                    go.await();
+                    read.run();
+                } catch (final InterruptedException e) {
+                    Thread.currentThread()
+                          .interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        go.countDown();
+        done.await();
+    }
+
+    /**
+     * The previous materialization strategy : losing threads spin on parkNanos(0) until the winner completes
+     */
+    public static class SpinLazyCollection<T, C extends Collection<T>> implements LazyFluentCollection<T, C> {
+        private volatile C list;
+        private final AtomicReference<Flux<T>> seq;
+        private final Collector<T, ?, C> collector;
+        private final AtomicBoolean updating = new AtomicBoolean(
+                                                                 false);
+        private final AtomicReference<Throwable> error = new AtomicReference<>(
+                                                                               null);
+
+        SpinLazyCollection(final Flux<T> seq, final Collector<T, ?, C> collector) {
+            this.seq = new AtomicReference<>(
+                                             seq);
+            this.collector = collector;
+        }
+
+        @Override
+        public C get() {
+            if (seq.get() != null) {
+                if (updating.compareAndSet(false, true)) {
+                    try {
+                        final Flux<T> toUse = seq.get();
+                        if (toUse != null) {
+                            list = toUse.collect(collector)
+                                        .block();
+                            seq.set(null);
+                        }
+                    } catch (final Throwable t) {
+                        error.set(t);
+                    } finally {
+                        updating.set(false);
+                    }
+                }
+                while (updating.get()) {
+                    LockSupport.parkNanos(0l);
+                }
+                if (error.get() != null)
+                    throw ExceptionSoftener.throwSoftenedException(error.get());
+            }
+            return list;
+        }
+
+        @Override
+        public Mono<C> materializeAsync() {
+            return Mono.fromCallable(this::get);
+        }
+
+        @Override
+        public Flux<T> flux() {
+            final Flux<T> toUse = seq.get();
+            if (toUse != null)
+                return toUse;
+            return Flux.fromIterable(list);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.aol.cyclops.benchmarks.collections;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.aol.cyclops.data.collections.extensions.standard.ListX;
+import com.aol.cyclops.reactor.collections.extensions.standard.LazyListX;
+
+import reactor.core.publisher.Flux;
+
+/**
+ * Materializing 1, 4 and 8 stage map / filter chains, using the fused operator chain in a LazyListX against the
+ * equivalent chain of Reactor operators.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class LazyCollectionFusionBenchmark {
+
+    @Param({ "10000", "1000000" })
+    int size;
+
+    @Param({ "1", "4", "8" })
+    int stages;
+
+    List<Integer> data;
+
+    @Setup
+    public void setup() {
+        data = ListX.range(0, size);
+    }
+
+    @Benchmark
+    public int fused() {
+        LazyListX<Integer> list = LazyListX.fromIterable(data);
+        for (int i = 0; i < stages; i++)
+            list = i % 2 == 0 ? list.map(n -> n + 1) : list.filter(n -> n % 7 != 0);
+        return list.size();
+    }
+
+    @Benchmark
+    public int flux() {
+        Flux<Integer> flux = Flux.fromIterable(data);
+        for (int i = 0; i < stages; i++)
+            flux = i % 2 == 0 ? flux.map(n -> n + 1) : flux.filter(n -> n % 7 != 0);
+        return flux.collect(ListX.<Integer> defaultCollector())
+                   .block()
+                   .size();
+    }
+}
@@ -0,0 +1,97 @@
+package com.aol.cyclops.benchmarks.collections;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.aol.cyclops.data.collections.extensions.standard.ListX;
+import com.aol.cyclops.reactor.collections.extensions.persistent.LazyPBagX;
+import com.aol.cyclops.reactor.collections.extensions.persistent.LazyPStackX;
+import com.aol.cyclops.reactor.collections.extensions.persistent.LazyPVectorX;
+import com.aol.cyclops.reactor.collections.extensions.standard.LazyDequeX;
+import com.aol.cyclops.reactor.collections.extensions.standard.LazyListX;
+import com.aol.cyclops.reactor.collections.extensions.standard.LazySetX;
+
+/**
+ * Materializing each lazy collection type from a Stream, against collecting the Stream into a JDK List and a ListX.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class LazyCollectionMaterializationBenchmark {
+
+    @Param({ "100", "10000", "1000000" })
+    int size;
+
+    List<Integer> data;
+
+    @Setup
+    public void setup() {
+        data = ListX.range(0, size);
+    }
+
+    @Benchmark
+    public int jdkList() {
+        return data.stream()
+                   .collect(Collectors.toList())
+                   .size();
+    }
+
+    @Benchmark
+    public int listX() {
+        return data.stream()
+                   .collect(ListX.listXCollector())
+                   .size();
+    }
+
+    @Benchmark
+    public int lazyListX() {
+        return LazyListX.fromStreamS(data.stream())
+                        .size();
+    }
+
+    @Benchmark
+    public int lazySetX() {
+        return LazySetX.fromStreamS(data.stream())
+                       .size();
+    }
+
+    @Benchmark
+    public int lazyDequeX() {
+        return LazyDequeX.fromStreamS(data.stream())
+                         .size();
+    }
+
+    @Benchmark
+    public int lazyPVectorX() {
+        return LazyPVectorX.fromStreamS(data.stream())
+                           .size();
+    }
+
+    @Benchmark
+    public int lazyPStackX() {
+        return LazyPStackX.fromStreamS(data.stream())
+                          .size();
+    }
+
+    @Benchmark
+    public int lazyPBagX() {
+        return LazyPBagX.fromStreamS(data.stream())
+                        .size();
+    }
+}
@@ -0,0 +1,179 @@
+package com.aol.cyclops.benchmarks.collections;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.aol.cyclops.data.collections.extensions.standard.ListX;
+import com.aol.cyclops.reactor.collections.extensions.persistent.LazyPBagX;
+import com.aol.cyclops.reactor.collections.extensions.persistent.LazyPStackX;
+import com.aol.cyclops.reactor.collections.extensions.persistent.LazyPVectorX;
+import com.aol.cyclops.reactor.collections.extensions.standard.LazyDequeX;
+import com.aol.cyclops.reactor.collections.extensions.standard.LazyListX;
+import com.aol.cyclops.reactor.collections.extensions.standard.LazySetX;
+
+/**
+ * Adding {@link #ADDS} elements one at a time via plus (materializing once at the end), and adding a collection of size
+ * elements via plusAll, to each lazy collection type against a JDK ArrayList and a ListX.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class LazyCollectionPlusBenchmark {
+
+    static final int ADDS = 100;
+
+    @Param({ "100", "10000" })
+    int size;
+
+    List<Integer> data;
+
+    @Setup
+    public void setup() {
+        data = ListX.range(0, size);
+    }
+
+    /*
+     * the standard (mutable) collections wrap the List they are constructed from, and plus / plusAll mutate it, so each
+     * benchmark starts from a copy of the data
+     */
+    private List<Integer> copy() {
+        return new ArrayList<>(
+                               data);
+    }
+
+    @Benchmark
+    public int jdkListPlus() {
+        List<Integer> list = copy();
+        for (int i = 0; i < ADDS; i++)
+            list.add(i);
+        return list.size();
+    }
+
+    @Benchmark
+    public int listXPlus() {
+        ListX<Integer> list = ListX.fromIterable(copy());
+        for (int i = 0; i < ADDS; i++)
+            list = list.plus(i);
+        return list.size();
+    }
+
+    @Benchmark
+    public int lazyListXPlus() {
+        LazyListX<Integer> list = LazyListX.fromIterable(copy());
+        for (int i = 0; i < ADDS; i++)
+            list = list.plus(i);
+        return list.size();
+    }
+
+    @Benchmark
+    public int lazySetXPlus() {
+        LazySetX<Integer> set = LazySetX.fromIterable(copy());
+        for (int i = 0; i < ADDS; i++)
+            set = set.plus(-i);
+        return set.size();
+    }
+
+    @Benchmark
+    public int lazyDequeXPlus() {
+        LazyDequeX<Integer> deque = LazyDequeX.fromIterable(copy());
+        for (int i = 0; i < ADDS; i++)
+            deque = deque.plus(i);
+        return deque.size();
+    }
+
+    @Benchmark
+    public int lazyPVectorXPlus() {
+        LazyPVectorX<Integer> vector = LazyPVectorX.fromIterable(copy());
+        for (int i = 0; i < ADDS; i++)
+            vector = vector.plus(i);
+        return vector.size();
+    }
+
+    @Benchmark
+    public int lazyPStackXPlus() {
+        LazyPStackX<Integer> stack = LazyPStackX.fromIterable(copy());
+        for (int i = 0; i < ADDS; i++)
+            stack = stack.plus(i);
+        return stack.size();
+    }
+
+    @Benchmark
+    public int lazyPBagXPlus() {
+        LazyPBagX<Integer> bag = LazyPBagX.fromIterable(copy());
+        for (int i = 0; i < ADDS; i++)
+            bag = bag.plus(i);
+        return bag.size();
+    }
+
+    @Benchmark
+    public int jdkListPlusAll() {
+        List<Integer> list = copy();
+        list.addAll(data);
+        return list.size();
+    }
+
+    @Benchmark
+    public int listXPlusAll() {
+        return ListX.fromIterable(copy())
+                    .plusAll(data)
+                    .size();
+    }
+
+    @Benchmark
+    public int lazyListXPlusAll() {
+        return LazyListX.fromIterable(copy())
+                        .plusAll(data)
+                        .size();
+    }
+
+    @Benchmark
+    public int lazySetXPlusAll() {
+        return LazySetX.fromIterable(copy())
+                       .plusAll(data)
+                       .size();
+    }
+
+    @Benchmark
+    public int lazyDequeXPlusAll() {
+        return LazyDequeX.fromIterable(copy())
+                         .plusAll(data)
+                         .size();
+    }
+
+    @Benchmark
+    public int lazyPVectorXPlusAll() {
+        return LazyPVectorX.fromIterable(copy())
+                           .plusAll(data)
+                           .size();
+    }
+
+    @Benchmark
+    public int lazyPStackXPlusAll() {
+        return LazyPStackX.fromIterable(copy())
+                          .plusAll(data)
+                          .size();
+    }
+
+    @Benchmark
+    public int lazyPBagXPlusAll() {
+        return LazyPBagX.fromIterable(copy())
+                        .plusAll(data)
+                        .size();
+    }
+}
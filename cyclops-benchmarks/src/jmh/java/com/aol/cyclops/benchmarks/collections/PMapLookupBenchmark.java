@@ -0,0 +1,102 @@
+package com.aol.cyclops.benchmarks.collections;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.pcollections.HashTreePMap;
+import org.pcollections.PMap;
+
+import com.aol.cyclops.clojure.collections.ClojureHashPMap;
+import com.aol.cyclops.javaslang.collections.JavaSlangHashPMap;
+import com.aol.cyclops.scala.collections.ScalaHashPMap;
+
+/**
+ * containsKey, get and getOrDefault lookups of {@link #PROBES} keys (half present, half absent) against each hash PMap
+ * adapter, and a pCollections HashTreePMap. The time per lookup should stay (close to) flat as size grows.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class PMapLookupBenchmark {
+
+    static final int PROBES = 1024;
+
+    @Param({ "pcollections", "scala", "clojure", "javaslang" })
+    String backend;
+
+    @Param({ "1000", "100000", "1000000" })
+    int size;
+
+    Map<Integer, Integer> map;
+    Integer[] probes;
+
+    @Setup
+    public void setup() {
+        Map<Integer, Integer> data = new HashMap<>();
+        for (int i = 0; i < size; i++)
+            data.put(i, i);
+        map = empty().plusAll(data);
+        Random random = new Random(
+                                   0);
+        probes = new Integer[PROBES];
+        for (int i = 0; i < PROBES; i++)
+            probes[i] = random.nextInt(size * 2);
+    }
+
+    private PMap<Integer, Integer> empty() {
+        switch (backend) {
+        case "scala":
+            return ScalaHashPMap.empty();
+        case "clojure":
+            return ClojureHashPMap.empty();
+        case "javaslang":
+            return JavaSlangHashPMap.empty();
+        default:
+            return HashTreePMap.empty();
+        }
+    }
+
+    @Benchmark
+    public int containsKey() {
+        int found = 0;
+        for (Integer next : probes)
+            if (map.containsKey(next))
+                found++;
+        return found;
+    }
+
+    @Benchmark
+    public long get() {
+        long total = 0;
+        for (Integer next : probes) {
+            Integer value = map.get(next);
+            if (value != null)
+                total += value;
+        }
+        return total;
+    }
+
+    @Benchmark
+    public long getOrDefault() {
+        long total = 0;
+        for (Integer next : probes)
+            total += map.getOrDefault(next, -1);
+        return total;
+    }
+}
@@ -0,0 +1,96 @@
+package com.aol.cyclops.benchmarks.collections;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.pcollections.HashTreePMap;
+import org.pcollections.PMap;
+
+import com.aol.cyclops.clojure.collections.ClojureHashPMap;
+import com.aol.cyclops.javaslang.collections.JavaSlangHashPMap;
+import com.aol.cyclops.reactor.collections.extensions.base.NativeMerge;
+import com.aol.cyclops.scala.collections.ScalaHashPMap;
+
+/**
+ * plusAll and merge of two half overlapping hash PMaps of size entries each, for each hash PMap adapter and a
+ * pCollections HashTreePMap. Merging maps from the same backend, and a JDK HashMap into a PMap, are measured separately.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class PMapMergeBenchmark {
+
+    @Param({ "pcollections", "scala", "clojure", "javaslang" })
+    String backend;
+
+    @Param({ "1000", "100000" })
+    int size;
+
+    PMap<Integer, Integer> left;
+    PMap<Integer, Integer> right;
+    Map<Integer, Integer> jdk;
+
+    @Setup
+    public void setup() {
+        Map<Integer, Integer> data = new HashMap<>();
+        for (int i = 0; i < size; i++)
+            data.put(i, i);
+        left = empty().plusAll(data);
+        jdk = new HashMap<>();
+        for (int i = size / 2; i < size + size / 2; i++)
+            jdk.put(i, i);
+        right = empty().plusAll(jdk);
+    }
+
+    private PMap<Integer, Integer> empty() {
+        switch (backend) {
+        case "scala":
+            return ScalaHashPMap.empty();
+        case "clojure":
+            return ClojureHashPMap.empty();
+        case "javaslang":
+            return JavaSlangHashPMap.empty();
+        default:
+            return HashTreePMap.empty();
+        }
+    }
+
+    @Benchmark
+    public int plusAll() {
+        return left.plusAll(right)
+                   .size();
+    }
+
+    @Benchmark
+    public int plusAllJdk() {
+        return left.plusAll(jdk)
+                   .size();
+    }
+
+    @Benchmark
+    public int merge() {
+        return NativeMerge.merge(left, right, Integer::sum)
+                          .size();
+    }
+
+    @Benchmark
+    public int mergeJdk() {
+        return NativeMerge.merge(left, jdk, Integer::sum)
+                          .size();
+    }
+}
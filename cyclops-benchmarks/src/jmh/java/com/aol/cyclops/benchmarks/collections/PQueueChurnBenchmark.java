@@ -0,0 +1,91 @@
+package com.aol.cyclops.benchmarks.collections;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.pcollections.AmortizedPQueue;
+import org.pcollections.PCollection;
+import org.pcollections.PQueue;
+
+import com.aol.cyclops.clojure.collections.ClojurePQueue;
+import com.aol.cyclops.data.collections.extensions.standard.ListX;
+import com.aol.cyclops.reactor.collections.extensions.base.BoundedPQueue;
+import com.aol.cyclops.scala.collections.ScalaPQueue;
+
+/**
+ * A sliding window of the most recent window elements over a stream of 100,000 additions, maintained by hand (plus,
+ * then minus() once the window is full) on each PQueue adapter, against a BoundedPQueue over the same adapter. Also
+ * removes a single element from the middle of a full window.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class PQueueChurnBenchmark {
+
+    private static final int ADDITIONS = 100_000;
+
+    @Param({ "pcollections", "scala", "clojure", "bounded-pcollections", "bounded-scala", "bounded-clojure" })
+    String backend;
+
+    @Param({ "100", "10000" })
+    int window;
+
+    PQueue<Integer> full;
+
+    @Setup
+    public void setup() {
+        full = empty().plusAll(ListX.range(0, window));
+    }
+
+    private PQueue<Integer> empty() {
+        switch (backend) {
+        case "scala":
+            return ScalaPQueue.emptyPQueue();
+        case "clojure":
+            return ClojurePQueue.emptyPQueue();
+        case "bounded-pcollections":
+            return BoundedPQueue.of(AmortizedPQueue.empty(), window);
+        case "bounded-scala":
+            return ScalaPQueue.emptyBoundedPQueue(window);
+        case "bounded-clojure":
+            return ClojurePQueue.emptyBoundedPQueue(window);
+        default:
+            return AmortizedPQueue.empty();
+        }
+    }
+
+    @Benchmark
+    public PQueue<Integer> slidingWindow() {
+        PQueue<Integer> queue = empty();
+        boolean bounded = queue instanceof BoundedPQueue;
+        int size = 0;
+        for (int i = 0; i < ADDITIONS; i++) {
+            queue = queue.plus(i);
+            if (bounded)
+                continue;
+            if (size == window)
+                queue = queue.minus();
+            else
+                size++;
+        }
+        return queue;
+    }
+
+    @Benchmark
+    public PCollection<Integer> minusElement() {
+        return full.minus((Object) (window / 2));
+    }
+}
@@ -0,0 +1,91 @@
+package com.aol.cyclops.benchmarks.collections;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.pcollections.HashTreePSet;
+import org.pcollections.PSet;
+
+import com.aol.cyclops.clojure.collections.ClojureHashPSet;
+import com.aol.cyclops.data.collections.extensions.standard.ListX;
+import com.aol.cyclops.dexx.collections.DexxPSet;
+import com.aol.cyclops.javaslang.collections.JavaSlangPSet;
+import com.aol.cyclops.scala.collections.ScalaHashPSet;
+
+/**
+ * contains / containsAll lookups of {@link #PROBES} keys (half present, half absent) against each hash PSet adapter, and a
+ * pCollections HashTreePSet. The time per lookup should stay (close to) flat as size grows.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class PSetLookupBenchmark {
+
+    static final int PROBES = 1024;
+
+    @Param({ "pcollections", "scala", "clojure", "dexx", "javaslang" })
+    String backend;
+
+    @Param({ "1000", "100000", "1000000" })
+    int size;
+
+    PSet<Integer> set;
+    Integer[] probes;
+    List<Integer> present;
+
+    @Setup
+    public void setup() {
+        List<Integer> data = ListX.range(0, size);
+        set = empty().plusAll(data);
+        Random random = new Random(
+                                   0);
+        probes = new Integer[PROBES];
+        for (int i = 0; i < PROBES; i++)
+            probes[i] = random.nextInt(size * 2);
+        present = ListX.generate(PROBES, () -> random.nextInt(size));
+    }
+
+    private PSet<Integer> empty() {
+        switch (backend) {
+        case "scala":
+            return ScalaHashPSet.emptyPSet();
+        case "clojure":
+            return ClojureHashPSet.emptyPSet();
+        case "dexx":
+            return DexxPSet.emptyPSet();
+        case "javaslang":
+            return JavaSlangPSet.emptyPSet();
+        default:
+            return HashTreePSet.empty();
+        }
+    }
+
+    @Benchmark
+    public int contains() {
+        int found = 0;
+        for (Integer next : probes)
+            if (set.contains(next))
+                found++;
+        return found;
+    }
+
+    @Benchmark
+    public boolean containsAll() {
+        return set.containsAll(present);
+    }
+}
@@ -0,0 +1,98 @@
+package com.aol.cyclops.benchmarks.collections;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.pcollections.ConsPStack;
+import org.pcollections.PStack;
+
+import com.aol.cyclops.clojure.collections.ClojurePStack;
+import com.aol.cyclops.data.collections.extensions.standard.ListX;
+import com.aol.cyclops.dexx.collections.DexxPStack;
+import com.aol.cyclops.javaslang.collections.JavaSlangPStack;
+import com.aol.cyclops.scala.collections.ScalaPStack;
+
+/**
+ * Full traversals (iteration, indexOf, sequential and parallel Streams) of each linked PStack adapter, against a
+ * pCollections ConsPStack. The time per element should stay flat as size grows.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class PStackTraversalBenchmark {
+
+    @Param({ "pcollections", "scala", "clojure", "dexx", "javaslang" })
+    String backend;
+
+    @Param({ "1000", "10000", "100000" })
+    int size;
+
+    PStack<Integer> stack;
+
+    @Setup
+    public void setup() {
+        stack = empty().plusAll(ListX.range(0, size));
+    }
+
+    private PStack<Integer> empty() {
+        switch (backend) {
+        case "scala":
+            return ScalaPStack.emptyPStack();
+        case "clojure":
+            return ClojurePStack.emptyPStack();
+        case "dexx":
+            return DexxPStack.emptyPStack();
+        case "javaslang":
+            return JavaSlangPStack.emptyPStack();
+        default:
+            return ConsPStack.empty();
+        }
+    }
+
+    @Benchmark
+    public long iterate() {
+        long total = 0;
+        for (Integer next : stack)
+            total += next;
+        return total;
+    }
+
+    @Benchmark
+    public long forEach() {
+        long[] total = { 0 };
+        stack.forEach(i -> total[0] += i);
+        return total[0];
+    }
+
+    @Benchmark
+    public int indexOfLast() {
+        return stack.indexOf(0);
+    }
+
+    @Benchmark
+    public long stream() {
+        return stack.stream()
+                    .mapToLong(i -> i)
+                    .sum();
+    }
+
+    @Benchmark
+    public long parallelStream() {
+        return stack.parallelStream()
+                    .mapToLong(i -> i)
+                    .sum();
+    }
+}
@@ -0,0 +1,80 @@
+package com.aol.cyclops.benchmarks.collections;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.aol.cyclops.clojure.collections.ClojurePVector;
+import com.aol.cyclops.data.collections.extensions.standard.ListX;
+import com.aol.cyclops.javaslang.collections.JavaSlangPVector;
+import com.aol.cyclops.reactor.collections.extensions.persistent.LazyPVectorX;
+import com.aol.cyclops.scala.collections.ScalaPVector;
+
+/**
+ * map, filter and reduce over a LazyPVectorX of size elements for each PVector backend. The Scala, Clojure and
+ * Javaslang vectors run these operations natively, the pCollections (TreePVector) backed LazyPVectorX rebuilds the
+ * result element by element.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class PVectorBulkOpsBenchmark {
+
+    @Param({ "pcollections", "scala", "clojure", "javaslang" })
+    String backend;
+
+    @Param({ "1000", "100000" })
+    int size;
+
+    LazyPVectorX<Integer> vector;
+
+    @Setup
+    public void setup() {
+        vector = empty().plusAll(ListX.range(0, size))
+                        .materialize();
+    }
+
+    private LazyPVectorX<Integer> empty() {
+        switch (backend) {
+        case "scala":
+            return ScalaPVector.empty();
+        case "clojure":
+            return ClojurePVector.empty();
+        case "javaslang":
+            return JavaSlangPVector.empty();
+        default:
+            return LazyPVectorX.empty();
+        }
+    }
+
+    @Benchmark
+    public int map() {
+        return vector.map(i -> i + 1)
+                     .size();
+    }
+
+    @Benchmark
+    public int mapFilter() {
+        return vector.map(i -> i * 2)
+                     .filter(i -> i % 3 == 0)
+                     .size();
+    }
+
+    @Benchmark
+    public long reduce() {
+        return vector.reduce(0L, (a, b) -> a + b);
+    }
+}
@@ -0,0 +1,104 @@
+package com.aol.cyclops.benchmarks.collections;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.pcollections.PVector;
+
+import com.aol.cyclops.Reducer;
+import com.aol.cyclops.Reducers;
+import com.aol.cyclops.clojure.collections.ClojurePVector;
+import com.aol.cyclops.data.collections.extensions.standard.ListX;
+import com.aol.cyclops.dexx.collections.DexxPVector;
+import com.aol.cyclops.javaslang.collections.JavaSlangPVector;
+import com.aol.cyclops.reactor.collections.extensions.base.Conversions;
+import com.aol.cyclops.reactor.collections.extensions.base.RRBPVector;
+import com.aol.cyclops.reactor.collections.extensions.persistent.LazyPVectorX;
+import com.aol.cyclops.scala.collections.ScalaPVector;
+
+import reactor.core.publisher.Flux;
+
+/**
+ * Conversion matrix between the PVector adapters, through a Flux and the target Reducer (the existing route)
+ * against the Conversions utility / fromCollection (an array snapshot handed to the bulk factory of the target).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class PVectorConversionBenchmark {
+
+    @Param({ "pcollections", "scala", "clojure", "javaslang", "dexx", "rrb" })
+    String source;
+
+    @Param({ "pcollections", "scala", "clojure", "javaslang", "dexx", "rrb" })
+    String target;
+
+    @Param({ "1000000" })
+    int size;
+
+    PVector<Integer> vector;
+
+    @Setup
+    public void setup() {
+        vector = convert(source, ListX.range(0, size));
+    }
+
+    private static PVector<Integer> convert(String backend, Collection<Integer> from) {
+        switch (backend) {
+        case "scala":
+            return ScalaPVector.fromCollection(from);
+        case "clojure":
+            return ClojurePVector.fromCollection(from);
+        case "javaslang":
+            return JavaSlangPVector.fromCollection(from);
+        case "dexx":
+            return DexxPVector.fromCollection(from);
+        case "rrb":
+            return Conversions.toRRBPVector(from);
+        default:
+            return Conversions.toTreePVector(from);
+        }
+    }
+
+    private static Reducer<PVector<Integer>> reducer(String backend) {
+        switch (backend) {
+        case "scala":
+            return ScalaPVector.toPVector();
+        case "clojure":
+            return ClojurePVector.toPVector();
+        case "javaslang":
+            return JavaSlangPVector.toPVector();
+        case "dexx":
+            return DexxPVector.toPVector();
+        case "rrb":
+            return RRBPVector.toPVector();
+        default:
+            return Reducers.toPVector();
+        }
+    }
+
+    @Benchmark
+    public int viaReducer() {
+        return new LazyPVectorX<Integer>(
+                                         Flux.fromIterable(vector), reducer(target)).size();
+    }
+
+    @Benchmark
+    public int conversion() {
+        return convert(target, vector).size();
+    }
+}
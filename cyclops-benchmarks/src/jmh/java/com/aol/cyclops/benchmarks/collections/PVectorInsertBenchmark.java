@@ -0,0 +1,79 @@
+package com.aol.cyclops.benchmarks.collections;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.pcollections.PVector;
+import org.pcollections.TreePVector;
+
+import com.aol.cyclops.data.collections.extensions.standard.ListX;
+import com.aol.cyclops.javaslang.collections.JavaSlangPVector;
+import com.aol.cyclops.reactor.collections.extensions.base.RRBPVector;
+import com.aol.cyclops.scala.collections.ScalaPVector;
+
+/**
+ * Insertion and removal at the middle index, and concatenation of PVectors of size elements. The Scala and
+ * Javaslang adapters split and rebuild the vector (O(n)), the RRB tree backed RRBPVector splits and joins in O(log n).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class PVectorInsertBenchmark {
+
+    @Param({ "pcollections", "scala", "javaslang", "rrb" })
+    String backend;
+
+    @Param({ "1000", "100000" })
+    int size;
+
+    PVector<Integer> vector;
+
+    @Setup
+    public void setup() {
+        vector = empty().plusAll(ListX.range(0, size));
+    }
+
+    private PVector<Integer> empty() {
+        switch (backend) {
+        case "scala":
+            return ScalaPVector.emptyPVector();
+        case "javaslang":
+            return JavaSlangPVector.emptyPVector();
+        case "rrb":
+            return RRBPVector.emptyPVector();
+        default:
+            return TreePVector.empty();
+        }
+    }
+
+    @Benchmark
+    public int insertAt() {
+        return vector.plus(size / 2, -1)
+                     .size();
+    }
+
+    @Benchmark
+    public int removeAt() {
+        return vector.minus(size / 2)
+                     .size();
+    }
+
+    @Benchmark
+    public int concat() {
+        return vector.plusAll(vector)
+                     .size();
+    }
+}
@@ -0,0 +1,72 @@
+package com.aol.cyclops.benchmarks.collections;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.pcollections.PVector;
+
+import com.aol.cyclops.Reducer;
+import com.aol.cyclops.clojure.collections.ClojurePVector;
+import com.aol.cyclops.data.collections.extensions.standard.ListX;
+import com.aol.cyclops.javaslang.collections.JavaSlangPVector;
+import com.aol.cyclops.scala.collections.ScalaPVector;
+
+/**
+ * Materializing a Stream into each adapter PVector through its builder backed Reducer (mapReduce), against folding a
+ * singleton vector per element together with plusAll.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ReducerBenchmark {
+
+    @Param({ "10000", "1000000" })
+    int size;
+
+    @Param({ "scala", "clojure", "javaslang" })
+    String backend;
+
+    List<Integer> data;
+    Reducer<PVector<Integer>> reducer;
+
+    @Setup
+    public void setup() {
+        data = ListX.range(0, size);
+        switch (backend) {
+        case "scala":
+            reducer = ScalaPVector.toPVector();
+            break;
+        case "clojure":
+            reducer = ClojurePVector.toPVector();
+            break;
+        default:
+            reducer = JavaSlangPVector.toPVector();
+        }
+    }
+
+    @Benchmark
+    public int builder() {
+        return reducer.mapReduce(data.stream())
+                      .size();
+    }
+
+    @Benchmark
+    public int fold() {
+        return reducer.reduce(reducer.mapToType(data.stream()))
+                      .size();
+    }
+}
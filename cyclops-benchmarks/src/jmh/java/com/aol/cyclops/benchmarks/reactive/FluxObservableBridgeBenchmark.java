@@ -0,0 +1,77 @@
+package com.aol.cyclops.benchmarks.reactive;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.aol.cyclops.control.ReactiveSeq;
+import com.aol.cyclops.rx.FluxObservables;
+
+import reactor.core.publisher.Flux;
+import rx.Observable;
+import rx.RxReactiveStreams;
+
+/**
+ * Per element overhead of moving between Flux and Observable, through RxReactiveStreams (the previous adapter chain)
+ * against the direct FluxObservables bridge. The inner benchmarks mirror ObservableT flatMapT, which converted a
+ * single element stream per outer element.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class FluxObservableBridgeBenchmark {
+
+    @Param({ "1", "1000", "100000" })
+    int size;
+
+    @Benchmark
+    public void fluxToObservableRxReactiveStreams(Blackhole bh) {
+        RxReactiveStreams.toObservable(Flux.range(0, size))
+                         .subscribe(bh::consume);
+    }
+
+    @Benchmark
+    public void fluxToObservableBridge(Blackhole bh) {
+        FluxObservables.observable(Flux.range(0, size))
+                       .subscribe(bh::consume);
+    }
+
+    @Benchmark
+    public void observableToFluxRxReactiveStreams(Blackhole bh) {
+        Flux.from(RxReactiveStreams.toPublisher(Observable.range(0, size)))
+            .subscribe(bh::consume);
+    }
+
+    @Benchmark
+    public void observableToFluxBridge(Blackhole bh) {
+        FluxObservables.flux(Observable.range(0, size))
+                       .subscribe(bh::consume);
+    }
+
+    @Benchmark
+    public void innerRxReactiveStreams(Blackhole bh) {
+        Observable.range(0, size)
+                  .flatMap(i -> RxReactiveStreams.toObservable(ReactiveSeq.of(i)))
+                  .subscribe(bh::consume);
+    }
+
+    @Benchmark
+    public void innerIterable(Blackhole bh) {
+        Observable.range(0, size)
+                  .flatMap(i -> Observable.from(ReactiveSeq.of(i)))
+                  .subscribe(bh::consume);
+    }
+}
@@ -0,0 +1,113 @@
+package com.aol.cyclops.benchmarks.reactive;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.aol.cyclops.control.FluxSource;
+import com.aol.cyclops.data.async.QueueFactories;
+import com.aol.cyclops.data.async.wait.WaitStrategy;
+import com.aol.cyclops.reactor.flux.pushable.PushableFlux;
+import com.aol.cyclops.reactor.metrics.PipeMetrics;
+
+/**
+ * Pushing values from 4 producers through a ring buffer backed FluxSource, against the blocking queue and polling Agrona
+ * queue backed FluxSources, with and without PipeMetrics recording.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class FluxSourceBenchmark {
+
+    private static final int PRODUCERS = 4;
+
+    @Param({ "1000000" })
+    int size;
+
+    @Param({ "ringBuffer", "ringBufferBusySpin", "blockingQueue", "agronaYield", "agronaParked" })
+    String queue;
+
+    @Param({ "false", "true" })
+    boolean metrics;
+
+    ExecutorService exec;
+
+    @Setup
+    public void setup() {
+        exec = Executors.newFixedThreadPool(PRODUCERS + 1);
+    }
+
+    @TearDown
+    public void tearDown() {
+        exec.shutdown();
+    }
+
+    private FluxSource source() {
+        final FluxSource source;
+        switch (queue) {
+        case "ringBuffer":
+            source = FluxSource.ofRingBuffer(1024);
+            break;
+        case "ringBufferBusySpin":
+            source = FluxSource.ofRingBuffer(1024, WaitStrategy.noWaitRetry());
+            break;
+        case "blockingQueue":
+            source = FluxSource.of(1024);
+            break;
+        case "agronaYield":
+            source = FluxSource.of(QueueFactories.boundedNonBlockingQueue(1024, WaitStrategy.yieldWait()));
+            break;
+        default:
+            source = FluxSource.of(QueueFactories.boundedNonBlockingQueue(1024, WaitStrategy.spinWait()));
+        }
+        return metrics ? source.withMetrics(new PipeMetrics()) : source;
+    }
+
+    @Benchmark
+    public long multipleProducers() throws InterruptedException {
+        final PushableFlux<Integer> pushable = source().flux();
+        final CountDownLatch done = new CountDownLatch(
+                                                       1);
+        final long[] count = new long[1];
+        //polling Fluxes block the subscribing thread
+        exec.submit(() -> pushable.getFlux()
+                                  .count()
+                                  .doOnSuccess(c -> {
+                                      count[0] = c;
+                                      done.countDown();
+                                  })
+                                  .subscribe());
+        final CountDownLatch produced = new CountDownLatch(
+                                                           PRODUCERS);
+        for (int p = 0; p < PRODUCERS; p++) {
+            exec.submit(() -> {
+                for (int i = 0; i < size / PRODUCERS; i++)
+                    pushable.getInput()
+                            .offer(i);
+                produced.countDown();
+            });
+        }
+        produced.await(1, TimeUnit.MINUTES);
+        pushable.getInput()
+                .close();
+        done.await(1, TimeUnit.MINUTES);
+        return count[0];
+    }
+}
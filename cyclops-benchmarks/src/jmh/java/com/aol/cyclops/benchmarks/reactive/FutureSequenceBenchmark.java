@@ -0,0 +1,82 @@
+package com.aol.cyclops.benchmarks.reactive;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.aol.cyclops.data.collections.extensions.standard.ListX;
+import com.aol.cyclops.hkt.alias.Higher;
+import com.aol.cyclops.hkt.instances.jdk.CompletableFutureInstances;
+import com.aol.cyclops.hkt.instances.jdk.ListInstances;
+import com.aol.cyclops.hkt.jdk.CompletableFutureType;
+import com.aol.cyclops.hkt.jdk.ListType;
+import com.aol.cyclops.javaslang.hkt.FutureType;
+import com.aol.cyclops.javaslang.hkt.typeclasses.instances.FutureInstances;
+
+import javaslang.collection.List;
+import javaslang.concurrent.Future;
+
+/**
+ * Combining N futures into a future of a List, as a chain of Applicative ap / flatMap calls (List Traverse with the
+ * CompletableFuture Applicative and Future.sequence) against the single pass CompletableFutureInstances /
+ * FutureInstances sequence operations.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class FutureSequenceBenchmark {
+
+    @Param({ "10", "1000" })
+    int size;
+
+    ListX<Higher<CompletableFutureType.µ, Integer>> completableFutures;
+    List<FutureType<Integer>> futures;
+
+    @Setup
+    public void setup() {
+        completableFutures = ListX.range(0, size)
+                                  .<Higher<CompletableFutureType.µ, Integer>> map(CompletableFutureType::completedFuture);
+        futures = List.range(0, size)
+                      .map(FutureType::successful);
+    }
+
+    @Benchmark
+    public Object completableFutureTraverse() {
+        return CompletableFutureType.narrow(ListInstances.traverse()
+                                                         .sequenceA(CompletableFutureInstances.applicative(),
+                                                                    ListType.widen(completableFutures)))
+                                    .join();
+    }
+
+    @Benchmark
+    public ListX<Integer> completableFutureSequence() {
+        return CompletableFutureInstances.sequence(completableFutures)
+                                         .toCompletableFuture()
+                                         .join();
+    }
+
+    @Benchmark
+    public Object javaslangFutureSequence() {
+        return Future.sequence(futures)
+                     .get();
+    }
+
+    @Benchmark
+    public List<Integer> javaslangSequence() {
+        return FutureInstances.sequence(futures)
+                              .get();
+    }
+}
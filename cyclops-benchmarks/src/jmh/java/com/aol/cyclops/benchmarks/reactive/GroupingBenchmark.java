@@ -0,0 +1,110 @@
+package com.aol.cyclops.benchmarks.reactive;
+
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.aol.cyclops.data.collections.extensions.standard.ListX;
+import com.aol.cyclops.data.collections.extensions.standard.ListXImpl;
+import com.aol.cyclops.reactor.operators.GroupBySize;
+import com.aol.cyclops.reactor.operators.GroupedWhile;
+import com.aol.cyclops.types.stream.reactive.SeqSubscriber;
+
+import reactor.core.publisher.Flux;
+
+/**
+ * Grouping a Flux with the GroupBySize and GroupedWhile operators, against pulling the groups from a blocking
+ * SeqSubscriber iterator via Flux.fromIterable.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class GroupingBenchmark {
+
+    @Param({ "1000000" })
+    int size;
+
+    @Param({ "100" })
+    int groupSize;
+
+    @Benchmark
+    public long groupBySize() {
+        return new GroupBySize<Integer, ListX<Integer>>(
+                                                        Flux.range(0, size)).grouped(groupSize)
+                                                                            .count()
+                                                                            .block();
+    }
+
+    @Benchmark
+    public long groupBySizeSeqSubscriber() {
+        final Iterator<Integer> it = iterator(Flux.range(0, size));
+        return Flux.fromIterable(() -> new Iterator<ListX<Integer>>() {
+            @Override
+            public boolean hasNext() {
+                return it.hasNext();
+            }
+
+            @Override
+            public ListX<Integer> next() {
+                final ListX<Integer> list = new ListXImpl<>();
+                for (int i = 0; i < groupSize && it.hasNext(); i++)
+                    list.add(it.next());
+                return list;
+            }
+        })
+                   .count()
+                   .block();
+    }
+
+    @Benchmark
+    public long groupedWhile() {
+        return new GroupedWhile<Integer, ListX<Integer>>(
+                                                         Flux.range(0, size)).batchWhile(i -> i % groupSize != 0)
+                                                                             .count()
+                                                                             .block();
+    }
+
+    @Benchmark
+    public long groupedWhileSeqSubscriber() {
+        final Iterator<Integer> it = iterator(Flux.range(0, size));
+        return Flux.fromIterable(() -> new Iterator<ListX<Integer>>() {
+            @Override
+            public boolean hasNext() {
+                return it.hasNext();
+            }
+
+            @Override
+            public ListX<Integer> next() {
+                final ListX<Integer> list = new ListXImpl<>();
+                while (it.hasNext()) {
+                    final Integer value = it.next();
+                    list.add(value);
+                    if (value % groupSize == 0)
+                        break;
+                }
+                return list;
+            }
+        })
+                   .count()
+                   .block();
+    }
+
+    private Iterator<Integer> iterator(final Flux<Integer> flux) {
+        final SeqSubscriber<Integer> sub = SeqSubscriber.subscriber();
+        return flux.subscribeWith(sub)
+                   .iterator();
+    }
+}
@@ -0,0 +1,119 @@
+package com.aol.cyclops.benchmarks.reactive;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.aol.cyclops.control.AnyM;
+import com.aol.cyclops.data.collections.extensions.standard.ListX;
+import com.aol.cyclops.reactor.Fluxes;
+import com.aol.cyclops.reactor.transformer.FluxT;
+import com.aol.cyclops.reactor.transformer.FluxTSeq;
+import com.aol.cyclops.reactor.transformer.FluxTValue;
+import com.aol.cyclops.types.anyM.AnyMSeq;
+import com.aol.cyclops.types.anyM.AnyMValue;
+
+import reactor.core.publisher.Flux;
+
+/**
+ * A 5 stage map / filter / peek chain on a FluxT, each stage mapped over the outer monad via AnyM (the previous
+ * implementation, reproduced here) against the fused stages of FluxTSeq / FluxTValue, including subscribing to the
+ * resulting inner Fluxes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class TransformerChainBenchmark {
+
+    @Param({ "list", "flux", "optional", "future" })
+    String outer;
+
+    //number of inner Fluxes in the list / flux outer monads
+    @Param({ "100" })
+    int size;
+
+    ListX<Flux<Integer>> fluxes;
+
+    @Setup
+    public void setup() {
+        fluxes = ListX.range(0, size)
+                      .map(i -> Flux.range(i, 10));
+    }
+
+    private boolean isSeq() {
+        return "list".equals(outer) || "flux".equals(outer);
+    }
+
+    private AnyMSeq<Flux<Integer>> seq() {
+        return "flux".equals(outer) ? Fluxes.anyM(Flux.fromIterable(fluxes)) : AnyM.fromList(fluxes);
+    }
+
+    private AnyMValue<Flux<Integer>> value() {
+        return "future".equals(outer) ? AnyM.fromCompletableFuture(CompletableFuture.completedFuture(fluxes.get(0)))
+                : AnyM.fromOptional(Optional.of(fluxes.get(0)));
+    }
+
+    private static void consume(AnyM<Flux<Integer>> result, Blackhole bh) {
+        result.stream()
+              .forEach(f -> f.subscribe(bh::consume));
+    }
+
+    @Benchmark
+    public void perStageAnyM(Blackhole bh) {
+        if (isSeq()) {
+            AnyMSeq<Flux<Integer>> run = seq();
+            run = run.map(f -> f.map(i -> i + 1));
+            run = run.map(f -> f.filter(i -> i % 2 == 0));
+            run = run.map(f -> f.map(i -> {
+                bh.consume(i);
+                return i;
+            }));
+            run = run.map(f -> f.map(i -> i * 10));
+            run = run.map(f -> f.filter(i -> i > 20));
+            consume(FluxTSeq.of(run)
+                            .unwrap(),
+                    bh);
+        } else {
+            AnyMValue<Flux<Integer>> run = value();
+            run = run.map(f -> f.map(i -> i + 1));
+            run = run.map(f -> f.filter(i -> i % 2 == 0));
+            run = run.map(f -> f.map(i -> {
+                bh.consume(i);
+                return i;
+            }));
+            run = run.map(f -> f.map(i -> i * 10));
+            run = run.map(f -> f.filter(i -> i > 20));
+            consume(FluxTValue.of(run)
+                              .unwrap(),
+                    bh);
+        }
+    }
+
+    @Benchmark
+    public void fused(Blackhole bh) {
+        FluxT<Integer> flux = isSeq() ? FluxTSeq.of(seq()) : FluxTValue.of(value());
+        consume(flux.map(i -> i + 1)
+                    .filter(i -> i % 2 == 0)
+                    .peek(bh::consume)
+                    .map(i -> i * 10)
+                    .filter(i -> i > 20)
+                    .unwrap(),
+                bh);
+    }
+}
@@ -5,6 +5,8 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
 
 import org.jooq.lambda.tuple.Tuple2;
 import org.pcollections.PMap;
@@ -14,25 +16,32 @@ import com.aol.cyclops.control.Eval;
 import com.aol.cyclops.control.ReactiveSeq;
 import com.aol.cyclops.data.collections.extensions.persistent.PMapX;
 import com.aol.cyclops.data.collections.extensions.standard.MapXs;
+import com.aol.cyclops.reactor.collections.extensions.base.BuilderReducer;
 import com.aol.cyclops.reactor.collections.extensions.base.ExtensiblePMapX;
+import com.aol.cyclops.reactor.collections.extensions.base.NativeLookups;
+import com.aol.cyclops.reactor.collections.extensions.base.NativeMerge;
 import com.aol.cyclops.types.mixins.TupleWrapper;
 
+import clojure.lang.IPersistentMap;
 import clojure.lang.PersistentArrayMap;
-import clojure.lang.PersistentVector;
+import clojure.lang.PersistentHashMap;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.NonNull;
 import lombok.experimental.Wither;
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
-public class ClojureArrayPMap<K,V> extends AbstractMap<K,V> implements PMap<K,V>{
+public class ClojureArrayPMap<K,V> extends AbstractMap<K,V> implements PMap<K,V>, NativeMerge<K,V>{
     
     @Wither
     PersistentArrayMap map;
+
+    private static final Object NOT_FOUND = new Object();
     public static <K, V> Reducer<PMapX<K, V>> toPMapX() {
-        return Reducer.<PMapX<K, V>> of(empty(), (final PMapX<K, V> a) -> b -> a.plusAll(b), (in) -> {
+        return BuilderReducer.<Object, PMapX<K, V>> of(empty(), (final PMapX<K, V> a) -> b -> a.plusAll(b), (in) -> {
             final List w = ((TupleWrapper) () -> in).values();
             return singleton((K) w.get(0), (V) w.get(1));
-        });
+        } , Transients.collector(() -> PersistentArrayMap.EMPTY.asTransient(), Transients::entry,
+                                 m -> new ExtensiblePMapX<K, V>(fromPersistent((IPersistentMap) m), Eval.later(() -> ClojureArrayPMap.<K, V> toPMapX()))));
     }
     public static <K,V> ClojureArrayPMap<K,V> fromMap(@NonNull PersistentArrayMap map){
         return new ClojureArrayPMap<>(map);
@@ -60,17 +69,53 @@ public class ClojureArrayPMap<K,V> extends AbstractMap<K,V> implements PMap<K,V>
         return stream.mapReduce(toPMapX());
     }
     
+    /**
+     * Apply a batch of updates to this map via a Clojure transient, creating a single new persistent map. As with
+     * PersistentArrayMap#assoc, maps that grow beyond the array map threshold (16 array slots, i.e. 8 entries) are promoted
+     * to hash maps.
+     *
+     * <pre>
+     * {@code
+     *   ClojureArrayPMap.<String,Integer>emptyPMap()
+     *                   .withMutations(b->b.put("hello",1).put("world",2).remove("hello"));
+     *   //{world=2}
+     * }
+     * </pre>
+     *
+     * @param fn Consumer that applies updates to the batch
+     * @return ClojureArrayPMap (or ClojureHashPMap if promoted) with the updates applied
+     */
+    public PMap<K, V> withMutations(Consumer<? super MapBatch<K, V>> fn) {
+        MapBatch<K, V> batch = new MapBatch<>(
+                                              map);
+        fn.accept(batch);
+        return fromPersistent(batch.persistent());
+    }
+
+    private static <K, V> PMap<K, V> fromPersistent(IPersistentMap result) {
+        if (result instanceof PersistentArrayMap)
+            return fromMap((PersistentArrayMap) result);
+        return ClojureHashPMap.fromMap((PersistentHashMap) result);
+    }
+
     @Override
     public PMap<K, V> plus(K key, V value) {
-        return withMap((PersistentArrayMap)map.cons(PersistentVector.create(key,value)));
+        return fromPersistent(map.assoc(key, value));
     }
     @Override
     public PMap<K, V> plusAll(java.util.Map<? extends K, ? extends V> m2) {
-        PersistentArrayMap m = map;
-        for(Object next : m2.entrySet()){
-            m = (PersistentArrayMap)m.cons(next);
-        }
-        return withMap(m);
+        return withMutations(b -> b.putAll(NativeMerge.unwrap(m2)));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public PMap<K, V> merge(java.util.Map<? extends K, ? extends V> m2, BiFunction<? super V, ? super V, ? extends V> mergeFn) {
+        return withMutations(b -> {
+            for (Map.Entry<? extends K, ? extends V> next : NativeMerge.unwrap(m2).entrySet()) {
+                Object current = map.valAt(next.getKey(), NOT_FOUND);
+                b.put(next.getKey(), current == NOT_FOUND ? next.getValue() : mergeFn.apply((V) current, next.getValue()));
+            }
+        });
     }
     @Override
     public PMap<K, V> minus(Object key) {
@@ -82,14 +127,7 @@ public class ClojureArrayPMap<K,V> extends AbstractMap<K,V> implements PMap<K,V>
    
     @Override
     public PMap<K, V> minusAll(Collection<?> keys) {
-      
-       PersistentArrayMap m = map;
-       for(Object key : keys){
-          
-           m = (PersistentArrayMap)m.without(key);
-       }
-       return withMap(m);
-        
+        return withMutations(b -> b.removeAll(keys));
     }
     @Override
     public Set<java.util.Map.Entry<K, V>> entrySet() {
@@ -103,6 +141,31 @@ public class ClojureArrayPMap<K,V> extends AbstractMap<K,V> implements PMap<K,V>
     public V get(Object key) {
        return (V)map.valAt(key);
     }
+
+    @Override
+    public V getOrDefault(Object key, V defaultValue) {
+        return (V) map.valAt(key, defaultValue);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return map.containsKey(key);
+    }
+
+    @Override
+    public boolean containsValue(Object value) {
+        return map.containsValue(value);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return NativeLookups.equals(this, o);
+    }
+
+    @Override
+    public int hashCode() {
+        return NativeLookups.hashCode(this);
+    }
    
     
    
@@ -5,6 +5,8 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
 import java.util.function.Function;
 
 import org.jooq.lambda.tuple.Tuple2;
@@ -15,7 +17,10 @@ import com.aol.cyclops.control.Eval;
 import com.aol.cyclops.control.ReactiveSeq;
 import com.aol.cyclops.data.collections.extensions.persistent.PMapX;
 import com.aol.cyclops.data.collections.extensions.standard.MapXs;
+import com.aol.cyclops.reactor.collections.extensions.base.BuilderReducer;
 import com.aol.cyclops.reactor.collections.extensions.base.ExtensiblePMapX;
+import com.aol.cyclops.reactor.collections.extensions.base.NativeLookups;
+import com.aol.cyclops.reactor.collections.extensions.base.NativeMerge;
 import com.aol.cyclops.types.mixins.TupleWrapper;
 
 import clojure.lang.IPersistentMap;
@@ -26,15 +31,18 @@ import lombok.AllArgsConstructor;
 import lombok.NonNull;
 import lombok.experimental.Wither;
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
-public class ClojureHashPMap<K,V> extends AbstractMap<K,V> implements PMap<K,V>{
+public class ClojureHashPMap<K,V> extends AbstractMap<K,V> implements PMap<K,V>, NativeMerge<K,V>{
     
     @Wither
     PersistentHashMap map;
+
+    private static final Object NOT_FOUND = new Object();
     public static <K, V> Reducer<PMapX<K, V>> toPMapX() {
-        return Reducer.<PMapX<K, V>> of(empty(), (final PMapX<K, V> a) -> b -> a.plusAll(b), (in) -> {
+        return BuilderReducer.<Object, PMapX<K, V>> of(empty(), (final PMapX<K, V> a) -> b -> a.plusAll(b), (in) -> {
             final List w = ((TupleWrapper) () -> in).values();
             return singleton((K) w.get(0), (V) w.get(1));
-        });
+        } , Transients.collector(() -> PersistentHashMap.EMPTY.asTransient(), Transients::entry,
+                                 m -> new ExtensiblePMapX<K, V>(fromMap((PersistentHashMap) m), Eval.later(() -> ClojureHashPMap.<K, V> toPMapX()))));
     }
     public static <K,V> ClojureHashPMap<K,V> fromMap(@NonNull PersistentHashMap map){
         return new ClojureHashPMap<>(map);
@@ -63,13 +71,53 @@ public class ClojureHashPMap<K,V> extends AbstractMap<K,V> implements PMap<K,V>{
     public PMap<K, V> plus(K key, V value) {
         return withMap((PersistentHashMap)map.cons(PersistentVector.create(key,value)));
     }
+    /**
+     * Apply a batch of updates to this map via a Clojure transient, creating a single new persistent map
+     *
+     * <pre>
+     * {@code
+     *   ClojureHashPMap.<String,Integer>emptyPMap()
+     *                  .withMutations(b->b.put("hello",1).put("world",2).remove("hello"));
+     *   //{world=2}
+     * }
+     * </pre>
+     *
+     * @param fn Consumer that applies updates to the batch
+     * @return ClojureHashPMap with the updates applied
+     */
+    public ClojureHashPMap<K, V> withMutations(Consumer<? super MapBatch<K, V>> fn) {
+        MapBatch<K, V> batch = new MapBatch<>(
+                                              map);
+        fn.accept(batch);
+        return withMap((PersistentHashMap) batch.persistent());
+    }
+
     @Override
     public PMap<K, V> plusAll(java.util.Map<? extends K, ? extends V> m2) {
-        PersistentHashMap m = map;
-        for(Object next : m2.entrySet()){
-            m = (PersistentHashMap)m.cons(next);
+        return withMutations(b -> b.putAll(NativeMerge.unwrap(m2)));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public PMap<K, V> merge(java.util.Map<? extends K, ? extends V> m2, BiFunction<? super V, ? super V, ? extends V> mergeFn) {
+        java.util.Map<? extends K, ? extends V> other = NativeMerge.unwrap(m2);
+        if (other instanceof ClojureHashPMap && other.size() > size()) {
+            //add the entries of the smaller map to a transient of the larger one
+            ClojureHashPMap<K, V> larger = (ClojureHashPMap<K, V>) other;
+            return larger.withMutations(b -> {
+                for (Object next : map) {
+                    Map.Entry<K, V> entry = (Map.Entry<K, V>) next;
+                    Object current = larger.map.valAt(entry.getKey(), NOT_FOUND);
+                    b.put(entry.getKey(), current == NOT_FOUND ? entry.getValue() : mergeFn.apply(entry.getValue(), (V) current));
+                }
+            });
         }
-        return withMap(m);
+        return withMutations(b -> {
+            for (Map.Entry<? extends K, ? extends V> next : other.entrySet()) {
+                Object current = map.valAt(next.getKey(), NOT_FOUND);
+                b.put(next.getKey(), current == NOT_FOUND ? next.getValue() : mergeFn.apply((V) current, next.getValue()));
+            }
+        });
     }
     @Override
     public PMap<K, V> minus(Object key) {
@@ -81,14 +129,7 @@ public class ClojureHashPMap<K,V> extends AbstractMap<K,V> implements PMap<K,V>{
    
     @Override
     public PMap<K, V> minusAll(Collection<?> keys) {
-      
-       PersistentHashMap m = map;
-       for(Object key : keys){
-          
-           m = (PersistentHashMap)m.without(key);
-       }
-       return withMap(m);
-        
+        return withMutations(b -> b.removeAll(keys));
     }
     @Override
     public Set<java.util.Map.Entry<K, V>> entrySet() {
@@ -102,6 +143,31 @@ public class ClojureHashPMap<K,V> extends AbstractMap<K,V> implements PMap<K,V>{
     public V get(Object key) {
        return (V)map.valAt(key);
     }
+
+    @Override
+    public V getOrDefault(Object key, V defaultValue) {
+        return (V) map.valAt(key, defaultValue);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return map.containsKey(key);
+    }
+
+    @Override
+    public boolean containsValue(Object value) {
+        return map.containsValue(value);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return NativeLookups.equals(this, o);
+    }
+
+    @Override
+    public int hashCode() {
+        return NativeLookups.hashCode(this);
+    }
    
     
    
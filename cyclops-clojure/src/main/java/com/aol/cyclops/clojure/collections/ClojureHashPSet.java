@@ -4,6 +4,7 @@ import java.util.AbstractSet;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.function.UnaryOperator;
@@ -14,6 +15,7 @@ import org.pcollections.PSet;
 
 import com.aol.cyclops.Reducer;
 import com.aol.cyclops.control.ReactiveSeq;
+import com.aol.cyclops.reactor.collections.extensions.base.BuilderReducer;
 import com.aol.cyclops.reactor.collections.extensions.persistent.LazyPSetX;
 
 import clojure.lang.PersistentHashSet;
@@ -118,8 +120,10 @@ public class ClojureHashPSet<T> extends AbstractSet<T>implements PSet<T> {
      * @return Reducer for PSet
      */
     public static <T> Reducer<PSet<T>> toPSet() {
-        return Reducer.<PSet<T>> of(ClojureHashPSet.emptyPSet(), (final PSet<T> a) -> b -> a.plusAll(b),
-                                    (final T x) -> ClojureHashPSet.singleton(x));
+        return BuilderReducer.<T, PSet<T>> of(ClojureHashPSet.emptyPSet(), (final PSet<T> a) -> b -> a.plusAll(b),
+                                              (final T x) -> ClojureHashPSet.singleton(x),
+                                              Transients.collector(() -> PersistentHashSet.EMPTY.asTransient(),
+                                                                   s -> ClojureHashPSet.fromSet((PersistentHashSet) s)));
     }
 
     public static <T> ClojureHashPSet<T> fromSet(PersistentHashSet set) {
@@ -171,14 +175,30 @@ public class ClojureHashPSet<T> extends AbstractSet<T>implements PSet<T> {
         return withSet((PersistentHashSet) set.cons(e));
     }
 
+    /**
+     * Apply a batch of updates to this set via a Clojure transient, creating a single new persistent set
+     *
+     * <pre>
+     * {@code
+     *   ClojureHashPSet.<Integer>emptyPSet()
+     *                  .withMutations(b->b.add(1).add(2).remove(1));
+     *   //[2]
+     * }
+     * </pre>
+     *
+     * @param fn Consumer that applies updates to the batch
+     * @return ClojureHashPSet with the updates applied
+     */
+    public ClojureHashPSet<T> withMutations(Consumer<? super SetBatch<T>> fn) {
+        SetBatch<T> batch = new SetBatch<>(
+                                           set);
+        fn.accept(batch);
+        return withSet(batch.persistent());
+    }
+
     @Override
     public ClojureHashPSet<T> plusAll(Collection<? extends T> l) {
-
-        PersistentHashSet use = set;
-        for (T next : l)
-            use = (PersistentHashSet) use.cons(next);
-        return withSet(use);
-
+        return withMutations(b -> b.addAll(l));
     }
 
     @Override
@@ -189,10 +209,12 @@ public class ClojureHashPSet<T> extends AbstractSet<T>implements PSet<T> {
 
     @Override
     public PSet<T> minusAll(Collection<?> s) {
-        PersistentHashSet use = set;
-        for (Object next : s)
-            use = (PersistentHashSet) use.disjoin(next);
-        return withSet(use);
+        return withMutations(b -> b.removeAll(s));
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return set.contains(o);
     }
 
     @Override
@@ -6,6 +6,7 @@ import java.util.Iterator;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.function.Supplier;
 import java.util.function.UnaryOperator;
 import java.util.stream.Stream;
@@ -15,6 +16,8 @@ import org.pcollections.PQueue;
 
 import com.aol.cyclops.Reducer;
 import com.aol.cyclops.control.ReactiveSeq;
+import com.aol.cyclops.reactor.collections.extensions.base.BoundedPQueue;
+import com.aol.cyclops.reactor.collections.extensions.base.Removals;
 import com.aol.cyclops.reactor.collections.extensions.persistent.LazyPQueueX;
 
 import clojure.lang.PersistentQueue;
@@ -138,6 +141,30 @@ public class ClojurePQueue<T> extends AbstractQueue<T> implements PQueue<T> {
                                       toPQueue());
     }
 
+    /**
+     * @param maxSize Maximum number of elements to retain
+     * @return An empty PQueue that evicts its oldest elements once it holds more than maxSize
+     */
+    public static <T> BoundedPQueue<T> emptyBoundedPQueue(int maxSize) {
+        return BoundedPQueue.of(ClojurePQueue.<T> emptyPQueue(), maxSize);
+    }
+
+    /**
+     * <pre>
+     * {@code
+     *  ClojurePQueue.<Integer>bounded(3)
+     *             .plusAll(Arrays.asList(1,2,3,4,5));
+     *  //[3,4,5]
+     * }
+     * </pre>
+     *
+     * @param maxSize Maximum number of elements to retain
+     * @return An empty LazyPQueueX that evicts its oldest elements once it holds more than maxSize
+     */
+    public static <T> LazyPQueueX<T> bounded(int maxSize) {
+        return BoundedPQueue.lazyQueue(ClojurePQueue.<T> emptyPQueue(), maxSize);
+    }
+
     public static <T> LazyPQueueX<T> singleton(T t) {
         return of(t);
     }
@@ -185,18 +212,28 @@ public class ClojurePQueue<T> extends AbstractQueue<T> implements PQueue<T> {
    
 
     @Override
-    public PQueue<T> minus(Object e) {
-        return LazyPQueueX.fromPQueue(this, toPQueue())
-                          .filter(i -> !Objects.equals(i, e));
+    public ClojurePQueue<T> minus(Object e) {
+        return removeWhere(next -> Objects.equals(next, e));
     }
 
     @Override
-    public PQueue<T> minusAll(Collection<?> queue) {
-        return LazyPQueueX.fromPQueue(this, toPQueue())
-                          .removeAll((Iterable<T>) queue);
+    public ClojurePQueue<T> minusAll(Collection<?> queue) {
+        Collection<?> toRemove = Removals.lookup(queue);
+        return removeWhere(toRemove::contains);
+    }
+
+    private ClojurePQueue<T> removeWhere(Predicate<Object> remove) {
+        PersistentQueue use = PersistentQueue.EMPTY;
+        boolean removed = false;
+        for (Object next : queue) {
+            if (remove.test(next))
+                removed = true;
+            else
+                use = use.cons(next);
+        }
+        return removed ? withQueue(use) : this;
     }
 
-    
     public T head() {
         return (T)queue.peek();
     }
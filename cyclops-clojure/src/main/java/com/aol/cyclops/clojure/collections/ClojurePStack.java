@@ -3,8 +3,11 @@ package com.aol.cyclops.clojure.collections;
 import java.util.AbstractList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
+import java.util.Spliterator;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.function.UnaryOperator;
@@ -16,6 +19,7 @@ import org.pcollections.PStack;
 import com.aol.cyclops.Reducer;
 import com.aol.cyclops.control.ReactiveSeq;
 import com.aol.cyclops.data.collections.extensions.standard.ListX;
+import com.aol.cyclops.reactor.collections.extensions.base.LinkedLists;
 import com.aol.cyclops.reactor.collections.extensions.persistent.LazyPStackX;
 
 import clojure.lang.IPersistentList;
@@ -336,4 +340,38 @@ public class ClojurePStack<T> extends AbstractList<T>implements PStack<T> {
         return subList(start, size());
     }
 
+    /*
+     * Native Clojure SeqIterator, each step is O(1) (rather than the O(n) get(int) AbstractList iterates with)
+     */
+    @Override
+    public Iterator<T> iterator() {
+        if (list == null)
+            return Collections.emptyIterator();
+        return ((List<T>) list).iterator();
+    }
+
+    @Override
+    public Spliterator<T> spliterator() {
+        return LinkedLists.spliterator(iterator(), size());
+    }
+
+    @Override
+    public int indexOf(Object o) {
+        return LinkedLists.indexOf(iterator(), o);
+    }
+
+    @Override
+    public int lastIndexOf(Object o) {
+        return LinkedLists.lastIndexOf(iterator(), o);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return LinkedLists.equals(this, o);
+    }
+
+    @Override
+    public int hashCode() {
+        return super.hashCode();
+    }
 }
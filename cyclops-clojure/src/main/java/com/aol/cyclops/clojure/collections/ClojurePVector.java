@@ -4,7 +4,10 @@ import java.util.AbstractList;
 import java.util.Collection;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.function.Supplier;
 import java.util.function.UnaryOperator;
 import java.util.stream.Stream;
@@ -14,15 +17,20 @@ import org.pcollections.PVector;
 
 import com.aol.cyclops.Reducer;
 import com.aol.cyclops.control.ReactiveSeq;
+import com.aol.cyclops.reactor.collections.extensions.base.BuilderReducer;
+import com.aol.cyclops.reactor.collections.extensions.base.Conversions;
+import com.aol.cyclops.reactor.collections.extensions.base.NativeBulkOps;
+import com.aol.cyclops.reactor.collections.extensions.base.Removals;
 import com.aol.cyclops.reactor.collections.extensions.persistent.LazyPVectorX;
 
+import clojure.lang.LazilyPersistentVector;
 import clojure.lang.PersistentVector;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.experimental.Wither;
 import reactor.core.publisher.Flux;
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
-public class ClojurePVector<T> extends AbstractList<T> implements PVector<T> {
+public class ClojurePVector<T> extends AbstractList<T> implements PVector<T>, NativeBulkOps<T> {
     
     /**
      * Create a LazyPVectorX from a Stream
@@ -117,7 +125,10 @@ public class ClojurePVector<T> extends AbstractList<T> implements PVector<T> {
      * @return Reducer for PVector
      */
     public static <T> Reducer<PVector<T>> toPVector() {
-        return Reducer.<PVector<T>> of(ClojurePVector.emptyPVector(), (final PVector<T> a) -> b -> a.plusAll(b), (final T x) -> ClojurePVector.singleton(x));
+        return BuilderReducer.<T, PVector<T>> of(ClojurePVector.emptyPVector(), (final PVector<T> a) -> b -> a.plusAll(b),
+                                                 (final T x) -> ClojurePVector.singleton(x),
+                                                 Transients.collector(() -> PersistentVector.EMPTY.asTransient(),
+                                                                      v -> ClojurePVector.fromVector((PersistentVector) v)));
     }
     
    
@@ -125,6 +136,18 @@ public class ClojurePVector<T> extends AbstractList<T> implements PVector<T> {
         return new ClojurePVector<>(vector);
     }
     
+    /**
+     * Convert a Collection (e.g. a PVector from another library) into a ClojurePVector. The PersistentVector adopts an array
+     * snapshot of the Collection (as its tail for up to 32 elements, otherwise via a single transient pass)
+     *
+     * @see Conversions#convert(Collection, Collection, Function)
+     * @param source Collection to convert
+     * @return source if it is (or is a LazyPVectorX backed by) a ClojurePVector, otherwise a new ClojurePVector
+     */
+    public static <T> ClojurePVector<T> fromCollection(Collection<? extends T> source){
+        return Conversions.convert(source, ClojurePVector.<T>emptyPVector(),
+                                   array -> fromVector((PersistentVector) LazilyPersistentVector.createOwning(array)));
+    }
     public static <T> ClojurePVector<T> emptyPVector(){
         return new ClojurePVector<>(PersistentVector.EMPTY);
     }
@@ -155,12 +178,30 @@ public class ClojurePVector<T> extends AbstractList<T> implements PVector<T> {
         return withVector(vector.cons(e));
     }
 
+    /**
+     * Apply a batch of updates to this vector via a Clojure transient, creating a single new persistent vector
+     *
+     * <pre>
+     * {@code
+     *   ClojurePVector.<Integer>emptyPVector()
+     *                 .withMutations(b->b.add(1).add(2).set(0,10));
+     *   //[10,2]
+     * }
+     * </pre>
+     *
+     * @param fn Consumer that applies updates to the batch
+     * @return ClojurePVector with the updates applied
+     */
+    public ClojurePVector<T> withMutations(Consumer<? super VectorBatch<T>> fn) {
+        VectorBatch<T> batch = new VectorBatch<>(
+                                                 vector);
+        fn.accept(batch);
+        return withVector(batch.persistent());
+    }
+
     @Override
     public ClojurePVector<T> plusAll(Collection<? extends T> list) {
-        PersistentVector use = vector;
-        for(T next : list)
-            use = use.cons(next);
-        return withVector(use);
+        return withMutations(b -> b.addAll(list));
      }
  
 
@@ -199,7 +240,14 @@ public class ClojurePVector<T> extends AbstractList<T> implements PVector<T> {
 
     @Override
     public PVector<T> minusAll(Collection<?> list) {
-        return LazyPVectorX.fromPVector(this,toPVector()).removeAll((Iterable<T>)list);
+        Collection<?> toRemove = Removals.lookup(list);
+        ClojurePVector<T> result = ClojurePVector.<T> emptyPVector()
+                                                 .withMutations(b -> {
+                                                     for (T next : this)
+                                                         if (!toRemove.contains(next))
+                                                             b.add(next);
+                                                 });
+        return result.size() == size() ? this : result;
     }
     
     public ClojurePVector<T> tail(){
@@ -236,5 +284,39 @@ public class ClojurePVector<T> extends AbstractList<T> implements PVector<T> {
         return vector.size();
     }
 
-   
+    @Override
+    public <R> ClojurePVector<R> map(Function<? super T, ? extends R> fn) {
+        return ClojurePVector.<R> emptyPVector()
+                             .withMutations(b -> {
+                                 for (T next : this)
+                                     b.add(fn.apply(next));
+                             });
+    }
+
+    @Override
+    public ClojurePVector<T> filter(Predicate<? super T> p) {
+        return ClojurePVector.<T> emptyPVector()
+                             .withMutations(b -> {
+                                 for (T next : this)
+                                     if (p.test(next))
+                                         b.add(next);
+                             });
+    }
+
+    @Override
+    public <R> ClojurePVector<R> flatMap(Function<? super T, ? extends Iterable<? extends R>> fn) {
+        return ClojurePVector.<R> emptyPVector()
+                             .withMutations(b -> {
+                                 for (T next : this)
+                                     b.addAll(fn.apply(next));
+                             });
+    }
+
+    @Override
+    public <U> U foldLeft(U identity, BiFunction<U, ? super T, U> fn) {
+        U result = identity;
+        for (T next : this)
+            result = fn.apply(result, next);
+        return result;
+    }
 }
@@ -6,6 +6,9 @@ import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
+import java.util.stream.Collector;
 
 import org.jooq.lambda.tuple.Tuple2;
 import org.pcollections.PMap;
@@ -15,7 +18,10 @@ import com.aol.cyclops.control.Eval;
 import com.aol.cyclops.control.ReactiveSeq;
 import com.aol.cyclops.data.collections.extensions.persistent.PMapX;
 import com.aol.cyclops.data.collections.extensions.standard.MapXs;
+import com.aol.cyclops.reactor.collections.extensions.base.BuilderReducer;
 import com.aol.cyclops.reactor.collections.extensions.base.ExtensiblePMapX;
+import com.aol.cyclops.reactor.collections.extensions.base.NativeLookups;
+import com.aol.cyclops.reactor.collections.extensions.base.NativeMerge;
 import com.aol.cyclops.types.mixins.TupleWrapper;
 
 import clojure.lang.PersistentTreeMap;
@@ -26,21 +32,33 @@ import lombok.AllArgsConstructor;
 import lombok.NonNull;
 import lombok.experimental.Wither;
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
-public class ClojureTreePMap<K,V> extends AbstractMap<K,V> implements PMap<K,V>{
+public class ClojureTreePMap<K,V> extends AbstractMap<K,V> implements PMap<K,V>, NativeMerge<K,V>{
     
     @Wither
     PersistentTreeMap map;
+
+    private static final Object NOT_FOUND = new Object();
     public static <K, V> Reducer<PMapX<K, V>> toPMapX() {
-        return Reducer.<PMapX<K, V>> of(empty(), (final PMapX<K, V> a) -> b -> a.plusAll(b), (in) -> {
+        return BuilderReducer.<Object, PMapX<K, V>> of(empty(), (final PMapX<K, V> a) -> b -> a.plusAll(b), (in) -> {
             final List w = ((TupleWrapper) () -> in).values();
             return singleton((K) w.get(0), (V) w.get(1));
-        });
+        } , collector(() -> ClojureTreePMap.<K, V> toPMapX()));
     }
     public static <K, V> Reducer<PMapX<K, V>> toPMapX(@NonNull Comparator<K> comp) {
-        return Reducer.<PMapX<K, V>> of(empty(comp), (final PMapX<K, V> a) -> b -> a.plusAll(b), (in) -> {
+        return BuilderReducer.<Object, PMapX<K, V>> of(empty(comp), (final PMapX<K, V> a) -> b -> a.plusAll(b), (in) -> {
             final List w = ((TupleWrapper) () -> in).values();
             return singleton(comp,(K) w.get(0), (V) w.get(1));
-        });
+        } , collector(() -> ClojureTreePMap.<K, V> toPMapX(comp)));
+    }
+    //PersistentTreeMap has no transient form, entries are cons'd directly onto a single map
+    private static <K, V> Collector<Object, ?, PMapX<K, V>> collector(Supplier<Reducer<PMapX<K, V>>> reducer) {
+        return Collector.<Object, PersistentTreeMap[], PMapX<K, V>> of(() -> new PersistentTreeMap[] { PersistentTreeMap.EMPTY },
+                                                                       (a, in) -> a[0] = (PersistentTreeMap) a[0].cons(Transients.entry(in)),
+                                                                       (a, b) -> {
+                                                                           for (Object next : b[0])
+                                                                               a[0] = (PersistentTreeMap) a[0].cons(next);
+                                                                           return a;
+                                                                       } , a -> new ExtensiblePMapX<K, V>(fromMap(a[0]), Eval.later(reducer)));
     }
     public static <K,V> ClojureTreePMap<K,V> fromMap(PersistentTreeMap map){
         return new ClojureTreePMap<>(map);
@@ -89,11 +107,22 @@ public class ClojureTreePMap<K,V> extends AbstractMap<K,V> implements PMap<K,V>{
     @Override
     public PMap<K, V> plusAll(java.util.Map<? extends K, ? extends V> m2) {
         PersistentTreeMap m = map;
-        for(Object next : m2.entrySet()){
+        for(Object next : NativeMerge.unwrap(m2).entrySet()){
             m = (PersistentTreeMap)m.cons(next);
         }
         return withMap(m);
     }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public PMap<K, V> merge(java.util.Map<? extends K, ? extends V> m2, BiFunction<? super V, ? super V, ? extends V> mergeFn) {
+        PersistentTreeMap m = map;
+        for (Map.Entry<? extends K, ? extends V> next : NativeMerge.unwrap(m2).entrySet()) {
+            Object current = map.valAt(next.getKey(), NOT_FOUND);
+            m = (PersistentTreeMap) m.assoc(next.getKey(), current == NOT_FOUND ? next.getValue() : mergeFn.apply((V) current, next.getValue()));
+        }
+        return withMap(m);
+    }
     @Override
     public PMap<K, V> minus(Object key) {
       
@@ -125,6 +154,31 @@ public class ClojureTreePMap<K,V> extends AbstractMap<K,V> implements PMap<K,V>{
     public V get(Object key) {
        return (V)map.valAt(key);
     }
+
+    @Override
+    public V getOrDefault(Object key, V defaultValue) {
+        return (V) map.valAt(key, defaultValue);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return map.containsKey(key);
+    }
+
+    @Override
+    public boolean containsValue(Object value) {
+        return map.containsValue(value);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return NativeLookups.equals(this, o);
+    }
+
+    @Override
+    public int hashCode() {
+        return NativeLookups.hashCode(this);
+    }
    
     
    
@@ -140,9 +140,7 @@ public class ClojureTreePOrderedSet<T> extends AbstractSet<T>implements POrdered
      * @return Reducer for POrderedSet
      */
     public static <T extends Comparable<? super T>> Reducer<POrderedSet<T>> toPOrderedSet() {
-        return Reducer.<POrderedSet<T>> of(ClojureTreePOrderedSet.emptyPOrderedSet(Comparator.<T>naturalOrder()),
-                                           (final POrderedSet<T> a) -> b -> a.plusAll(b),
-                                           (final T x) -> ClojureTreePOrderedSet.singleton(Comparator.<T>naturalOrder(), x));
+        return toPOrderedSet(Comparator.<T>naturalOrder());
     }
 
     public static <T> ClojureTreePOrderedSet<T> fromSet(PersistentTreeSet set) {
@@ -235,6 +233,11 @@ public class ClojureTreePOrderedSet<T> extends AbstractSet<T>implements POrdered
         return withSet(use);
     }
 
+    @Override
+    public boolean contains(Object o) {
+        return set.contains(o);
+    }
+
     @Override
     public int size() {
         return set.size();
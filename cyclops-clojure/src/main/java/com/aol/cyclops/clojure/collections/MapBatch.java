@@ -0,0 +1,105 @@
+package com.aol.cyclops.clojure.collections;
+
+import java.util.Map;
+
+import clojure.lang.IEditableCollection;
+import clojure.lang.IPersistentMap;
+import clojure.lang.ITransientMap;
+
+/**
+ * Scoped batch of updates to a Clojure hash or array map, applied to a transient copy of the map. Only usable within
+ * the Consumer passed to {@link ClojureHashPMap#withMutations(java.util.function.Consumer)} or
+ * {@link ClojureArrayPMap#withMutations(java.util.function.Consumer)}.
+ *
+ * <pre>
+ * {@code
+ *   ClojureHashPMap<String, Integer> map = ClojureHashPMap.<String, Integer> emptyPMap()
+ *                                                         .withMutations(b -> b.put("hello", 1)
+ *                                                                              .put("world", 2)
+ *                                                                              .remove("hello"));
+ *   //{world=2}
+ * }
+ * </pre>
+ *
+ * @author johnmcclean
+ *
+ * @param <K> Key type
+ * @param <V> Value type
+ */
+public class MapBatch<K, V> {
+
+    private ITransientMap map;
+
+    MapBatch(IEditableCollection map) {
+        this.map = (ITransientMap) map.asTransient();
+    }
+
+    /**
+     * @param key Key to add or replace
+     * @param value Value to associate with key
+     * @return This batch
+     */
+    public MapBatch<K, V> put(K key, V value) {
+        map = active().assoc(key, value);
+        return this;
+    }
+
+    /**
+     * @param entries Entries to add or replace
+     * @return This batch
+     */
+    public MapBatch<K, V> putAll(Map<? extends K, ? extends V> entries) {
+        ITransientMap use = active();
+        for (Map.Entry<? extends K, ? extends V> next : entries.entrySet())
+            use = use.assoc(next.getKey(), next.getValue());
+        map = use;
+        return this;
+    }
+
+    /**
+     * @param key Key to remove
+     * @return This batch
+     */
+    public MapBatch<K, V> remove(Object key) {
+        map = active().without(key);
+        return this;
+    }
+
+    /**
+     * @param keys Keys to remove
+     * @return This batch
+     */
+    public MapBatch<K, V> removeAll(Iterable<?> keys) {
+        ITransientMap use = active();
+        for (Object next : keys)
+            use = use.without(next);
+        map = use;
+        return this;
+    }
+
+    @SuppressWarnings("unchecked")
+    public V get(Object key) {
+        return (V) active().valAt(key);
+    }
+
+    public boolean containsKey(Object key) {
+        return active().valAt(key, this) != this;
+    }
+
+    public int size() {
+        return active().count();
+    }
+
+    IPersistentMap persistent() {
+        IPersistentMap result = active().persistent();
+        map = null;
+        return result;
+    }
+
+    private ITransientMap active() {
+        if (map == null)
+            throw new IllegalStateException(
+                                            "Batch used outside of withMutations");
+        return map;
+    }
+}
@@ -0,0 +1,94 @@
+package com.aol.cyclops.clojure.collections;
+
+import clojure.lang.ITransientSet;
+import clojure.lang.PersistentHashSet;
+
+/**
+ * Scoped batch of updates to a Clojure hash set, applied to a transient copy of the set. Only usable within the
+ * Consumer passed to {@link ClojureHashPSet#withMutations(java.util.function.Consumer)}.
+ *
+ * <pre>
+ * {@code
+ *   ClojureHashPSet<Integer> set = ClojureHashPSet.<Integer> emptyPSet()
+ *                                                 .withMutations(b -> b.add(1)
+ *                                                                      .add(2)
+ *                                                                      .remove(1));
+ *   //[2]
+ * }
+ * </pre>
+ *
+ * @author johnmcclean
+ *
+ * @param <T> Element type
+ */
+public class SetBatch<T> {
+
+    private ITransientSet set;
+
+    SetBatch(PersistentHashSet set) {
+        this.set = (ITransientSet) set.asTransient();
+    }
+
+    /**
+     * @param e Element to add
+     * @return This batch
+     */
+    public SetBatch<T> add(T e) {
+        set = (ITransientSet) active().conj(e);
+        return this;
+    }
+
+    /**
+     * @param elements Elements to add
+     * @return This batch
+     */
+    public SetBatch<T> addAll(Iterable<? extends T> elements) {
+        ITransientSet use = active();
+        for (T next : elements)
+            use = (ITransientSet) use.conj(next);
+        set = use;
+        return this;
+    }
+
+    /**
+     * @param e Element to remove
+     * @return This batch
+     */
+    public SetBatch<T> remove(Object e) {
+        set = active().disjoin(e);
+        return this;
+    }
+
+    /**
+     * @param elements Elements to remove
+     * @return This batch
+     */
+    public SetBatch<T> removeAll(Iterable<?> elements) {
+        ITransientSet use = active();
+        for (Object next : elements)
+            use = use.disjoin(next);
+        set = use;
+        return this;
+    }
+
+    public boolean contains(Object e) {
+        return active().contains(e);
+    }
+
+    public int size() {
+        return active().count();
+    }
+
+    PersistentHashSet persistent() {
+        PersistentHashSet result = (PersistentHashSet) active().persistent();
+        set = null;
+        return result;
+    }
+
+    private ITransientSet active() {
+        if (set == null)
+            throw new IllegalStateException(
+                                            "Batch used outside of withMutations");
+        return set;
+    }
+}
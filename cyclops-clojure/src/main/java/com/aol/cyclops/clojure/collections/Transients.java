@@ -0,0 +1,57 @@
+package com.aol.cyclops.clojure.collections;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collector;
+
+import com.aol.cyclops.types.mixins.TupleWrapper;
+
+import clojure.lang.IPersistentCollection;
+import clojure.lang.ITransientCollection;
+import clojure.lang.MapEntry;
+
+/**
+ * Collectors that populate Clojure transient collections, and make them persistent once all elements have been added
+ *
+ * @author johnmcclean
+ *
+ */
+class Transients {
+
+    /**
+     * @param empty Supplier of a new transient collection (e.g. PersistentVector.EMPTY.asTransient())
+     * @param fn Converts the persistent collection built
+     * @return Collector backed by a transient collection
+     */
+    static <T, C> Collector<T, ?, C> collector(Supplier<ITransientCollection> empty, Function<? super IPersistentCollection, ? extends C> fn) {
+        return collector(empty, Function.identity(), fn);
+    }
+
+    /**
+     * @param empty Supplier of a new transient collection (e.g. PersistentHashMap.EMPTY.asTransient())
+     * @param element Converts each element to the type conj'd onto the transient (e.g. a MapEntry)
+     * @param fn Converts the persistent collection built
+     * @return Collector backed by a transient collection
+     */
+    static <T, C> Collector<T, ?, C> collector(Supplier<ITransientCollection> empty, Function<? super T, ?> element,
+            Function<? super IPersistentCollection, ? extends C> fn) {
+        //conj may return a new transient instance, so the current transient is held in a single element array
+        return Collector.<T, ITransientCollection[], C> of(() -> new ITransientCollection[] { empty.get() },
+                                                           (a, next) -> a[0] = a[0].conj(element.apply(next)), (a, b) -> {
+                                                               for (Object next : (Iterable<?>) b[0].persistent())
+                                                                   a[0] = a[0].conj(next);
+                                                               return a;
+                                                           } , a -> fn.apply(a[0].persistent()));
+    }
+
+    /**
+     * @param in Tuple (as accepted by PMap Reducers)
+     * @return MapEntry with the key and value from the tuple
+     */
+    static MapEntry entry(Object in) {
+        final List<?> w = ((TupleWrapper) () -> in).values();
+        return new MapEntry(
+                            w.get(0), w.get(1));
+    }
+}
@@ -0,0 +1,95 @@
+package com.aol.cyclops.clojure.collections;
+
+import clojure.lang.ITransientVector;
+import clojure.lang.PersistentVector;
+
+/**
+ * Scoped batch of updates to a Clojure vector, applied to a transient copy of the vector. Only usable within the
+ * Consumer passed to {@link ClojurePVector#withMutations(java.util.function.Consumer)}.
+ *
+ * <pre>
+ * {@code
+ *   ClojurePVector<Integer> vector = ClojurePVector.<Integer> emptyPVector()
+ *                                                  .withMutations(b -> b.add(1)
+ *                                                                       .add(2)
+ *                                                                       .set(0, 10));
+ *   //[10,2]
+ * }
+ * </pre>
+ *
+ * @author johnmcclean
+ *
+ * @param <T> Element type
+ */
+public class VectorBatch<T> {
+
+    private ITransientVector vector;
+
+    VectorBatch(PersistentVector vector) {
+        this.vector = (ITransientVector) vector.asTransient();
+    }
+
+    /**
+     * @param e Element to append
+     * @return This batch
+     */
+    public VectorBatch<T> add(T e) {
+        vector = (ITransientVector) active().conj(e);
+        return this;
+    }
+
+    /**
+     * @param elements Elements to append
+     * @return This batch
+     */
+    public VectorBatch<T> addAll(Iterable<? extends T> elements) {
+        ITransientVector use = active();
+        for (T next : elements)
+            use = (ITransientVector) use.conj(next);
+        vector = use;
+        return this;
+    }
+
+    /**
+     * @param i Index to replace (or size() to append)
+     * @param e Element to store at index i
+     * @return This batch
+     */
+    public VectorBatch<T> set(int i, T e) {
+        if (i < 0 || i > size())
+            throw new IndexOutOfBoundsException(
+                                                "Index " + i + " is out of bounds - size : " + size());
+        vector = active().assocN(i, e);
+        return this;
+    }
+
+    /**
+     * @return This batch, with the last element removed
+     */
+    public VectorBatch<T> removeLast() {
+        vector = active().pop();
+        return this;
+    }
+
+    @SuppressWarnings("unchecked")
+    public T get(int i) {
+        return (T) active().nth(i);
+    }
+
+    public int size() {
+        return active().count();
+    }
+
+    PersistentVector persistent() {
+        PersistentVector result = (PersistentVector) active().persistent();
+        vector = null;
+        return result;
+    }
+
+    private ITransientVector active() {
+        if (vector == null)
+            throw new IllegalStateException(
+                                            "Batch used outside of withMutations");
+        return vector;
+    }
+}
@@ -4,14 +4,18 @@ import static org.hamcrest.Matchers.equalTo;
 import static org.junit.Assert.assertThat;
 
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
 
 import org.junit.Before;
 import org.junit.Test;
 
 import com.aol.cyclops.data.collections.extensions.persistent.PMapX;
 import com.aol.cyclops.data.collections.extensions.standard.MapXs;
+import com.aol.cyclops.reactor.collections.extensions.AbstractPMapMergeTest;
+import org.pcollections.PMap;
 
-public class ArrayPMapTest {
+public class ArrayPMapTest extends AbstractPMapMergeTest {
     PMapX<Integer,String> org;
     PMapX<Integer,String> test;
     
@@ -21,6 +25,12 @@ public class ArrayPMapTest {
        test = ClojureArrayPMap.singleton(1, "hello");
      
     }
+
+    @Override
+    public PMap<Integer, String> singleton(Integer key, String value) {
+        return ClojureArrayPMap.singleton(key,value);
+    }
+
     @Test
     public void same(){
         assertThat(org,equalTo(test));
@@ -43,4 +53,25 @@ public class ArrayPMapTest {
     public void map(){
         assertThat(test.map(s->s+" world").toListX(t->t.v2).get(0),equalTo("hello world"));
     }
+
+    @Test
+    public void withMutations(){
+        ClojureArrayPMap<Integer,String> map = ClojureArrayPMap.fromJavaMap(MapXs.of(1,"hello"));
+        Map<Integer,String> updated = map.withMutations(b->b.put(2,"world").put(3,"!").remove(1));
+        assertThat(updated,equalTo(org.minus(1).plus(2,"world").plus(3,"!")));
+        assertThat(map,equalTo(org));
+    }
+
+    @Test
+    public void growsBeyondArrayMapThreshold(){
+        Map<Integer,String> data = new HashMap<>();
+        for(int i=0;i<100;i++)
+            data.put(i,""+i);
+        assertThat(ClojureArrayPMap.<Integer,String>emptyPMap().plusAll(data),equalTo(data));
+        assertThat(test.plusAll(data),equalTo(data));
+        Map<Integer,String> map = ClojureArrayPMap.<Integer,String>emptyPMap();
+        for(int i=0;i<100;i++)
+            map = ((PMap<Integer,String>)map).plus(i,""+i);
+        assertThat(map,equalTo(data));
+    }
 }
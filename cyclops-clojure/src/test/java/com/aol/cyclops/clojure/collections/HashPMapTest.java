@@ -7,11 +7,13 @@ import java.util.Arrays;
 
 import org.junit.Before;
 import org.junit.Test;
+import org.pcollections.PMap;
 
 import com.aol.cyclops.data.collections.extensions.persistent.PMapX;
 import com.aol.cyclops.data.collections.extensions.standard.MapXs;
+import com.aol.cyclops.reactor.collections.extensions.AbstractPMapMergeTest;
 
-public class HashPMapTest {
+public class HashPMapTest extends AbstractPMapMergeTest {
     PMapX<Integer,String> org;
     PMapX<Integer,String> test;
     
@@ -21,6 +23,12 @@ public class HashPMapTest {
        test = ClojureHashPMap.singleton(1, "hello");
      
     }
+
+    @Override
+    public PMap<Integer, String> singleton(Integer key, String value) {
+        return ClojureHashPMap.singleton(key,value);
+    }
+
     @Test
     public void same(){
         assertThat(org,equalTo(test));
@@ -43,4 +51,12 @@ public class HashPMapTest {
     public void map(){
         assertThat(test.map(s->s+" world").toListX(t->t.v2).get(0),equalTo("hello world"));
     }
+
+    @Test
+    public void withMutations(){
+        ClojureHashPMap<Integer,String> map = ClojureHashPMap.fromJavaMap(MapXs.of(1,"hello"));
+        ClojureHashPMap<Integer,String> updated = map.withMutations(b->b.put(2,"world").put(3,"!").remove(1));
+        assertThat(updated,equalTo(org.minus(1).plus(2,"world").plus(3,"!")));
+        assertThat(map,equalTo(org));
+    }
 }
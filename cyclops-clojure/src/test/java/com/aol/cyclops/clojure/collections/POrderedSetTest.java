@@ -14,6 +14,7 @@ import org.pcollections.POrderedSet;
 
 import clojure.lang.PersistentTreeSet;
 import clojure.lang.PersistentVector;
+
 public class POrderedSetTest {
 
     OrderedPSet<Integer> org = null;
@@ -58,6 +59,4 @@ public class POrderedSetTest {
         assertThat(org.plusAll(Arrays.asList(1,2,3)).plusAll(Arrays.asList(5,6,7)).toArray(),
                    equalTo(test.plusAll(ClojureTreePOrderedSet.of(Comparator.naturalOrder(),1,2,3)).plusAll(Arrays.asList(5,6,7)).toArray()));
     }
-    
-   
 }
@@ -4,13 +4,18 @@ import static org.hamcrest.Matchers.equalTo;
 import static org.junit.Assert.assertThat;
 
 import java.util.Arrays;
+import java.util.List;
 
 import org.junit.Before;
 import org.junit.Test;
 import org.pcollections.HashTreePSet;
 import org.pcollections.MapPSet;
 import org.pcollections.PSet;
-public class PSetTest {
+
+import com.aol.cyclops.data.collections.extensions.standard.ListX;
+import com.aol.cyclops.reactor.collections.extensions.AbstractPSetLookupTest;
+
+public class PSetTest extends AbstractPSetLookupTest {
 
     MapPSet<Integer> org = null;
     PSet<Integer> test=null;
@@ -21,6 +26,11 @@ public class PSetTest {
        test = ClojureHashPSet.empty();
      
     }
+
+    @Override
+    public PSet<Integer> emptyPSet() {
+        return ClojureHashPSet.empty();
+    }
     
     @Test
     public void empty(){
@@ -54,5 +64,19 @@ public class PSetTest {
         assertThat(org.plusAll(Arrays.asList(1,2,3)).plusAll(Arrays.asList(5,6,7)),
                    equalTo(test.plusAll(ClojureHashPSet.of(1,2,3)).plusAll(Arrays.asList(5,6,7))));
     }
-   
+
+    @Test
+    public void withMutations(){
+        ClojureHashPSet<Integer> set = ClojureHashPSet.<Integer>emptyPSet().plus(1);
+        ClojureHashPSet<Integer> updated = set.withMutations(b->b.add(2).add(3).remove(1));
+        assertThat(updated,equalTo(org.plus(2).plus(3)));
+        assertThat(set,equalTo(org.plus(1)));
+    }
+
+    @Test
+    public void plusAllMinusAllLarge(){
+        List<Integer> data = ListX.range(0,10_000);
+        assertThat(test.plusAll(data),equalTo(org.plusAll(data)));
+        assertThat(test.plusAll(data).minusAll(ListX.range(0,5_000)),equalTo(org.plusAll(ListX.range(5_000,10_000))));
+    }
 }
@@ -1,6 +1,7 @@
 package com.aol.cyclops.clojure.collections;
 
 import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 
 import java.util.Arrays;
@@ -11,8 +12,9 @@ import org.pcollections.ConsPStack;
 import org.pcollections.PStack;
 
 import com.aol.cyclops.data.collections.extensions.persistent.PStackX;
+import com.aol.cyclops.reactor.collections.extensions.AbstractPStackTraversalTest;
 import com.aol.cyclops.reactor.collections.extensions.persistent.LazyPStackX;
-public class PStackTest {
+public class PStackTest extends AbstractPStackTraversalTest {
 
     ConsPStack<Integer> org = null;
     PStack<Integer> test=null;
@@ -23,6 +25,11 @@ public class PStackTest {
        test = ClojurePStack.empty();
      
     }
+
+    @Override
+    public <T> PStack<T> emptyPStack() {
+        return ClojurePStack.emptyPStack();
+    }
     
     @Test
     public void empty(){
@@ -101,4 +108,10 @@ public class PStackTest {
                    equalTo(test.plusAll(Arrays.asList(1,2,3,4,5,6,7)).subList(0,6)));
         
     }
+
+    @Test
+    public void iterateEmptyTail(){
+        assertFalse(ClojurePStack.fromList(Arrays.asList(1)).tail().iterator().hasNext());
+        assertThat(ClojurePStack.fromList(Arrays.asList(1)).tail().stream().count(),equalTo(0l));
+    }
 }
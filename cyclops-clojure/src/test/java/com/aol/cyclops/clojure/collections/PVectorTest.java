@@ -1,14 +1,24 @@
 package com.aol.cyclops.clojure.collections;
 
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
 import static org.junit.Assert.assertThat;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 
 import org.junit.Before;
 import org.junit.Test;
 import org.pcollections.PVector;
 import org.pcollections.TreePVector;
+
+import com.aol.cyclops.reactor.collections.extensions.base.RRBPVector;
+import com.aol.cyclops.data.collections.extensions.standard.ListX;
+import com.aol.cyclops.reactor.collections.extensions.base.NativeFlux;
+import com.aol.cyclops.reactor.collections.extensions.persistent.LazyPVectorX;
+import static org.hamcrest.Matchers.sameInstance;
+
 public class PVectorTest {
 
     TreePVector<Integer> org = null;
@@ -62,4 +72,63 @@ public class PVectorTest {
                    equalTo(test.plusAll(Arrays.asList(1,2,3,4,5,6,7)).subList(0,6)));
         
     }
+
+    @Test
+    public void withMutations(){
+        ClojurePVector<Integer> vector = ClojurePVector.<Integer>emptyPVector().plus(1);
+        ClojurePVector<Integer> updated = vector.withMutations(b->b.add(2).add(3).set(0,10).removeLast());
+        assertThat(updated,equalTo(org.plus(10).plus(2)));
+        assertThat(vector,equalTo(org.plus(1)));
+    }
+
+    @Test(expected=IllegalStateException.class)
+    public void batchUsedOutsideWithMutations(){
+        List<VectorBatch<Integer>> escaped = new ArrayList<>();
+        ClojurePVector.<Integer>emptyPVector().withMutations(escaped::add);
+        escaped.get(0).add(1);
+    }
+
+    @Test
+    public void plusAllMinusAllLarge(){
+        List<Integer> data = ListX.range(0,10_000);
+        assertThat(test.plusAll(data),equalTo(org.plusAll(data)));
+        assertThat(test.plusAll(data).minusAll(ListX.range(0,5_000)),equalTo(org.plusAll(ListX.range(5_000,10_000))));
+        ClojurePVector<Integer> vector = ClojurePVector.<Integer>emptyPVector().plusAll(data);
+        assertThat(vector.minusAll(Arrays.asList(-1)),sameInstance(vector));
+    }
+
+    @Test
+    public void nativeBulkOps(){
+        ClojurePVector<Integer> vector = ClojurePVector.<Integer>emptyPVector().plusAll(Arrays.asList(1,2,3));
+        assertThat(vector.map(i->i*2),equalTo(org.plusAll(Arrays.asList(2,4,6))));
+        assertThat(vector.filter(i->i>1),equalTo(org.plusAll(Arrays.asList(2,3))));
+        assertThat(vector.flatMap(i->Arrays.asList(i,i)),equalTo(org.plusAll(Arrays.asList(1,1,2,2,3,3))));
+        assertThat(vector.foldLeft("",(a,b)->a+b),equalTo("123"));
+    }
+
+    @Test
+    public void lazyBulkOpsRunNatively(){
+        LazyPVectorX<Integer> mapped = ClojurePVector.of(1,2,3)
+                                                .map(i->i*2)
+                                                .filter(i->i<5)
+                                                .flatMap(i->Arrays.asList(i,i+1));
+        assertThat(mapped.flux(),instanceOf(NativeFlux.class));
+        assertThat(mapped.getCollector().zero(),instanceOf(ClojurePVector.class));
+        assertThat(mapped,equalTo(org.plusAll(Arrays.asList(2,3,4,5))));
+        assertThat(mapped.map(i->i+1).limit(2),equalTo(org.plusAll(Arrays.asList(3,4))));
+        assertThat(mapped.reduce("",(a,b)->a+b),equalTo("2345"));
+        assertThat(mapped.reduce(0,(a,b)->a+b),equalTo(14));
+    }
+    @Test
+    public void fromCollection(){
+        PVector<Integer> source = TreePVector.from(Arrays.asList(1,2,3,4,5));
+        ClojurePVector<Integer> vector = ClojurePVector.fromCollection(source);
+        assertThat(vector,equalTo(source));
+        assertThat(ClojurePVector.fromCollection(vector),sameInstance(vector));
+        LazyPVectorX<Integer> lazy = LazyPVectorX.fromPVector(vector, ClojurePVector.toPVector());
+        assertThat(ClojurePVector.fromCollection(lazy),sameInstance(vector));
+        assertThat(ClojurePVector.fromCollection(Arrays.asList()),equalTo(ClojurePVector.emptyPVector()));
+        PVector<Integer> large = RRBPVector.fromIterable(ListX.range(0,10_000));
+        assertThat(ClojurePVector.fromCollection(large),equalTo(large));
+    }
 }
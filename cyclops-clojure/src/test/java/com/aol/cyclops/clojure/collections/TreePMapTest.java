@@ -4,14 +4,17 @@ import static org.hamcrest.Matchers.equalTo;
 import static org.junit.Assert.assertThat;
 
 import java.util.Arrays;
+import java.util.Comparator;
 
 import org.junit.Before;
 import org.junit.Test;
+import org.pcollections.PMap;
 
 import com.aol.cyclops.data.collections.extensions.persistent.PMapX;
 import com.aol.cyclops.data.collections.extensions.standard.MapXs;
+import com.aol.cyclops.reactor.collections.extensions.AbstractPMapMergeTest;
 
-public class TreePMapTest {
+public class TreePMapTest extends AbstractPMapMergeTest {
     PMapX<Integer,String> org;
     PMapX<Integer,String> test;
     
@@ -21,6 +24,12 @@ public class TreePMapTest {
        test = ClojureHashPMap.singleton(1, "hello");
      
     }
+
+    @Override
+    public PMap<Integer, String> singleton(Integer key, String value) {
+        return ClojureTreePMap.singleton(Comparator.naturalOrder(),key,value);
+    }
+
     @Test
     public void same(){
         assertThat(org,equalTo(test));
@@ -0,0 +1,26 @@
+package com.aol.cyclops.dexx.collections;
+
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collector;
+
+import com.github.andrewoma.dexx.collection.Builder;
+import com.github.andrewoma.dexx.collection.Traversable;
+
+/**
+ * Collectors that populate Dexx collection Builders
+ * 
+ * @author johnmcclean
+ *
+ */
+class Builders {
+
+    /**
+     * @param builder Supplier of a new Dexx Builder
+     * @param fn Converts the built Dexx collection
+     * @return Collector backed by a Dexx Builder
+     */
+    static <T, R extends Traversable<T>, C> Collector<T, ?, C> collector(Supplier<Builder<T, R>> builder, Function<? super R, ? extends C> fn) {
+        return Collector.<T, Builder<T, R>, C> of(builder, Builder::add, (a, b) -> a.addAll(b.build()), b -> fn.apply(b.build()));
+    }
+}
@@ -15,6 +15,7 @@ import org.pcollections.POrderedSet;
 
 import com.aol.cyclops.Reducer;
 import com.aol.cyclops.control.ReactiveSeq;
+import com.aol.cyclops.reactor.collections.extensions.base.BuilderReducer;
 import com.aol.cyclops.reactor.collections.extensions.persistent.LazyPOrderedSetX;
 import com.github.andrewoma.dexx.collection.Builder;
 import com.github.andrewoma.dexx.collection.TreeSet;
@@ -122,14 +123,14 @@ public class DexxPOrderedSet<T> extends AbstractSet<T>implements POrderedSet<T>
      * @return Reducer for POrderedSet
      */
     public static <T extends Comparable<? super T>>  Reducer<POrderedSet<T>> toPOrderedSet() {
-        return Reducer.<POrderedSet<T>> of(DexxPOrderedSet.emptyPOrderedSet(), (final POrderedSet<T> a) -> b -> a.plusAll(b),
-                                      (final T x) -> DexxPOrderedSet.singleton(x));
+        return toPOrderedSet(Comparator.<T> naturalOrder());
     }
     
     public static <T>  Reducer<POrderedSet<T>> toPOrderedSet(Comparator<T> ordering) {
-        return Reducer.<POrderedSet<T>> of(DexxPOrderedSet.emptyPOrderedSet(ordering), 
-                                           (final POrderedSet<T> a) -> b -> a.plusAll(b),
-                                      (final T x) -> DexxPOrderedSet.singleton(ordering,x));
+        return BuilderReducer.<T, POrderedSet<T>> of(DexxPOrderedSet.emptyPOrderedSet(ordering), 
+                                                     (final POrderedSet<T> a) -> b -> a.plusAll(b),
+                                                     (final T x) -> DexxPOrderedSet.singleton(ordering,x),
+                                                     Builders.collector(() -> TreeSet.factory(ordering).newBuilder(), DexxPOrderedSet::fromSet));
     }
 
     public static <T> DexxPOrderedSet<T> fromSet(TreeSet<T> set) {
@@ -238,6 +239,11 @@ public class DexxPOrderedSet<T> extends AbstractSet<T>implements POrderedSet<T>
   
    
 
+    @Override
+    public boolean contains(Object o) {
+        return set.contains((T) o);
+    }
+
     @Override
     public int size() {
         return set.size();
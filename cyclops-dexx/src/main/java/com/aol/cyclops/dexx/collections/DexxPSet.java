@@ -14,6 +14,7 @@ import org.pcollections.PSet;
 
 import com.aol.cyclops.Reducer;
 import com.aol.cyclops.control.ReactiveSeq;
+import com.aol.cyclops.reactor.collections.extensions.base.BuilderReducer;
 import com.aol.cyclops.reactor.collections.extensions.persistent.LazyPSetX;
 import com.github.andrewoma.dexx.collection.Builder;
 import com.github.andrewoma.dexx.collection.Set;
@@ -120,8 +121,8 @@ public class DexxPSet<T> extends AbstractSet<T>implements PSet<T> {
      * @return Reducer for PSet
      */
     public static <T> Reducer<PSet<T>> toPSet() {
-        return Reducer.<PSet<T>> of(DexxPSet.emptyPSet(), (final PSet<T> a) -> b -> a.plusAll(b),
-                                    (final T x) -> DexxPSet.singleton(x));
+        return BuilderReducer.<T, PSet<T>> of(DexxPSet.emptyPSet(), (final PSet<T> a) -> b -> a.plusAll(b),
+                                              (final T x) -> DexxPSet.singleton(x), Builders.collector(Sets::builder, DexxPSet::fromSet));
     }
 
     public static <T> DexxPSet<T> fromSet(Set<T> set) {
@@ -205,6 +206,11 @@ public class DexxPSet<T> extends AbstractSet<T>implements PSet<T> {
         return withSet(vec);
     }
 
+    @Override
+    public boolean contains(Object o) {
+        return set.contains((T) o);
+    }
+
     @Override
     public int size() {
         return set.size();
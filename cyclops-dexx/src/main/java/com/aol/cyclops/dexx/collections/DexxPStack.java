@@ -2,9 +2,11 @@ package com.aol.cyclops.dexx.collections;
 
 import java.util.AbstractList;
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.ListIterator;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Spliterator;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.function.UnaryOperator;
@@ -13,19 +15,18 @@ import java.util.stream.Stream;
 import org.jooq.lambda.tuple.Tuple2;
 import org.pcollections.PStack;
 
-
 import com.aol.cyclops.Reducer;
 import com.aol.cyclops.control.ReactiveSeq;
+import com.aol.cyclops.reactor.collections.extensions.base.LinkedLists;
 import com.aol.cyclops.reactor.collections.extensions.persistent.LazyPStackX;
 import com.github.andrewoma.dexx.collection.Builder;
 import com.github.andrewoma.dexx.collection.ConsList;
 import com.github.andrewoma.dexx.collection.List;
 
-
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
-
 import lombok.experimental.Wither;
+
 import reactor.core.publisher.Flux;
 
 
@@ -306,6 +307,36 @@ public class DexxPStack<T> extends AbstractList<T>implements PStack<T> {
         return withList(list.drop(start));
     }
 
-    
+    /*
+     * Native Dexx Iterator, each step is O(1) (rather than the O(n) get(int) AbstractList iterates with)
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return list.iterator();
+    }
 
+    @Override
+    public Spliterator<T> spliterator() {
+        return LinkedLists.spliterator(iterator(), size());
+    }
+
+    @Override
+    public int indexOf(Object o) {
+        return LinkedLists.indexOf(iterator(), o);
+    }
+
+    @Override
+    public int lastIndexOf(Object o) {
+        return LinkedLists.lastIndexOf(iterator(), o);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return LinkedLists.equals(this, o);
+    }
+
+    @Override
+    public int hashCode() {
+        return super.hashCode();
+    }
 }
@@ -14,6 +14,8 @@ import org.pcollections.PVector;
 
 import com.aol.cyclops.Reducer;
 import com.aol.cyclops.control.ReactiveSeq;
+import com.aol.cyclops.reactor.collections.extensions.base.BuilderReducer;
+import com.aol.cyclops.reactor.collections.extensions.base.Conversions;
 import com.aol.cyclops.reactor.collections.extensions.persistent.LazyPVectorX;
 import com.github.andrewoma.dexx.collection.Builder;
 import com.github.andrewoma.dexx.collection.Vector;
@@ -118,7 +120,8 @@ public class DexxPVector<T> extends AbstractList<T> implements PVector<T> {
      * @return Reducer for PVector
      */
     public static <T> Reducer<PVector<T>> toPVector() {
-        return Reducer.<PVector<T>> of(DexxPVector.emptyPVector(), (final PVector<T> a) -> b -> a.plusAll(b), (final T x) -> DexxPVector.singleton(x));
+        return BuilderReducer.<T, PVector<T>> of(DexxPVector.emptyPVector(), (final PVector<T> a) -> b -> a.plusAll(b),
+                                                 (final T x) -> DexxPVector.singleton(x), Builders.collector(DexxPVector::builder, DexxPVector::fromVector));
     }
     public static <T> Builder<T,Vector<T>> builder(){
         return Vector.<T>factory().newBuilder();
@@ -127,6 +130,22 @@ public class DexxPVector<T> extends AbstractList<T> implements PVector<T> {
         return new DexxPVector<>(vector);
     }
     
+    /**
+     * Convert a Collection (e.g. a PVector from another library) into a DexxPVector, via a single Builder pass over an array
+     * snapshot of the Collection
+     *
+     * @see Conversions#convert(Collection, Collection, Function)
+     * @param source Collection to convert
+     * @return source if it is (or is a LazyPVectorX backed by) a DexxPVector, otherwise a new DexxPVector
+     */
+    public static <T> DexxPVector<T> fromCollection(Collection<? extends T> source){
+        return Conversions.convert(source, DexxPVector.<T>emptyPVector(), array -> {
+            Builder<T, Vector<T>> builder = builder();
+            for(Object next : array)
+                builder.add((T)next);
+            return fromVector(builder.build());
+        });
+    }
     public static <T> DexxPVector<T> emptyPVector(){
         return new DexxPVector<>(Vector.empty());
     }
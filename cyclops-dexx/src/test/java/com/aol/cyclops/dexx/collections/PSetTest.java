@@ -10,7 +10,10 @@ import org.junit.Test;
 import org.pcollections.HashTreePSet;
 import org.pcollections.MapPSet;
 import org.pcollections.PSet;
-public class PSetTest {
+
+import com.aol.cyclops.reactor.collections.extensions.AbstractPSetLookupTest;
+
+public class PSetTest extends AbstractPSetLookupTest {
 
     MapPSet<Integer> org = null;
     PSet<Integer> test=null;
@@ -21,6 +24,11 @@ public class PSetTest {
        test = DexxPSet.empty();
      
     }
+
+    @Override
+    public PSet<Integer> emptyPSet() {
+        return DexxPSet.empty();
+    }
     
     @Test
     public void empty(){
@@ -49,6 +57,4 @@ public class PSetTest {
         
         
     }
-    
-   
 }
@@ -12,8 +12,9 @@ import org.pcollections.ConsPStack;
 import org.pcollections.PStack;
 
 import com.aol.cyclops.data.collections.extensions.persistent.PStackX;
+import com.aol.cyclops.reactor.collections.extensions.AbstractPStackTraversalTest;
 import com.aol.cyclops.reactor.collections.extensions.persistent.LazyPStackX;
-public class PStackTest {
+public class PStackTest extends AbstractPStackTraversalTest {
 
     ConsPStack<Integer> org = null;
     PStack<Integer> test=null;
@@ -24,6 +25,11 @@ public class PStackTest {
        test = DexxPStack.empty();
      
     }
+
+    @Override
+    public <T> PStack<T> emptyPStack() {
+        return DexxPStack.emptyPStack();
+    }
     
     @Test
     public void empty(){
@@ -1,6 +1,7 @@
 package com.aol.cyclops.dexx.collections;
 
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.Assert.assertThat;
 
 import java.util.Arrays;
@@ -9,6 +10,11 @@ import org.junit.Before;
 import org.junit.Test;
 import org.pcollections.PVector;
 import org.pcollections.TreePVector;
+
+import com.aol.cyclops.reactor.collections.extensions.base.RRBPVector;
+import com.aol.cyclops.data.collections.extensions.standard.ListX;
+import com.aol.cyclops.reactor.collections.extensions.persistent.LazyPVectorX;
+
 public class PVectorTest {
 
     TreePVector<Integer> org = null;
@@ -62,4 +68,16 @@ public class PVectorTest {
                    equalTo(test.plusAll(Arrays.asList(1,2,3,4,5,6,7)).subList(0,6)));
         
     }
+    @Test
+    public void fromCollection(){
+        PVector<Integer> source = TreePVector.from(Arrays.asList(1,2,3,4,5));
+        DexxPVector<Integer> vector = DexxPVector.fromCollection(source);
+        assertThat(vector,equalTo(source));
+        assertThat(DexxPVector.fromCollection(vector),sameInstance(vector));
+        LazyPVectorX<Integer> lazy = LazyPVectorX.fromPVector(vector, DexxPVector.toPVector());
+        assertThat(DexxPVector.fromCollection(lazy),sameInstance(vector));
+        assertThat(DexxPVector.fromCollection(Arrays.asList()),equalTo(DexxPVector.emptyPVector()));
+        PVector<Integer> large = RRBPVector.fromIterable(ListX.range(0,10_000));
+        assertThat(DexxPVector.fromCollection(large),equalTo(large));
+    }
 }
@@ -8,6 +8,7 @@ import java.util.Optional;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.jooq.lambda.tuple.Tuple2;
@@ -16,6 +17,7 @@ import org.pcollections.POrderedSet;
 
 import com.aol.cyclops.Reducer;
 import com.aol.cyclops.control.ReactiveSeq;
+import com.aol.cyclops.reactor.collections.extensions.base.BuilderReducer;
 import com.aol.cyclops.reactor.collections.extensions.persistent.LazyPOrderedSetX;
 
 import javaslang.collection.HashSet;
@@ -122,12 +124,12 @@ public class JavaSlangPOrderedSet<T> extends AbstractSet<T>implements POrderedSe
      * @return Reducer for POrderedSet
      */
     public static <T extends Comparable<? super T>> Reducer<POrderedSet<T>> toPOrderedSet() {
-        return Reducer.<POrderedSet<T>> of(JavaSlangPOrderedSet.emptyPOrderedSet(), (final POrderedSet<T> a) -> b -> a.plusAll(b),
-                                           (final T x) -> JavaSlangPOrderedSet.singleton(x));
+        return toPOrderedSet(Comparator.<T> naturalOrder());
     }
     public static <T> Reducer<POrderedSet<T>> toPOrderedSet(Comparator<? super T> comparator) {
-        return Reducer.<POrderedSet<T>> of(JavaSlangPOrderedSet.emptyPOrderedSet(comparator), (final POrderedSet<T> a) -> b -> a.plusAll(b),
-                                           (final T x) -> JavaSlangPOrderedSet.singleton(comparator,x));
+        return BuilderReducer.<T, POrderedSet<T>> of(JavaSlangPOrderedSet.emptyPOrderedSet(comparator), (final POrderedSet<T> a) -> b -> a.plusAll(b),
+                                                     (final T x) -> JavaSlangPOrderedSet.singleton(comparator,x),
+                                                     Collectors.collectingAndThen(TreeSet.collector(comparator), s -> new JavaSlangPOrderedSet<T>(s)));
     }
     public static <T extends Comparable<? super T>> JavaSlangPOrderedSet<T> emptyPOrderedSet() {
         return new JavaSlangPOrderedSet<T>(TreeSet.empty());
@@ -190,6 +192,11 @@ public class JavaSlangPOrderedSet<T> extends AbstractSet<T>implements POrderedSe
         return withSet(set.removeAll((Collection) l));
     }
 
+    @Override
+    public boolean contains(Object o) {
+        return set.contains((T) o);
+    }
+
     @Override
     public int size() {
         return set.size();
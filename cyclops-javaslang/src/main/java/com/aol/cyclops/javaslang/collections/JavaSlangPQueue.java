@@ -7,14 +7,15 @@ import java.util.Optional;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.jooq.lambda.tuple.Tuple2;
 import org.pcollections.PQueue;
 
-
 import com.aol.cyclops.Reducer;
 import com.aol.cyclops.control.ReactiveSeq;
+import com.aol.cyclops.reactor.collections.extensions.base.BuilderReducer;
 import com.aol.cyclops.reactor.collections.extensions.persistent.LazyPOrderedSetX;
 import com.aol.cyclops.reactor.collections.extensions.persistent.LazyPQueueX;
 
@@ -120,7 +121,10 @@ public class JavaSlangPQueue<T> extends AbstractQueue<T> implements PQueue<T> {
      * @return Reducer for PQueue
      */
     public static <T> Reducer<PQueue<T>> toPQueue() {
-        return Reducer.<PQueue<T>> of(JavaSlangPQueue.emptyPQueue(), (final PQueue<T> a) -> b -> a.plusAll(b), (final T x) -> JavaSlangPQueue.singleton(x));
+        //each element is prepended to the underlying Queue (as with plusAll), so the collected Queue is reversed
+        return BuilderReducer.<T, PQueue<T>> of(JavaSlangPQueue.emptyPQueue(), (final PQueue<T> a) -> b -> a.plusAll(b),
+                                                (final T x) -> JavaSlangPQueue.singleton(x),
+                                                Collectors.collectingAndThen(Queue.collector(), q -> new JavaSlangPQueue<T>(q.reverse())));
     }
     public static <T> JavaSlangPQueue<T> emptyPQueue(){
         return new JavaSlangPQueue<>(Queue.empty());
@@ -7,6 +7,7 @@ import java.util.Optional;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.jooq.lambda.tuple.Tuple2;
@@ -15,6 +16,7 @@ import org.pcollections.PSet;
 
 import com.aol.cyclops.Reducer;
 import com.aol.cyclops.control.ReactiveSeq;
+import com.aol.cyclops.reactor.collections.extensions.base.BuilderReducer;
 import com.aol.cyclops.reactor.collections.extensions.persistent.LazyPSetX;
 
 import javaslang.collection.HashSet;
@@ -119,7 +121,9 @@ public class JavaSlangPSet<T> extends AbstractSet<T>  implements PSet<T> {
      * @return Reducer for PSet
      */
     public static <T> Reducer<PSet<T>> toPSet() {
-        return Reducer.<PSet<T>> of(JavaSlangPSet.emptyPSet(), (final PSet<T> a) -> b -> a.plusAll(b), (final T x) -> JavaSlangPSet.singleton(x));
+        return BuilderReducer.<T, PSet<T>> of(JavaSlangPSet.emptyPSet(), (final PSet<T> a) -> b -> a.plusAll(b),
+                                              (final T x) -> JavaSlangPSet.singleton(x),
+                                              Collectors.collectingAndThen(HashSet.collector(), s -> new JavaSlangPSet<T>(s)));
     }
     
     public static <T> LazyPSetX<T> PSet(Set<T> q) {
@@ -169,6 +173,11 @@ public class JavaSlangPSet<T> extends AbstractSet<T>  implements PSet<T> {
    
 
  
+    @Override
+    public boolean contains(Object o) {
+        return set.contains((T) o);
+    }
+
     @Override
     public int size() {
         return set.size();
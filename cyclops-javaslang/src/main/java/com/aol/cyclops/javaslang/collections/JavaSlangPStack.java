@@ -2,10 +2,13 @@ package com.aol.cyclops.javaslang.collections;
 
 import java.util.AbstractList;
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.Optional;
+import java.util.Spliterator;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.jooq.lambda.tuple.Tuple2;
@@ -14,6 +17,8 @@ import org.pcollections.PStack;
 
 import com.aol.cyclops.Reducer;
 import com.aol.cyclops.control.ReactiveSeq;
+import com.aol.cyclops.reactor.collections.extensions.base.BuilderReducer;
+import com.aol.cyclops.reactor.collections.extensions.base.LinkedLists;
 import com.aol.cyclops.reactor.collections.extensions.persistent.LazyPSetX;
 import com.aol.cyclops.reactor.collections.extensions.persistent.LazyPStackX;
 
@@ -119,7 +124,11 @@ public class JavaSlangPStack<T> extends AbstractList<T> implements PStack<T> {
      * @return Reducer for PStack
      */
     public static <T> Reducer<PStack<T>> toPStack() {
-        return Reducer.<PStack<T>> of(JavaSlangPStack.emptyPStack(), (final PStack<T> a) -> b -> a.plusAll(b), (final T x) -> JavaSlangPStack.singleton(x));
+        //elements are buffered and added with a single plusAll, so they are prepended in a single pass
+        return BuilderReducer.<T, PStack<T>> of(JavaSlangPStack.emptyPStack(), (final PStack<T> a) -> b -> a.plusAll(b),
+                                                (final T x) -> JavaSlangPStack.singleton(x),
+                                                Collectors.collectingAndThen(Collectors.toList(), l -> JavaSlangPStack.<T> emptyPStack()
+                                                                                                                     .plusAll(l)));
     }
     
     public static <T> JavaSlangPStack<T> emptyPStack(){
@@ -214,5 +223,36 @@ public class JavaSlangPStack<T> extends AbstractList<T> implements PStack<T> {
        return withList(list.subSequence(start));
     }
 
-   
+    /*
+     * Native Javaslang Iterator, each step is O(1) (rather than the O(n) get(int) AbstractList iterates with)
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return list.iterator();
+    }
+
+    @Override
+    public Spliterator<T> spliterator() {
+        return LinkedLists.spliterator(iterator(), size());
+    }
+
+    @Override
+    public int indexOf(Object o) {
+        return LinkedLists.indexOf(iterator(), o);
+    }
+
+    @Override
+    public int lastIndexOf(Object o) {
+        return LinkedLists.lastIndexOf(iterator(), o);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return LinkedLists.equals(this, o);
+    }
+
+    @Override
+    public int hashCode() {
+        return super.hashCode();
+    }
 }
@@ -3,9 +3,12 @@ package com.aol.cyclops.javaslang.collections;
 import java.util.AbstractList;
 import java.util.Collection;
 import java.util.Optional;
+import java.util.function.BiFunction;
 import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.function.Supplier;
 import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.jooq.lambda.tuple.Tuple2;
@@ -13,6 +16,9 @@ import org.pcollections.PVector;
 
 import com.aol.cyclops.Reducer;
 import com.aol.cyclops.control.ReactiveSeq;
+import com.aol.cyclops.reactor.collections.extensions.base.BuilderReducer;
+import com.aol.cyclops.reactor.collections.extensions.base.Conversions;
+import com.aol.cyclops.reactor.collections.extensions.base.NativeBulkOps;
 import com.aol.cyclops.reactor.collections.extensions.persistent.LazyPVectorX;
 
 import javaslang.collection.Vector;
@@ -21,7 +27,7 @@ import lombok.AllArgsConstructor;
 import lombok.experimental.Wither;
 import reactor.core.publisher.Flux;
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
-public class JavaSlangPVector<T> extends AbstractList<T> implements PVector<T> {
+public class JavaSlangPVector<T> extends AbstractList<T> implements PVector<T>, NativeBulkOps<T> {
     
     /**
      * Create a LazyPVectorX from a Stream
@@ -116,7 +122,21 @@ public class JavaSlangPVector<T> extends AbstractList<T> implements PVector<T> {
      * @return Reducer for PVector
      */
     public static <T> Reducer<PVector<T>> toPVector() {
-        return Reducer.<PVector<T>> of(JavaSlangPVector.emptyPVector(), (final PVector<T> a) -> b -> a.plusAll(b), (final T x) -> JavaSlangPVector.singleton(x));
+        return BuilderReducer.<T, PVector<T>> of(JavaSlangPVector.emptyPVector(), (final PVector<T> a) -> b -> a.plusAll(b),
+                                                 (final T x) -> JavaSlangPVector.singleton(x),
+                                                 Collectors.collectingAndThen(Vector.collector(), v -> new JavaSlangPVector<T>(v)));
+    }
+    /**
+     * Convert a Collection (e.g. a PVector from another library) into a JavaSlangPVector, via Vector.of over an array
+     * snapshot of the Collection
+     *
+     * @see Conversions#convert(Collection, Collection, Function)
+     * @param source Collection to convert
+     * @return source if it is (or is a LazyPVectorX backed by) a JavaSlangPVector, otherwise a new JavaSlangPVector
+     */
+    public static <T> JavaSlangPVector<T> fromCollection(Collection<? extends T> source){
+        return Conversions.convert(source, JavaSlangPVector.<T>emptyPVector(),
+                                   array -> new JavaSlangPVector<T>(Vector.of((T[]) array)));
     }
     public static <T> JavaSlangPVector<T> emptyPVector(){
         return new JavaSlangPVector<>(Vector.empty());
@@ -195,5 +215,25 @@ public class JavaSlangPVector<T> extends AbstractList<T> implements PVector<T> {
         return vector.size();
     }
 
-   
+    @Override
+    public <R> JavaSlangPVector<R> map(Function<? super T, ? extends R> fn) {
+        return new JavaSlangPVector<R>(
+                                       vector.map(fn));
+    }
+
+    @Override
+    public JavaSlangPVector<T> filter(Predicate<? super T> p) {
+        return withVector(vector.filter(p));
+    }
+
+    @Override
+    public <R> JavaSlangPVector<R> flatMap(Function<? super T, ? extends Iterable<? extends R>> fn) {
+        return new JavaSlangPVector<R>(
+                                       vector.flatMap(fn));
+    }
+
+    @Override
+    public <U> U foldLeft(U identity, BiFunction<U, ? super T, U> fn) {
+        return vector.foldLeft(identity, fn);
+    }
 }
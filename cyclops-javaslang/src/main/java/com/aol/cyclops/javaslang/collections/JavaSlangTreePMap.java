@@ -5,6 +5,8 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.stream.Collectors;
 
 import org.jooq.lambda.tuple.Tuple2;
 import org.pcollections.PMap;
@@ -13,24 +15,33 @@ import com.aol.cyclops.Reducer;
 import com.aol.cyclops.control.Eval;
 import com.aol.cyclops.control.ReactiveSeq;
 import com.aol.cyclops.data.collections.extensions.persistent.PMapX;
+import com.aol.cyclops.reactor.collections.extensions.base.BuilderReducer;
 import com.aol.cyclops.reactor.collections.extensions.base.ExtensiblePMapX;
+import com.aol.cyclops.reactor.collections.extensions.base.NativeLookups;
+import com.aol.cyclops.reactor.collections.extensions.base.NativeMerge;
 import com.aol.cyclops.types.mixins.TupleWrapper;
 
+import javaslang.Tuple;
 import javaslang.collection.TreeMap;
+import javaslang.control.Option;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.NonNull;
 import lombok.experimental.Wither;
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
-public class JavaSlangTreePMap<K,V> extends AbstractMap<K,V> implements PMap<K,V>{
+public class JavaSlangTreePMap<K,V> extends AbstractMap<K,V> implements PMap<K,V>, NativeMerge<K,V>{
     
     @Wither
     TreeMap<K,V> map;
     public static <K extends Comparable<? super K>, V> Reducer<PMapX<K, V>> toPMapX() {
-        return Reducer.<PMapX<K, V>> of(empty(), (final PMapX<K, V> a) -> b -> a.plusAll(b), (in) -> {
+        return BuilderReducer.<Object, PMapX<K, V>> of(empty(), (final PMapX<K, V> a) -> b -> a.plusAll(b), (in) -> {
             final List w = ((TupleWrapper) () -> in).values();
             return singleton((K) w.get(0), (V) w.get(1));
-        });
+        } , Collectors.mapping(in -> {
+            final List w = ((TupleWrapper) () -> in).values();
+            return Tuple.of((K) w.get(0), (V) w.get(1));
+        } , Collectors.collectingAndThen(TreeMap.<K, V> collector(),
+                                         m -> new ExtensiblePMapX<K, V>(fromMap(m), Eval.later(() -> JavaSlangTreePMap.<K, V> toPMapX())))));
     }
     public static <K,V> JavaSlangTreePMap<K,V> fromMap(@NonNull TreeMap<K,V> map){
         return new JavaSlangTreePMap<>(map);
@@ -61,13 +72,32 @@ public class JavaSlangTreePMap<K,V> extends AbstractMap<K,V> implements PMap<K,V
     }
     @Override
     public PMap<K, V> plusAll(java.util.Map<? extends K, ? extends V> m2) {
-        
+        java.util.Map<? extends K, ? extends V> other = NativeMerge.unwrap(m2);
+        if (other instanceof JavaSlangTreePMap)
+            return withMap(map.merge(((JavaSlangTreePMap<K, V>) other).map, (a, b) -> b));
+        if (other instanceof JavaSlangHashPMap)
+            return withMap(map.merge(((JavaSlangHashPMap<K, V>) other).map, (a, b) -> b));
         TreeMap<K,V> m = map;
-        for(Map.Entry<? extends K, ? extends V> next : m2.entrySet()){
+        for(Map.Entry<? extends K, ? extends V> next : other.entrySet()){
             m = m.put(next.getKey(), next.getValue());
         }
         return withMap(m);
     }
+
+    @Override
+    public PMap<K, V> merge(java.util.Map<? extends K, ? extends V> m2, BiFunction<? super V, ? super V, ? extends V> mergeFn) {
+        java.util.Map<? extends K, ? extends V> other = NativeMerge.unwrap(m2);
+        if (other instanceof JavaSlangTreePMap)
+            return withMap(map.merge(((JavaSlangTreePMap<K, V>) other).map, mergeFn));
+        if (other instanceof JavaSlangHashPMap)
+            return withMap(map.merge(((JavaSlangHashPMap<K, V>) other).map, mergeFn));
+        TreeMap<K, V> m = map;
+        for (Map.Entry<? extends K, ? extends V> next : other.entrySet()) {
+            Option<V> current = map.get(next.getKey());
+            m = m.put(next.getKey(), current.isEmpty() ? next.getValue() : mergeFn.apply(current.get(), next.getValue()));
+        }
+        return withMap(m);
+    }
     @Override
     public PMap<K, V> minus(Object key) {
       
@@ -93,7 +123,34 @@ public class JavaSlangTreePMap<K,V> extends AbstractMap<K,V> implements PMap<K,V
      */
     @Override
     public V get(Object key) {
-       return (V)map.get((K)key);
+        return map.get((K) key)
+                  .getOrElse((V) null);
+    }
+
+    @Override
+    public V getOrDefault(Object key, V defaultValue) {
+        return map.get((K) key)
+                  .getOrElse(defaultValue);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return map.containsKey((K) key);
+    }
+
+    @Override
+    public boolean containsValue(Object value) {
+        return map.containsValue((V) value);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return NativeLookups.equals(this, o);
+    }
+
+    @Override
+    public int hashCode() {
+        return NativeLookups.hashCode(this);
     }
    
     
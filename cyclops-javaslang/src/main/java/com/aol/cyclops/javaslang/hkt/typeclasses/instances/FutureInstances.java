@@ -1,5 +1,7 @@
 package com.aol.cyclops.javaslang.hkt.typeclasses.instances;
 
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 
@@ -20,7 +22,10 @@ import com.aol.cyclops.hkt.typeclasses.monad.Traverse;
 import com.aol.cyclops.javaslang.Javaslang;
 import com.aol.cyclops.javaslang.hkt.FutureType;
 
+import javaslang.collection.List;
 import javaslang.concurrent.Future;
+import javaslang.concurrent.Promise;
+import javaslang.control.Try;
 import lombok.experimental.UtilityClass;
 
 /**
@@ -216,6 +221,9 @@ public class FutureInstances {
     }
  
     /**
+     * Traversing a Future with the Future Applicative composes the futures without blocking, other Applicatives
+     * require the value and will wait for the future to complete.
+     * 
      * @return Type class for traversables with traverse / sequence operations
      */
     public static <C2,T> Traverse<FutureType.µ> traverse(){
@@ -223,6 +231,65 @@ public class FutureInstances {
         return General.traverseByTraverse(applicative(), FutureInstances::traverseA);
     }
     
+    /**
+     * Combine a collection of futures into a single future of a List of their results, in O(N) without building a
+     * chain of nested flatMap / Applicative ap calls (as Future.sequence does). The returned future fails if any of the
+     * supplied futures do.
+     * 
+     * <pre>
+     * {@code 
+     * FutureType<List<Integer>> all = FutureInstances.sequence(List.of(FutureType.successful(1),FutureType.successful(2)));
+     * 
+     * //Future[List[1,2]]
+     * }
+     * </pre>
+     * 
+     * @param futures HKT encoded Futures to combine
+     * @return Future with the results of the supplied futures, in order
+     */
+    public static <T> FutureType<List<T>> sequence(Iterable<? extends Higher<FutureType.µ, T>> futures){
+        List<Future<T>> list = List.ofAll(futures)
+                                   .map(FutureType::narrow);
+        Promise<List<T>> promise = Promise.make();
+        if(list.isEmpty()){
+            promise.success(List.empty());
+            return FutureType.widen(promise.future());
+        }
+        AtomicInteger remaining = new AtomicInteger(list.size());
+        list.forEach(f->f.onComplete(t->{
+            if(t.isFailure())
+                promise.tryFailure(t.getCause());
+            else if(remaining.decrementAndGet()==0)
+                promise.trySuccess(list.map(Future::get));
+        }));
+        return FutureType.widen(promise.future());
+    }
+    
+    /**
+     * Apply an asynchronous function to each value, with at most maxConcurrency of the resulting futures in flight at
+     * any one time. The next value is only passed to the function when a previous future completes. The first failure
+     * fails the returned future and no further values are started.
+     * 
+     * <pre>
+     * {@code 
+     * FutureType<List<Integer>> all = FutureInstances.traverse(2, List.of(1,2,3), i->FutureType.widen(Future.of(()->i*2)));
+     * 
+     * //Future[List[2,4,6]], with no more than 2 running at once
+     * }
+     * </pre>
+     * 
+     * @param maxConcurrency Maximum number of incomplete futures at any one time
+     * @param values Values to traverse
+     * @param fn Function to create a future for each value
+     * @return Future with the results, in the order of the supplied values
+     */
+    public static <T,R> FutureType<List<R>> traverse(int maxConcurrency, Iterable<? extends T> values, 
+            Function<? super T, ? extends Higher<FutureType.µ, R>> fn){
+        if(maxConcurrency<1)
+            throw new IllegalArgumentException("maxConcurrency must be greater than 0 : " + maxConcurrency);
+        return FutureType.widen(new BoundedTraverse<T,R>(maxConcurrency,List.ofAll(values),fn).start());
+    }
+    
     /**
      * 
      * <pre>
@@ -236,6 +303,8 @@ public class FutureInstances {
      * </pre>
      * 
      * 
+     * Folding requires the value and will wait for the future to complete.
+     * 
      * @return Type class for folding / reduction operations
      */
     public static <T> Foldable<FutureType.µ> foldable(){
@@ -243,6 +312,9 @@ public class FutureInstances {
         BiFunction<Monoid<T>,Higher<FutureType.µ,T>,T> foldLeftFn = (m,l)->  m.apply(m.zero(), FutureType.narrow(l).get());
         return General.foldable(foldRightFn, foldLeftFn);
     }
+    /**
+     * @return Type class for extracting values, extract will wait for the future to complete
+     */
     public static <T> Comonad<FutureType.µ> comonad(){
         Function<? super Higher<FutureType.µ, T>, ? extends T> extractFn = maybe -> maybe.convert(FutureType::narrow).get();
         return General.comonad(functor(), unit(), extractFn);
@@ -266,7 +338,82 @@ public class FutureInstances {
     private static <C2,T,R> Higher<C2, Higher<FutureType.µ, R>> traverseA(Applicative<C2> applicative, Function<? super T, ? extends Higher<C2, R>> fn, 
             Higher<FutureType.µ, T> ds){
         Future<T> future = FutureType.narrow(ds);
+        if(!future.isCompleted() && applicative.unit(Boolean.TRUE) instanceof FutureType){
+            //the target Applicative is a Future, compose rather than wait for the value
+            Function<? super T, ? extends Higher<FutureType.µ, R>> futureFn = (Function)fn;
+            Future<Higher<FutureType.µ, R>> composed = future.flatMap(t->FutureType.narrow(futureFn.apply(t)))
+                                                             .map(FutureType::successful);
+            return (Higher)FutureType.widen(composed);
+        }
         return applicative.map(FutureType::successful, fn.apply(future.get()));
     }
+    
+    private static final class BoundedTraverse<T,R>{
+        private final int maxConcurrency;
+        private final List<T> values;
+        private final Function<? super T, ? extends Higher<FutureType.µ, R>> fn;
+        private final Object[] results;
+        private final Promise<List<R>> result = Promise.make();
+        private final AtomicInteger wip = new AtomicInteger(0);
+        private final AtomicInteger inFlight = new AtomicInteger(0);
+        private final AtomicInteger remaining;
+        private List<T> next;
+        private int index;
+        
+        BoundedTraverse(int maxConcurrency, List<T> values, Function<? super T, ? extends Higher<FutureType.µ, R>> fn){
+            this.maxConcurrency = maxConcurrency;
+            this.values = values;
+            this.fn = fn;
+            this.next = values;
+            this.results = new Object[values.size()];
+            this.remaining = new AtomicInteger(values.size());
+        }
+        
+        Future<List<R>> start(){
+            if(results.length==0)
+                result.success(List.empty());
+            else
+                drain();
+            return result.future();
+        }
+        
+        //callbacks that re-enter drain are turned into another pass of the loop by the wip counter
+        private void drain(){
+            if(wip.getAndIncrement()!=0)
+                return;
+            do{
+                while(!next.isEmpty() && inFlight.get()<maxConcurrency && !result.isCompleted()){
+                    int current = index++;
+                    T value = next.head();
+                    next = next.tail();
+                    inFlight.incrementAndGet();
+                    Future<R> future;
+                    try{
+                        future = FutureType.narrow(fn.apply(value));
+                    }catch(Throwable t){
+                        //stops the loop, wip is still released below
+                        result.tryFailure(t);
+                        break;
+                    }
+                    future.onComplete(t->onComplete(current,t));
+                }
+            }while(wip.decrementAndGet()!=0);
+        }
+        
+        @SuppressWarnings("unchecked")
+        private void onComplete(int current, Try<R> value){
+            if(value.isFailure()){
+                result.tryFailure(value.getCause());
+                return;
+            }
+            results[current]=value.get();
+            if(remaining.decrementAndGet()==0){
+                result.trySuccess((List<R>)List.ofAll(Arrays.asList(results)));
+                return;
+            }
+            inFlight.decrementAndGet();
+            drain();
+        }
+    }
    
 }
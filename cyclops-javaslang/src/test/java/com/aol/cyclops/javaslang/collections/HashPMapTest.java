@@ -7,11 +7,13 @@ import java.util.Arrays;
 
 import org.junit.Before;
 import org.junit.Test;
+import org.pcollections.PMap;
 
 import com.aol.cyclops.data.collections.extensions.persistent.PMapX;
 import com.aol.cyclops.data.collections.extensions.standard.MapXs;
+import com.aol.cyclops.reactor.collections.extensions.AbstractPMapMergeTest;
 
-public class HashPMapTest {
+public class HashPMapTest extends AbstractPMapMergeTest {
     PMapX<Integer,String> org;
     PMapX<Integer,String> test;
     
@@ -21,6 +23,17 @@ public class HashPMapTest {
        test = JavaSlangHashPMap.singleton(1, "hello");
      
     }
+
+    @Override
+    public PMap<Integer, String> singleton(Integer key, String value) {
+        return JavaSlangHashPMap.singleton(key,value);
+    }
+
+    @Override
+    public PMap<Integer, String> otherBackendSingleton(Integer key, String value) {
+        return JavaSlangTreePMap.singleton(key,value);
+    }
+
     @Test
     public void same(){
         assertThat(org.toList(),equalTo(test.toList()));
@@ -10,7 +10,11 @@ import org.junit.Test;
 import org.pcollections.HashTreePSet;
 import org.pcollections.OrderedPSet;
 import org.pcollections.POrderedSet;
-public class POrderedSetTest {
+import org.pcollections.PSet;
+
+import com.aol.cyclops.reactor.collections.extensions.AbstractPSetLookupTest;
+
+public class POrderedSetTest extends AbstractPSetLookupTest {
 
     OrderedPSet<Integer> org = null;
     POrderedSet<Integer> test=null;
@@ -21,6 +25,11 @@ public class POrderedSetTest {
        test = JavaSlangPOrderedSet.empty();
      
     }
+
+    @Override
+    public PSet<Integer> emptyPSet() {
+        return JavaSlangPOrderedSet.empty();
+    }
     
     @Test
     public void empty(){
@@ -49,6 +58,4 @@ public class POrderedSetTest {
         
         
     }
-    
-   
 }
@@ -9,6 +9,7 @@ import org.junit.Before;
 import org.junit.Test;
 import org.pcollections.AmortizedPQueue;
 import org.pcollections.PQueue;
+
 public class PQueueTest {
 
     AmortizedPQueue<Integer> org = null;
@@ -53,6 +54,4 @@ public class PQueueTest {
         
         
     }
-    
-   
 }
@@ -10,7 +10,10 @@ import org.junit.Test;
 import org.pcollections.ConsPStack;
 import org.pcollections.PStack;
 import org.pcollections.TreePVector;
-public class PStackTest {
+
+import com.aol.cyclops.reactor.collections.extensions.AbstractPStackTraversalTest;
+
+public class PStackTest extends AbstractPStackTraversalTest {
 
     ConsPStack<Integer> org = null;
     PStack<Integer> test=null;
@@ -21,6 +24,11 @@ public class PStackTest {
        test = JavaSlangPStack.empty();
      
     }
+
+    @Override
+    public <T> PStack<T> emptyPStack() {
+        return JavaSlangPStack.emptyPStack();
+    }
     
     @Test
     public void empty(){
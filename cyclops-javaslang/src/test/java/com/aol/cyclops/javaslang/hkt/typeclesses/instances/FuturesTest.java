@@ -5,7 +5,9 @@ import static com.aol.cyclops.util.function.Lambda.l1;
 import static org.hamcrest.Matchers.equalTo;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 
 import org.junit.Test;
@@ -22,7 +24,9 @@ import com.aol.cyclops.javaslang.hkt.typeclasses.instances.FutureInstances;
 import com.aol.cyclops.javaslang.hkt.typeclasses.instances.OptionInstances;
 import com.aol.cyclops.util.function.Lambda;
 
+import javaslang.collection.List;
 import javaslang.concurrent.Future;
+import javaslang.concurrent.Promise;
 import javaslang.control.Option;
 
 public class FuturesTest {
@@ -145,4 +149,69 @@ public class FuturesTest {
                   equalTo(Maybe.just(Future.successful(2).get())));
     }
     
+    @Test
+    public void traverseFutureApplicativeDoesNotBlock(){
+        Promise<Integer> promise = Promise.make();
+        FutureType<Higher<FutureType.µ, Integer>> res = FutureInstances.traverse()
+                                                                 .traverseA(FutureInstances.applicative(), (Integer a)->FutureType.successful(a*2), FutureType.widen(promise.future()))
+                                                                 .convert(FutureType::narrowK);
+        assertFalse(res.isCompleted());
+        promise.success(1);
+        assertThat(res.get().convert(FutureType::narrowK).get(),equalTo(2));
+    }
+    @Test
+    public void sequence(){
+        Promise<Integer> promise = Promise.make();
+        FutureType<List<Integer>> res = FutureInstances.sequence(List.of(FutureType.successful(1),FutureType.widen(promise.future()),FutureType.successful(3)));
+        assertFalse(res.isCompleted());
+        promise.success(2);
+        assertThat(res.get(),equalTo(List.of(1,2,3)));
+        
+        assertThat(FutureInstances.sequence(List.range(0, 10_000).map(FutureType::successful)).get().size(),equalTo(10_000));
+        assertThat(FutureInstances.sequence(List.<FutureType<Integer>>empty()).get(),equalTo(List.empty()));
+    }
+    @Test
+    public void sequenceFailure(){
+        FutureType<List<Integer>> res = FutureInstances.sequence(List.of(FutureType.successful(1),FutureType.failed(new IllegalStateException())));
+        res.await();
+        assertTrue(res.isFailure());
+    }
+    @Test
+    public void boundedTraverse(){
+        AtomicInteger inFlight = new AtomicInteger(0);
+        AtomicInteger maxInFlight = new AtomicInteger(0);
+        FutureType<List<Integer>> res = FutureInstances.traverse(3, List.range(0, 200), i->FutureType.widen(Future.of(()->{
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(),Math::max);
+            inFlight.decrementAndGet();
+            return i*2;
+        })));
+        assertThat(res.get(),equalTo(List.range(0, 200).map(i->i*2)));
+        assertTrue(maxInFlight.get()<=3);
+    }
+    @Test
+    public void boundedTraverseStopsOnFailure(){
+        AtomicInteger started = new AtomicInteger(0);
+        FutureType<List<Integer>> res = FutureInstances.traverse(1, List.of(1,2,3), i->{
+            started.incrementAndGet();
+            return i==1 ? FutureType.failed(new IllegalStateException()) : FutureType.successful(i);
+        });
+        res.await();
+        assertTrue(res.isFailure());
+        assertThat(started.get(),equalTo(1));
+    }
+    @Test
+    public void boundedTraverseFunctionThrows(){
+        AtomicInteger started = new AtomicInteger(0);
+        FutureType<List<Integer>> res = FutureInstances.traverse(1, List.of(1,2,3), i->{
+            started.incrementAndGet();
+            if(i==2)
+                throw new IllegalStateException();
+            return FutureType.successful(i);
+        });
+        res.await();
+        assertTrue(res.isFailure());
+        assertTrue(res.getValue().get().getCause() instanceof IllegalStateException);
+        assertThat(started.get(),equalTo(2));
+    }
+    
 }
@@ -7,8 +7,12 @@ import com.aol.cyclops.data.async.Adapter;
 import com.aol.cyclops.data.async.Queue;
 import com.aol.cyclops.data.async.QueueFactories;
 import com.aol.cyclops.data.async.QueueFactory;
+import com.aol.cyclops.data.async.wait.WaitStrategy;
+import com.aol.cyclops.reactor.flux.pushable.InstrumentedQueue;
 import com.aol.cyclops.reactor.flux.pushable.MultipleFluxSource;
 import com.aol.cyclops.reactor.flux.pushable.PushableFlux;
+import com.aol.cyclops.reactor.flux.pushable.RingBufferQueue;
+import com.aol.cyclops.reactor.metrics.PipeMetrics;
 import com.aol.cyclops.types.futurestream.LazyFutureStream;
 import com.aol.cyclops.util.stream.pushable.PushableLazyFutureStream;
 import com.aol.cyclops.util.stream.pushable.PushableReactiveSeq;
@@ -59,6 +63,120 @@ public class FluxSource {
                                                    .createQueue());
     }
 
+    /**
+     * @param q Queue Factory used to provide data for the Topic
+     * @param metrics Metrics to record offers to the Topic's input Queue to
+     * @return a builder that will use Topics to allow multiple Streams from the same data
+     */
+    public static <T> MultipleFluxSource<T> ofMultiple(QueueFactory<?> q, PipeMetrics metrics) {
+        Objects.requireNonNull(q);
+        Objects.requireNonNull(metrics);
+        return new MultipleFluxSource<T>(
+                                         new InstrumentedQueue<T>(
+                                                                  (QueueFactory<T>) q, metrics));
+    }
+
+    /**
+     * @param capacity Ring buffer capacity (rounded up to the next power of 2)
+     * @return a builder that will share a demand-driven Flux over a lock-free multi-producer ring buffer between multiple Streams
+     */
+    public static <T> MultipleFluxSource<T> ofMultipleRingBuffer(int capacity) {
+        return new MultipleFluxSource<T>(
+                                         new RingBufferQueue<T>(
+                                                                capacity));
+    }
+
+    /**
+     * @param capacity Ring buffer capacity (rounded up to the next power of 2)
+     * @param wait Strategy used by producers while the ring buffer is full
+     * @return a builder that will share a demand-driven Flux over a lock-free multi-producer ring buffer between multiple Streams
+     */
+    public static <T> MultipleFluxSource<T> ofMultipleRingBuffer(int capacity, WaitStrategy<T> wait) {
+        Objects.requireNonNull(wait);
+        return new MultipleFluxSource<T>(
+                                         new RingBufferQueue<T>(
+                                                                capacity, wait));
+    }
+
+    /**
+     * @param capacity Ring buffer capacity (rounded up to the next power of 2)
+     * @param wait Strategy used by producers while the ring buffer is full
+     * @param metrics Metrics to record offers to, and deliveries from, the ring buffer to
+     * @return a builder that will share a demand-driven Flux over a lock-free multi-producer ring buffer between multiple Streams
+     */
+    public static <T> MultipleFluxSource<T> ofMultipleRingBuffer(int capacity, WaitStrategy<T> wait, PipeMetrics metrics) {
+        Objects.requireNonNull(wait);
+        return new MultipleFluxSource<T>(
+                                         new RingBufferQueue<T>(
+                                                                capacity, wait, metrics),
+                                         metrics);
+    }
+
+    /**
+     * Create a Pushable Flux source backed by a pre-allocated, lock-free multi-producer ring buffer. Producers yield while
+     * the ring buffer is full. Fluxes are drained on demand by the producing (or requesting) thread, rather than by a
+     * consumer polling the queue.
+     * <pre>
+     * {@code 
+     *  FluxSource source = FluxSource.ofRingBuffer(1024);
+     *  
+     *  PushableFlux<Integer> flux = source.flux();
+     *  flux.getFlux()
+     *      .map(i->i*2)
+     *      .subscribe(System.out::println);
+     *  
+     *  //on any number of threads
+     *  flux.getInput().offer(1);
+     * 
+     * }</pre>
+     * 
+     * A polling consumer that busy-spins, yields or parks while the queue is empty can be configured via a QueueFactory instead
+     * e.g. FluxSource.of(QueueFactories.boundedNonBlockingQueue(1024,WaitStrategy.noWaitRetry()))
+     * 
+     * @param capacity Ring buffer capacity (rounded up to the next power of 2)
+     * @return FluxSource backed by a ring buffer
+     */
+    public static FluxSource ofRingBuffer(int capacity) {
+        return ofRingBuffer(capacity, WaitStrategy.yieldWait());
+    }
+
+    /**
+     * Create a Pushable Flux source backed by a pre-allocated, lock-free multi-producer ring buffer.
+     * 
+     * @see FluxSource#ofRingBuffer(int)
+     * 
+     * @param capacity Ring buffer capacity (rounded up to the next power of 2)
+     * @param wait Strategy used by producers while the ring buffer is full (e.g. WaitStrategy.noWaitRetry() to busy-spin,
+     *        WaitStrategy.yieldWait() to yield or WaitStrategy.spinWait() to park)
+     * @return FluxSource backed by a ring buffer
+     */
+    public static FluxSource ofRingBuffer(int capacity, WaitStrategy<?> wait) {
+        if (capacity < 1)
+            throw new IllegalArgumentException(
+                                               "Ring buffer capacity must be 1 or more");
+        Objects.requireNonNull(wait);
+        return new FluxSource() {
+            @SuppressWarnings("unchecked")
+            @Override
+            <T> Queue<T> createQueue() {
+                return new RingBufferQueue<T>(
+                                              capacity, (WaitStrategy<T>) wait);
+            }
+
+            @SuppressWarnings("unchecked")
+            @Override
+            <T> Queue<T> createQueue(PipeMetrics metrics) {
+                return new RingBufferQueue<T>(
+                                              capacity, (WaitStrategy<T>) wait, metrics);
+            }
+
+            @Override
+            <T> Flux<T> flux(Queue<T> q) {
+                return ((RingBufferQueue<T>) q).flux();
+            }
+        };
+    }
+
     /**
      * Create a Pushable Flux source backed by a queue created by the supplied queue factory
      * <pre>
@@ -130,6 +248,48 @@ public class FluxSource {
         return q;
     }
 
+    <T> Queue<T> createQueue(PipeMetrics metrics) {
+        return new InstrumentedQueue<T>(
+                                        this::createQueue, metrics);
+    }
+
+    <T> Flux<T> flux(Queue<T> q) {
+        return Flux.from(q.stream());
+    }
+
+    /**
+     * Instrument the Queues and Fluxes created by this FluxSource. Offers to each input Queue, their latency and its depth
+     * are recorded, as are values delivered by each generated Flux.
+     * 
+     * <pre>
+     * {@code 
+     *  PipeMetrics metrics = new PipeMetrics();
+     *  PushableFlux<Integer> pushable = FluxSource.ofRingBuffer(1024)
+     *                                             .withMetrics(metrics)
+     *                                             .flux();
+     *  
+     *  metrics.snapshot().getLag();
+     * }</pre>
+     * 
+     * @param metrics Metrics to record to
+     * @return Instrumented FluxSource
+     */
+    public FluxSource withMetrics(PipeMetrics metrics) {
+        Objects.requireNonNull(metrics);
+        FluxSource source = this;
+        return new FluxSource() {
+            @Override
+            <T> Queue<T> createQueue() {
+                return source.createQueue(metrics);
+            }
+
+            @Override
+            <T> Flux<T> flux(Queue<T> q) {
+                return metrics.instrument(source.flux(q));
+            }
+        };
+    }
+
     private FluxSource() {
 
         this.backPressureAfter = Runtime.getRuntime()
@@ -185,7 +345,7 @@ public class FluxSource {
     public <T> PushableFlux<T> flux() {
         Queue<T> q = createQueue();
         return new PushableFlux<T>(
-                                   q, Flux.from(q.stream()));
+                                   q, flux(q));
     }
 
     /**
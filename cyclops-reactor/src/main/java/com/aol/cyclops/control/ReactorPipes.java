@@ -1,13 +1,20 @@
 package com.aol.cyclops.control;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.reactivestreams.Publisher;
 import org.reactivestreams.Subscriber;
@@ -15,14 +22,19 @@ import org.reactivestreams.Subscriber;
 import com.aol.cyclops.data.LazyImmutable;
 import com.aol.cyclops.data.async.Adapter;
 import com.aol.cyclops.data.collections.extensions.persistent.PMapX;
+import com.aol.cyclops.data.collections.extensions.standard.ListX;
 import com.aol.cyclops.react.threads.SequentialElasticPools;
 import com.aol.cyclops.reactor.collections.extensions.standard.LazyListX;
+import com.aol.cyclops.reactor.flux.pushable.RingBufferQueue;
+import com.aol.cyclops.reactor.metrics.MetricsListener;
+import com.aol.cyclops.reactor.metrics.PipeMetrics;
+import com.aol.cyclops.reactor.metrics.PipeMetricsSnapshot;
 import com.aol.cyclops.types.futurestream.LazyFutureStream;
 import com.aol.cyclops.types.stream.reactive.SeqSubscriber;
 import com.aol.cyclops.types.stream.reactive.ValueSubscriber;
 
 import lombok.AccessLevel;
-import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
@@ -35,10 +47,16 @@ import reactor.core.publisher.Mono;
  * @author johnmcclean
  *
  */
-@NoArgsConstructor(access = AccessLevel.PRIVATE)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
 public class ReactorPipes<K, V> {
 
-    private final ConcurrentMap<K, Adapter<V>> registered = new ConcurrentHashMap<>();
+    private final ConcurrentMap<K, Pipe<V>> registered = new ConcurrentHashMap<>();
+    private final ConcurrentMap<K, PipeMetrics> keyMetrics;
+    private final long blockedAfterNanos;
+
+    private ReactorPipes() {
+        this(null, 0);
+    }
 
     /**
      * @return Size of registered pipes
@@ -51,7 +69,9 @@ public class ReactorPipes<K, V> {
      * @return Persistent map of all registered pipes
      */
     public PMapX<K, Adapter<V>> registered() {
-        return PMapX.fromMap(registered);
+        final Map<K, Adapter<V>> adapters = new HashMap<>();
+        registered.forEach((k, p) -> adapters.put(k, p.adapter));
+        return PMapX.fromMap(adapters);
     }
 
     /**
@@ -61,10 +81,40 @@ public class ReactorPipes<K, V> {
         return new ReactorPipes<>();
     }
 
+    /**
+     * Construct an empty Pipes instance that records metrics for each registered key. Handoffs to an Adapter taking 1ms or
+     * more are counted as blocked.
+     * 
+     * <pre>
+     * {@code
+     *  ReactorPipes<String,Event> pipes = ReactorPipes.instrumented();
+     *  pipes.register("events", new Queue<>());
+     *  pipes.push("events", event);
+     *  
+     *  pipes.reportMetrics((key,snapshot)->export(key,snapshot));
+     * }</pre>
+     * 
+     * @return Construct an empty, instrumented Pipes instance
+     */
+    public static <K, V> ReactorPipes<K, V> instrumented() {
+        return instrumented(1, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * @param blockedAfter Handoffs to an Adapter taking at least this long are counted as blocked
+     * @param unit Time unit
+     * @return Construct an empty, instrumented Pipes instance
+     */
+    public static <K, V> ReactorPipes<K, V> instrumented(final long blockedAfter, final TimeUnit unit) {
+        return new ReactorPipes<>(
+                                  new ConcurrentHashMap<>(), unit.toNanos(blockedAfter));
+    }
+
     public static <K, V> ReactorPipes<K, V> of(final Map<K, Adapter<V>> registered) {
         Objects.requireNonNull(registered);
         final ReactorPipes<K, V> pipes = new ReactorPipes<>();
-        pipes.registered.putAll(registered);
+        registered.forEach((k, a) -> pipes.registered.put(k, new Pipe<>(
+                                                                       a, null)));
         return pipes;
     }
 
@@ -87,8 +137,95 @@ public class ReactorPipes<K, V> {
      * @param value Value to push 
      */
     public void push(final K key, final V value) {
-        Optional.ofNullable(registered.get(key))
-                .ifPresent(a -> a.offer(value));
+        final Pipe<V> pipe = registered.get(key);
+        if (pipe != null)
+            pipe.push(value);
+    }
+
+    /**
+     * Push the supplied values through the Adapter identified by the supplied key. The Adapter is resolved once for the
+     * whole batch, and RingBufferQueues accept the batch in bulk.
+     * <pre>
+     * {@code 
+     *  Queue<String> q = new Queue<>();
+        pipes.register("hello", q);
+        pipes.pushAll("hello", ListX.of("world","world2"));
+        q.close();
+        pipes.reactiveSeq("hello").get().toListX(); //["world","world2"]
+     * }</pre>
+     * 
+     * @param key Adapter key
+     * @param values Values to push
+     */
+    public void pushAll(final K key, final Iterable<V> values) {
+        final Pipe<V> pipe = registered.get(key);
+        if (pipe != null)
+            pipe.pushAll(values);
+    }
+
+    /**
+     * Push each batch of values through the Adapter identified by its key
+     * 
+     * @see ReactorPipes#pushAll(Object, Iterable)
+     * 
+     * @param values Values to push, by Adapter key
+     */
+    public void pushAll(final Map<K, ? extends Iterable<V>> values) {
+        values.forEach(this::pushAll);
+    }
+
+    private static <V> void offer(final Adapter<V> adapter, final V value, final PipeMetrics metrics) {
+        if (metrics == null) {
+            adapter.offer(value);
+            return;
+        }
+        final long start = metrics.startHandoff();
+        final boolean accepted;
+        try {
+            accepted = adapter.offer(value);
+        } catch (final RuntimeException e) {
+            metrics.recordFailure();
+            throw e;
+        }
+        metrics.endOffer(accepted, start);
+    }
+
+    private static <V> void offerAll(final Adapter<V> adapter, final Iterable<? extends V> values, final PipeMetrics metrics) {
+        if (metrics == null) {
+            if (adapter instanceof RingBufferQueue) {
+                ((RingBufferQueue<V>) adapter).offerAll(values);
+                return;
+            }
+            for (final V next : values)
+                adapter.offer(next);
+            return;
+        }
+        //a batch is recorded as a single handoff, of the values whose offer completed
+        final long start = metrics.startHandoff();
+        int count = 0;
+        int rejected = 0;
+        try {
+            if (adapter instanceof RingBufferQueue) {
+                //iterate the values only once, one-shot Iterables are copied so that the batch can be counted
+                final Collection<? extends V> batch = values instanceof Collection ? (Collection<? extends V>) values
+                        : ListX.fromIterable(values);
+                final int accepted = ((RingBufferQueue<V>) adapter).offerAll(batch);
+                count = batch.size();
+                rejected = count - accepted;
+            } else {
+                for (final V next : values) {
+                    final boolean accepted = adapter.offer(next);
+                    count++;
+                    if (!accepted)
+                        rejected++;
+                }
+            }
+        } catch (final RuntimeException e) {
+            metrics.recordFailure();
+            throw e;
+        } finally {
+            metrics.endBatch(count, rejected, start);
+        }
     }
 
     /**
@@ -97,7 +234,8 @@ public class ReactorPipes<K, V> {
      */
     @SuppressWarnings({ "unchecked", "rawtypes" })
     public Maybe<Adapter<V>> get(final K key) {
-        return Maybe.ofNullable((Adapter) registered.get(key));
+        return Maybe.ofNullable(registered.get(key))
+                    .map(p -> p.adapter);
     }
 
     /**
@@ -129,12 +267,17 @@ public class ReactorPipes<K, V> {
     }
 
     /**
+     * RingBufferQueues are drained on demand (by producing threads) and support a single Subscriber at a time, other Adapters
+     * are polled by the subscribing thread. On instrumented Pipes, values emitted by the Flux are recorded as delivered.
+     * 
      * @param key : Adapter identifier
-     * @return LazyFutureStream from selected Queue
+     * @return Flux from selected Queue
      */
     @SuppressWarnings({ "unchecked", "rawtypes" })
     public Maybe<Flux<V>> flux(final K key) {
-        return get(key).map(a -> Flux.from(a.stream()));
+        final PipeMetrics metrics = keyMetrics == null ? null : keyMetrics.get(key);
+        return get(key).map(a -> a instanceof RingBufferQueue ? ((RingBufferQueue<V>) a).flux() : Flux.from(a.stream()))
+                       .map(f -> metrics == null ? f : metrics.instrument(f));
     }
 
     public LazyListX<V> xValues(final K key, final long x) {
@@ -267,12 +410,93 @@ public class ReactorPipes<K, V> {
      * 
      */
     public void register(final K key, final Adapter<V> adapter) {
-        registered.put(key, adapter);
+        Optional.ofNullable(registered.put(key, new Pipe<>(
+                                                           adapter, instrument(key, adapter))))
+                .ifPresent(Pipe::flush);
 
     }
 
+    /**
+     * Register an Adapter that values pushed to this ReactorPipes instance are written to in batches of batchSize. Pushed
+     * values are buffered until a full batch is available, which is then handed off to the Adapter in bulk, reducing the
+     * number of queue handoffs seen by downstream flux(key) consumers. Any partial batch is written by {@link #flush(Object)} 
+     * or when the Adapter is closed via this ReactorPipes instance.
+     * 
+     * <pre>
+     * {@code
+     *  pipes.register("events", FluxSource.ofRingBuffer(1024).flux().getInput(), 100);
+     *  pipes.pushAll("events", events);
+     *  pipes.flush("events");
+     * }</pre>
+     * 
+     * @param key : Adapter identifier
+     * @param adapter Adapter to write batches to
+     * @param batchSize Number of values written to the Adapter at a time
+     */
+    public void register(final K key, final Adapter<V> adapter, final int batchSize) {
+        if (batchSize < 1)
+            throw new IllegalArgumentException(
+                                               "Batch size must be 1 or more");
+        Optional.ofNullable(registered.put(key, new BatchingWriter<>(
+                                                                     adapter, instrument(key, adapter), batchSize)))
+                .ifPresent(Pipe::flush);
+    }
+
+    /**
+     * Write any values buffered for a batching Adapter (registered via {@link #register(Object, Adapter, int)})
+     * 
+     * @param key : Adapter identifier
+     */
+    public void flush(final K key) {
+        Optional.ofNullable(registered.get(key))
+                .ifPresent(Pipe::flush);
+    }
+
+    private PipeMetrics instrument(final K key, final Adapter<V> adapter) {
+        if (keyMetrics == null)
+            return null;
+        //metrics are retained if the key is re-registered
+        final PipeMetrics metrics = keyMetrics.computeIfAbsent(key, k -> new PipeMetrics(
+                                                                                         blockedAfterNanos, TimeUnit.NANOSECONDS));
+        metrics.queueDepth(() -> adapter.visit(q -> q.size(), t -> -1));
+        return metrics;
+    }
+
+    /**
+     * @return Snapshot of the metrics recorded for each registered key (empty unless this Pipes instance is instrumented)
+     */
+    public PMapX<K, PipeMetricsSnapshot> metrics() {
+        if (keyMetrics == null)
+            return PMapX.empty();
+        final Map<K, PipeMetricsSnapshot> snapshots = new HashMap<>();
+        keyMetrics.forEach((k, m) -> snapshots.put(k, m.snapshot()));
+        return PMapX.fromMap(snapshots);
+    }
+
+    /**
+     * @param key : Adapter identifier
+     * @return Snapshot of the metrics recorded for the selected key, if this Pipes instance is instrumented
+     */
+    public Maybe<PipeMetricsSnapshot> metrics(final K key) {
+        return keyMetrics == null ? Maybe.none() : Maybe.ofNullable(keyMetrics.get(key))
+                                                         .map(PipeMetrics::snapshot);
+    }
+
+    /**
+     * Pass a snapshot of the metrics recorded for each registered key to the supplied listener, e.g. to export them to an
+     * external metrics system
+     * 
+     * @param listener Listener to report metrics to
+     */
+    public void reportMetrics(final MetricsListener<? super K> listener) {
+        if (keyMetrics != null)
+            keyMetrics.forEach((k, m) -> listener.onMetrics(k, m.snapshot()));
+    }
+
     public void clear() {
         registered.clear();
+        if (keyMetrics != null)
+            keyMetrics.clear();
 
     }
 
@@ -283,9 +507,8 @@ public class ReactorPipes<K, V> {
      * @param subscriber Reactive Streams subscriber for data on this pipe
      */
     public void subscribeTo(final K key, final Subscriber<V> subscriber) {
-        registered.get(key)
-                  .stream()
-                  .subscribe(subscriber);
+        registered.get(key).adapter.stream()
+                                   .subscribe(subscriber);
 
     }
 
@@ -307,8 +530,7 @@ public class ReactorPipes<K, V> {
     public void publishTo(final K key, final Publisher<V> publisher) {
         final SeqSubscriber<V> sub = SeqSubscriber.subscriber();
         publisher.subscribe(sub);
-        registered.get(key)
-                  .fromStream(sub.stream());
+        registered.get(key).adapter.fromStream(sub.stream());
     }
 
     /**
@@ -325,8 +547,119 @@ public class ReactorPipes<K, V> {
      */
     public void close(final String key) {
         Optional.ofNullable(registered.get(key))
-                .ifPresent(a -> a.close());
+                .ifPresent(p -> {
+                    p.flush();
+                    p.adapter.close();
+                });
+
+    }
 
+    /**
+     * A registered Adapter, together with the metrics recorded for its key (if any). Values are offered to the Adapter as
+     * they are pushed.
+     */
+    private static class Pipe<V> {
+        final Adapter<V> adapter;
+        final PipeMetrics metrics;
+
+        Pipe(final Adapter<V> adapter, final PipeMetrics metrics) {
+            this.adapter = adapter;
+            this.metrics = metrics;
+        }
+
+        void push(final V value) {
+            offer(adapter, value, metrics);
+        }
+
+        void pushAll(final Iterable<V> values) {
+            offerAll(adapter, values, metrics);
+        }
+
+        void flush() {
+        }
+    }
+
+    /**
+     * Coalesces pushed values into fixed size batches before handing them off to the Adapter. Full batches are queued while
+     * holding the lock, so they are queued in the order their values were pushed, and written to the Adapter outside of it by
+     * one thread at a time. A producer blocked by the Adapter (e.g. a bounded Queue under backpressure) does not stall other
+     * producers on the same key, they queue their batches and return, and the blocked thread writes them once it is
+     * unblocked.
+     */
+    private static final class BatchingWriter<V> extends Pipe<V> {
+        private final int batchSize;
+        private final ConcurrentLinkedQueue<List<V>> pending = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger wip = new AtomicInteger(0);
+        private List<V> buffer;
+
+        BatchingWriter(final Adapter<V> adapter, final PipeMetrics metrics, final int batchSize) {
+            super(adapter, metrics);
+            this.batchSize = batchSize;
+            this.buffer = new ArrayList<>(
+                                          batchSize);
+        }
+
+        @Override
+        void push(final V value) {
+            synchronized (this) {
+                buffer.add(value);
+                if (buffer.size() < batchSize)
+                    return;
+                swap();
+            }
+            drain();
+        }
+
+        @Override
+        void pushAll(final Iterable<V> values) {
+            boolean full = false;
+            synchronized (this) {
+                for (final V next : values) {
+                    buffer.add(next);
+                    if (buffer.size() == batchSize) {
+                        swap();
+                        full = true;
+                    }
+                }
+            }
+            if (full)
+                drain();
+        }
+
+        /*
+         * If another thread is currently writing batches, it also writes the partial batch queued here
+         */
+        @Override
+        void flush() {
+            synchronized (this) {
+                if (!buffer.isEmpty())
+                    swap();
+            }
+            drain();
+        }
+
+        private void swap() {
+            pending.offer(buffer);
+            buffer = new ArrayList<>(
+                                     batchSize);
+        }
+
+        private void drain() {
+            if (wip.getAndIncrement() != 0)
+                return;
+            int missed = 1;
+            try {
+                do {
+                    for (List<V> batch = pending.poll(); batch != null; batch = pending.poll())
+                        offerAll(adapter, batch, metrics);
+                    missed = wip.addAndGet(-missed);
+                } while (missed != 0);
+            } catch (final RuntimeException e) {
+                //release the writer, batches still queued are written by the next push or flush
+                wip.set(0);
+                throw e;
+            }
+        }
     }
 
 }
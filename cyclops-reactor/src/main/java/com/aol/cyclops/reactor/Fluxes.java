@@ -1,11 +1,17 @@
 package com.aol.cyclops.reactor;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import java.util.function.BiFunction;
 import java.util.function.BiPredicate;
 import java.util.function.BinaryOperator;
@@ -15,6 +21,7 @@ import java.util.function.Supplier;
 import java.util.stream.Collector;
 import java.util.stream.Collectors;
 
+import org.jooq.lambda.Seq;
 import org.jooq.lambda.tuple.Tuple;
 import org.jooq.lambda.tuple.Tuple2;
 import org.reactivestreams.Publisher;
@@ -28,7 +35,10 @@ import com.aol.cyclops.control.Publishers;
 import com.aol.cyclops.control.ReactiveSeq;
 import com.aol.cyclops.control.Trampoline;
 import com.aol.cyclops.data.collections.extensions.standard.ListX;
+import com.aol.cyclops.reactor.collections.extensions.base.FusedFlux;
+import com.aol.cyclops.reactor.operators.GroupBySize;
 import com.aol.cyclops.reactor.operators.GroupedWhile;
+import com.aol.cyclops.reactor.operators.Sliding;
 import com.aol.cyclops.types.anyM.AnyMSeq;
 import com.aol.cyclops.types.stream.reactive.SeqSubscriber;
 import com.aol.cyclops.util.function.QuadFunction;
@@ -36,6 +46,7 @@ import com.aol.cyclops.util.function.TriFunction;
 
 import lombok.experimental.UtilityClass;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 /**
  * Companion class for working with Reactor Flux types
@@ -327,33 +338,8 @@ public class Fluxes {
      */
     public final static <T, C extends Collection<? super T>> Flux<C> grouped(final Flux<T> stream, final int groupSize,
             final Supplier<C> factory) {
-
-        return Flux.fromIterable(() -> new Iterator<C>() {
-
-            Iterator<C> it;
-
-            private void init() {
-                if (it == null) {
-                    ReactiveSeq<T> seq = ReactiveSeq.fromPublisher(stream);
-                    it = seq.grouped(groupSize, factory)
-                            .iterator();
-                }
-            }
-
-            @Override
-            public boolean hasNext() {
-                init();
-                return it.hasNext();
-            }
-
-            @Override
-            public C next() {
-                init();
-                return it.next();
-            }
-
-        });
-
+        return new GroupBySize<T, C>(
+                                     stream, factory).grouped(groupSize);
     }
 
     /**
@@ -753,149 +739,56 @@ public class Fluxes {
     }
 
     /**
-     * Lazily reverse a Flux by materializing it on first use and iterating over the materialized collection in reverse order
+     * Lazily reverse a Flux by collecting it into a List (without blocking) on subscription and emitting the List in reverse order
      * 
      * @param flux Flux to reverse
      * @return Reversed Flux
      */
     public static <T> Flux<T> reverse(Flux<T> flux) {
-
-        return Flux.fromIterable(() -> new Iterator<T>() {
-
-            Iterator<T> it;
-
-            private void init() {
-                if (it == null) {
-                    List<T> list = flux.collect(Collectors.toList())
-                                       .block();
-                    ReactiveSeq<T> seq = ReactiveSeq.fromList(list)
-                                                    .reverse();
-                    it = seq.iterator();
-                }
-            }
-
-            @Override
-            public boolean hasNext() {
-                init();
-                return it.hasNext();
-            }
-
-            @Override
-            public T next() {
-                init();
-                return it.next();
-            }
-
-        });
+        return flux.collectList()
+                   .flatMapIterable(list -> {
+                       Collections.reverse(list);
+                       return list;
+                   });
     }
 
     /**
-     * Lazily shuffle a Flux by materializing it on first use & shuffling it
+     * Lazily shuffle a Flux by collecting it into a List (without blocking) on subscription & shuffling it
      * 
      * @param flux Flux to shuffle
      * @return Shuffled flux
      */
     public static <T> Flux<T> shuffle(Flux<T> flux) {
-
-        return Flux.fromIterable(() -> new Iterator<T>() {
-
-            Iterator<T> it;
-
-            private void init() {
-                if (it == null) {
-                    List<T> list = flux.collect(Collectors.toList())
-                                       .block();
-                    Collections.shuffle(list);
-
-                    it = list.iterator();
-                }
-            }
-
-            @Override
-            public boolean hasNext() {
-                init();
-                return it.hasNext();
-            }
-
-            @Override
-            public T next() {
-                init();
-                return it.next();
-            }
-
-        });
+        return flux.collectList()
+                   .flatMapIterable(list -> {
+                       Collections.shuffle(list);
+                       return list;
+                   });
     }
 
     /**
-     * Lazily shuffle a Flux by materializing it on first use & shuffling it using the supplied Random number generator
+     * Lazily shuffle a Flux by collecting it into a List (without blocking) on subscription & shuffling it using the supplied Random number generator
      * @param flux Flux to shuffle
      * @param random the source of randomness to use to shuffle the list.
      * @return Shuffled flux
      */
     public static <T> Flux<T> shuffle(Flux<T> flux, Random random) {
-
-        return Flux.fromIterable(() -> new Iterator<T>() {
-
-            Iterator<T> it;
-
-            private void init() {
-                if (it == null) {
-                    List<T> list = flux.collect(Collectors.toList())
-                                       .block();
-                    Collections.shuffle(list, random);
-
-                    it = list.iterator();
-                }
-            }
-
-            @Override
-            public boolean hasNext() {
-                init();
-                return it.hasNext();
-            }
-
-            @Override
-            public T next() {
-                init();
-                return it.next();
-            }
-
-        });
+        return flux.collectList()
+                   .flatMapIterable(list -> {
+                       Collections.shuffle(list, random);
+                       return list;
+                   });
     }
 
     /**
-     *  Lazily shuffle a Flux by materializing it on first use & sorting it 
+     *  Lazily sort a Flux by collecting it into a sorted List (without blocking) on subscription
      * 
      * @param flux Flux to sort
      * @return Sorted Flux
      */
     public static <T> Flux<T> sorted(Flux<T> flux) {
-
-        return Flux.fromIterable(() -> new Iterator<T>() {
-
-            Iterator<T> it;
-
-            private void init() {
-                if (it == null) {
-                    ReactiveSeq<T> seq = ReactiveSeq.fromPublisher(flux);
-                    it = seq.sorted()
-                            .iterator();
-                }
-            }
-
-            @Override
-            public boolean hasNext() {
-                init();
-                return it.hasNext();
-            }
-
-            @Override
-            public T next() {
-                init();
-                return it.next();
-            }
-
-        });
+        return flux.collectSortedList()
+                   .flatMapIterable(Function.identity());
     }
 
     /**
@@ -914,32 +807,7 @@ public class Fluxes {
      * @return Non-empty Flux
      */
     public static <T> Flux<T> onEmpty(Flux<T> flux, T value) {
-
-        return Flux.fromIterable(() -> new Iterator<T>() {
-
-            Iterator<T> it;
-
-            private void init() {
-                if (it == null) {
-                    ReactiveSeq<T> seq = ReactiveSeq.fromPublisher(flux);
-                    it = seq.onEmpty(value)
-                            .iterator();
-                }
-            }
-
-            @Override
-            public boolean hasNext() {
-                init();
-                return it.hasNext();
-            }
-
-            @Override
-            public T next() {
-                init();
-                return it.next();
-            }
-
-        });
+        return flux.defaultIfEmpty(value);
     }
 
     /**
@@ -958,31 +826,7 @@ public class Fluxes {
      * @return Non-empty Flux
      */
     public static <T> Flux<T> onEmptySwitch(Flux<T> flux, Supplier<? extends Flux<T>> value) {
-        return Flux.fromIterable(() -> new Iterator<T>() {
-
-            Iterator<T> it;
-
-            private void init() {
-                if (it == null) {
-                    ReactiveSeq<T> seq = ReactiveSeq.fromPublisher(flux);
-                    it = seq.onEmptySwitch(() -> ReactiveSeq.fromPublisher(value.get()))
-                            .iterator();
-                }
-            }
-
-            @Override
-            public boolean hasNext() {
-                init();
-                return it.hasNext();
-            }
-
-            @Override
-            public T next() {
-                init();
-                return it.next();
-            }
-
-        });
+        return flux.switchIfEmpty(Flux.defer(value));
     }
 
     /**
@@ -1001,31 +845,7 @@ public class Fluxes {
      * @return Non-empty Flux
      */
     public static <T> Flux<T> onEmptyGet(Flux<T> flux, Supplier<? extends T> value) {
-        return Flux.fromIterable(() -> new Iterator<T>() {
-
-            Iterator<T> it;
-
-            private void init() {
-                if (it == null) {
-                    ReactiveSeq<T> seq = ReactiveSeq.fromPublisher(flux);
-                    it = seq.onEmptyGet(value)
-                            .iterator();
-                }
-            }
-
-            @Override
-            public boolean hasNext() {
-                init();
-                return it.hasNext();
-            }
-
-            @Override
-            public T next() {
-                init();
-                return it.next();
-            }
-
-        });
+        return flux.switchIfEmpty(Mono.fromSupplier(value));
     }
 
     /**
@@ -1044,110 +864,38 @@ public class Fluxes {
      * @return Non-empty Flux
      */
     public static <T, X extends Throwable> Flux<T> onEmptyThrow(Flux<T> flux, Supplier<? extends X> value) {
-        return Flux.fromIterable(() -> new Iterator<T>() {
-
-            Iterator<T> it;
-
-            private void init() {
-                if (it == null) {
-                    ReactiveSeq<T> seq = ReactiveSeq.fromPublisher(flux);
-                    it = seq.onEmptyThrow(value)
-                            .iterator();
-                }
-            }
-
-            @Override
-            public boolean hasNext() {
-                init();
-                return it.hasNext();
-            }
-
-            @Override
-            public T next() {
-                init();
-                return it.next();
-            }
-
-        });
+        return flux.switchIfEmpty(Flux.defer(() -> Flux.error(value.get())));
     }
 
     /**
      * Sort the Flux using the supplied Function. 
-     * This is a lazy operation that materializes the provided Flux on first use in order to sort it.
+     * This is a lazy operation that collects the provided Flux (without blocking) on subscription in order to sort it.
      * 
      * @param flux Flux to sort
      * @param function To sort Flux with
      * @return Sorted Flux
      */
     public static <T, U> Flux<T> sorted(Flux<T> flux, Function<? super T, ? extends U> function) {
-        return Flux.fromIterable(() -> new Iterator<T>() {
-
-            Iterator<T> it;
-
-            private void init() {
-                if (it == null) {
-                    ReactiveSeq<T> seq = ReactiveSeq.fromPublisher(flux);
-                    it = seq.sorted((Function) function)
-                            .iterator();
-                }
-            }
-
-            @Override
-            public boolean hasNext() {
-                init();
-                return it.hasNext();
-            }
-
-            @Override
-            public T next() {
-                init();
-                return it.next();
-            }
-
-        });
+        return sorted(flux, (Comparator<T>) Comparator.comparing((Function) function));
     }
 
     /**
      * Sort Flux using the provided comparator
-     * This is a lazy operation that materializes the provided Flux on first use in order to sort it.
+     * This is a lazy operation that collects the provided Flux (without blocking) on subscription in order to sort it.
      * 
      * @param flux Flux to sort
      * @param c Comparator to sort Flux
      * @return Sorted Flux
      */
     public static <T> Flux<T> sorted(Flux<T> flux, Comparator<? super T> c) {
-
-        return Flux.fromIterable(() -> new Iterator<T>() {
-
-            Iterator<T> it;
-
-            private void init() {
-                if (it == null) {
-                    ReactiveSeq<T> seq = ReactiveSeq.fromPublisher(flux);
-                    it = seq.sorted(c)
-                            .iterator();
-                }
-            }
-
-            @Override
-            public boolean hasNext() {
-                init();
-                return it.hasNext();
-            }
-
-            @Override
-            public T next() {
-                init();
-                return it.next();
-            }
-
-        });
+        return flux.collectSortedList(c)
+                   .flatMapIterable(Function.identity());
     }
 
     /**
      * Apply the identity function / combiner from left to right accumulating partial results in the resulting Flux
      * 
-     * This is a lazy operation that materializes the provided Flux in order to reverse it on first use.
+     * This is a lazy operation that collects the provided Flux (without blocking) on subscription in order to reverse it.
      * 
      * <pre>
      * {@code 
@@ -1164,32 +912,18 @@ public class Fluxes {
      */
     public static <T, U> Flux<U> scanRight(Flux<T> flux, U identity,
             BiFunction<? super T, ? super U, ? extends U> combiner) {
-
-        return Flux.fromIterable(() -> new Iterator<U>() {
-
-            Iterator<U> it;
-
-            private void init() {
-                if (it == null) {
-                    ReactiveSeq<T> seq = ReactiveSeq.fromPublisher(flux);
-                    it = seq.scanRight(identity, combiner)
-                            .iterator();
-                }
-            }
-
-            @Override
-            public boolean hasNext() {
-                init();
-                return it.hasNext();
-            }
-
-            @Override
-            public U next() {
-                init();
-                return it.next();
-            }
-
-        });
+        return flux.collectList()
+                   .flatMapIterable(list -> {
+                       List<U> result = new ArrayList<>(
+                                                        list.size() + 1);
+                       U acc = identity;
+                       result.add(acc);
+                       for (int i = list.size() - 1; i >= 0; i--) {
+                           acc = combiner.apply(list.get(i), acc);
+                           result.add(acc);
+                       }
+                       return result;
+                   });
     }
 
     /**
@@ -1198,104 +932,46 @@ public class Fluxes {
      * @return
      */
     public static <T> Flux<T> scanRight(Flux<T> flux, Monoid<T> monoid) {
-
-        return Flux.fromIterable(() -> new Iterator<T>() {
-
-            Iterator<T> it;
-
-            private void init() {
-                if (it == null) {
-                    ReactiveSeq<T> seq = ReactiveSeq.fromPublisher(flux);
-                    it = seq.scanRight(monoid)
-                            .iterator();
-                }
-            }
-
-            @Override
-            public boolean hasNext() {
-                init();
-                return it.hasNext();
-            }
-
-            @Override
-            public T next() {
-                init();
-                return it.next();
-            }
-
-        });
+        return scanRight(flux, monoid.zero(), monoid);
     }
 
     /**
-     * Remove all the values in the supplied Iterable from the Flux
+     * Remove all the values in the supplied Iterable from the Flux. The values are copied into a HashSet when the Flux is
+     * subscribed to, so each element is checked via a single hash lookup
      * 
      * @param flux Flux to filter values out
      * @param iterable Iterable of values to remove
      * @return Flux with values in the supplied iterable removed
      */
     public static <T> Flux<T> removeAll(Flux<T> flux, Iterable<? extends T> iterable) {
-        return Flux.fromIterable(() -> new Iterator<T>() {
-
-            Iterator<T> it;
-
-            private void init() {
-                if (it == null) {
-                    ReactiveSeq<T> seq = ReactiveSeq.fromPublisher(flux);
-                    it = seq.removeAll(iterable)
-                            .iterator();
-                }
-            }
-
-            @Override
-            public boolean hasNext() {
-                init();
-                return it.hasNext();
-            }
-
-            @Override
-            public T next() {
-                init();
-                return it.next();
-            }
-
+        return Flux.defer(() -> {
+            Set<T> toRemove = toSet(iterable);
+            return FusedFlux.filter(flux, i -> !toRemove.contains(i));
         });
     }
 
     /**
-     * Retain only the values in the supplied Iterable in the generated Flux
+     * Retain only the values in the supplied Iterable in the generated Flux. The values are copied into a HashSet when the
+     * Flux is subscribed to, so each element is checked via a single hash lookup
      * 
      * @param flux Flux to filter values from
      * @param iterable Values to retain
      * @return Flux with only values in Iterable retained (if present in original Flux)
      */
     public static <T> Flux<T> retainAll(Flux<T> flux, Iterable<? extends T> iterable) {
-        return Flux.fromIterable(() -> new Iterator<T>() {
-
-            Iterator<T> it;
-
-            private void init() {
-                if (it == null) {
-                    ReactiveSeq<T> seq = ReactiveSeq.fromPublisher(flux);
-                    it = seq.retainAll(iterable)
-                            .iterator();
-                }
-            }
-
-            @Override
-            public boolean hasNext() {
-                init();
-                return it.hasNext();
-            }
-
-            @Override
-            public T next() {
-                init();
-                return it.next();
-            }
-
+        return Flux.defer(() -> {
+            Set<T> toRetain = toSet(iterable);
+            return FusedFlux.filter(flux, i -> toRetain.contains(i));
         });
     }
 
+    private static <T> Set<T> toSet(Iterable<? extends T> iterable) {
+        Set<T> set = new HashSet<>();
+        for (T next : iterable)
+            set.add(next);
+        return set;
+    }
+
     /**
      * Intersperse the supplied value throughout this Flux
      * 
@@ -1304,31 +980,8 @@ public class Fluxes {
      * @return Flux with value interspersed
      */
     public static <T> Flux<T> intersperse(Flux<T> flux, T value) {
-        return Flux.fromIterable(() -> new Iterator<T>() {
-
-            Iterator<T> it;
-
-            private void init() {
-                if (it == null) {
-                    ReactiveSeq<T> seq = ReactiveSeq.fromPublisher(flux);
-                    it = seq.intersperse(value)
-                            .iterator();
-                }
-            }
-
-            @Override
-            public boolean hasNext() {
-                init();
-                return it.hasNext();
-            }
-
-            @Override
-            public T next() {
-                init();
-                return it.next();
-            }
-
-        });
+        return flux.flatMapIterable(i -> Arrays.asList(value, i))
+                   .skip(1);
     }
 
     /**
@@ -1353,31 +1006,8 @@ public class Fluxes {
      * @return Flux with sliding view
      */
     public static <T> Flux<ListX<T>> sliding(Flux<T> flux, int windowSize, int increment) {
-        return Flux.fromIterable(() -> new Iterator<ListX<T>>() {
-
-            Iterator<ListX<T>> it;
-
-            private void init() {
-                if (it == null) {
-                    ReactiveSeq<T> seq = ReactiveSeq.fromPublisher(flux);
-                    it = seq.sliding(windowSize, increment)
-                            .iterator();
-                }
-            }
-
-            @Override
-            public boolean hasNext() {
-                init();
-                return it.hasNext();
-            }
-
-            @Override
-            public ListX<T> next() {
-                init();
-                return it.next();
-            }
-
-        });
+        return new Sliding<T>(
+                              flux).sliding(windowSize, increment);
     }
 
     /**
@@ -1396,31 +1026,55 @@ public class Fluxes {
      * @return Grouped Flux
      */
     public static <T> Flux<ListX<T>> grouped(Flux<T> flux, int size) {
-        return Flux.fromIterable(() -> new Iterator<ListX<T>>() {
-
-            Iterator<ListX<T>> it;
-
-            private void init() {
-                if (it == null) {
-                    ReactiveSeq<T> seq = ReactiveSeq.fromPublisher(flux);
-                    it = seq.grouped(size)
-                            .iterator();
-                }
-            }
-
-            @Override
-            public boolean hasNext() {
-                init();
-                return it.hasNext();
-            }
+        return new GroupBySize<T, ListX<T>>(
+                                            flux).grouped(size);
+    }
 
-            @Override
-            public ListX<T> next() {
-                init();
-                return it.next();
-            }
+    /**
+     * Group elements in a Flux by size or time period, whichever occurs first. A partially populated group is emitted
+     * once each time period elapses.
+     * 
+     * <pre>
+     * {@code
+     *  Fluxes.groupedBySizeAndTime(Flux.just(1, 2, 3, 4, 5, 6),3,10,TimeUnit.SECONDS);
+     * 
+     *  //Flux[[1, 2, 3],[4, 5, 6]]
+     * }
+     * </pre>
+     * 
+     * @param flux Flux to group
+     * @param size Max group size
+     * @param time Time period after which a partially populated group is emitted
+     * @param unit Time unit
+     * @return Grouped Flux
+     */
+    public static <T> Flux<ListX<T>> groupedBySizeAndTime(Flux<T> flux, int size, long time, TimeUnit unit) {
+        return new GroupBySize<T, ListX<T>>(
+                                            flux).grouped(size, time, unit);
+    }
 
-        });
+    /**
+     * Group elements in a Flux by size or time period, whichever occurs first, into collections created by the supplied factory
+     * 
+     * <pre>
+     * {@code
+     *  Fluxes.groupedBySizeAndTime(Flux.just(1, 2, 3, 4, 5, 6),3,10,TimeUnit.SECONDS,()->SetX.empty());
+     * 
+     *  //Flux[[1, 2, 3],[4, 5, 6]]
+     * }
+     * </pre>
+     * 
+     * @param flux Flux to group
+     * @param size Max group size
+     * @param time Time period after which a partially populated group is emitted
+     * @param unit Time unit
+     * @param factory A supplier used to create the collection used to store groups
+     * @return Grouped Flux
+     */
+    public static <T, C extends Collection<? super T>> Flux<C> groupedBySizeAndTime(Flux<T> flux, int size, long time,
+            TimeUnit unit, Supplier<C> factory) {
+        return new GroupBySize<T, C>(
+                                     flux, factory).grouped(size, time, unit);
     }
 
     /**
@@ -1434,32 +1088,8 @@ public class Fluxes {
     public static <T, K, A, D> Flux<Tuple2<K, D>> grouped(Flux<T> flux, Function<? super T, ? extends K> classifier,
             Collector<? super T, A, D> downstream) {
 
-        return Flux.fromIterable(() -> new Iterator<Tuple2<K, D>>() {
-
-            Iterator<Tuple2<K, D>> it;
-
-            private void init() {
-                if (it == null) {
-                    ReactiveSeq<T> seq = ReactiveSeq.fromPublisher(flux);
-
-                    it = (Iterator) seq.grouped(classifier, downstream)
-                                       .iterator();
-                }
-            }
-
-            @Override
-            public boolean hasNext() {
-                init();
-                return it.hasNext();
-            }
-
-            @Override
-            public Tuple2<K, D> next() {
-                init();
-                return it.next();
-            }
-
-        });
+        return flux.collect(Collectors.groupingBy(classifier, LinkedHashMap::new, downstream))
+                   .flatMapIterable(map -> Seq.seq(map));
     }
 
     /**
@@ -1470,31 +1100,7 @@ public class Fluxes {
      * @return Grouped flux
      */
     public static <T, K, A, D> Flux<Tuple2<K, D>> grouped(Flux<T> flux, Function<? super T, ? extends K> classifier) {
-        return Flux.fromIterable(() -> new Iterator<Tuple2<K, D>>() {
-
-            Iterator<Tuple2<K, D>> it;
-
-            private void init() {
-                if (it == null) {
-                    ReactiveSeq<T> seq = ReactiveSeq.fromPublisher(flux);
-                    it = (Iterator) seq.grouped(classifier)
-                                       .iterator();
-                }
-            }
-
-            @Override
-            public boolean hasNext() {
-                init();
-                return it.hasNext();
-            }
-
-            @Override
-            public Tuple2<K, D> next() {
-                init();
-                return it.next();
-            }
-
-        });
+        return grouped(flux, classifier, Collectors.toList()).map(t -> t.map2(list -> (D) Seq.seq(list)));
     }
 
     /**
@@ -1584,31 +1190,8 @@ public class Fluxes {
     public final static <T> Flux<ListX<T>> groupedStatefullyUntil(final Flux<T> flux,
             final BiPredicate<ListX<? super T>, ? super T> predicate) {
 
-        return Flux.fromIterable(() -> new Iterator<ListX<T>>() {
-
-            Iterator<ListX<T>> it;
-
-            private void init() {
-                if (it == null) {
-                    ReactiveSeq<T> seq = ReactiveSeq.fromPublisher(flux);
-                    it = seq.groupedStatefullyUntil(predicate)
-                            .iterator();
-                }
-            }
-
-            @Override
-            public boolean hasNext() {
-                init();
-                return it.hasNext();
-            }
-
-            @Override
-            public ListX<T> next() {
-                init();
-                return it.next();
-            }
-
-        });
+        return new GroupedWhile<T, ListX<T>>(
+                                             flux).batchStatefullyWhile(predicate);
 
     }
 
@@ -6,9 +6,9 @@ import java.util.Comparator;
 import java.util.Iterator;
 import java.util.Objects;
 import java.util.Random;
-import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.atomic.AtomicReference;
-import java.util.concurrent.locks.LockSupport;
 import java.util.function.BiFunction;
 import java.util.function.BiPredicate;
 import java.util.function.BinaryOperator;
@@ -18,6 +18,7 @@ import java.util.function.Predicate;
 import java.util.function.Supplier;
 import java.util.stream.Collector;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import org.jooq.lambda.Seq;
 import org.jooq.lambda.tuple.Tuple;
@@ -56,124 +57,163 @@ public abstract class AbstractFluentCollectionX<T> implements LazyFluentCollecti
    
    
    
-    public static class LazyCollection<T, C extends Collection<T>> implements LazyFluentCollection<T, C> {
+    /**
+     * Base class for the lazy collection wrappers. The first thread to access the collection materializes it, any concurrent
+     * readers park on a shared completion handle (rather than spinning) until the materialized collection is published.
+     * Non-blocking callers can subscribe to the same handle via {@link #materializeAsync()}.
+     * 
+     * The materialized collection is published via a single volatile write, after which reads are a single volatile read.
+     * 
+     * @param <T> the type of elements held in the wrapped collection
+     * @param <C> The wrapped Collection type
+     */
+    public static abstract class AbstractLazyCollection<T, C extends Collection<T>> implements LazyFluentCollection<T, C> {
         private volatile C list;
-        private final AtomicReference<Flux<T>> seq;
-        private final Collector<T, ?, C> collector;
-        AtomicBoolean updating = new AtomicBoolean(false);
-        AtomicReference<Throwable> error = new AtomicReference<>(null);
-        
-        public LazyCollection(C list, Flux<T> seq, Collector<T, ?, C> collector) {
+        private volatile Flux<T> seq;
+        private final AtomicReference<CompletableFuture<C>> materializing = new AtomicReference<>(null);
+
+        protected AbstractLazyCollection(C list, Flux<T> seq) {
             this.list = list;
-            this.seq = new AtomicReference<>(seq);
-            this.collector = collector;
+            this.seq = seq;
+        }
+
+        /**
+         * Collect the supplied Flux into the wrapped Collection type without blocking (called at most once)
+         * 
+         * @param toUse Flux to collect
+         * @return Mono that emits the materialized collection
+         */
+        protected abstract Mono<C> collectAsync(Flux<T> toUse);
+
+        /**
+         * Collect the supplied Flux into the wrapped Collection type on the calling thread (called at most once)
+         * 
+         * @param toUse Flux to collect
+         * @return Materialized collection
+         */
+        protected C collect(Flux<T> toUse) {
+            return collectAsync(toUse).block();
         }
 
         @Override
         public C get() {
-            if (seq.get() != null) {
-                if(updating.compareAndSet(false, true)) { //check if can materialize
-                    try{
-                        Flux<T> toUse = seq.get();
-                        if(toUse!=null){//dbl check - as we may pass null check on on thread and set updating false on another
-                           list = toUse.collect(collector)
-                                       .block();
-                           seq.set(null);
-                        }
-                    }catch(Throwable t){
-                        error.set(t); //catch any errors for propagation on access
-                       
-                    }finally{
-                        updating.set(false); //finished updating
-                    }
-                }
-                while(updating.get()){ //Check if another thread updating
-                    LockSupport.parkNanos(0l); //spin until updating thread completes
-                }
-                if(error.get()!=null) //if updating thread failed, throw error
-                    throw ExceptionSoftener.throwSoftenedException(error.get());
-                
-                return list;
+            C local = list;
+            if (local != null)
+                return local;
+            try {
+                return materialization(false).join();
+            } catch (CompletionException e) { //if materializing thread failed, throw error
+                throw ExceptionSoftener.throwSoftenedException(e.getCause() != null ? e.getCause() : e);
             }
+        }
+
+        @Override
+        public Mono<C> materializeAsync() {
+            C local = list;
+            if (local != null)
+                return Mono.just(local);
+            return Mono.defer(() -> Mono.fromFuture(materialization(true)));
+        }
 
-            return list;
+        /**
+         * @param async true if materialization should be triggered without blocking the calling thread
+         * @return Shared completion handle for materialization of this collection, the first caller triggers materialization
+         */
+        protected CompletableFuture<C> materialization(boolean async) {
+            CompletableFuture<C> current = materializing.get();
+            if (current != null)
+                return current;
+            C local = list;
+            if (local != null)
+                return CompletableFuture.completedFuture(local);
+            CompletableFuture<C> handle = new CompletableFuture<>();
+            if (!materializing.compareAndSet(null, handle))
+                return materializing.get(); //another thread is materializing
+            if (async) {
+                collectAsync(seq).subscribe(result -> publish(handle, result), handle::completeExceptionally);
+                return handle;
+            }
+            try {
+                publish(handle, collect(seq));
+            } catch (Throwable t) {
+                handle.completeExceptionally(t); //catch any errors for propagation on access
+            }
+            return handle;
+        }
 
+        private void publish(CompletableFuture<C> handle, C result) {
+            list = result;
+            seq = null;
+            handle.complete(result);
         }
 
         @Override
         public Flux<T> flux() {
-            Flux<T> toUse = seq.get();
+            Flux<T> toUse = seq;
             if (toUse != null) {
                 return toUse;
             }
-            return Flux.fromIterable(list);
+            if (list instanceof NativeBulkOps)
+                return NativeFlux.of(list);
+            return FusedFlux.of(list);
         }
     }
 
-    
-    public static class PersistentLazyCollection<T, C extends Collection<T>> implements LazyFluentCollection<T, C> {
-        private volatile C list;
-        private final AtomicReference<Flux<T>> seq;
+    public static class LazyCollection<T, C extends Collection<T>> extends AbstractLazyCollection<T, C> {
+        private final Collector<T, ?, C> collector;
+
+        public LazyCollection(C list, Flux<T> seq, Collector<T, ?, C> collector) {
+            super(list, seq);
+            this.collector = collector;
+        }
+
+        @Override
+        protected C collect(Flux<T> toUse) {
+            if (toUse instanceof FusedFlux) //pull the fused operator chain in a single loop
+                return ((FusedFlux<T>) toUse).stream()
+                                             .collect(collector);
+            return super.collect(toUse);
+        }
+
+        @Override
+        protected Mono<C> collectAsync(Flux<T> toUse) {
+            if (toUse instanceof FusedFlux)
+                return Mono.fromCallable(() -> collect(toUse));
+            return toUse.collect(collector);
+        }
+    }
+
+    public static class PersistentLazyCollection<T, C extends Collection<T>> extends AbstractLazyCollection<T, C> {
         private final Reducer<C> reducer;
-        private final AtomicBoolean updating = new AtomicBoolean(false);
-        private final AtomicReference<Throwable> error = new AtomicReference<>(null);
-        
-        
-        
+
         public PersistentLazyCollection(C list, Flux<T> seq, Reducer<C> reducer) {
-            super();
-            this.list = list;
-            this.seq = new AtomicReference<>(seq);
+            super(list, seq);
             this.reducer = reducer;
         }
 
         @Override
-        public C get() {
-            if (seq.get() != null) { //need to materialize
-                
-                if(updating.compareAndSet(false, true)) { //check if can materialize
-                    try{
-                        Flux<T> toUse = seq.get();
-                        if(toUse!=null){//dbl check - as we may pass null check on on thread and set updating false on another
-                           list = reducer.mapReduce(toUse.toStream());
-                           seq.set(null);
-                        }
-                    }catch(Throwable t){
-                        error.set(t); //catch any errors for propagation on access
-                       
-                    }finally{
-                        updating.set(false); //finished updating
-                    }
-                }
-                
-                while(updating.get()){ //Check if another thread updating
-                   
-                    LockSupport.parkNanos(0l); //spin until updating thread completes
-                }
-                if(error.get()!=null) //if updating thread failed, throw error
-                    throw ExceptionSoftener.throwSoftenedException(error.get());
-               
-                return list;
+        protected C collect(Flux<T> toUse) {
+            if (toUse instanceof NativeFlux) {
+                Collection<T> result = ((NativeFlux<T>) toUse).get();
+                if (result.getClass() == reducer.zero()
+                                                 .getClass()) //the native result is already of the type this Reducer builds
+                    return (C) result;
+                return reducer.mapReduce(StreamSupport.stream(result.spliterator(), false));
             }
-
-            return list;
-            
-
+            //a BuilderReducer populates a single mutable builder, rather than folding a singleton collection per element
+            if (toUse instanceof FusedFlux) //pull the fused operator chain in a single loop
+                return reducer.mapReduce(((FusedFlux<T>) toUse).stream());
+            return reducer.mapReduce(toUse.toStream());
         }
 
-        /*
-         * (non-Javadoc)
-         * 
-         * @see com.aol.cyclops.reactor.collections.extensions.base.
-         * LazyFluentCollection#stream()
-         */
         @Override
-        public Flux<T> flux() {
-            Flux<T> toUse = seq.get();
-            if (toUse != null) {
-                return toUse;
-            }
-            return Flux.fromIterable(list);
+        protected Mono<C> collectAsync(Flux<T> toUse) {
+            if (toUse instanceof FusedFlux)
+                return Mono.fromCallable(() -> collect(toUse));
+            if (reducer instanceof BuilderReducer) //accumulate into the builder as elements arrive
+                return toUse.collect(((BuilderReducer<T, C>) reducer).collector());
+            return toUse.collectList()
+                        .map(l -> reducer.mapReduce(l.stream()));
         }
     }
 
@@ -195,6 +235,46 @@ public abstract class AbstractFluentCollectionX<T> implements LazyFluentCollecti
     @Override
     abstract public <X> FluentCollectionX<X> stream(Flux<X> stream);
 
+    /*
+     * (non-Javadoc)
+     * 
+     * @see
+     * com.aol.cyclops.reactor.collections.extensions.base.LazyFluentCollectionX
+     * #materializeAsync()
+     */
+    @Override
+    abstract public Mono<? extends AbstractFluentCollectionX<T>> materializeAsync();
+
+    /**
+     * @return Mono that emits the size of this collection, once materialized, without blocking the calling thread
+     */
+    public Mono<Integer> sizeAsync() {
+        return materializeAsync().map(Collection::size);
+    }
+
+    /**
+     * @return Mono that emits true if this collection is empty, once materialized, without blocking the calling thread
+     */
+    public Mono<Boolean> isEmptyAsync() {
+        return materializeAsync().map(Collection::isEmpty);
+    }
+
+    /**
+     * @param o Element to check for
+     * @return Mono that emits true if this collection contains the supplied element, once materialized, without blocking the calling thread
+     */
+    public Mono<Boolean> containsAsync(final Object o) {
+        return materializeAsync().map(c -> c.contains(o));
+    }
+
+    /**
+     * @param col Elements to check for
+     * @return Mono that emits true if this collection contains all the supplied elements, once materialized, without blocking the calling thread
+     */
+    public Mono<Boolean> containsAllAsync(final Collection<?> col) {
+        return materializeAsync().map(c -> c.containsAll(col));
+    }
+
     /*
      * (non-Javadoc)
      * 
@@ -283,7 +363,7 @@ public abstract class AbstractFluentCollectionX<T> implements LazyFluentCollecti
     @Override
     public LazyFluentCollectionX<T> minusLazy(final Object e) {
 
-        return (LazyFluentCollectionX<T>) stream(flux().filter(t -> !Objects.equals(t, e)));
+        return (LazyFluentCollectionX<T>) stream(FusedFlux.filter(flux(), t -> !Objects.equals(t, e)));
 
     }
 
@@ -331,7 +411,7 @@ public abstract class AbstractFluentCollectionX<T> implements LazyFluentCollecti
      */
     @Override
     public FluentCollectionX<T> filter(final Predicate<? super T> pred) {
-        return stream(flux().filter(pred));
+        return stream(FusedFlux.filter(flux(), pred));
     }
 
     /*
@@ -343,7 +423,7 @@ public abstract class AbstractFluentCollectionX<T> implements LazyFluentCollecti
      */
     @Override
     public <R> CollectionX<R> map(final Function<? super T, ? extends R> mapper) {
-        return stream(flux().map(mapper));
+        return stream(FusedFlux.map(flux(), mapper));
     }
 
     /*
@@ -355,7 +435,7 @@ public abstract class AbstractFluentCollectionX<T> implements LazyFluentCollecti
      */
     @Override
     public <R> CollectionX<R> flatMap(final Function<? super T, ? extends Iterable<? extends R>> mapper) {
-        return stream(flux().flatMap(mapper.andThen(ReactiveSeq::fromIterable)));
+        return stream(NativeFlux.flatMap(flux(), mapper));
     }
 
     /*
@@ -365,7 +445,7 @@ public abstract class AbstractFluentCollectionX<T> implements LazyFluentCollecti
      */
     @Override
     public FluentCollectionX<T> limit(final long num) {
-        return stream(flux().take(num));
+        return stream(FusedFlux.limit(flux(), num));
     }
 
     /*
@@ -375,7 +455,7 @@ public abstract class AbstractFluentCollectionX<T> implements LazyFluentCollecti
      */
     @Override
     public FluentCollectionX<T> skip(final long num) {
-        return stream(flux().skip(num));
+        return stream(FusedFlux.skip(flux(), num));
     }
 
     /*
@@ -469,8 +549,7 @@ public abstract class AbstractFluentCollectionX<T> implements LazyFluentCollecti
      */
     @Override
     public FluentCollectionX<T> slice(final long from, final long to) {
-        return stream(flux().skip(from)
-                            .take(to - from));
+        return stream(FusedFlux.limit(FusedFlux.skip(flux(), from), to - from));
     }
 
     /*
@@ -930,7 +1009,7 @@ public abstract class AbstractFluentCollectionX<T> implements LazyFluentCollecti
      */
     @Override
     public FluentCollectionX<T> filterNot(final Predicate<? super T> fn) {
-        return stream(flux().filter(fn.negate()));
+        return stream(FusedFlux.filter(flux(), fn.negate()));
 
     }
 
@@ -941,7 +1020,7 @@ public abstract class AbstractFluentCollectionX<T> implements LazyFluentCollecti
      */
     @Override
     public FluentCollectionX<T> notNull() {
-        return stream(flux().filter(Objects::nonNull));
+        return stream(FusedFlux.filter(flux(), Objects::nonNull));
 
     }
 
@@ -1054,7 +1133,7 @@ public abstract class AbstractFluentCollectionX<T> implements LazyFluentCollecti
      */
     @Override
     public <U> FluentCollectionX<U> cast(final Class<? extends U> type) {
-        return stream(flux().map(e -> type.cast(e)));
+        return stream(FusedFlux.map(flux(), e -> type.cast(e)));
     }
 
     /*
@@ -1211,7 +1290,7 @@ public abstract class AbstractFluentCollectionX<T> implements LazyFluentCollecti
      */
     @Override
     public FluentCollectionX<T> peek(final Consumer<? super T> c) {
-        return stream(flux().map(e -> {
+        return stream(FusedFlux.map(flux(), e -> {
             c.accept(e);
             return e;
         }));
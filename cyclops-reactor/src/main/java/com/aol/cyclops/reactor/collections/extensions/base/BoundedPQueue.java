@@ -0,0 +1,203 @@
+package com.aol.cyclops.reactor.collections.extensions.base;
+
+import java.util.AbstractQueue;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.pcollections.PQueue;
+
+import com.aol.cyclops.Reducer;
+import com.aol.cyclops.reactor.collections.extensions.persistent.LazyPQueueX;
+
+/**
+ * A PQueue that holds at most maxSize elements, adding to a full BoundedPQueue evicts the oldest (head) element. Any
+ * PQueue implementation can be used as the backing queue, plus and minus() are a single plus / minus() on the backing
+ * queue (amortized O(1) for the Scala, Clojure and pCollections queues) and the size is tracked here, so that a sliding
+ * window never has to count the backing queue.
+ *
+ * <pre>
+ * {@code
+ *   PQueue<Integer> window = BoundedPQueue.of(ScalaPQueue.emptyPQueue(), 3)
+ *                                         .plusAll(Arrays.asList(1,2,3,4,5));
+ *   //[3,4,5]
+ * }
+ * </pre>
+ *
+ * @author johnmcclean
+ *
+ * @param <T> Type of the elements in the queue
+ */
+public final class BoundedPQueue<T> extends AbstractQueue<T> implements PQueue<T> {
+
+    private final PQueue<T> queue;
+    private final int maxSize;
+    private final int size;
+
+    private BoundedPQueue(PQueue<T> queue, int maxSize, int size) {
+        this.queue = queue;
+        this.maxSize = maxSize;
+        this.size = size;
+    }
+
+    /**
+     * Bound a PQueue, if the queue holds more than maxSize elements the oldest are evicted
+     *
+     * @param queue Backing queue
+     * @param maxSize Maximum number of elements to retain
+     * @return BoundedPQueue
+     */
+    public static <T> BoundedPQueue<T> of(PQueue<T> queue, int maxSize) {
+        if (maxSize < 1)
+            throw new IllegalArgumentException(
+                                               "maxSize must be positive but was " + maxSize);
+        PQueue<T> use = queue;
+        int size = use.size();
+        for (; size > maxSize; size--)
+            use = use.minus();
+        return new BoundedPQueue<>(
+                                   use, maxSize, size);
+    }
+
+    /**
+     * <pre>
+     * {@code
+     * PQueue<Integer> q = BoundedPQueue.toPQueue(ClojurePQueue.emptyPQueue(),2)
+                                        .mapReduce(Stream.of(1,2,3,4));
+     * //[3,4]
+     * }
+     * </pre>
+     *
+     * @param empty Empty backing queue
+     * @param maxSize Maximum number of elements to retain
+     * @return Reducer for a BoundedPQueue
+     */
+    public static <T> Reducer<PQueue<T>> toPQueue(PQueue<T> empty, int maxSize) {
+        BoundedPQueue<T> zero = of(empty, maxSize);
+        return BuilderReducer.<T, PQueue<T>> of(zero, (final PQueue<T> a) -> b -> a.plusAll(b), (final T x) -> zero.plus(x),
+                                                Collectors.collectingAndThen(Collectors.toList(), zero::plusAll));
+    }
+
+    /**
+     * @param empty Empty backing queue
+     * @param maxSize Maximum number of elements to retain
+     * @return An empty LazyPQueueX whose plus / plusAll retain at most maxSize elements (type changing operations such
+     *         as map produce an unbounded LazyPQueueX)
+     */
+    public static <T> LazyPQueueX<T> lazyQueue(PQueue<T> empty, int maxSize) {
+        Reducer<PQueue<T>> reducer = toPQueue(empty, maxSize);
+        return LazyPQueueX.fromPQueue(reducer.zero(), reducer);
+    }
+
+    /**
+     * @return Maximum number of elements this queue retains
+     */
+    public int maxSize() {
+        return maxSize;
+    }
+
+    @Override
+    public BoundedPQueue<T> plus(T e) {
+        if (size == maxSize)
+            return new BoundedPQueue<>(
+                                       queue.plus(e)
+                                            .minus(),
+                                       maxSize, size);
+        return new BoundedPQueue<>(
+                                   queue.plus(e), maxSize, size + 1);
+    }
+
+    @Override
+    public BoundedPQueue<T> plusAll(Collection<? extends T> list) {
+        //elements that would be evicted by later elements in the same batch are never added
+        int skip = list.size() - maxSize;
+        PQueue<T> use = queue;
+        int newSize = size;
+        for (T next : list) {
+            if (skip-- > 0)
+                continue;
+            use = use.plus(next);
+            if (newSize == maxSize)
+                use = use.minus();
+            else
+                newSize++;
+        }
+        return new BoundedPQueue<>(
+                                   use, maxSize, newSize);
+    }
+
+    @Override
+    public BoundedPQueue<T> minus() {
+        if (size == 0)
+            return this;
+        return new BoundedPQueue<>(
+                                   queue.minus(), maxSize, size - 1);
+    }
+
+    @Override
+    public BoundedPQueue<T> minus(Object e) {
+        //a single occurrence (see PCollection#minus), whichever the backing queue would remove
+        return removeWhere(next -> Objects.equals(next, e), true);
+    }
+
+    @Override
+    public BoundedPQueue<T> minusAll(Collection<?> list) {
+        if (list.isEmpty())
+            return this;
+        Collection<?> toRemove = Removals.lookup(list);
+        return removeWhere(toRemove::contains, false);
+    }
+
+    /*
+     * A single pass that rotates the retained elements back through the backing queue (plus / minus() are amortized
+     * O(1)), the new size is the number of elements retained - so the backing queue is never counted, and any PQueue
+     * (including AmortizedPQueue, whose minus(Object) returns a TreePVector) can be used
+     */
+    private BoundedPQueue<T> removeWhere(Predicate<Object> remove, boolean once) {
+        PQueue<T> use = queue;
+        int retained = 0;
+        boolean removing = true;
+        for (int i = 0; i < size; i++) {
+            T next = use.peek();
+            use = use.minus();
+            if (removing && remove.test(next)) {
+                removing = !once;
+                continue;
+            }
+            use = use.plus(next);
+            retained++;
+        }
+        if (retained == size)
+            return this;
+        return new BoundedPQueue<>(
+                                   use, maxSize, retained);
+    }
+
+    @Override
+    public T peek() {
+        return size == 0 ? null : queue.peek();
+    }
+
+    @Override
+    public boolean offer(T o) {
+        return false;
+    }
+
+    @Override
+    public T poll() {
+        return peek();
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return queue.iterator();
+    }
+
+}
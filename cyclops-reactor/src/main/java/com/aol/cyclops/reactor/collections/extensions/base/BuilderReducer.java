@@ -0,0 +1,83 @@
+package com.aol.cyclops.reactor.collections.extensions.base;
+
+import java.util.function.Function;
+import java.util.stream.Collector;
+import java.util.stream.Stream;
+
+import com.aol.cyclops.Reducer;
+
+/**
+ * A Reducer that can also materialize a Stream through a single pass over a mutable builder (such as a Scala VectorBuilder,
+ * a Clojure transient or a java.util.ArrayList copied into a Javaslang Vector), rather than mapping each element to a
+ * singleton collection and folding them together via zero / combiner.
+ *
+ * Lazy persistent collections use the builder path via {@link #mapReduce(Stream)} when their Reducer is a BuilderReducer.
+ *
+ * <pre>
+ * {@code
+ *   BuilderReducer.<T, PVector<T>> of(JavaSlangPVector.emptyPVector(),
+ *                                     (PVector<T> a) -> b -> a.plusAll(b),
+ *                                     x -> JavaSlangPVector.singleton(x),
+ *                                     Collectors.collectingAndThen(Vector.collector(), v -> new JavaSlangPVector<T>(v)));
+ * }
+ * </pre>
+ *
+ * @author johnmcclean
+ *
+ * @param <T> Type of the elements being reduced
+ * @param <C> Type of the resulting (persistent) collection
+ */
+public interface BuilderReducer<T, C> extends Reducer<C> {
+
+    /**
+     * @return Collector that accumulates elements into a mutable builder, and produces the persistent collection once from it
+     */
+    Collector<T, ?, C> collector();
+
+    /*
+     * Single pass over a mutable builder, no intermediate persistent collections are created per element.
+     *
+     * (non-Javadoc)
+     * @see com.aol.cyclops.Reducer#mapReduce(java.util.stream.Stream)
+     */
+    @Override
+    default C mapReduce(Stream<?> toMapReduce) {
+        return ((Stream<T>) toMapReduce).collect(collector());
+    }
+
+    /**
+     * Construct a BuilderReducer
+     *
+     * @param zero Empty collection (identity value)
+     * @param combiner Combines two collections
+     * @param mapToType Converts a single element into a collection
+     * @param collector Collector backed by a mutable builder
+     * @return BuilderReducer
+     */
+    public static <T, C> BuilderReducer<T, C> of(C zero, Function<C, Function<C, C>> combiner, Function<? super T, C> mapToType,
+            Collector<T, ?, C> collector) {
+        return new BuilderReducer<T, C>() {
+            @Override
+            public C zero() {
+                return zero;
+            }
+
+            @Override
+            public C apply(C t, C u) {
+                return combiner.apply(t)
+                               .apply(u);
+            }
+
+            @Override
+            public Stream<C> mapToType(Stream<?> stream) {
+                return ((Stream<T>) stream).map(mapToType);
+            }
+
+            @Override
+            public Collector<T, ?, C> collector() {
+                return collector;
+            }
+        };
+    }
+
+}
@@ -0,0 +1,77 @@
+package com.aol.cyclops.reactor.collections.extensions.base;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.function.Function;
+
+import org.pcollections.PVector;
+import org.pcollections.TreePVector;
+
+import com.aol.cyclops.reactor.collections.extensions.persistent.LazyPVectorX;
+
+/**
+ * Conversion between the persistent collections of different libraries (Scala, Clojure, Javaslang, Dexx, pCollections and
+ * RRBPVector), without going through a Flux and the target Reducer.
+ *
+ * A source that is already of the target type is returned as is (sharing its structure), otherwise the source is
+ * snapshotted once into an array (via its native toArray) and the array handed to the bulk factory of the target library
+ * (e.g. a Scala VectorBuilder, or Clojure's LazilyPersistentVector.createOwning) - no intermediate persistent collection is
+ * created per element.
+ *
+ * <pre>
+ * {@code
+ *   PVector<Integer> clojure = ClojurePVector.fromCollection(scalaVector);
+ *   PVector<Integer> same = ScalaPVector.fromCollection(scalaVector); //returns scalaVector
+ * }
+ * </pre>
+ *
+ * @author johnmcclean
+ *
+ */
+public class Conversions {
+
+    /**
+     * Convert a Collection via the bulk factory of the target library
+     *
+     * @param source Collection to convert
+     * @param empty Empty instance of the target type, returned for an empty source
+     * @param fromArray Bulk factory for the target type, the array passed to it is owned by the factory
+     * @return source if it is already of the target type, otherwise a new collection of the target type
+     */
+    public static <T, C extends Collection<T>> C convert(Collection<? extends T> source, C empty,
+            Function<? super Object[], ? extends C> fromArray) {
+        Collection<? extends T> toUse = unwrap(source);
+        if (toUse.getClass() == empty.getClass())
+            return (C) toUse;
+        if (toUse.isEmpty())
+            return empty;
+        return fromArray.apply(toUse.toArray());
+    }
+
+    /**
+     * @param source Collection to convert
+     * @return source if it is a TreePVector, otherwise a TreePVector populated from an array snapshot of source
+     */
+    public static <T> PVector<T> toTreePVector(Collection<? extends T> source) {
+        return convert(source, TreePVector.<T> empty(), array -> TreePVector.from(Arrays.asList((T[]) array)));
+    }
+
+    /**
+     * @param source Collection to convert
+     * @return source if it is an RRBPVector, otherwise an RRBPVector built from an array snapshot of source
+     */
+    public static <T> RRBPVector<T> toRRBPVector(Collection<? extends T> source) {
+        return convert(source, RRBPVector.<T> emptyPVector(), array -> RRBPVector.fromIterable(Arrays.asList((T[]) array)));
+    }
+
+    /**
+     * @param source Collection to unwrap
+     * @return The (materialized) PVector backing the supplied Collection if it is a LazyPVectorX, otherwise the Collection
+     *         itself - so that a conversion can detect (and share) collections of the target type
+     */
+    public static <T> Collection<T> unwrap(Collection<T> source) {
+        if (source instanceof LazyPVectorX)
+            return ((LazyPVectorX<T>) source).getVector();
+        return source;
+    }
+}
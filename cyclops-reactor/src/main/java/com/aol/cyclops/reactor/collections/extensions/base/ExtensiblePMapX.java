@@ -1,5 +1,7 @@
 package com.aol.cyclops.reactor.collections.extensions.base;
 
+import java.util.Map;
+import java.util.function.BiFunction;
 import java.util.function.Supplier;
 
 import org.jooq.lambda.tuple.Tuple2;
@@ -15,14 +17,39 @@ import lombok.NonNull;
 public class ExtensiblePMapX<K,V> extends PMapXImpl<K,V> {
     
     private final Supplier<Reducer<PMapX<K, V>>>  reducer;
+    private final PMap<K, V> map;
     
     public ExtensiblePMapX(@NonNull PMap<K, V> map,@NonNull Supplier<Reducer<PMapX<K, V>>>  reducer) {
         super(
               map);
         this.reducer = reducer;
+        this.map = map;
      
     }
+
+    /**
+     * Merge the supplied Map into this one, using the native merge of the underlying PMap where available (see
+     * {@link NativeMerge})
+     *
+     * <pre>
+     * {@code
+     *   ExtensiblePMapX<String, Integer> totals = partition1.merge(partition2, (a, b) -> a + b);
+     * }
+     * </pre>
+     *
+     * @param other Map to merge into this one
+     * @param mergeFn Combines the value in this Map (first parameter) with the value in other (second parameter)
+     * @return Merged PMapX
+     */
+    public ExtensiblePMapX<K, V> merge(Map<? extends K, ? extends V> other, BiFunction<? super V, ? super V, ? extends V> mergeFn) {
+        return new ExtensiblePMapX<K, V>(
+                                         NativeMerge.merge(map, other, mergeFn), reducer);
+    }
     
+    PMap<K, V> underlying() {
+        return map;
+    }
+
     public PMapX<K, V> fromStream(final ReactiveSeq<Tuple2<K, V>> stream) {
         return stream.mapReduce(reducer.get());
     }
@@ -32,7 +59,8 @@ public class ExtensiblePMapX<K,V> extends PMapXImpl<K,V> {
      */
     @Override
     public PMapXImpl<K, V> withMap(PMap<K, V> map) {
-        return super.withMap(map);
+        return new ExtensiblePMapX<K, V>(
+                                         map, reducer);
     }
     
 }
@@ -0,0 +1,299 @@
+package com.aol.cyclops.reactor.collections.extensions.base;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.reactivestreams.Subscriber;
+
+import reactor.core.publisher.Flux;
+
+/**
+ * A Flux over a synchronous, re-iterable source (such as a materialized Collection) that fuses chained map, filter, limit and skip
+ * operations into a single pull-based operator chain. Consecutive map stages are composed into a single function.
+ *
+ * Chaining these operations does not add a Reactor operator per stage, when collected by a Lazy Collection the fused chain is
+ * pulled in a single loop. Subscribing to a FusedFlux (e.g. to apply any other, potentially asynchronous, Reactor operator)
+ * adapts the fused chain via {@link Flux#fromIterable(Iterable)}.
+ *
+ * <pre>
+ * {@code
+ *    LazyListX.of(1,2,3)
+ *             .map(i->i*2)
+ *             .filter(i->i<5)
+ *             .map(i->i+1); //materializes in a single loop over [1,2,3]
+ * }
+ * </pre>
+ *
+ * @author johnmcclean
+ *
+ * @param <T> Type of elements emitted by this Flux
+ */
+public class FusedFlux<T> extends Flux<T> implements Iterable<T> {
+
+    //the source and stages are untyped (each map stage changes the element type), only the end of the chain is a T
+    private final Iterable<?> source;
+    private final Function<Iterator<?>, Iterator<?>> stages;
+    private final Function<Object, ? extends T> mapper;
+
+    FusedFlux(Iterable<?> source, Function<Iterator<?>, Iterator<?>> stages, Function<Object, ? extends T> mapper) {
+        this.source = source;
+        this.stages = stages;
+        this.mapper = mapper;
+    }
+
+    /**
+     * Construct a FusedFlux from an Iterable. The Iterable should be re-iterable (as the Flux may be subscribed to more than once)
+     *
+     * @param source Iterable to create a FusedFlux from
+     * @return FusedFlux over the supplied Iterable
+     */
+    public static <T> FusedFlux<T> of(Iterable<? extends T> source) {
+        return new FusedFlux<T>(
+                                source, Function.identity(), null);
+    }
+
+    /**
+     * Map the supplied Flux, fusing the mapping function into the operator chain if the Flux is a FusedFlux
+     *
+     * @param flux Flux to map
+     * @param fn Mapping function
+     * @return Mapped Flux
+     */
+    public static <T, R> Flux<R> map(Flux<T> flux, Function<? super T, ? extends R> fn) {
+        if (flux instanceof FusedFlux)
+            return ((FusedFlux<T>) flux).fuseMap(fn);
+        return flux.map(fn);
+    }
+
+    /**
+     * Filter the supplied Flux, fusing the predicate into the operator chain if the Flux is a FusedFlux
+     *
+     * @param flux Flux to filter
+     * @param p Filter predicate
+     * @return Filtered Flux
+     */
+    public static <T> Flux<T> filter(Flux<T> flux, Predicate<? super T> p) {
+        if (flux instanceof FusedFlux)
+            return ((FusedFlux<T>) flux).fuseFilter(p);
+        return flux.filter(p);
+    }
+
+    /**
+     * Limit the supplied Flux, fusing the limit into the operator chain if the Flux is a FusedFlux
+     *
+     * @param flux Flux to limit
+     * @param num Max number of elements
+     * @return Limited Flux
+     */
+    public static <T> Flux<T> limit(Flux<T> flux, long num) {
+        if (flux instanceof FusedFlux)
+            return ((FusedFlux<T>) flux).fuseLimit(num);
+        return flux.take(num);
+    }
+
+    /**
+     * Skip elements in the supplied Flux, fusing the skip into the operator chain if the Flux is a FusedFlux
+     *
+     * @param flux Flux to skip elements in
+     * @param num Number of elements to skip
+     * @return Flux with initial elements skipped
+     */
+    public static <T> Flux<T> skip(Flux<T> flux, long num) {
+        if (flux instanceof FusedFlux)
+            return ((FusedFlux<T>) flux).fuseSkip(num);
+        return flux.skip(num);
+    }
+
+    /**
+     * @param fn Mapping function to fuse into this operator chain
+     * @return FusedFlux with the mapping function appended
+     */
+    @SuppressWarnings("unchecked")
+    public <R> FusedFlux<R> fuseMap(Function<? super T, ? extends R> fn) {
+        if (mapper == null)
+            return new FusedFlux<R>(
+                                    source, stages, (Function<Object, ? extends R>) fn);
+        return new FusedFlux<R>(
+                                source, stages, mapper.andThen(fn));
+    }
+
+    /**
+     * @param p Predicate to fuse into this operator chain
+     * @return FusedFlux with the filter appended
+     */
+    @SuppressWarnings("unchecked")
+    public FusedFlux<T> fuseFilter(Predicate<? super T> p) {
+        return new FusedFlux<T>(
+                                source, fused().andThen(it -> new FilteringIterator<>(
+                                                                                      (Iterator<T>) it, p)),
+                                null);
+    }
+
+    /**
+     * @param num Max number of elements
+     * @return FusedFlux with the limit appended
+     */
+    public FusedFlux<T> fuseLimit(long num) {
+        return new FusedFlux<T>(
+                                source, fused().andThen(it -> new LimitingIterator<>(
+                                                                                     it, num)),
+                                null);
+    }
+
+    /**
+     * @param num Number of elements to skip
+     * @return FusedFlux with the skip appended
+     */
+    public FusedFlux<T> fuseSkip(long num) {
+        return new FusedFlux<T>(
+                                source, fused().andThen(it -> {
+                                    for (long i = 0; i < num && it.hasNext(); i++)
+                                        it.next();
+                                    return it;
+                                }), null);
+    }
+
+    private Function<Iterator<?>, Iterator<?>> fused() {
+        if (mapper == null)
+            return stages;
+        Function<Object, ? extends T> fn = mapper;
+        return stages.andThen(it -> new MappingIterator<>(
+                                                          it, fn));
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see java.lang.Iterable#iterator()
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public Iterator<T> iterator() {
+        return (Iterator<T>) fused().apply(source.iterator());
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see java.lang.Iterable#forEach(java.util.function.Consumer)
+     */
+    @Override
+    public void forEach(Consumer<? super T> action) {
+        iterator().forEachRemaining(action);
+    }
+
+    /**
+     * @return A sequential Stream that pulls directly from the fused operator chain
+     */
+    public Stream<T> stream() {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator(), Spliterator.ORDERED), false);
+    }
+
+    /*
+     * (non-Javadoc)
+     *
+     * @see org.reactivestreams.Publisher#subscribe(org.reactivestreams.Subscriber)
+     */
+    @Override
+    public void subscribe(Subscriber<? super T> s) {
+        Flux.fromIterable(this)
+            .subscribe(s);
+    }
+
+    private static final class MappingIterator<T, R> implements Iterator<R> {
+        private final Iterator<T> it;
+        private final Function<? super T, ? extends R> fn;
+
+        MappingIterator(Iterator<T> it, Function<? super T, ? extends R> fn) {
+            this.it = it;
+            this.fn = fn;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return it.hasNext();
+        }
+
+        @Override
+        public R next() {
+            return fn.apply(it.next());
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super R> action) {
+            it.forEachRemaining(t -> action.accept(fn.apply(t)));
+        }
+    }
+
+    private static final class FilteringIterator<T> implements Iterator<T> {
+        private static final Object UNSET = new Object();
+        private final Iterator<T> it;
+        private final Predicate<? super T> p;
+        private Object next = UNSET;
+
+        FilteringIterator(Iterator<T> it, Predicate<? super T> p) {
+            this.it = it;
+            this.p = p;
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (next == UNSET && it.hasNext()) {
+                T value = it.next();
+                if (p.test(value))
+                    next = value;
+            }
+            return next != UNSET;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T next() {
+            if (!hasNext())
+                throw new NoSuchElementException();
+            T result = (T) next;
+            next = UNSET;
+            return result;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super T> action) {
+            if (next != UNSET)
+                action.accept(next());
+            it.forEachRemaining(t -> {
+                if (p.test(t))
+                    action.accept(t);
+            });
+        }
+    }
+
+    private static final class LimitingIterator<T> implements Iterator<T> {
+        private final Iterator<T> it;
+        private long remaining;
+
+        LimitingIterator(Iterator<T> it, long num) {
+            this.it = it;
+            this.remaining = num;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return remaining > 0 && it.hasNext();
+        }
+
+        @Override
+        public T next() {
+            if (remaining <= 0)
+                throw new NoSuchElementException();
+            remaining--;
+            return it.next();
+        }
+    }
+}
@@ -0,0 +1,367 @@
+package com.aol.cyclops.reactor.collections.extensions.base;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Collector;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+import org.pcollections.POrderedSet;
+
+import com.aol.cyclops.Reducer;
+import com.aol.cyclops.reactor.collections.extensions.persistent.LazyPOrderedSetX;
+
+/**
+ * A persistent sorted set of unboxed ints, held as an ascending {@link IntPVector}. contains, plus and minus binary
+ * search the vector, and insert or remove through its O(log n) split and concatenation; plusAll and minusAll of
+ * another IntPOrderedSet merge the two in a single pass.
+ *
+ * Unlike a bit set, memory use is proportional to the number of elements rather than to the largest element, and
+ * get(index) / indexOf are O(log n). Elements (and the POrderedSet indices) are in ascending order, null is not
+ * permitted.
+ *
+ * <pre>
+ * {@code
+ *   IntPOrderedSet ids = IntPOrderedSet.fromArray(30,10,20,10); //[10,20,30]
+ *   ids.containsInt(20); //true
+ *   ids.plusInt(15)
+ *      .indexOfInt(15); //1
+ * }
+ * </pre>
+ *
+ * @author johnmcclean
+ *
+ */
+public final class IntPOrderedSet extends AbstractSet<Integer> implements POrderedSet<Integer> {
+
+    private static final IntPOrderedSet EMPTY = new IntPOrderedSet(
+                                                                   IntPVector.emptyPVector());
+
+    private final IntPVector values;
+
+    private IntPOrderedSet(IntPVector values) {
+        this.values = values;
+    }
+
+    /**
+     * <pre>
+     * {@code
+     * POrderedSet<Integer> q = IntPOrderedSet.toPOrderedSet()
+                                              .mapReduce(Stream.of(1,2,3,4));
+     *
+     * }
+     * </pre>
+     * @return Reducer for POrderedSet
+     */
+    public static Reducer<POrderedSet<Integer>> toPOrderedSet() {
+        return BuilderReducer.<Integer, POrderedSet<Integer>> of(EMPTY, (final POrderedSet<Integer> a) -> b -> a.plusAll(b),
+                                                                 (final Integer x) -> EMPTY.plus(x), collector());
+    }
+
+    /**
+     * @return Collector that buffers unboxed ints, and sorts them once into an IntPOrderedSet
+     */
+    public static Collector<Integer, ?, POrderedSet<Integer>> collector() {
+        return Collector.<Integer, Buffer, POrderedSet<Integer>> of(Buffer::new, Buffer::add, Buffer::addAll,
+                                                                    Buffer::build);
+    }
+
+    public static IntPOrderedSet emptyPOrderedSet() {
+        return EMPTY;
+    }
+
+    public static IntPOrderedSet fromArray(int... values) {
+        return fromUnsorted(values.clone(), values.length);
+    }
+
+    public static IntPOrderedSet fromIntStream(IntStream stream) {
+        int[] values = stream.toArray();
+        return fromUnsorted(values, values.length);
+    }
+
+    /**
+     * @param it Integers to populate the set with (must not contain null)
+     * @return IntPOrderedSet of the unboxed values
+     */
+    public static IntPOrderedSet fromIterable(Iterable<Integer> it) {
+        if (it instanceof IntPOrderedSet)
+            return (IntPOrderedSet) it;
+        Buffer buffer = new Buffer();
+        for (Integer next : it)
+            buffer.add(next);
+        return buffer.build();
+    }
+
+    public static LazyPOrderedSetX<Integer> empty() {
+        return LazyPOrderedSetX.fromPOrderedSet(EMPTY, toPOrderedSet());
+    }
+
+    public static LazyPOrderedSetX<Integer> singleton(int value) {
+        return of(value);
+    }
+
+    public static LazyPOrderedSetX<Integer> of(int... values) {
+        return LazyPOrderedSetX.fromPOrderedSet(fromArray(values), toPOrderedSet());
+    }
+
+    /**
+     * Create a LazyPOrderedSetX that contains the ints between start and end
+     *
+     * @param start Number of range to start from
+     * @param end Number for range to end at
+     * @return Range LazyPOrderedSetX
+     */
+    public static LazyPOrderedSetX<Integer> range(int start, int end) {
+        return LazyPOrderedSetX.fromPOrderedSet(new IntPOrderedSet(
+                                                                   IntPVector.fromIntStream(IntStream.range(start, end))),
+                                                toPOrderedSet());
+    }
+
+    /*
+     * sorts and removes duplicates in place
+     */
+    private static IntPOrderedSet fromUnsorted(int[] values, int length) {
+        Arrays.sort(values, 0, length);
+        RRBTree.Builder builder = new RRBTree.Builder(
+                                                      RRBTree.empty(RRBTree.INTS));
+        for (int i = 0; i < length; i++)
+            if (i == 0 || values[i] != values[i - 1])
+                builder.addInt(values[i]);
+        return new IntPOrderedSet(
+                                  new IntPVector(
+                                                 builder.build()));
+    }
+
+    /**
+     * @return Elements of this set, in ascending order
+     */
+    public IntPVector ints() {
+        return values;
+    }
+
+    /*
+     * index of value, or -(insertion point + 1) if not present
+     */
+    private int search(int value) {
+        int low = 0;
+        int high = values.size() - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int next = values.getInt(mid);
+            if (next < value)
+                low = mid + 1;
+            else if (next > value)
+                high = mid - 1;
+            else
+                return mid;
+        }
+        return -(low + 1);
+    }
+
+    public boolean containsInt(int value) {
+        return search(value) >= 0;
+    }
+
+    public int indexOfInt(int value) {
+        int index = search(value);
+        return index < 0 ? -1 : index;
+    }
+
+    public int getInt(int index) {
+        return values.getInt(index);
+    }
+
+    public IntPOrderedSet plusInt(int value) {
+        int index = search(value);
+        if (index >= 0)
+            return this;
+        return new IntPOrderedSet(
+                                  values.plusInt(-(index + 1), value));
+    }
+
+    public IntPOrderedSet minusInt(int value) {
+        int index = search(value);
+        if (index < 0)
+            return this;
+        return new IntPOrderedSet(
+                                  values.minus(index));
+    }
+
+    public PrimitiveIterator.OfInt intIterator() {
+        return values.intIterator();
+    }
+
+    public IntStream intStream() {
+        return StreamSupport.intStream(spliterator(), false);
+    }
+
+    /**
+     * @return Sum of all elements, as a long so that large sets do not overflow
+     */
+    public long sum() {
+        return values.sum();
+    }
+
+    public int[] toIntArray() {
+        return values.toIntArray();
+    }
+
+    @Override
+    public IntPOrderedSet plus(Integer e) {
+        return plusInt(e);
+    }
+
+    @Override
+    public IntPOrderedSet plusAll(Collection<? extends Integer> list) {
+        IntPOrderedSet other = list instanceof IntPOrderedSet ? (IntPOrderedSet) list : fromIterable((Collection<Integer>) list);
+        if (other.size() < RRBTree.WIDTH) {
+            IntPOrderedSet result = this;
+            PrimitiveIterator.OfInt it = other.intIterator();
+            while (it.hasNext())
+                result = result.plusInt(it.nextInt());
+            return result;
+        }
+        return merge(other, true);
+    }
+
+    @Override
+    public IntPOrderedSet minus(Object e) {
+        if (!(e instanceof Integer))
+            return this;
+        return minusInt((Integer) e);
+    }
+
+    @Override
+    public IntPOrderedSet minusAll(Collection<?> list) {
+        IntPOrderedSet other;
+        if (list instanceof IntPOrderedSet) {
+            other = (IntPOrderedSet) list;
+        } else {
+            Buffer buffer = new Buffer();
+            for (Object next : list)
+                if (next instanceof Integer)
+                    buffer.add((Integer) next);
+            other = buffer.build();
+        }
+        if (other.size() < RRBTree.WIDTH) {
+            IntPOrderedSet result = this;
+            PrimitiveIterator.OfInt it = other.intIterator();
+            while (it.hasNext())
+                result = result.minusInt(it.nextInt());
+            return result;
+        }
+        return merge(other, false);
+    }
+
+    /*
+     * single pass over both sets, keeping the union (or the elements of this set not in other)
+     */
+    private IntPOrderedSet merge(IntPOrderedSet other, boolean union) {
+        RRBTree.Builder builder = new RRBTree.Builder(
+                                                      RRBTree.empty(RRBTree.INTS));
+        PrimitiveIterator.OfInt a = intIterator();
+        PrimitiveIterator.OfInt b = other.intIterator();
+        boolean hasA = a.hasNext();
+        boolean hasB = b.hasNext();
+        int nextA = hasA ? a.nextInt() : 0;
+        int nextB = hasB ? b.nextInt() : 0;
+        while (hasA || hasB) {
+            if (hasA && (!hasB || nextA < nextB)) {
+                builder.addInt(nextA);
+                hasA = a.hasNext();
+                nextA = hasA ? a.nextInt() : 0;
+            } else if (hasB && (!hasA || nextB < nextA)) {
+                if (union)
+                    builder.addInt(nextB);
+                hasB = b.hasNext();
+                nextB = hasB ? b.nextInt() : 0;
+            } else {
+                if (union)
+                    builder.addInt(nextA);
+                hasA = a.hasNext();
+                nextA = hasA ? a.nextInt() : 0;
+                hasB = b.hasNext();
+                nextB = hasB ? b.nextInt() : 0;
+            }
+        }
+        if (builder.size() == size())
+            return this;
+        return new IntPOrderedSet(
+                                  new IntPVector(
+                                                 builder.build()));
+    }
+
+    @Override
+    public Integer get(int index) {
+        return values.get(index);
+    }
+
+    @Override
+    public int indexOf(Object o) {
+        return o instanceof Integer ? indexOfInt((Integer) o) : -1;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return o instanceof Integer && containsInt((Integer) o);
+    }
+
+    @Override
+    public int size() {
+        return values.size();
+    }
+
+    @Override
+    public Iterator<Integer> iterator() {
+        return values.intIterator();
+    }
+
+    @Override
+    public Spliterator.OfInt spliterator() {
+        return Spliterators.spliterator(intIterator(), size(), Spliterator.ORDERED | Spliterator.SORTED | Spliterator.DISTINCT
+                | Spliterator.NONNULL | Spliterator.IMMUTABLE);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o instanceof IntPOrderedSet)
+            return values.equals(((IntPOrderedSet) o).values);
+        return super.equals(o);
+    }
+
+    @Override
+    public int hashCode() {
+        return (int) values.sum();
+    }
+
+    /*
+     * Growable int array, sorted once when the set is built
+     */
+    private static final class Buffer {
+        private int[] values = new int[RRBTree.WIDTH];
+        private int size = 0;
+
+        private void add(Integer value) {
+            if (size == values.length)
+                values = Arrays.copyOf(values, size * 2);
+            values[size++] = value;
+        }
+
+        private Buffer addAll(Buffer other) {
+            for (int i = 0; i < other.size; i++)
+                add(other.values[i]);
+            return this;
+        }
+
+        private IntPOrderedSet build() {
+            if (size == 0)
+                return EMPTY;
+            return fromUnsorted(values, size);
+        }
+    }
+}
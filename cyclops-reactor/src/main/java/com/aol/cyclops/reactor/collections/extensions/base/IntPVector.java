@@ -0,0 +1,565 @@
+package com.aol.cyclops.reactor.collections.extensions.base;
+
+import java.util.AbstractList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Optional;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.IntBinaryOperator;
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
+import java.util.function.IntToLongFunction;
+import java.util.function.IntUnaryOperator;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Collector;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+import org.pcollections.PVector;
+
+import com.aol.cyclops.Reducer;
+import com.aol.cyclops.reactor.collections.extensions.persistent.IntLazyPVectorX;
+import com.aol.cyclops.reactor.collections.extensions.persistent.LazyPVectorX;
+
+/**
+ * A persistent vector of unboxed ints, stored in the int[] leaves of a relaxed radix balanced tree (as used by
+ * {@link RRBPVector}) - with O(log n) access, update, concatenation, splitting and insertion at any index.
+ *
+ * The int methods (getInt, plusInt, intStream, sum, filterInt, mapInt ...) never box, Integers are created only at the
+ * PVector&lt;Integer&gt; boundary (get, iterator). Operations that may produce something other than an int (map, flatMap,
+ * plus of a null) return a boxed {@link RRBPVector} instead, so that the {@link #toPVector()} Reducer can be used by a
+ * LazyPVectorX that is later mapped to another type.
+ *
+ * <pre>
+ * {@code
+ *   IntPVector ids = IntPVector.fromArray(10,20,30)
+ *                              .plusInt(40);
+ *   ids.filterInt(i->i>15)
+ *      .sum(); //90
+ * }
+ * </pre>
+ *
+ * @author johnmcclean
+ *
+ */
+public final class IntPVector extends AbstractList<Integer> implements PVector<Integer>, NativePlusLoop<Integer>, NativeBulkOps<Integer> {
+
+    private static final IntPVector EMPTY = new IntPVector(
+                                                           RRBTree.empty(RRBTree.INTS));
+
+    private final RRBTree tree;
+
+    IntPVector(RRBTree tree) {
+        this.tree = tree;
+    }
+
+    /**
+     * <pre>
+     * {@code
+     * PVector<Integer> q = IntPVector.toPVector()
+                                      .mapReduce(Stream.of(1,2,3,4));
+     *
+     * }
+     * </pre>
+     * @return Reducer for PVector, that produces an IntPVector if all elements are (non-null) Integers
+     */
+    public static Reducer<PVector<Integer>> toPVector() {
+        return BuilderReducer.<Integer, PVector<Integer>> of(EMPTY, (final PVector<Integer> a) -> b -> a.plusAll(b),
+                                                             (final Object x) -> singleton(x), collector());
+    }
+
+    /**
+     * @return Collector that produces an IntPVector if all elements are (non-null) Integers, or a boxed RRBPVector
+     *         otherwise
+     */
+    public static Collector<Integer, ?, PVector<Integer>> collector() {
+        //the Builder accepts any Object, as a LazyPVectorX mapped to another type reuses this Collector
+        return Collector.<Integer, Builder, PVector<Integer>> of(() -> new Builder(
+                                                                                   EMPTY.tree),
+                                                                 Builder::add, Builder::addAll, Builder::buildGeneric);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static PVector<Integer> singleton(Object value) {
+        if (value instanceof Integer)
+            return EMPTY.plusInt((Integer) value);
+        //any other element (or null) is held boxed, as in the Builder fallback
+        PVector<Object> boxed = RRBPVector.emptyPVector();
+        return (PVector<Integer>) (PVector<?>) boxed.plus(value);
+    }
+
+    public static IntPVector emptyPVector() {
+        return EMPTY;
+    }
+
+    public static IntPVector fromArray(int... values) {
+        RRBTree.Builder builder = new RRBTree.Builder(
+                                                      EMPTY.tree);
+        for (int next : values)
+            builder.addInt(next);
+        return new IntPVector(
+                              builder.build());
+    }
+
+    public static IntPVector fromIntStream(IntStream stream) {
+        RRBTree.Builder builder = new RRBTree.Builder(
+                                                      EMPTY.tree);
+        stream.forEachOrdered(builder::addInt);
+        return new IntPVector(
+                              builder.build());
+    }
+
+    /**
+     * @param it Integers to populate the vector with (must not contain null)
+     * @return IntPVector of the unboxed values
+     */
+    public static IntPVector fromIterable(Iterable<Integer> it) {
+        if (it instanceof IntPVector)
+            return (IntPVector) it;
+        RRBTree.Builder builder = new RRBTree.Builder(
+                                                      EMPTY.tree);
+        for (Integer next : it)
+            builder.addInt(next);
+        return new IntPVector(
+                              builder.build());
+    }
+
+    @Override
+    public LazyPVectorX<Integer> plusLoop(int max, IntFunction<Integer> value) {
+        Builder builder = new Builder(
+                                      tree);
+        for (int i = 0; i < max; i++)
+            builder.add(value.apply(i));
+        return lazyVector(builder.build());
+    }
+
+    @Override
+    public LazyPVectorX<Integer> plusLoop(Supplier<Optional<Integer>> supplier) {
+        Builder builder = new Builder(
+                                      tree);
+        Optional<Integer> next = supplier.get();
+        while (next.isPresent()) {
+            builder.add(next.get());
+            next = supplier.get();
+        }
+        return lazyVector(builder.build());
+    }
+
+    private static LazyPVectorX<Integer> lazyVector(PVector<Integer> vector) {
+        if (vector instanceof IntPVector)
+            return IntLazyPVectorX.fromPVector((IntPVector) vector);
+        return RRBPVector.lazyVector((RRBPVector<Integer>) vector);
+    }
+
+    public int getInt(int index) {
+        checkIndex(index, size() - 1);
+        return tree.getInt(index);
+    }
+
+    public IntPVector plusInt(int e) {
+        return new IntPVector(
+                              tree.concat(RRBTree.leaf(RRBTree.INTS, new int[] { e })));
+    }
+
+    public IntPVector plusInt(int i, int e) {
+        checkIndex(i, size());
+        return take(i).plusInt(e)
+                      .concat(drop(i));
+    }
+
+    public IntPVector withInt(int i, int e) {
+        checkIndex(i, size() - 1);
+        return new IntPVector(
+                              tree.update(i, (leaf, pos) -> ((int[]) leaf)[pos] = e));
+    }
+
+    /**
+     * @param other Vector to append to this one
+     * @return Vector containing the elements of this vector followed by those of other, in O(log n)
+     */
+    public IntPVector concat(IntPVector other) {
+        return new IntPVector(
+                              tree.concat(other.tree));
+    }
+
+    /**
+     * @param n Number of elements to keep
+     * @return Vector containing the first n elements of this vector, in O(log n)
+     */
+    public IntPVector take(int n) {
+        if (n <= 0)
+            return EMPTY;
+        if (n >= size())
+            return this;
+        return new IntPVector(
+                              tree.take(n));
+    }
+
+    /**
+     * @param n Number of elements to remove
+     * @return Vector without the first n elements of this vector, in O(log n)
+     */
+    public IntPVector drop(int n) {
+        if (n <= 0)
+            return this;
+        if (n >= size())
+            return EMPTY;
+        return new IntPVector(
+                              tree.drop(n));
+    }
+
+    public int indexOfInt(int value) {
+        RRBTree.Cursor cursor = tree.new Cursor();
+        for (int i = 0; cursor.hasNext(); i++)
+            if (cursor.nextInt() == value)
+                return i;
+        return -1;
+    }
+
+    public int lastIndexOfInt(int value) {
+        int result = -1;
+        RRBTree.Cursor cursor = tree.new Cursor();
+        for (int i = 0; cursor.hasNext(); i++)
+            if (cursor.nextInt() == value)
+                result = i;
+        return result;
+    }
+
+    public boolean containsInt(int value) {
+        return indexOfInt(value) >= 0;
+    }
+
+    public IntPVector filterInt(IntPredicate p) {
+        RRBTree.Builder builder = new RRBTree.Builder(
+                                                      EMPTY.tree);
+        RRBTree.Cursor cursor = tree.new Cursor();
+        while (cursor.hasNext()) {
+            int next = cursor.nextInt();
+            if (p.test(next))
+                builder.addInt(next);
+        }
+        return builder.size() == size() ? this : new IntPVector(
+                                                                builder.build());
+    }
+
+    public IntPVector mapInt(IntUnaryOperator fn) {
+        RRBTree.Builder builder = new RRBTree.Builder(
+                                                      EMPTY.tree);
+        RRBTree.Cursor cursor = tree.new Cursor();
+        while (cursor.hasNext())
+            builder.addInt(fn.applyAsInt(cursor.nextInt()));
+        return new IntPVector(
+                              builder.build());
+    }
+
+    public LongPVector mapToLong(IntToLongFunction fn) {
+        RRBTree.Builder builder = new RRBTree.Builder(
+                                                      RRBTree.empty(RRBTree.LONGS));
+        RRBTree.Cursor cursor = tree.new Cursor();
+        while (cursor.hasNext())
+            builder.addLong(fn.applyAsLong(cursor.nextInt()));
+        return new LongPVector(
+                               builder.build());
+    }
+
+    public int foldInt(int identity, IntBinaryOperator fn) {
+        int result = identity;
+        RRBTree.Cursor cursor = tree.new Cursor();
+        while (cursor.hasNext())
+            result = fn.applyAsInt(result, cursor.nextInt());
+        return result;
+    }
+
+    /**
+     * @return Sum of all elements, as a long so that large vectors do not overflow
+     */
+    public long sum() {
+        long result = 0;
+        RRBTree.Cursor cursor = tree.new Cursor();
+        while (cursor.hasNext())
+            result += cursor.nextInt();
+        return result;
+    }
+
+    public int[] toIntArray() {
+        int[] result = new int[size()];
+        RRBTree.Cursor cursor = tree.new Cursor();
+        for (int i = 0; cursor.hasNext(); i++)
+            result[i] = cursor.nextInt();
+        return result;
+    }
+
+    public PrimitiveIterator.OfInt intIterator() {
+        RRBTree.Cursor cursor = tree.new Cursor();
+        return new PrimitiveIterator.OfInt() {
+
+            @Override
+            public boolean hasNext() {
+                return cursor.hasNext();
+            }
+
+            @Override
+            public int nextInt() {
+                return cursor.nextInt();
+            }
+        };
+    }
+
+    public IntStream intStream() {
+        return StreamSupport.intStream(spliterator(), false);
+    }
+
+    @Override
+    public PVector<Integer> plus(Integer e) {
+        if (e == null)
+            return boxed().plus(e);
+        return plusInt(e);
+    }
+
+    @Override
+    public PVector<Integer> plusAll(Collection<? extends Integer> list) {
+        if (list instanceof IntPVector)
+            return concat((IntPVector) list);
+        Builder builder = new Builder(
+                                      tree);
+        for (Integer next : list)
+            builder.add(next);
+        return builder.build();
+    }
+
+    @Override
+    public PVector<Integer> with(int i, Integer e) {
+        if (e == null)
+            return boxed().with(i, e);
+        return withInt(i, e);
+    }
+
+    @Override
+    public PVector<Integer> plus(int i, Integer e) {
+        if (e == null)
+            return boxed().plus(i, e);
+        return plusInt(i, e);
+    }
+
+    @Override
+    public PVector<Integer> plusAll(int i, Collection<? extends Integer> list) {
+        checkIndex(i, size());
+        PVector<Integer> inserted = take(i).plusAll(list);
+        if (inserted instanceof IntPVector)
+            return ((IntPVector) inserted).concat(drop(i));
+        return inserted.plusAll(drop(i));
+    }
+
+    @Override
+    public IntPVector minus(Object e) {
+        if (!(e instanceof Integer))
+            return this;
+        int i = indexOfInt((Integer) e);
+        if (i < 0)
+            return this;
+        return minus(i);
+    }
+
+    @Override
+    public IntPVector minusAll(Collection<?> list) {
+        if (list instanceof IntPOrderedSet) {
+            IntPOrderedSet set = (IntPOrderedSet) list;
+            return filterInt(i -> !set.containsInt(i));
+        }
+        Collection<?> toRemove = Removals.lookup(list);
+        return filterInt(i -> !toRemove.contains(i));
+    }
+
+    @Override
+    public IntPVector minus(int i) {
+        checkIndex(i, size() - 1);
+        return take(i).concat(drop(i + 1));
+    }
+
+    @Override
+    public IntPVector subList(int start, int end) {
+        if (start < 0 || end > size() || start > end)
+            throw new IndexOutOfBoundsException(
+                                                "Range " + start + " to " + end + " is out of bounds - size : " + size());
+        return drop(start).take(end - start);
+    }
+
+    @Override
+    public Integer get(int index) {
+        return getInt(index);
+    }
+
+    @Override
+    public int size() {
+        return tree.size();
+    }
+
+    @Override
+    public Iterator<Integer> iterator() {
+        return intIterator();
+    }
+
+    @Override
+    public Spliterator.OfInt spliterator() {
+        return Spliterators.spliterator(intIterator(), size(), Spliterator.ORDERED | Spliterator.IMMUTABLE);
+    }
+
+    @Override
+    public int indexOf(Object o) {
+        return o instanceof Integer ? indexOfInt((Integer) o) : -1;
+    }
+
+    @Override
+    public int lastIndexOf(Object o) {
+        return o instanceof Integer ? lastIndexOfInt((Integer) o) : -1;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return indexOf(o) >= 0;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (!(o instanceof IntPVector))
+            return LinkedLists.equals(this, o);
+        IntPVector other = (IntPVector) o;
+        if (other.size() != size())
+            return false;
+        RRBTree.Cursor a = tree.new Cursor();
+        RRBTree.Cursor b = other.tree.new Cursor();
+        while (a.hasNext())
+            if (a.nextInt() != b.nextInt())
+                return false;
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 1;
+        RRBTree.Cursor cursor = tree.new Cursor();
+        while (cursor.hasNext())
+            hash = 31 * hash + cursor.nextInt();
+        return hash;
+    }
+
+    @Override
+    public <R> Collection<R> map(Function<? super Integer, ? extends R> fn) {
+        Builder builder = new Builder(
+                                      EMPTY.tree);
+        RRBTree.Cursor cursor = tree.new Cursor();
+        while (cursor.hasNext())
+            builder.add(fn.apply(cursor.nextInt()));
+        return builder.buildGeneric();
+    }
+
+    @Override
+    public IntPVector filter(Predicate<? super Integer> p) {
+        return filterInt(p::test);
+    }
+
+    @Override
+    public <R> Collection<R> flatMap(Function<? super Integer, ? extends Iterable<? extends R>> fn) {
+        Builder builder = new Builder(
+                                      EMPTY.tree);
+        RRBTree.Cursor cursor = tree.new Cursor();
+        while (cursor.hasNext())
+            for (R next : fn.apply(cursor.nextInt()))
+                builder.add(next);
+        return builder.buildGeneric();
+    }
+
+    @Override
+    public <U> U foldLeft(U identity, BiFunction<U, ? super Integer, U> fn) {
+        U result = identity;
+        RRBTree.Cursor cursor = tree.new Cursor();
+        while (cursor.hasNext())
+            result = fn.apply(result, cursor.nextInt());
+        return result;
+    }
+
+    /**
+     * @return Height of the tree (0 if all elements are held in a single leaf)
+     */
+    int height() {
+        return tree.height();
+    }
+
+    private RRBPVector<Integer> boxed() {
+        return RRBPVector.fromIterable(this);
+    }
+
+    private void checkIndex(int i, int max) {
+        if (i < 0 || i > max)
+            throw new IndexOutOfBoundsException(
+                                                "Index " + i + " is out of bounds - size : " + size());
+    }
+
+    /*
+     * Accumulates unboxed ints, switching to a boxed RRBPVector once an element is not a (non-null) Integer
+     */
+    private static final class Builder {
+        private final RRBTree.Builder ints;
+        private RRBTree.Builder boxed;
+
+        private Builder(RRBTree prefix) {
+            this.ints = new RRBTree.Builder(
+                                            prefix);
+        }
+
+        private void add(Object e) {
+            if (boxed == null && e instanceof Integer) {
+                ints.addInt((Integer) e);
+                return;
+            }
+            if (boxed == null)
+                boxed = new RRBTree.Builder(
+                                            objects());
+            boxed.add(e);
+        }
+
+        private Builder addAll(Builder other) {
+            if (boxed == null && other.boxed == null)
+                ints.addAll(other.ints);
+            else
+                boxed = new RRBTree.Builder(
+                                            objects().concat(other.objects()));
+            return this;
+        }
+
+        private RRBTree objects() {
+            if (boxed != null)
+                return boxed.build();
+            RRBTree.Builder builder = new RRBTree.Builder(
+                                                          RRBTree.empty(RRBTree.OBJECTS));
+            RRBTree.Cursor cursor = ints.build().new Cursor();
+            while (cursor.hasNext())
+                builder.add(cursor.nextInt());
+            return builder.build();
+        }
+
+        private PVector<Integer> build() {
+            if (boxed == null)
+                return new IntPVector(
+                                      ints.build());
+            return new RRBPVector<>(
+                                    boxed.build());
+        }
+
+        /*
+         * an empty result may be mapped to any type, so is represented by a boxed vector - a non empty result holds
+         * Integers only if every element added was one
+         */
+        @SuppressWarnings("unchecked")
+        private <R> PVector<R> buildGeneric() {
+            if (boxed == null && ints.size() == 0)
+                return RRBPVector.emptyPVector();
+            return (PVector<R>) build();
+        }
+    }
+}
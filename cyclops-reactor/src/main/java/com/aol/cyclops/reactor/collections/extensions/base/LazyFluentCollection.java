@@ -3,6 +3,7 @@ package com.aol.cyclops.reactor.collections.extensions.base;
 import java.util.Collection;
 
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 /**
  * Interface for a wrapper around a Fluent, Lazy Collection
@@ -19,6 +20,14 @@ public interface LazyFluentCollection<T, C extends Collection<T>> {
      */
     C get();
 
+    /**
+     * Materialize the wrapped Collection without blocking the calling thread. The returned Mono is cached, 
+     * concurrent subscribers (and any blocking callers of {@link #get()}) share a single in-flight materialization.
+     * 
+     * @return Mono that emits the wrapped Collection once materialized
+     */
+    Mono<C> materializeAsync();
+
     /**
      * @return Collection data inside a stream - a Reactor Flux
      */
@@ -8,6 +8,7 @@ import java.util.function.Supplier;
 import com.aol.cyclops.data.collections.extensions.FluentCollectionX;
 
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 /**
  * A Lazy Collection with a fluent api. Extended operators act eagerly, direct operations on a collection
@@ -42,6 +43,25 @@ public interface LazyFluentCollectionX<T> extends FluentCollectionX<T> {
      * @return This collection with any queued Lazy Operations materialized
      */
     LazyFluentCollectionX<T> materialize();
+
+    /**
+     * Materialize any queued Lazy Operations without blocking the calling thread (e.g. a Reactor event loop thread).
+     * Concurrent callers share a single in-flight materialization.
+     * 
+     * <pre>
+     * {@code 
+     *    LazyListX.of(1,2,3)
+     *             .map(i->i*2)
+     *             .materializeAsync()
+     *             .subscribe(System.out::println);
+     *    
+     *    //[2,4,6]
+     * }
+     * </pre>
+     * 
+     * @return Mono that emits this collection once it has been materialized
+     */
+    Mono<? extends LazyFluentCollectionX<T>> materializeAsync();
     /**
      * Create a LazyFluentCollection from a Flux. 
      * The created LazyFluentCollection will be of the same type as the object this method is called on.
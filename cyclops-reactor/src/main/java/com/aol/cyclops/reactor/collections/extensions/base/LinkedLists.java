@@ -0,0 +1,94 @@
+package com.aol.cyclops.reactor.collections.extensions.base;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+
+/**
+ * Traversal helpers for List adapters over linked (cons list) persistent collections, such as the Scala, Clojure, Dexx
+ * and Javaslang PStacks.
+ *
+ * The AbstractList defaults for iteration, indexOf, lastIndexOf and equals are built on get(int), which is O(n) for a
+ * linked list - making a full traversal O(n²). These helpers work from a native (cursor based) Iterator instead, so each
+ * step is O(1).
+ *
+ * <pre>
+ * {@code
+ *   public Spliterator<T> spliterator() {
+ *       return LinkedLists.spliterator(iterator(), size());
+ *   }
+ * }
+ * </pre>
+ *
+ * @author johnmcclean
+ *
+ */
+public class LinkedLists {
+
+    /**
+     * Create a sized, ordered and immutable Spliterator from a native Iterator. The Spliterator splits by buffering batches
+     * of elements into arrays, so that Streams over linked lists can be processed in parallel.
+     *
+     * @param iterator Native Iterator over the linked list
+     * @param size Number of elements in the linked list
+     * @return Spliterator over the linked list
+     */
+    public static <T> Spliterator<T> spliterator(Iterator<T> iterator, long size) {
+        return Spliterators.spliterator(iterator, size, Spliterator.ORDERED | Spliterator.IMMUTABLE);
+    }
+
+    /**
+     * @param iterator Native Iterator over the linked list
+     * @param o Element to search for
+     * @return Index of the first occurrence of o or -1 if not present
+     */
+    public static int indexOf(Iterator<?> iterator, Object o) {
+        int index = 0;
+        while (iterator.hasNext()) {
+            if (Objects.equals(o, iterator.next()))
+                return index;
+            index++;
+        }
+        return -1;
+    }
+
+    /**
+     * @param iterator Native Iterator over the linked list
+     * @param o Element to search for
+     * @return Index of the last occurrence of o or -1 if not present
+     */
+    public static int lastIndexOf(Iterator<?> iterator, Object o) {
+        int index = 0;
+        int last = -1;
+        while (iterator.hasNext()) {
+            if (Objects.equals(o, iterator.next()))
+                last = index;
+            index++;
+        }
+        return last;
+    }
+
+    /**
+     * List equality (as defined by {@link List#equals(Object)}) using Iterators, rather than the ListIterators AbstractList
+     * uses
+     *
+     * @param list Linked list adapter
+     * @param o Object to compare against
+     * @return true if o is a List containing the same elements in the same order
+     */
+    public static boolean equals(List<?> list, Object o) {
+        if (o == list)
+            return true;
+        if (!(o instanceof List))
+            return false;
+        Iterator<?> it1 = list.iterator();
+        Iterator<?> it2 = ((List<?>) o).iterator();
+        while (it1.hasNext() && it2.hasNext()) {
+            if (!Objects.equals(it1.next(), it2.next()))
+                return false;
+        }
+        return !(it1.hasNext() || it2.hasNext());
+    }
+}
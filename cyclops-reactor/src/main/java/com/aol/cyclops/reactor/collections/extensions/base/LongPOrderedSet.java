@@ -0,0 +1,371 @@
+package com.aol.cyclops.reactor.collections.extensions.base;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Collector;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
+
+import org.pcollections.POrderedSet;
+
+import com.aol.cyclops.Reducer;
+import com.aol.cyclops.reactor.collections.extensions.persistent.LazyPOrderedSetX;
+
+/**
+ * A persistent sorted set of unboxed longs, held as an ascending {@link LongPVector}. contains, plus and minus binary
+ * search the vector, and insert or remove through its O(log n) split and concatenation; plusAll and minusAll of
+ * another LongPOrderedSet merge the two in a single pass.
+ *
+ * Unlike a bit set, memory use is proportional to the number of elements rather than to the largest element, and
+ * get(index) / indexOf are O(log n). Elements (and the POrderedSet indices) are in ascending order, null is not
+ * permitted.
+ *
+ * <pre>
+ * {@code
+ *   LongPOrderedSet offsets = LongPOrderedSet.fromArray(30,10,20,10); //[10,20,30]
+ *   offsets.containsLong(20); //true
+ *   offsets.plusLong(15)
+ *      .indexOfLong(15); //1
+ * }
+ * </pre>
+ *
+ * @author johnmcclean
+ *
+ */
+public final class LongPOrderedSet extends AbstractSet<Long> implements POrderedSet<Long> {
+
+    private static final LongPOrderedSet EMPTY = new LongPOrderedSet(
+                                                                   LongPVector.emptyPVector());
+
+    private final LongPVector values;
+
+    private LongPOrderedSet(LongPVector values) {
+        this.values = values;
+    }
+
+    /**
+     * <pre>
+     * {@code
+     * POrderedSet<Long> q = LongPOrderedSet.toPOrderedSet()
+                                              .mapReduce(Stream.of(1,2,3,4));
+     *
+     * }
+     * </pre>
+     * @return Reducer for POrderedSet
+     */
+    public static Reducer<POrderedSet<Long>> toPOrderedSet() {
+        return BuilderReducer.<Long, POrderedSet<Long>> of(EMPTY, (final POrderedSet<Long> a) -> b -> a.plusAll(b),
+                                                                 (final Long x) -> EMPTY.plus(x), collector());
+    }
+
+    /**
+     * @return Collector that buffers unboxed longs, and sorts them once into an LongPOrderedSet
+     */
+    public static Collector<Long, ?, POrderedSet<Long>> collector() {
+        return Collector.<Long, Buffer, POrderedSet<Long>> of(Buffer::new, Buffer::add, Buffer::addAll,
+                                                                    Buffer::build);
+    }
+
+    public static LongPOrderedSet emptyPOrderedSet() {
+        return EMPTY;
+    }
+
+    public static LongPOrderedSet fromArray(long... values) {
+        return fromUnsorted(values.clone(), values.length);
+    }
+
+    public static LongPOrderedSet fromLongStream(LongStream stream) {
+        long[] values = stream.toArray();
+        return fromUnsorted(values, values.length);
+    }
+
+    /**
+     * @param it Longs to populate the set with (must not contain null)
+     * @return LongPOrderedSet of the unboxed values
+     */
+    public static LongPOrderedSet fromIterable(Iterable<Long> it) {
+        if (it instanceof LongPOrderedSet)
+            return (LongPOrderedSet) it;
+        Buffer buffer = new Buffer();
+        for (Long next : it)
+            buffer.add(next);
+        return buffer.build();
+    }
+
+    public static LazyPOrderedSetX<Long> empty() {
+        return LazyPOrderedSetX.fromPOrderedSet(EMPTY, toPOrderedSet());
+    }
+
+    public static LazyPOrderedSetX<Long> singleton(long value) {
+        return of(value);
+    }
+
+    public static LazyPOrderedSetX<Long> of(long... values) {
+        return LazyPOrderedSetX.fromPOrderedSet(fromArray(values), toPOrderedSet());
+    }
+
+    /**
+     * Create a LazyPOrderedSetX that contains the longs between start and end
+     *
+     * @param start Number of range to start from
+     * @param end Number for range to end at
+     * @return Range LazyPOrderedSetX
+     */
+    public static LazyPOrderedSetX<Long> range(long start, long end) {
+        return LazyPOrderedSetX.fromPOrderedSet(new LongPOrderedSet(
+                                                                   LongPVector.fromLongStream(LongStream.range(start, end))),
+                                                toPOrderedSet());
+    }
+
+    /*
+     * sorts and removes duplicates in place
+     */
+    private static LongPOrderedSet fromUnsorted(long[] values, int length) {
+        Arrays.sort(values, 0, length);
+        RRBTree.Builder builder = new RRBTree.Builder(
+                                                      RRBTree.empty(RRBTree.LONGS));
+        for (int i = 0; i < length; i++)
+            if (i == 0 || values[i] != values[i - 1])
+                builder.addLong(values[i]);
+        return new LongPOrderedSet(
+                                  new LongPVector(
+                                                 builder.build()));
+    }
+
+    /**
+     * @return Elements of this set, in ascending order
+     */
+    public LongPVector ints() {
+        return values;
+    }
+
+    /*
+     * index of value, or -(insertion point + 1) if not present
+     */
+    private int search(long value) {
+        int low = 0;
+        int high = values.size() - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            long next = values.getLong(mid);
+            if (next < value)
+                low = mid + 1;
+            else if (next > value)
+                high = mid - 1;
+            else
+                return mid;
+        }
+        return -(low + 1);
+    }
+
+    public boolean containsLong(long value) {
+        return search(value) >= 0;
+    }
+
+    public int indexOfLong(long value) {
+        int index = search(value);
+        return index < 0 ? -1 : index;
+    }
+
+    public long getLong(int index) {
+        return values.getLong(index);
+    }
+
+    public LongPOrderedSet plusLong(long value) {
+        int index = search(value);
+        if (index >= 0)
+            return this;
+        return new LongPOrderedSet(
+                                  values.plusLong(-(index + 1), value));
+    }
+
+    public LongPOrderedSet minusLong(long value) {
+        int index = search(value);
+        if (index < 0)
+            return this;
+        return new LongPOrderedSet(
+                                  values.minus(index));
+    }
+
+    public PrimitiveIterator.OfLong longIterator() {
+        return values.longIterator();
+    }
+
+    public LongStream longStream() {
+        return StreamSupport.longStream(spliterator(), false);
+    }
+
+    /**
+     * @return Sum of all elements
+     */
+    public long sum() {
+        return values.sum();
+    }
+
+    public long[] toLongArray() {
+        return values.toLongArray();
+    }
+
+    @Override
+    public LongPOrderedSet plus(Long e) {
+        return plusLong(e);
+    }
+
+    @Override
+    public LongPOrderedSet plusAll(Collection<? extends Long> list) {
+        LongPOrderedSet other = list instanceof LongPOrderedSet ? (LongPOrderedSet) list : fromIterable((Collection<Long>) list);
+        if (other.size() < RRBTree.WIDTH) {
+            LongPOrderedSet result = this;
+            PrimitiveIterator.OfLong it = other.longIterator();
+            while (it.hasNext())
+                result = result.plusLong(it.nextLong());
+            return result;
+        }
+        return merge(other, true);
+    }
+
+    @Override
+    public LongPOrderedSet minus(Object e) {
+        if (!(e instanceof Long))
+            return this;
+        return minusLong((Long) e);
+    }
+
+    @Override
+    public LongPOrderedSet minusAll(Collection<?> list) {
+        LongPOrderedSet other;
+        if (list instanceof LongPOrderedSet) {
+            other = (LongPOrderedSet) list;
+        } else {
+            Buffer buffer = new Buffer();
+            for (Object next : list)
+                if (next instanceof Long)
+                    buffer.add((Long) next);
+            other = buffer.build();
+        }
+        if (other.size() < RRBTree.WIDTH) {
+            LongPOrderedSet result = this;
+            PrimitiveIterator.OfLong it = other.longIterator();
+            while (it.hasNext())
+                result = result.minusLong(it.nextLong());
+            return result;
+        }
+        return merge(other, false);
+    }
+
+    /*
+     * single pass over both sets, keeping the union (or the elements of this set not in other)
+     */
+    private LongPOrderedSet merge(LongPOrderedSet other, boolean union) {
+        RRBTree.Builder builder = new RRBTree.Builder(
+                                                      RRBTree.empty(RRBTree.LONGS));
+        PrimitiveIterator.OfLong a = longIterator();
+        PrimitiveIterator.OfLong b = other.longIterator();
+        boolean hasA = a.hasNext();
+        boolean hasB = b.hasNext();
+        long nextA = hasA ? a.nextLong() : 0;
+        long nextB = hasB ? b.nextLong() : 0;
+        while (hasA || hasB) {
+            if (hasA && (!hasB || nextA < nextB)) {
+                builder.addLong(nextA);
+                hasA = a.hasNext();
+                nextA = hasA ? a.nextLong() : 0;
+            } else if (hasB && (!hasA || nextB < nextA)) {
+                if (union)
+                    builder.addLong(nextB);
+                hasB = b.hasNext();
+                nextB = hasB ? b.nextLong() : 0;
+            } else {
+                if (union)
+                    builder.addLong(nextA);
+                hasA = a.hasNext();
+                nextA = hasA ? a.nextLong() : 0;
+                hasB = b.hasNext();
+                nextB = hasB ? b.nextLong() : 0;
+            }
+        }
+        if (builder.size() == size())
+            return this;
+        return new LongPOrderedSet(
+                                  new LongPVector(
+                                                 builder.build()));
+    }
+
+    @Override
+    public Long get(int index) {
+        return values.get(index);
+    }
+
+    @Override
+    public int indexOf(Object o) {
+        return o instanceof Long ? indexOfLong((Long) o) : -1;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return o instanceof Long && containsLong((Long) o);
+    }
+
+    @Override
+    public int size() {
+        return values.size();
+    }
+
+    @Override
+    public Iterator<Long> iterator() {
+        return values.longIterator();
+    }
+
+    @Override
+    public Spliterator.OfLong spliterator() {
+        return Spliterators.spliterator(longIterator(), size(), Spliterator.ORDERED | Spliterator.SORTED | Spliterator.DISTINCT
+                | Spliterator.NONNULL | Spliterator.IMMUTABLE);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o instanceof LongPOrderedSet)
+            return values.equals(((LongPOrderedSet) o).values);
+        return super.equals(o);
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 0;
+        PrimitiveIterator.OfLong it = longIterator();
+        while (it.hasNext())
+            hash += Long.hashCode(it.nextLong());
+        return hash;
+    }
+
+    /*
+     * Growable long array, sorted once when the set is built
+     */
+    private static final class Buffer {
+        private long[] values = new long[RRBTree.WIDTH];
+        private int size = 0;
+
+        private void add(Long value) {
+            if (size == values.length)
+                values = Arrays.copyOf(values, size * 2);
+            values[size++] = value;
+        }
+
+        private Buffer addAll(Buffer other) {
+            for (int i = 0; i < other.size; i++)
+                add(other.values[i]);
+            return this;
+        }
+
+        private LongPOrderedSet build() {
+            if (size == 0)
+                return EMPTY;
+            return fromUnsorted(values, size);
+        }
+    }
+}
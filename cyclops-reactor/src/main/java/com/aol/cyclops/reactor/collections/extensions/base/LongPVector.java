@@ -0,0 +1,554 @@
+package com.aol.cyclops.reactor.collections.extensions.base;
+
+import java.util.AbstractList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Optional;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.LongBinaryOperator;
+import java.util.function.IntFunction;
+import java.util.function.LongPredicate;
+import java.util.function.LongUnaryOperator;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Collector;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
+
+import org.pcollections.PVector;
+
+import com.aol.cyclops.Reducer;
+import com.aol.cyclops.reactor.collections.extensions.persistent.LongLazyPVectorX;
+import com.aol.cyclops.reactor.collections.extensions.persistent.LazyPVectorX;
+
+/**
+ * A persistent vector of unboxed longs, stored in the long[] leaves of a relaxed radix balanced tree (as used by
+ * {@link RRBPVector}) - with O(log n) access, update, concatenation, splitting and insertion at any index.
+ *
+ * The long methods (getLong, plusLong, longStream, sum, filterLong, mapLong ...) never box, Longs are created only at the
+ * PVector&lt;Long&gt; boundary (get, iterator). Operations that may produce something other than a long (map, flatMap,
+ * plus of a null) return a boxed {@link RRBPVector} instead, so that the {@link #toPVector()} Reducer can be used by a
+ * LazyPVectorX that is later mapped to another type.
+ *
+ * <pre>
+ * {@code
+ *   LongPVector offsets = LongPVector.fromArray(10,20,30)
+ *                                    .plusLong(40);
+ *   offsets.filterLong(i->i>15)
+ *      .sum(); //90
+ * }
+ * </pre>
+ *
+ * @author johnmcclean
+ *
+ */
+public final class LongPVector extends AbstractList<Long> implements PVector<Long>, NativePlusLoop<Long>, NativeBulkOps<Long> {
+
+    private static final LongPVector EMPTY = new LongPVector(
+                                                           RRBTree.empty(RRBTree.LONGS));
+
+    private final RRBTree tree;
+
+    LongPVector(RRBTree tree) {
+        this.tree = tree;
+    }
+
+    /**
+     * <pre>
+     * {@code
+     * PVector<Long> q = LongPVector.toPVector()
+                                      .mapReduce(Stream.of(1,2,3,4));
+     *
+     * }
+     * </pre>
+     * @return Reducer for PVector, that produces an LongPVector if all elements are (non-null) Longs
+     */
+    public static Reducer<PVector<Long>> toPVector() {
+        return BuilderReducer.<Long, PVector<Long>> of(EMPTY, (final PVector<Long> a) -> b -> a.plusAll(b),
+                                                             (final Object x) -> singleton(x), collector());
+    }
+
+    /**
+     * @return Collector that produces an LongPVector if all elements are (non-null) Longs, or a boxed RRBPVector
+     *         otherwise
+     */
+    public static Collector<Long, ?, PVector<Long>> collector() {
+        //the Builder accepts any Object, as a LazyPVectorX mapped to another type reuses this Collector
+        return Collector.<Long, Builder, PVector<Long>> of(() -> new Builder(
+                                                                             EMPTY.tree),
+                                                           Builder::add, Builder::addAll, Builder::buildGeneric);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static PVector<Long> singleton(Object value) {
+        if (value instanceof Long)
+            return EMPTY.plusLong((Long) value);
+        //any other element (or null) is held boxed, as in the Builder fallback
+        PVector<Object> boxed = RRBPVector.emptyPVector();
+        return (PVector<Long>) (PVector<?>) boxed.plus(value);
+    }
+
+    public static LongPVector emptyPVector() {
+        return EMPTY;
+    }
+
+    public static LongPVector fromArray(long... values) {
+        RRBTree.Builder builder = new RRBTree.Builder(
+                                                      EMPTY.tree);
+        for (long next : values)
+            builder.addLong(next);
+        return new LongPVector(
+                              builder.build());
+    }
+
+    public static LongPVector fromLongStream(LongStream stream) {
+        RRBTree.Builder builder = new RRBTree.Builder(
+                                                      EMPTY.tree);
+        stream.forEachOrdered(builder::addLong);
+        return new LongPVector(
+                              builder.build());
+    }
+
+    /**
+     * @param it Longs to populate the vector with (must not contain null)
+     * @return LongPVector of the unboxed values
+     */
+    public static LongPVector fromIterable(Iterable<Long> it) {
+        if (it instanceof LongPVector)
+            return (LongPVector) it;
+        RRBTree.Builder builder = new RRBTree.Builder(
+                                                      EMPTY.tree);
+        for (Long next : it)
+            builder.addLong(next);
+        return new LongPVector(
+                              builder.build());
+    }
+
+    @Override
+    public LazyPVectorX<Long> plusLoop(int max, IntFunction<Long> value) {
+        Builder builder = new Builder(
+                                      tree);
+        for (int i = 0; i < max; i++)
+            builder.add(value.apply(i));
+        return lazyVector(builder.build());
+    }
+
+    @Override
+    public LazyPVectorX<Long> plusLoop(Supplier<Optional<Long>> supplier) {
+        Builder builder = new Builder(
+                                      tree);
+        Optional<Long> next = supplier.get();
+        while (next.isPresent()) {
+            builder.add(next.get());
+            next = supplier.get();
+        }
+        return lazyVector(builder.build());
+    }
+
+    private static LazyPVectorX<Long> lazyVector(PVector<Long> vector) {
+        if (vector instanceof LongPVector)
+            return LongLazyPVectorX.fromPVector((LongPVector) vector);
+        return RRBPVector.lazyVector((RRBPVector<Long>) vector);
+    }
+
+    public long getLong(int index) {
+        checkIndex(index, size() - 1);
+        return tree.getLong(index);
+    }
+
+    public LongPVector plusLong(long e) {
+        return new LongPVector(
+                              tree.concat(RRBTree.leaf(RRBTree.LONGS, new long[] { e })));
+    }
+
+    public LongPVector plusLong(int i, long e) {
+        checkIndex(i, size());
+        return take(i).plusLong(e)
+                      .concat(drop(i));
+    }
+
+    public LongPVector withLong(int i, long e) {
+        checkIndex(i, size() - 1);
+        return new LongPVector(
+                              tree.update(i, (leaf, pos) -> ((long[]) leaf)[pos] = e));
+    }
+
+    /**
+     * @param other Vector to append to this one
+     * @return Vector containing the elements of this vector followed by those of other, in O(log n)
+     */
+    public LongPVector concat(LongPVector other) {
+        return new LongPVector(
+                              tree.concat(other.tree));
+    }
+
+    /**
+     * @param n Number of elements to keep
+     * @return Vector containing the first n elements of this vector, in O(log n)
+     */
+    public LongPVector take(int n) {
+        if (n <= 0)
+            return EMPTY;
+        if (n >= size())
+            return this;
+        return new LongPVector(
+                              tree.take(n));
+    }
+
+    /**
+     * @param n Number of elements to remove
+     * @return Vector without the first n elements of this vector, in O(log n)
+     */
+    public LongPVector drop(int n) {
+        if (n <= 0)
+            return this;
+        if (n >= size())
+            return EMPTY;
+        return new LongPVector(
+                              tree.drop(n));
+    }
+
+    public int indexOfLong(long value) {
+        RRBTree.Cursor cursor = tree.new Cursor();
+        for (int i = 0; cursor.hasNext(); i++)
+            if (cursor.nextLong() == value)
+                return i;
+        return -1;
+    }
+
+    public int lastIndexOfLong(long value) {
+        int result = -1;
+        RRBTree.Cursor cursor = tree.new Cursor();
+        for (int i = 0; cursor.hasNext(); i++)
+            if (cursor.nextLong() == value)
+                result = i;
+        return result;
+    }
+
+    public boolean containsLong(long value) {
+        return indexOfLong(value) >= 0;
+    }
+
+    public LongPVector filterLong(LongPredicate p) {
+        RRBTree.Builder builder = new RRBTree.Builder(
+                                                      EMPTY.tree);
+        RRBTree.Cursor cursor = tree.new Cursor();
+        while (cursor.hasNext()) {
+            long next = cursor.nextLong();
+            if (p.test(next))
+                builder.addLong(next);
+        }
+        return builder.size() == size() ? this : new LongPVector(
+                                                                builder.build());
+    }
+
+    public LongPVector mapLong(LongUnaryOperator fn) {
+        RRBTree.Builder builder = new RRBTree.Builder(
+                                                      EMPTY.tree);
+        RRBTree.Cursor cursor = tree.new Cursor();
+        while (cursor.hasNext())
+            builder.addLong(fn.applyAsLong(cursor.nextLong()));
+        return new LongPVector(
+                              builder.build());
+    }
+
+    public long foldLong(long identity, LongBinaryOperator fn) {
+        long result = identity;
+        RRBTree.Cursor cursor = tree.new Cursor();
+        while (cursor.hasNext())
+            result = fn.applyAsLong(result, cursor.nextLong());
+        return result;
+    }
+
+    /**
+     * @return Sum of all elements
+     */
+    public long sum() {
+        long result = 0;
+        RRBTree.Cursor cursor = tree.new Cursor();
+        while (cursor.hasNext())
+            result += cursor.nextLong();
+        return result;
+    }
+
+    public long[] toLongArray() {
+        long[] result = new long[size()];
+        RRBTree.Cursor cursor = tree.new Cursor();
+        for (int i = 0; cursor.hasNext(); i++)
+            result[i] = cursor.nextLong();
+        return result;
+    }
+
+    public PrimitiveIterator.OfLong longIterator() {
+        RRBTree.Cursor cursor = tree.new Cursor();
+        return new PrimitiveIterator.OfLong() {
+
+            @Override
+            public boolean hasNext() {
+                return cursor.hasNext();
+            }
+
+            @Override
+            public long nextLong() {
+                return cursor.nextLong();
+            }
+        };
+    }
+
+    public LongStream longStream() {
+        return StreamSupport.longStream(spliterator(), false);
+    }
+
+    @Override
+    public PVector<Long> plus(Long e) {
+        if (e == null)
+            return boxed().plus(e);
+        return plusLong(e);
+    }
+
+    @Override
+    public PVector<Long> plusAll(Collection<? extends Long> list) {
+        if (list instanceof LongPVector)
+            return concat((LongPVector) list);
+        Builder builder = new Builder(
+                                      tree);
+        for (Long next : list)
+            builder.add(next);
+        return builder.build();
+    }
+
+    @Override
+    public PVector<Long> with(int i, Long e) {
+        if (e == null)
+            return boxed().with(i, e);
+        return withLong(i, e);
+    }
+
+    @Override
+    public PVector<Long> plus(int i, Long e) {
+        if (e == null)
+            return boxed().plus(i, e);
+        return plusLong(i, e);
+    }
+
+    @Override
+    public PVector<Long> plusAll(int i, Collection<? extends Long> list) {
+        checkIndex(i, size());
+        PVector<Long> inserted = take(i).plusAll(list);
+        if (inserted instanceof LongPVector)
+            return ((LongPVector) inserted).concat(drop(i));
+        return inserted.plusAll(drop(i));
+    }
+
+    @Override
+    public LongPVector minus(Object e) {
+        if (!(e instanceof Long))
+            return this;
+        int i = indexOfLong((Long) e);
+        if (i < 0)
+            return this;
+        return minus(i);
+    }
+
+    @Override
+    public LongPVector minusAll(Collection<?> list) {
+        if (list instanceof LongPOrderedSet) {
+            LongPOrderedSet set = (LongPOrderedSet) list;
+            return filterLong(i -> !set.containsLong(i));
+        }
+        Collection<?> toRemove = Removals.lookup(list);
+        return filterLong(i -> !toRemove.contains(i));
+    }
+
+    @Override
+    public LongPVector minus(int i) {
+        checkIndex(i, size() - 1);
+        return take(i).concat(drop(i + 1));
+    }
+
+    @Override
+    public LongPVector subList(int start, int end) {
+        if (start < 0 || end > size() || start > end)
+            throw new IndexOutOfBoundsException(
+                                                "Range " + start + " to " + end + " is out of bounds - size : " + size());
+        return drop(start).take(end - start);
+    }
+
+    @Override
+    public Long get(int index) {
+        return getLong(index);
+    }
+
+    @Override
+    public int size() {
+        return tree.size();
+    }
+
+    @Override
+    public Iterator<Long> iterator() {
+        return longIterator();
+    }
+
+    @Override
+    public Spliterator.OfLong spliterator() {
+        return Spliterators.spliterator(longIterator(), size(), Spliterator.ORDERED | Spliterator.IMMUTABLE);
+    }
+
+    @Override
+    public int indexOf(Object o) {
+        return o instanceof Long ? indexOfLong((Long) o) : -1;
+    }
+
+    @Override
+    public int lastIndexOf(Object o) {
+        return o instanceof Long ? lastIndexOfLong((Long) o) : -1;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return indexOf(o) >= 0;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (!(o instanceof LongPVector))
+            return LinkedLists.equals(this, o);
+        LongPVector other = (LongPVector) o;
+        if (other.size() != size())
+            return false;
+        RRBTree.Cursor a = tree.new Cursor();
+        RRBTree.Cursor b = other.tree.new Cursor();
+        while (a.hasNext())
+            if (a.nextLong() != b.nextLong())
+                return false;
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 1;
+        RRBTree.Cursor cursor = tree.new Cursor();
+        while (cursor.hasNext())
+            hash = 31 * hash + Long.hashCode(cursor.nextLong());
+        return hash;
+    }
+
+    @Override
+    public <R> Collection<R> map(Function<? super Long, ? extends R> fn) {
+        Builder builder = new Builder(
+                                      EMPTY.tree);
+        RRBTree.Cursor cursor = tree.new Cursor();
+        while (cursor.hasNext())
+            builder.add(fn.apply(cursor.nextLong()));
+        return builder.buildGeneric();
+    }
+
+    @Override
+    public LongPVector filter(Predicate<? super Long> p) {
+        return filterLong(p::test);
+    }
+
+    @Override
+    public <R> Collection<R> flatMap(Function<? super Long, ? extends Iterable<? extends R>> fn) {
+        Builder builder = new Builder(
+                                      EMPTY.tree);
+        RRBTree.Cursor cursor = tree.new Cursor();
+        while (cursor.hasNext())
+            for (R next : fn.apply(cursor.nextLong()))
+                builder.add(next);
+        return builder.buildGeneric();
+    }
+
+    @Override
+    public <U> U foldLeft(U identity, BiFunction<U, ? super Long, U> fn) {
+        U result = identity;
+        RRBTree.Cursor cursor = tree.new Cursor();
+        while (cursor.hasNext())
+            result = fn.apply(result, cursor.nextLong());
+        return result;
+    }
+
+    /**
+     * @return Height of the tree (0 if all elements are held in a single leaf)
+     */
+    int height() {
+        return tree.height();
+    }
+
+    private RRBPVector<Long> boxed() {
+        return RRBPVector.fromIterable(this);
+    }
+
+    private void checkIndex(int i, int max) {
+        if (i < 0 || i > max)
+            throw new IndexOutOfBoundsException(
+                                                "Index " + i + " is out of bounds - size : " + size());
+    }
+
+    /*
+     * Accumulates unboxed longs, switching to a boxed RRBPVector once an element is not a (non-null) Long
+     */
+    private static final class Builder {
+        private final RRBTree.Builder longs;
+        private RRBTree.Builder boxed;
+
+        private Builder(RRBTree prefix) {
+            this.longs = new RRBTree.Builder(
+                                            prefix);
+        }
+
+        private void add(Object e) {
+            if (boxed == null && e instanceof Long) {
+                longs.addLong((Long) e);
+                return;
+            }
+            if (boxed == null)
+                boxed = new RRBTree.Builder(
+                                            objects());
+            boxed.add(e);
+        }
+
+        private Builder addAll(Builder other) {
+            if (boxed == null && other.boxed == null)
+                longs.addAll(other.longs);
+            else
+                boxed = new RRBTree.Builder(
+                                            objects().concat(other.objects()));
+            return this;
+        }
+
+        private RRBTree objects() {
+            if (boxed != null)
+                return boxed.build();
+            RRBTree.Builder builder = new RRBTree.Builder(
+                                                          RRBTree.empty(RRBTree.OBJECTS));
+            RRBTree.Cursor cursor = longs.build().new Cursor();
+            while (cursor.hasNext())
+                builder.add(cursor.nextLong());
+            return builder.build();
+        }
+
+        private PVector<Long> build() {
+            if (boxed == null)
+                return new LongPVector(
+                                      longs.build());
+            return new RRBPVector<>(
+                                    boxed.build());
+        }
+
+        /*
+         * an empty result may be mapped to any type, so is represented by a boxed vector - a non empty result holds
+         * Longs only if every element added was one
+         */
+        @SuppressWarnings("unchecked")
+        private <R> PVector<R> buildGeneric() {
+            if (boxed == null && longs.size() == 0)
+                return RRBPVector.emptyPVector();
+            return (PVector<R>) build();
+        }
+    }
+}
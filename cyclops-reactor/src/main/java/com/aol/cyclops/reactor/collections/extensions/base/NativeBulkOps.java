@@ -0,0 +1,46 @@
+package com.aol.cyclops.reactor.collections.extensions.base;
+
+import java.util.Collection;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Eager bulk operations implemented by persistent collection adapters using the underlying library's own (structure
+ * aware) map, filter, flatMap and foldLeft. The returned collections are adapters of the same type, so that chained
+ * operations also run natively.
+ *
+ * Lazy collections over a NativeBulkOps collection run map, filter and flatMap through a {@link NativeFlux}, and
+ * materialize the native result directly rather than rebuilding it element by element via a Reducer.
+ *
+ * @author johnmcclean
+ *
+ * @param <T> Element type
+ */
+public interface NativeBulkOps<T> {
+
+    /**
+     * @param fn Mapping function
+     * @return Collection of the same type with each element transformed by fn
+     */
+    <R> Collection<R> map(Function<? super T, ? extends R> fn);
+
+    /**
+     * @param p Filter predicate
+     * @return Collection of the same type containing the elements that match p
+     */
+    Collection<T> filter(Predicate<? super T> p);
+
+    /**
+     * @param fn Function that returns the elements to replace each element with
+     * @return Collection of the same type containing the elements returned by fn
+     */
+    <R> Collection<R> flatMap(Function<? super T, ? extends Iterable<? extends R>> fn);
+
+    /**
+     * @param identity Initial value
+     * @param fn Accumulating function, applied to the elements in order
+     * @return Accumulated value
+     */
+    <U> U foldLeft(U identity, BiFunction<U, ? super T, U> fn);
+}
@@ -0,0 +1,105 @@
+package com.aol.cyclops.reactor.collections.extensions.base;
+
+import java.util.Collection;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import com.aol.cyclops.control.ReactiveSeq;
+
+import reactor.core.publisher.Flux;
+
+/**
+ * A FusedFlux over a {@link NativeBulkOps} collection. map, filter and flatMap are applied by the collection's own
+ * library (when the Flux is iterated, subscribed to or collected), producing a new native collection rather than an
+ * operator chain. Other fused operations (limit, skip) are applied to the native result as usual.
+ *
+ * A Lazy Collection whose Reducer builds the same collection type materializes the native result directly.
+ *
+ * <pre>
+ * {@code
+ *    ScalaPVector.of(1,2,3)
+ *                .map(i->i*2)
+ *                .filter(i->i<5); //runs Vector#map and Vector#filter
+ * }
+ * </pre>
+ *
+ * @author johnmcclean
+ *
+ * @param <T> Type of elements emitted by this Flux
+ */
+public class NativeFlux<T> extends FusedFlux<T> {
+
+    private final Supplier<? extends Collection<T>> collection;
+
+    private NativeFlux(Supplier<? extends Collection<T>> collection) {
+        super((Iterable<T>) () -> collection.get()
+                                           .iterator(),
+              Function.identity(), null);
+        this.collection = collection;
+    }
+
+    /**
+     * @param collection NativeBulkOps collection to create a Flux over
+     * @return NativeFlux over the supplied collection
+     */
+    public static <T> NativeFlux<T> of(Collection<T> collection) {
+        return new NativeFlux<T>(
+                                 () -> collection);
+    }
+
+    /**
+     * @param collection Supplier of the NativeBulkOps collection to create a Flux over, called each time the Flux is
+     *            iterated or collected
+     * @return NativeFlux over the supplied collection
+     */
+    public static <T> NativeFlux<T> fromSupplier(Supplier<? extends Collection<T>> collection) {
+        return new NativeFlux<T>(
+                                 collection);
+    }
+
+    /**
+     * FlatMap the supplied Flux, using the native flatMap if the Flux is a NativeFlux
+     *
+     * @param flux Flux to flatMap
+     * @param fn Function that returns the elements to replace each element with
+     * @return FlatMapped Flux
+     */
+    public static <T, R> Flux<R> flatMap(Flux<T> flux, Function<? super T, ? extends Iterable<? extends R>> fn) {
+        if (flux instanceof NativeFlux)
+            return ((NativeFlux<T>) flux).fuseFlatMap(fn);
+        return flux.flatMap(fn.andThen(ReactiveSeq::fromIterable));
+    }
+
+    /**
+     * @return Native collection (computed on each call)
+     */
+    public Collection<T> get() {
+        return collection.get();
+    }
+
+    @Override
+    public <R> NativeFlux<R> fuseMap(Function<? super T, ? extends R> fn) {
+        return new NativeFlux<R>(
+                                 () -> ops().map(fn));
+    }
+
+    @Override
+    public NativeFlux<T> fuseFilter(Predicate<? super T> p) {
+        return new NativeFlux<T>(
+                                 () -> ops().filter(p));
+    }
+
+    /**
+     * @param fn Function that returns the elements to replace each element with
+     * @return NativeFlux that applies the native flatMap
+     */
+    public <R> NativeFlux<R> fuseFlatMap(Function<? super T, ? extends Iterable<? extends R>> fn) {
+        return new NativeFlux<R>(
+                                 () -> ops().flatMap(fn));
+    }
+
+    private NativeBulkOps<T> ops() {
+        return (NativeBulkOps<T>) collection.get();
+    }
+}
@@ -0,0 +1,66 @@
+package com.aol.cyclops.reactor.collections.extensions.base;
+
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Equality and hash code helpers for Map adapters over persistent (hash or tree based) maps, such as the Scala, Clojure
+ * and Javaslang PMaps.
+ *
+ * AbstractMap#equals walks this Map's entrySet, which some adapters have to materialize on every call. Here the other Map
+ * is walked instead and each entry is checked with this Map's (native) get / containsKey lookups.
+ *
+ * <pre>
+ * {@code
+ *   public boolean equals(Object o) {
+ *       return NativeLookups.equals(this, o);
+ *   }
+ * }
+ * </pre>
+ *
+ * @author johnmcclean
+ *
+ */
+public class NativeLookups {
+
+    /**
+     * Map equality (as defined by {@link Map#equals(Object)}) using the native lookups of the supplied Map
+     *
+     * @param map Map adapter with native get and containsKey implementations
+     * @param o Object to compare against
+     * @return true if o is a Map with the same mappings
+     */
+    public static boolean equals(Map<?, ?> map, Object o) {
+        if (o == map)
+            return true;
+        if (!(o instanceof Map))
+            return false;
+        Map<?, ?> other = (Map<?, ?>) o;
+        if (other.size() != map.size())
+            return false;
+        for (Map.Entry<?, ?> next : other.entrySet()) {
+            Object value = next.getValue();
+            if (value == null) {
+                if (map.get(next.getKey()) != null || !map.containsKey(next.getKey()))
+                    return false;
+            } else if (!value.equals(map.get(next.getKey())))
+                return false;
+        }
+        return true;
+    }
+
+    /**
+     * Map hash code (as defined by {@link Map#hashCode()}) computed from the keys and values, rather than from the hash
+     * codes of the entries themselves - which for some libraries (e.g. Clojure's MapEntry) do not follow
+     * {@link Map.Entry#hashCode()}
+     *
+     * @param map Map adapter
+     * @return Hash code of the Map
+     */
+    public static int hashCode(Map<?, ?> map) {
+        int hash = 0;
+        for (Map.Entry<?, ?> next : map.entrySet())
+            hash += Objects.hashCode(next.getKey()) ^ Objects.hashCode(next.getValue());
+        return hash;
+    }
+}
@@ -0,0 +1,69 @@
+package com.aol.cyclops.reactor.collections.extensions.base;
+
+import java.util.Map;
+import java.util.function.BiFunction;
+
+import org.pcollections.PMap;
+
+/**
+ * Bulk merging of a Map into a persistent Map. Implementations use the most efficient merge their library offers (e.g. a
+ * structural merge when both maps come from the same library, or a transient / builder for other inputs) rather than
+ * adding each entry in turn.
+ *
+ * <pre>
+ * {@code
+ *   PMap<String, Integer> totals = NativeMerge.merge(partition1, partition2, (a, b) -> a + b);
+ * }
+ * </pre>
+ *
+ * @author johnmcclean
+ *
+ * @param <K> Key type
+ * @param <V> Value type
+ */
+public interface NativeMerge<K, V> {
+
+    /**
+     * Merge the supplied Map into this one. Entries for keys only present in one of the maps are kept as they are, values
+     * for keys present in both are combined with the merge function.
+     *
+     * @param other Map to merge into this one
+     * @param mergeFn Combines the value in this Map (first parameter) with the value in other (second parameter)
+     * @return Merged Map
+     */
+    PMap<K, V> merge(Map<? extends K, ? extends V> other, BiFunction<? super V, ? super V, ? extends V> mergeFn);
+
+    /**
+     * Merge a Map into a PMap, using the native merge of the PMap (or of the PMap an ExtensiblePMapX wraps) if it has one,
+     * otherwise by adding each entry in turn
+     *
+     * @param map PMap to merge into
+     * @param other Map to merge into map
+     * @param mergeFn Combines the value in map (first parameter) with the value in other (second parameter)
+     * @return Merged Map
+     */
+    public static <K, V> PMap<K, V> merge(PMap<K, V> map, Map<? extends K, ? extends V> other,
+            BiFunction<? super V, ? super V, ? extends V> mergeFn) {
+        if (map instanceof NativeMerge)
+            return ((NativeMerge<K, V>) map).merge(other, mergeFn);
+        if (map instanceof ExtensiblePMapX)
+            return ((ExtensiblePMapX<K, V>) map).merge(other, mergeFn);
+        PMap<K, V> result = map;
+        for (Map.Entry<? extends K, ? extends V> next : other.entrySet()) {
+            K key = next.getKey();
+            result = result.plus(key, map.containsKey(key) ? mergeFn.apply(map.get(key), next.getValue()) : next.getValue());
+        }
+        return result;
+    }
+
+    /**
+     * @param map Map to unwrap
+     * @return The PMap backing the supplied Map if it is an ExtensiblePMapX, otherwise the Map itself - so that
+     *         implementations can detect (and natively merge) maps from their own library
+     */
+    public static <K, V> Map<K, V> unwrap(Map<K, V> map) {
+        if (map instanceof ExtensiblePMapX)
+            return ((ExtensiblePMapX<K, V>) map).underlying();
+        return map;
+    }
+}
@@ -0,0 +1,430 @@
+package com.aol.cyclops.reactor.collections.extensions.base;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collector;
+import java.util.stream.Stream;
+
+import org.jooq.lambda.tuple.Tuple2;
+import org.pcollections.PVector;
+
+import com.aol.cyclops.Reducer;
+import com.aol.cyclops.control.ReactiveSeq;
+import com.aol.cyclops.reactor.collections.extensions.persistent.LazyPVectorX;
+
+import reactor.core.publisher.Flux;
+
+/**
+ * A persistent vector implemented as a relaxed radix balanced (RRB) tree, with O(log n) concatenation, splitting
+ * (take / drop / subList) and insertion or removal at any index. Random access and update are O(log n) (with a
+ * branching factor of 32).
+ *
+ * The tree itself (see RRBTree) is shared with the primitive {@link IntPVector} and {@link LongPVector}.
+ *
+ * <pre>
+ * {@code
+ *   RRBPVector<Integer> vector = RRBPVector.fromIterable(ListX.range(0,1_000_000));
+ *   vector.plus(500_000,-1) //O(log n) insert
+ *         .concat(vector)  //O(log n) concatenation
+ *         .subList(10,20);  //O(log n) split
+ * }
+ * </pre>
+ *
+ * @author johnmcclean
+ *
+ * @param <T> Element type
+ */
+public class RRBPVector<T> extends AbstractList<T> implements PVector<T>, NativePlusLoop<T>, NativeBulkOps<T> {
+
+    private static final RRBPVector<?> EMPTY = new RRBPVector<>(
+                                                                RRBTree.empty(RRBTree.OBJECTS));
+
+    private final RRBTree tree;
+
+    RRBPVector(RRBTree tree) {
+        this.tree = tree;
+    }
+
+    /**
+     * Create a LazyPVectorX from a Stream
+     *
+     * @param stream to construct a LazyPVectorX from
+     * @return LazyPVectorX
+     */
+    public static <T> LazyPVectorX<T> fromStream(Stream<T> stream) {
+        return new LazyPVectorX<T>(
+                                   Flux.from(ReactiveSeq.fromStream(stream)), toPVector());
+    }
+
+    /**
+     * Create a LazyPVectorX that contains the Integers between start and end
+     *
+     * @param start Number of range to start from
+     * @param end Number for range to end at
+     * @return Range LazyPVectorX
+     */
+    public static LazyPVectorX<Integer> range(int start, int end) {
+        return fromStream(ReactiveSeq.range(start, end));
+    }
+
+    /**
+     * Create a LazyPVectorX that contains the Longs between start and end
+     *
+     * @param start Number of range to start from
+     * @param end Number for range to end at
+     * @return Range LazyPVectorX
+     */
+    public static LazyPVectorX<Long> rangeLong(long start, long end) {
+        return fromStream(ReactiveSeq.rangeLong(start, end));
+    }
+
+    /**
+     * Unfold a function into a LazyPVectorX
+     *
+     * <pre>
+     * {@code
+     *  RRBPVector.unfold(1,i->i<=6 ? Optional.of(Tuple.tuple(i,i+1)) : Optional.empty());
+     *
+     * //(1,2,3,4,5)
+     *
+     * }</pre>
+     *
+     * @param seed Initial value
+     * @param unfolder Iteratively applied function, terminated by an empty Optional
+     * @return LazyPVectorX generated by unfolder function
+     */
+    public static <U, T> LazyPVectorX<T> unfold(U seed, Function<? super U, Optional<Tuple2<T, U>>> unfolder) {
+        return fromStream(ReactiveSeq.unfold(seed, unfolder));
+    }
+
+    /**
+     * Generate a LazyPVectorX from the provided Supplier up to the provided limit number of times
+     *
+     * @param limit Max number of elements to generate
+     * @param s Supplier to generate LazyPVectorX elements
+     * @return LazyPVectorX generated from the provided Supplier
+     */
+    public static <T> LazyPVectorX<T> generate(long limit, Supplier<T> s) {
+        return fromStream(ReactiveSeq.generate(s)
+                                     .limit(limit));
+    }
+
+    /**
+     * Create a LazyPVectorX by iterative application of a function to an initial element up to the supplied limit number
+     * of times
+     *
+     * @param limit Max number of elements to generate
+     * @param seed Initial element
+     * @param f Iteratively applied to each element to generate the next element
+     * @return LazyPVectorX generated by iterative application
+     */
+    public static <T> LazyPVectorX<T> iterate(long limit, final T seed, final UnaryOperator<T> f) {
+        return fromStream(ReactiveSeq.iterate(seed, f)
+                                     .limit(limit));
+    }
+
+    /**
+     * <pre>
+     * {@code
+     * PVector<Integer> q = RRBPVector.<Integer>toPVector()
+                                      .mapReduce(Stream.of(1,2,3,4));
+     *
+     * }
+     * </pre>
+     * @return Reducer for PVector
+     */
+    public static <T> Reducer<PVector<T>> toPVector() {
+        return BuilderReducer.<T, PVector<T>> of(RRBPVector.emptyPVector(), (final PVector<T> a) -> b -> a.plusAll(b),
+                                                 (final T x) -> RRBPVector.<T> emptyPVector()
+                                                                          .plus(x),
+                                                 RRBPVector.<T> collector());
+    }
+
+    /**
+     * @return Collector that builds an RRBPVector bottom up, in O(n)
+     */
+    public static <T> Collector<T, ?, PVector<T>> collector() {
+        return Collector.<T, RRBTree.Builder, PVector<T>> of(() -> new RRBTree.Builder(
+                                                                                       EMPTY.tree),
+                                                             RRBTree.Builder::add, RRBTree.Builder::addAll,
+                                                             b -> new RRBPVector<T>(
+                                                                                    b.build()));
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T> RRBPVector<T> emptyPVector() {
+        return (RRBPVector<T>) EMPTY;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T> RRBPVector<T> fromIterable(Iterable<? extends T> it) {
+        if (it instanceof RRBPVector)
+            return (RRBPVector<T>) it;
+        RRBTree.Builder builder = new RRBTree.Builder(
+                                                      EMPTY.tree);
+        for (T next : it)
+            builder.add(next);
+        return new RRBPVector<>(
+                                builder.build());
+    }
+
+    public static <T> LazyPVectorX<T> lazyVector(RRBPVector<T> vector) {
+        return LazyPVectorX.fromPVector(vector, toPVector());
+    }
+
+    public static <T> LazyPVectorX<T> empty() {
+        return lazyVector(emptyPVector());
+    }
+
+    public static <T> LazyPVectorX<T> singleton(T t) {
+        return lazyVector(RRBPVector.<T> emptyPVector()
+                                    .plus(t));
+    }
+
+    @SafeVarargs
+    public static <T> LazyPVectorX<T> of(T... t) {
+        return lazyVector(fromIterable(Arrays.asList(t)));
+    }
+
+    @Override
+    public LazyPVectorX<T> plusLoop(int max, IntFunction<T> value) {
+        RRBTree.Builder builder = new RRBTree.Builder(
+                                                      tree);
+        for (int i = 0; i < max; i++)
+            builder.add(value.apply(i));
+        return lazyVector(new RRBPVector<>(
+                                           builder.build()));
+    }
+
+    @Override
+    public LazyPVectorX<T> plusLoop(Supplier<Optional<T>> supplier) {
+        RRBTree.Builder builder = new RRBTree.Builder(
+                                                      tree);
+        Optional<T> next = supplier.get();
+        while (next.isPresent()) {
+            builder.add(next.get());
+            next = supplier.get();
+        }
+        return lazyVector(new RRBPVector<>(
+                                           builder.build()));
+    }
+
+    /**
+     * @param other Vector to append to this one
+     * @return Vector containing the elements of this vector followed by those of other, in O(log n)
+     */
+    @SuppressWarnings("unchecked")
+    public RRBPVector<T> concat(RRBPVector<? extends T> other) {
+        if (other.tree.size() == 0)
+            return this;
+        if (tree.size() == 0)
+            return (RRBPVector<T>) other;
+        return new RRBPVector<>(
+                                tree.concat(other.tree));
+    }
+
+    /**
+     * @param n Number of elements to keep
+     * @return Vector containing the first n elements of this vector, in O(log n)
+     */
+    public RRBPVector<T> take(int n) {
+        if (n <= 0)
+            return emptyPVector();
+        if (n >= size())
+            return this;
+        return new RRBPVector<>(
+                                tree.take(n));
+    }
+
+    /**
+     * @param n Number of elements to remove
+     * @return Vector without the first n elements of this vector, in O(log n)
+     */
+    public RRBPVector<T> drop(int n) {
+        if (n <= 0)
+            return this;
+        if (n >= size())
+            return emptyPVector();
+        return new RRBPVector<>(
+                                tree.drop(n));
+    }
+
+    @Override
+    public RRBPVector<T> plus(T e) {
+        return new RRBPVector<>(
+                                tree.concat(RRBTree.leaf(RRBTree.OBJECTS, new Object[] { e })));
+    }
+
+    @Override
+    public RRBPVector<T> plusAll(Collection<? extends T> list) {
+        return concat(fromIterable(list));
+    }
+
+    @Override
+    public RRBPVector<T> with(int i, T e) {
+        checkIndex(i, size() - 1);
+        return new RRBPVector<>(
+                                tree.update(i, (leaf, pos) -> ((Object[]) leaf)[pos] = e));
+    }
+
+    @Override
+    public RRBPVector<T> plus(int i, T e) {
+        checkIndex(i, size());
+        return take(i).plus(e)
+                      .concat(drop(i));
+    }
+
+    @Override
+    public RRBPVector<T> plusAll(int i, Collection<? extends T> list) {
+        checkIndex(i, size());
+        return take(i).concat(fromIterable(list))
+                      .concat(drop(i));
+    }
+
+    @Override
+    public RRBPVector<T> minus(Object e) {
+        int i = indexOf(e);
+        if (i < 0)
+            return this;
+        return minus(i);
+    }
+
+    @Override
+    public RRBPVector<T> minusAll(Collection<?> list) {
+        Collection<?> toRemove = Removals.lookup(list);
+        RRBPVector<T> result = filter(e -> !toRemove.contains(e));
+        return result.size() == size() ? this : result;
+    }
+
+    @Override
+    public RRBPVector<T> minus(int i) {
+        checkIndex(i, size() - 1);
+        return take(i).concat(drop(i + 1));
+    }
+
+    @Override
+    public RRBPVector<T> subList(int start, int end) {
+        if (start < 0 || end > size() || start > end)
+            throw new IndexOutOfBoundsException(
+                                                "Range " + start + " to " + end + " is out of bounds - size : " + size());
+        return drop(start).take(end - start);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+        checkIndex(index, size() - 1);
+        return (T) tree.get(index);
+    }
+
+    @Override
+    public int size() {
+        return tree.size();
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        RRBTree.Cursor cursor = tree.new Cursor();
+        return new Iterator<T>() {
+
+            @Override
+            public boolean hasNext() {
+                return cursor.hasNext();
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public T next() {
+                return (T) cursor.next();
+            }
+        };
+    }
+
+    @Override
+    public Spliterator<T> spliterator() {
+        return LinkedLists.spliterator(iterator(), size());
+    }
+
+    @Override
+    public int indexOf(Object o) {
+        return LinkedLists.indexOf(iterator(), o);
+    }
+
+    @Override
+    public int lastIndexOf(Object o) {
+        return LinkedLists.lastIndexOf(iterator(), o);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return LinkedLists.equals(this, o);
+    }
+
+    @Override
+    public int hashCode() {
+        return super.hashCode();
+    }
+
+    @Override
+    public <R> RRBPVector<R> map(Function<? super T, ? extends R> fn) {
+        RRBTree.Builder builder = new RRBTree.Builder(
+                                                      EMPTY.tree);
+        for (T next : this)
+            builder.add(fn.apply(next));
+        return new RRBPVector<>(
+                                builder.build());
+    }
+
+    @Override
+    public RRBPVector<T> filter(Predicate<? super T> p) {
+        RRBTree.Builder builder = new RRBTree.Builder(
+                                                      EMPTY.tree);
+        for (T next : this)
+            if (p.test(next))
+                builder.add(next);
+        return new RRBPVector<>(
+                                builder.build());
+    }
+
+    @Override
+    public <R> RRBPVector<R> flatMap(Function<? super T, ? extends Iterable<? extends R>> fn) {
+        RRBTree.Builder builder = new RRBTree.Builder(
+                                                      EMPTY.tree);
+        for (T next : this)
+            for (R r : fn.apply(next))
+                builder.add(r);
+        return new RRBPVector<>(
+                                builder.build());
+    }
+
+    @Override
+    public <U> U foldLeft(U identity, BiFunction<U, ? super T, U> fn) {
+        U result = identity;
+        for (T next : this)
+            result = fn.apply(result, next);
+        return result;
+    }
+
+    /**
+     * @return Height of the tree (0 if all elements are held in a single leaf)
+     */
+    int height() {
+        return tree.height();
+    }
+
+    private void checkIndex(int i, int max) {
+        if (i < 0 || i > max)
+            throw new IndexOutOfBoundsException(
+                                                "Index " + i + " is out of bounds - size : " + size());
+    }
+}
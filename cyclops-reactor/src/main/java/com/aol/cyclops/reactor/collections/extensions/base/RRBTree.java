@@ -0,0 +1,490 @@
+package com.aol.cyclops.reactor.collections.extensions.base;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.ObjIntConsumer;
+
+/**
+ * Immutable relaxed radix balanced (RRB) tree shared by {@link RRBPVector} and the primitive {@link IntPVector} and
+ * {@link LongPVector}. Leaves are arrays (Object[], int[] or long[] - see {@link Leaves}), all other nodes are Branches
+ * of up to 32 children with a table of cumulative sizes, so that subtrees need not be full.
+ *
+ * Concatenation joins the right spine of the left tree with the left spine of the right tree, merging (and compacting)
+ * the nodes that meet at each level, take / drop copy a single path from the root. All three are O(log n).
+ *
+ * @author johnmcclean
+ *
+ */
+final class RRBTree {
+
+    static final int BITS = 5;
+    static final int WIDTH = 1 << BITS;
+
+    /**
+     * Creates and measures the leaf arrays of a single element type
+     */
+    interface Leaves {
+        Object create(int length);
+
+        int length(Object leaf);
+    }
+
+    static final Leaves OBJECTS = new Leaves() {
+        @Override
+        public Object create(int length) {
+            return new Object[length];
+        }
+
+        @Override
+        public int length(Object leaf) {
+            return ((Object[]) leaf).length;
+        }
+    };
+
+    static final Leaves INTS = new Leaves() {
+        @Override
+        public Object create(int length) {
+            return new int[length];
+        }
+
+        @Override
+        public int length(Object leaf) {
+            return ((int[]) leaf).length;
+        }
+    };
+
+    static final Leaves LONGS = new Leaves() {
+        @Override
+        public Object create(int length) {
+            return new long[length];
+        }
+
+        @Override
+        public int length(Object leaf) {
+            return ((long[]) leaf).length;
+        }
+    };
+
+    private final Leaves leaves;
+    private final Object root;
+    private final int height;
+    private final int size;
+
+    private RRBTree(Leaves leaves, Object root, int height, int size) {
+        this.leaves = leaves;
+        this.root = root;
+        this.height = height;
+        this.size = size;
+    }
+
+    private static final class Branch {
+        private final Object[] children;
+        private final int[] sizes;
+
+        private Branch(Object[] children, int[] sizes) {
+            this.children = children;
+            this.sizes = sizes;
+        }
+
+        private Branch(Leaves leaves, Object[] children, int height) {
+            this.children = children;
+            this.sizes = new int[children.length];
+            int total = 0;
+            for (int i = 0; i < children.length; i++) {
+                total += nodeSize(leaves, children[i], height - 1);
+                sizes[i] = total;
+            }
+        }
+
+        private int size() {
+            return sizes[sizes.length - 1];
+        }
+
+        /*
+         * each child holds at most WIDTH^height elements, so i >>> (BITS * height) is a lower bound for the child index
+         */
+        private int childIndex(int i, int height) {
+            int index = Math.min(i >>> (BITS * height), children.length - 1);
+            while (sizes[index] <= i)
+                index++;
+            return index;
+        }
+
+        private int offset(int index) {
+            return index == 0 ? 0 : sizes[index - 1];
+        }
+    }
+
+    static RRBTree empty(Leaves leaves) {
+        return new RRBTree(
+                           leaves, null, 0, 0);
+    }
+
+    /**
+     * @param leaves Leaf type
+     * @param leaf Array of at most 32 elements
+     * @return Tree holding the elements of the supplied leaf
+     */
+    static RRBTree leaf(Leaves leaves, Object leaf) {
+        return new RRBTree(
+                           leaves, leaf, 0, leaves.length(leaf));
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * @return Height of the tree (0 if all elements are held in a single leaf)
+     */
+    int height() {
+        return height;
+    }
+
+    Object get(int index) {
+        Object node = root;
+        int i = index;
+        for (int h = height; h > 0; h--) {
+            Branch branch = (Branch) node;
+            int child = branch.childIndex(i, h);
+            i -= branch.offset(child);
+            node = branch.children[child];
+        }
+        return ((Object[]) node)[i];
+    }
+
+    int getInt(int index) {
+        Object node = root;
+        int i = index;
+        for (int h = height; h > 0; h--) {
+            Branch branch = (Branch) node;
+            int child = branch.childIndex(i, h);
+            i -= branch.offset(child);
+            node = branch.children[child];
+        }
+        return ((int[]) node)[i];
+    }
+
+    long getLong(int index) {
+        Object node = root;
+        int i = index;
+        for (int h = height; h > 0; h--) {
+            Branch branch = (Branch) node;
+            int child = branch.childIndex(i, h);
+            i -= branch.offset(child);
+            node = branch.children[child];
+        }
+        return ((long[]) node)[i];
+    }
+
+    /**
+     * Path copying update of a single element
+     *
+     * @param index Index to update
+     * @param set Writes the new value into a copy of the leaf holding index, at the supplied position
+     * @return Updated tree
+     */
+    RRBTree update(int index, ObjIntConsumer<Object> set) {
+        return new RRBTree(
+                           leaves, update(root, height, index, set), height, size);
+    }
+
+    RRBTree concat(RRBTree other) {
+        if (other.size == 0)
+            return this;
+        if (size == 0)
+            return other;
+        int h = Math.max(height, other.height);
+        Object[] joined = join(lift(root, height, h), lift(other.root, other.height, h), h);
+        if (joined.length == 1)
+            return new RRBTree(
+                               leaves, joined[0], h, size + other.size);
+        return new RRBTree(
+                           leaves, new Branch(
+                                              leaves, joined, h + 1),
+                           h + 1, size + other.size);
+    }
+
+    /**
+     * @param n Number of elements to keep, between 1 and size - 1
+     * @return Tree of the first n elements
+     */
+    RRBTree take(int n) {
+        return normalize(take(root, height, n), n);
+    }
+
+    /**
+     * @param n Number of elements to remove, between 1 and size - 1
+     * @return Tree without the first n elements
+     */
+    RRBTree drop(int n) {
+        return normalize(drop(root, height, n), size - n);
+    }
+
+    private RRBTree normalize(Object root, int size) {
+        //splitting can leave single child nodes along the root path
+        int height = this.height;
+        while (height > 0 && ((Branch) root).children.length == 1) {
+            root = ((Branch) root).children[0];
+            height--;
+        }
+        return new RRBTree(
+                           leaves, root, height, size);
+    }
+
+    private static int nodeSize(Leaves leaves, Object node, int height) {
+        if (height == 0)
+            return leaves.length(node);
+        return ((Branch) node).size();
+    }
+
+    private Object lift(Object node, int from, int to) {
+        for (int h = from; h < to; h++)
+            node = new Branch(
+                              leaves, new Object[] { node }, h + 1);
+        return node;
+    }
+
+    /*
+     * Join two nodes of the same height, returning one or two nodes of that height. Only the nodes along the right spine
+     * of left and the left spine of right are copied, where they meet they are merged into as few (left packed) nodes as
+     * possible.
+     */
+    private Object[] join(Object left, Object right, int height) {
+        if (height == 0)
+            return pack(left, right);
+        Branch l = (Branch) left;
+        Branch r = (Branch) right;
+        Object[] middle = join(l.children[l.children.length - 1], r.children[0], height - 1);
+        Object[] children = new Object[l.children.length - 1 + middle.length + r.children.length - 1];
+        System.arraycopy(l.children, 0, children, 0, l.children.length - 1);
+        System.arraycopy(middle, 0, children, l.children.length - 1, middle.length);
+        System.arraycopy(r.children, 1, children, l.children.length - 1 + middle.length, r.children.length - 1);
+        if (children.length <= WIDTH)
+            return new Object[] { new Branch(
+                                             leaves, children, height) };
+        return new Object[] { new Branch(
+                                         leaves, Arrays.copyOfRange(children, 0, WIDTH), height),
+                              new Branch(
+                                         leaves, Arrays.copyOfRange(children, WIDTH, children.length), height) };
+    }
+
+    /*
+     * Leaves that fit into one are merged, otherwise the left leaf is filled from the right
+     */
+    private Object[] pack(Object left, Object right) {
+        int leftLength = leaves.length(left);
+        int rightLength = leaves.length(right);
+        int total = leftLength + rightLength;
+        if (total <= WIDTH) {
+            Object merged = copy(left, 0, leftLength, total);
+            System.arraycopy(right, 0, merged, leftLength, rightLength);
+            return new Object[] { merged };
+        }
+        if (leftLength == WIDTH)
+            return new Object[] { left, right };
+        Object full = copy(left, 0, leftLength, WIDTH);
+        System.arraycopy(right, 0, full, leftLength, WIDTH - leftLength);
+        return new Object[] { full, copy(right, WIDTH - leftLength, rightLength - (WIDTH - leftLength),
+                                         rightLength - (WIDTH - leftLength)) };
+    }
+
+    private Object copy(Object leaf, int from, int length, int capacity) {
+        Object copy = leaves.create(capacity);
+        System.arraycopy(leaf, from, copy, 0, length);
+        return copy;
+    }
+
+    private Object take(Object node, int height, int n) {
+        if (height == 0) {
+            return n == leaves.length(node) ? node : copy(node, 0, n, n);
+        }
+        Branch branch = (Branch) node;
+        int index = branch.childIndex(n - 1, height);
+        Object[] children = Arrays.copyOf(branch.children, index + 1);
+        int[] sizes = Arrays.copyOf(branch.sizes, index + 1);
+        children[index] = take(branch.children[index], height - 1, n - branch.offset(index));
+        sizes[index] = n;
+        return new Branch(
+                          children, sizes);
+    }
+
+    private Object drop(Object node, int height, int n) {
+        if (height == 0) {
+            int length = leaves.length(node);
+            return n == 0 ? node : copy(node, n, length - n, length - n);
+        }
+        Branch branch = (Branch) node;
+        int index = branch.childIndex(n, height);
+        Object[] children = Arrays.copyOfRange(branch.children, index, branch.children.length);
+        int[] sizes = new int[children.length];
+        for (int i = 0; i < sizes.length; i++)
+            sizes[i] = branch.sizes[index + i] - n;
+        children[0] = drop(branch.children[index], height - 1, n - branch.offset(index));
+        return new Branch(
+                          children, sizes);
+    }
+
+    private Object update(Object node, int height, int i, ObjIntConsumer<Object> set) {
+        if (height == 0) {
+            int length = leaves.length(node);
+            Object leaf = copy(node, 0, length, length);
+            set.accept(leaf, i);
+            return leaf;
+        }
+        Branch branch = (Branch) node;
+        int index = branch.childIndex(i, height);
+        Object[] children = branch.children.clone();
+        children[index] = update(children[index], height - 1, i - branch.offset(index), set);
+        return new Branch(
+                          children, branch.sizes);
+    }
+
+    /**
+     * Walks the leaves from left to right, holding the path from the root to the current leaf
+     */
+    final class Cursor {
+        private final Branch[] path = new Branch[height];
+        private final int[] positions = new int[height];
+        private Object leaf;
+        private int index;
+        private int remaining = size;
+
+        Cursor() {
+            if (size > 0)
+                descend(0, root);
+        }
+
+        private void descend(int depth, Object node) {
+            for (int d = depth; d < height; d++) {
+                path[d] = (Branch) node;
+                positions[d] = 0;
+                node = path[d].children[0];
+            }
+            leaf = node;
+            index = 0;
+        }
+
+        boolean hasNext() {
+            return remaining > 0;
+        }
+
+        /*
+         * moves to the next element, returning its position in the current leaf
+         */
+        private int advance() {
+            if (remaining <= 0)
+                throw new NoSuchElementException();
+            if (index == leaves.length(leaf)) {
+                int d = height - 1;
+                while (positions[d] + 1 == path[d].children.length)
+                    d--;
+                positions[d]++;
+                descend(d + 1, path[d].children[positions[d]]);
+            }
+            remaining--;
+            return index++;
+        }
+
+        Object next() {
+            int i = advance();
+            return ((Object[]) leaf)[i];
+        }
+
+        int nextInt() {
+            int i = advance();
+            return ((int[]) leaf)[i];
+        }
+
+        long nextLong() {
+            int i = advance();
+            return ((long[]) leaf)[i];
+        }
+    }
+
+    /**
+     * Builds full leaves (and full nodes above them) bottom up, and appends them to a prefix tree, in O(n)
+     */
+    static final class Builder {
+        private final Leaves leaves;
+        private RRBTree prefix;
+        private final List<Object> full = new ArrayList<>();
+        private Object leaf;
+        private int leafSize = WIDTH;
+        private int count = 0;
+
+        Builder(RRBTree prefix) {
+            this.leaves = prefix.leaves;
+            this.prefix = prefix;
+        }
+
+        /*
+         * returns the position in the current leaf to write the next element to
+         */
+        private int slot() {
+            if (leafSize == WIDTH) {
+                if (leaf != null)
+                    full.add(leaf);
+                leaf = leaves.create(WIDTH);
+                leafSize = 0;
+            }
+            count++;
+            return leafSize++;
+        }
+
+        void add(Object e) {
+            int i = slot();
+            ((Object[]) leaf)[i] = e;
+        }
+
+        void addInt(int e) {
+            int i = slot();
+            ((int[]) leaf)[i] = e;
+        }
+
+        void addLong(long e) {
+            int i = slot();
+            ((long[]) leaf)[i] = e;
+        }
+
+        int size() {
+            return prefix.size + count;
+        }
+
+        Builder addAll(Builder other) {
+            prefix = build().concat(other.build());
+            full.clear();
+            leaf = null;
+            leafSize = WIDTH;
+            count = 0;
+            return this;
+        }
+
+        RRBTree build() {
+            if (count == 0)
+                return prefix;
+            List<Object> level = new ArrayList<>(
+                                                 full);
+            Object last = leafSize == WIDTH ? leaf : leaves.create(leafSize);
+            if (last != leaf)
+                System.arraycopy(leaf, 0, last, 0, leafSize);
+            level.add(last);
+            int height = 0;
+            while (level.size() > 1) {
+                height++;
+                List<Object> parents = new ArrayList<>(
+                                                       (level.size() + WIDTH - 1) / WIDTH);
+                for (int i = 0; i < level.size(); i += WIDTH)
+                    parents.add(new Branch(
+                                           leaves, level.subList(i, Math.min(i + WIDTH, level.size()))
+                                                        .toArray(),
+                                           height));
+                level = parents;
+            }
+            return prefix.concat(new RRBTree(
+                                             leaves, level.get(0), height, count));
+        }
+    }
+}
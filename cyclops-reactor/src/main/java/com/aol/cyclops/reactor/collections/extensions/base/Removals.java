@@ -0,0 +1,37 @@
+package com.aol.cyclops.reactor.collections.extensions.base;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Helpers for the minusAll implementations of the persistent collection adapters.
+ *
+ * minusAll checks each element of the collection against the elements to remove. If contains on the argument is O(n)
+ * (as for a List), removal is O(n * m), so the argument is hashed once first.
+ *
+ * <pre>
+ * {@code
+ *   public PVector<T> minusAll(Collection<?> list) {
+ *       Collection<?> toRemove = Removals.lookup(list);
+ *       return filter(next -> !toRemove.contains(next));
+ *   }
+ * }
+ * </pre>
+ *
+ * @author johnmcclean
+ *
+ */
+public class Removals {
+
+    /**
+     * @param toRemove Elements passed to minusAll
+     * @return toRemove if it is already a Set, otherwise a HashSet of its elements
+     */
+    public static Collection<?> lookup(Collection<?> toRemove) {
+        if (toRemove instanceof Set)
+            return toRemove;
+        return new HashSet<>(
+                             toRemove);
+    }
+}
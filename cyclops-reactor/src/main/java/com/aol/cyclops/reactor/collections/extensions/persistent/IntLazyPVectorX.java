@@ -0,0 +1,128 @@
+package com.aol.cyclops.reactor.collections.extensions.persistent;
+
+import java.util.function.IntPredicate;
+import java.util.function.IntUnaryOperator;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+import org.pcollections.PVector;
+
+import com.aol.cyclops.reactor.collections.extensions.base.IntPVector;
+import com.aol.cyclops.reactor.collections.extensions.base.NativeFlux;
+
+import reactor.core.publisher.Flux;
+
+/**
+ * A LazyPVectorX of unboxed ints, backed by an {@link IntPVector}. The int operations (getInt, intStream, sumInt,
+ * filterInt, mapInt ...) run directly against the IntPVector without boxing - filterInt and mapInt are lazy, like the
+ * other LazyPVectorX operations, and are only executed when the data is accessed.
+ *
+ * All LazyPVectorX operations remain available, results that are not ints (e.g. after mapping to a String) are held in a
+ * boxed RRBPVector.
+ *
+ * <pre>
+ * {@code
+ *    IntLazyPVectorX.range(0,1_000_000)
+ *                   .filterInt(i->i%2==0)
+ *                   .sumInt();
+ * }
+ * </pre>
+ *
+ * @author johnmcclean
+ *
+ */
+public class IntLazyPVectorX extends LazyPVectorX<Integer> {
+
+    private IntLazyPVectorX(Flux<Integer> flux) {
+        super(flux, IntPVector.toPVector());
+    }
+
+    public static IntLazyPVectorX fromPVector(IntPVector vector) {
+        return new IntLazyPVectorX(
+                                   NativeFlux.of(vector));
+    }
+
+    static IntLazyPVectorX defer(Supplier<IntPVector> vector) {
+        return new IntLazyPVectorX(
+                                   NativeFlux.fromSupplier(vector));
+    }
+
+    public static IntLazyPVectorX empty() {
+        return fromPVector(IntPVector.emptyPVector());
+    }
+
+    public static IntLazyPVectorX ofInts(int... values) {
+        return fromPVector(IntPVector.fromArray(values));
+    }
+
+    public static IntLazyPVectorX fromIntStream(IntStream stream) {
+        return fromPVector(IntPVector.fromIntStream(stream));
+    }
+
+    /**
+     * Create an IntLazyPVectorX that contains the ints between start and end
+     *
+     * @param start Number of range to start from
+     * @param end Number for range to end at
+     * @return Range IntLazyPVectorX
+     */
+    public static IntLazyPVectorX range(int start, int end) {
+        return defer(() -> IntPVector.fromIntStream(IntStream.range(start, end)));
+    }
+
+    /**
+     * @return Materialized IntPVector (converted from the boxed values, if they are no longer held unboxed)
+     */
+    public IntPVector ints() {
+        PVector<Integer> vector = getVector();
+        if (vector instanceof IntPVector)
+            return (IntPVector) vector;
+        return IntPVector.fromIterable(vector);
+    }
+
+    public int getInt(int index) {
+        return ints().getInt(index);
+    }
+
+    public IntStream intStream() {
+        return ints().intStream();
+    }
+
+    /**
+     * Unboxed sum, see also {@link #sum()} which returns an Optional of the boxed total
+     *
+     * @return Sum of all elements, as a long so that large vectors do not overflow
+     */
+    public long sumInt() {
+        return ints().sum();
+    }
+
+    public int[] toIntArray() {
+        return ints().toIntArray();
+    }
+
+    public IntLazyPVectorX filterInt(IntPredicate p) {
+        return defer(() -> ints().filterInt(p));
+    }
+
+    public IntLazyPVectorX mapInt(IntUnaryOperator fn) {
+        return defer(() -> ints().mapInt(fn));
+    }
+
+    public IntLazyPVectorX plusInt(int e) {
+        return fromPVector(ints().plusInt(e));
+    }
+
+    public IntLazyPVectorX withInt(int i, int e) {
+        return fromPVector(ints().withInt(i, e));
+    }
+
+    /* (non-Javadoc)
+     * @see com.aol.cyclops.reactor.collections.extensions.persistent.LazyPVectorX#materialize()
+     */
+    @Override
+    public IntLazyPVectorX materialize() {
+        super.materialize();
+        return this;
+    }
+}
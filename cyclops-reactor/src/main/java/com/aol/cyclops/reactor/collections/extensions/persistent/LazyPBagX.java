@@ -40,6 +40,7 @@ import com.aol.cyclops.data.collections.extensions.persistent.PBagX;
 import com.aol.cyclops.data.collections.extensions.standard.ListX;
 import com.aol.cyclops.reactor.Fluxes;
 import com.aol.cyclops.reactor.collections.extensions.base.AbstractFluentCollectionX;
+import com.aol.cyclops.reactor.collections.extensions.base.FusedFlux;
 import com.aol.cyclops.reactor.collections.extensions.base.LazyFluentCollection;
 import com.aol.cyclops.reactor.collections.extensions.base.LazyFluentCollectionX;
 
@@ -47,6 +48,7 @@ import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 /**
  * An extended Bag type
@@ -269,7 +271,7 @@ public class LazyPBagX<T> extends AbstractFluentCollectionX<T>implements PBagX<T
                                     (PBag<T>) it, collector);
 
         return new LazyPBagX<T>(
-                                Flux.fromIterable(it), collector);
+                                FusedFlux.of(it), collector);
     }
 
     private LazyPBagX(PBag<T> list, Reducer<PBag<T>> collector) {
@@ -293,7 +295,7 @@ public class LazyPBagX<T> extends AbstractFluentCollectionX<T>implements PBagX<T
     private LazyPBagX(Flux<T> stream, Reducer<PBag<T>> collector) {
         this.collector = collector;
         this.lazy = new PersistentLazyCollection<>(
-                                                   null, stream, Reducers.toPBag());
+                                                   null, stream, collector);
     }
 
     private LazyPBagX(Flux<T> stream) {
@@ -1698,4 +1700,13 @@ public class LazyPBagX<T> extends AbstractFluentCollectionX<T>implements PBagX<T
        return this;
     }
 
+    /* (non-Javadoc)
+     * @see com.aol.cyclops.reactor.collections.extensions.base.LazyFluentCollectionX#materializeAsync()
+     */
+    @Override
+    public Mono<LazyPBagX<T>> materializeAsync() {
+        return this.lazy.materializeAsync()
+                        .map(c -> this);
+    }
+
 }
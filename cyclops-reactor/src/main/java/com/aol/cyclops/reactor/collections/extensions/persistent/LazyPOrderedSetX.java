@@ -39,6 +39,7 @@ import com.aol.cyclops.data.collections.extensions.persistent.POrderedSetX;
 import com.aol.cyclops.data.collections.extensions.standard.ListX;
 import com.aol.cyclops.reactor.Fluxes;
 import com.aol.cyclops.reactor.collections.extensions.base.AbstractFluentCollectionX;
+import com.aol.cyclops.reactor.collections.extensions.base.FusedFlux;
 import com.aol.cyclops.reactor.collections.extensions.base.LazyFluentCollection;
 import com.aol.cyclops.reactor.collections.extensions.base.NativePlusLoop;
 
@@ -46,6 +47,7 @@ import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 /**
  * An extended OrderedSet type {@see java.util.Set}
@@ -285,7 +287,7 @@ public class LazyPOrderedSetX<T> extends AbstractFluentCollectionX<T>implements
                                            (POrderedSet<T>) it, collector);
 
         return new LazyPOrderedSetX<T>(
-                                       Flux.fromIterable(it), collector);
+                                       FusedFlux.of(it), collector);
     }
 
     private LazyPOrderedSetX(POrderedSet<T> list, Reducer<POrderedSet<T>> collector) {
@@ -309,7 +311,7 @@ public class LazyPOrderedSetX<T> extends AbstractFluentCollectionX<T>implements
     public LazyPOrderedSetX(Flux<T> stream, Reducer<POrderedSet<T>> collector) {
         this.collector = collector;
         this.lazy = new PersistentLazyCollection<>(
-                                                   null, stream, Reducers.toPOrderedSet());
+                                                   null, stream, collector);
     }
 
     private LazyPOrderedSetX(Flux<T> stream) {
@@ -1739,4 +1741,13 @@ public class LazyPOrderedSetX<T> extends AbstractFluentCollectionX<T>implements
        return this;
     }
 
+    /* (non-Javadoc)
+     * @see com.aol.cyclops.reactor.collections.extensions.base.LazyFluentCollectionX#materializeAsync()
+     */
+    @Override
+    public Mono<LazyPOrderedSetX<T>> materializeAsync() {
+        return this.lazy.materializeAsync()
+                        .map(c -> this);
+    }
+
 }
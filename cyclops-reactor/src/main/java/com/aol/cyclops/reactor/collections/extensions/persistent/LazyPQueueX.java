@@ -39,6 +39,7 @@ import com.aol.cyclops.data.collections.extensions.persistent.PQueueX;
 import com.aol.cyclops.data.collections.extensions.standard.ListX;
 import com.aol.cyclops.reactor.Fluxes;
 import com.aol.cyclops.reactor.collections.extensions.base.AbstractFluentCollectionX;
+import com.aol.cyclops.reactor.collections.extensions.base.FusedFlux;
 import com.aol.cyclops.reactor.collections.extensions.base.LazyFluentCollection;
 import com.aol.cyclops.reactor.collections.extensions.base.NativePlusLoop;
 
@@ -46,6 +47,7 @@ import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 /**
  * An extended Queue type {@see java.util.Queue}
@@ -280,7 +282,7 @@ public class LazyPQueueX<T> extends AbstractFluentCollectionX<T>implements PQueu
                                       (PQueue<T>) it, collector);
 
         return new LazyPQueueX<T>(
-                                  Flux.fromIterable(it), collector);
+                                  FusedFlux.of(it), collector);
     }
 
     private LazyPQueueX(PQueue<T> list, Reducer<PQueue<T>> collector) {
@@ -304,7 +306,7 @@ public class LazyPQueueX<T> extends AbstractFluentCollectionX<T>implements PQueu
     public LazyPQueueX(Flux<T> stream, Reducer<PQueue<T>> collector) {
         this.collector = collector;
         this.lazy = new PersistentLazyCollection<>(
-                                                   null, stream, Reducers.toPQueue());
+                                                   null, stream, collector);
     }
 
     private LazyPQueueX(Flux<T> stream) {
@@ -1767,4 +1769,13 @@ public class LazyPQueueX<T> extends AbstractFluentCollectionX<T>implements PQueu
        return this;
     }
 
+    /* (non-Javadoc)
+     * @see com.aol.cyclops.reactor.collections.extensions.base.LazyFluentCollectionX#materializeAsync()
+     */
+    @Override
+    public Mono<LazyPQueueX<T>> materializeAsync() {
+        return this.lazy.materializeAsync()
+                        .map(c -> this);
+    }
+
 }
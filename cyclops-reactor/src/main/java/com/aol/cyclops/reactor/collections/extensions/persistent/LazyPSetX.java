@@ -40,6 +40,7 @@ import com.aol.cyclops.data.collections.extensions.persistent.PSetX;
 import com.aol.cyclops.data.collections.extensions.standard.ListX;
 import com.aol.cyclops.reactor.Fluxes;
 import com.aol.cyclops.reactor.collections.extensions.base.AbstractFluentCollectionX;
+import com.aol.cyclops.reactor.collections.extensions.base.FusedFlux;
 import com.aol.cyclops.reactor.collections.extensions.base.LazyFluentCollection;
 import com.aol.cyclops.reactor.collections.extensions.base.NativePlusLoop;
 
@@ -47,6 +48,7 @@ import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 /**
  * An extended Set type {@see java.util.Set}
@@ -285,7 +287,7 @@ public class LazyPSetX<T> extends AbstractFluentCollectionX<T>implements PSetX<T
                                     (PSet<T>) it, collector);
 
         return new LazyPSetX<T>(
-                                Flux.fromIterable(it), collector);
+                                FusedFlux.of(it), collector);
     }
 
     private LazyPSetX(PSet<T> list, Reducer<PSet<T>> collector) {
@@ -309,7 +311,7 @@ public class LazyPSetX<T> extends AbstractFluentCollectionX<T>implements PSetX<T
     public LazyPSetX(Flux<T> stream, Reducer<PSet<T>> collector) {
         this.collector = collector;
         this.lazy = new PersistentLazyCollection<>(
-                                                   null, stream, Reducers.toPSet());
+                                                   null, stream, collector);
     }
 
     private LazyPSetX(Flux<T> stream) {
@@ -1715,4 +1717,13 @@ public class LazyPSetX<T> extends AbstractFluentCollectionX<T>implements PSetX<T
        this.lazy.get();
        return this;
     }
+
+    /* (non-Javadoc)
+     * @see com.aol.cyclops.reactor.collections.extensions.base.LazyFluentCollectionX#materializeAsync()
+     */
+    @Override
+    public Mono<LazyPSetX<T>> materializeAsync() {
+        return this.lazy.materializeAsync()
+                        .map(c -> this);
+    }
 }
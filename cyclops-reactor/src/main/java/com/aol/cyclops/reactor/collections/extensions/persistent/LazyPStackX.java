@@ -39,6 +39,7 @@ import com.aol.cyclops.data.collections.extensions.persistent.PStackX;
 import com.aol.cyclops.data.collections.extensions.standard.ListX;
 import com.aol.cyclops.reactor.Fluxes;
 import com.aol.cyclops.reactor.collections.extensions.base.AbstractFluentCollectionX;
+import com.aol.cyclops.reactor.collections.extensions.base.FusedFlux;
 import com.aol.cyclops.reactor.collections.extensions.base.LazyFluentCollection;
 import com.aol.cyclops.reactor.collections.extensions.base.NativePlusLoop;
 
@@ -47,6 +48,7 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.experimental.Wither;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 /**
  * An extended Persistent List type {@see java.util.List}
@@ -292,7 +294,7 @@ public class LazyPStackX<T> extends AbstractFluentCollectionX<T>implements PStac
                                       (PStack<T>) it, collector);
 
         return new LazyPStackX<T>(
-                                  Flux.fromIterable(it), collector);
+                                  FusedFlux.of(it), collector);
     }
 
     private LazyPStackX(PStack<T> list, Reducer<PStack<T>> collector) {
@@ -321,7 +323,7 @@ public class LazyPStackX<T> extends AbstractFluentCollectionX<T>implements PStac
         this.efficientOps = true;
         this.collector = collector;
         this.lazy = new PersistentLazyCollection<>(
-                                                   null, stream, Reducers.toPStack());
+                                                   null, stream, collector);
     }
 
     private LazyPStackX(Flux<T> stream) {
@@ -1874,4 +1876,22 @@ public class LazyPStackX<T> extends AbstractFluentCollectionX<T>implements PStac
        this.lazy.get();
        return this;
     }
+
+    /* (non-Javadoc)
+     * @see com.aol.cyclops.reactor.collections.extensions.base.LazyFluentCollectionX#materializeAsync()
+     */
+    @Override
+    public Mono<LazyPStackX<T>> materializeAsync() {
+        return this.lazy.materializeAsync()
+                        .map(c -> this);
+    }
+
+    /**
+     * @param index Index of element to retrieve
+     * @return Mono that emits the element at the specified index, once materialized, without blocking the calling thread
+     */
+    public Mono<T> getAsync(int index) {
+        return this.lazy.materializeAsync()
+                        .map(c -> c.get(index));
+    }
 }
@@ -16,6 +16,8 @@ import java.util.function.Function;
 import java.util.function.IntFunction;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 import java.util.function.UnaryOperator;
 import java.util.stream.Collector;
 import java.util.stream.Collectors;
@@ -39,7 +41,11 @@ import com.aol.cyclops.data.collections.extensions.persistent.PVectorX;
 import com.aol.cyclops.data.collections.extensions.standard.ListX;
 import com.aol.cyclops.reactor.Fluxes;
 import com.aol.cyclops.reactor.collections.extensions.base.AbstractFluentCollectionX;
+import com.aol.cyclops.reactor.collections.extensions.base.FusedFlux;
+import com.aol.cyclops.reactor.collections.extensions.base.IntPVector;
 import com.aol.cyclops.reactor.collections.extensions.base.LazyFluentCollection;
+import com.aol.cyclops.reactor.collections.extensions.base.LongPVector;
+import com.aol.cyclops.reactor.collections.extensions.base.NativeBulkOps;
 import com.aol.cyclops.reactor.collections.extensions.base.NativePlusLoop;
 
 import lombok.AccessLevel;
@@ -47,6 +53,7 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.experimental.Wither;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 /**
  * An extended List type {@see java.util.List}. 
@@ -130,7 +137,7 @@ public class LazyPVectorX<T> extends AbstractFluentCollectionX<T>implements PVec
      * @return Range ListX
      */
     public static LazyPVectorX<Integer> range(int start, int end) {
-        return fromStreamS(ReactiveSeq.range(start, end));
+        return intRange(start, end);
     }
 
     /**
@@ -143,7 +150,33 @@ public class LazyPVectorX<T> extends AbstractFluentCollectionX<T>implements PVec
      * @return Range ListX
      */
     public static LazyPVectorX<Long> rangeLong(long start, long end) {
-        return fromStreamS(ReactiveSeq.rangeLong(start, end));
+        return longRange(start, end);
+    }
+
+    /**
+     * Create an IntLazyPVectorX that contains the Integers between start and end, held unboxed in an IntPVector
+     * 
+     * @param start
+     *            Number of range to start from
+     * @param end
+     *            Number for range to end at
+     * @return Range IntLazyPVectorX
+     */
+    public static IntLazyPVectorX intRange(int start, int end) {
+        return IntLazyPVectorX.range(start, end);
+    }
+
+    /**
+     * Create a LongLazyPVectorX that contains the Longs between start and end, held unboxed in a LongPVector
+     * 
+     * @param start
+     *            Number of range to start from
+     * @param end
+     *            Number for range to end at
+     * @return Range LongLazyPVectorX
+     */
+    public static LongLazyPVectorX longRange(long start, long end) {
+        return LongLazyPVectorX.range(start, end);
     }
 
     /**
@@ -287,7 +320,7 @@ public class LazyPVectorX<T> extends AbstractFluentCollectionX<T>implements PVec
                                        (PVector<T>) it, collector);
 
         return new LazyPVectorX<T>(
-                                   Flux.fromIterable(it), collector);
+                                   FusedFlux.of(it), collector);
     }
 
     private LazyPVectorX(PVector<T> list, Reducer<PVector<T>> collector) {
@@ -313,7 +346,7 @@ public class LazyPVectorX<T> extends AbstractFluentCollectionX<T>implements PVec
     public LazyPVectorX(Flux<T> stream, Reducer<PVector<T>> collector) {
         this.collector = collector;
         this.lazy = new PersistentLazyCollection<>(
-                                                   null, stream, Reducers.toPVector());
+                                                   null, stream, collector);
     }
 
     private LazyPVectorX(Flux<T> stream) {
@@ -674,9 +707,9 @@ public class LazyPVectorX<T> extends AbstractFluentCollectionX<T>implements PVec
     }
 
     /**
-     * @return PStack
+     * @return PVector (materialized on first access)
      */
-    private PVector<T> getVector() {
+    public PVector<T> getVector() {
         return lazy.get();
     }
 
@@ -689,7 +722,16 @@ public class LazyPVectorX<T> extends AbstractFluentCollectionX<T>implements PVec
     @Override
     public <X> LazyPVectorX<X> stream(Flux<X> stream) {
         return new LazyPVectorX<X>(
-                                   stream);
+                                   stream, derivedCollector());
+    }
+
+    /*
+     * The vector Reducers (pCollections, the backend adapters and the Int / Long vectors, which fall back to a boxed
+     * RRBPVector) build from elements of any type, so a vector derived from this one keeps its backend
+     */
+    @SuppressWarnings("unchecked")
+    private <X> Reducer<PVector<X>> derivedCollector() {
+        return (Reducer<PVector<X>>) (Reducer<?>) collector;
     }
 
     /*
@@ -763,6 +805,64 @@ public class LazyPVectorX<T> extends AbstractFluentCollectionX<T>implements PVec
         return (LazyPVectorX<R>) super.flatMap(mapper);
     }
 
+    /**
+     * Lazily map each element to an int, into an unboxed IntLazyPVectorX
+     *
+     * <pre>
+     * {@code
+     *    LazyPVectorX.of("a","bb","ccc")
+     *                .mapToInt(String::length)
+     *                .sumInt(); //6
+     * }
+     * </pre>
+     *
+     * @param mapper Function to an int
+     * @return IntLazyPVectorX of the mapped values
+     */
+    public IntLazyPVectorX mapToInt(ToIntFunction<? super T> mapper) {
+        return IntLazyPVectorX.defer(() -> IntPVector.fromIntStream(getVector().stream()
+                                                                               .mapToInt(mapper)));
+    }
+
+    /**
+     * Lazily map each element to a long, into an unboxed LongLazyPVectorX
+     *
+     * @param mapper Function to a long
+     * @return LongLazyPVectorX of the mapped values
+     */
+    public LongLazyPVectorX mapToLong(ToLongFunction<? super T> mapper) {
+        return LongLazyPVectorX.defer(() -> LongPVector.fromLongStream(getVector().stream()
+                                                                                  .mapToLong(mapper)));
+    }
+
+    /**
+     * Left fold over this vector, using the native foldLeft of the underlying vector where available (see
+     * {@link NativeBulkOps})
+     *
+     * @see com.aol.cyclops.types.Foldable#reduce(java.lang.Object, java.util.function.BiFunction)
+     */
+    @Override
+    public <U> U reduce(U identity, BiFunction<U, ? super T, U> accumulator) {
+        PVector<T> vector = getVector();
+        if (vector instanceof NativeBulkOps)
+            return ((NativeBulkOps<T>) vector).foldLeft(identity, accumulator);
+        return PVectorX.super.reduce(identity, accumulator);
+    }
+
+    /**
+     * Left fold over this vector, using the native foldLeft of the underlying vector where available (see
+     * {@link NativeBulkOps})
+     *
+     * @see com.aol.cyclops.types.Foldable#reduce(java.lang.Object, java.util.function.BinaryOperator)
+     */
+    @Override
+    public T reduce(T identity, BinaryOperator<T> accumulator) {
+        PVector<T> vector = getVector();
+        if (vector instanceof NativeBulkOps)
+            return ((NativeBulkOps<T>) vector).foldLeft(identity, accumulator);
+        return PVectorX.super.reduce(identity, accumulator);
+    }
+
     /*
      * (non-Javadoc)
      * 
@@ -1893,4 +1993,22 @@ public class LazyPVectorX<T> extends AbstractFluentCollectionX<T>implements PVec
        this.lazy.get();
        return this;
     }
+
+    /* (non-Javadoc)
+     * @see com.aol.cyclops.reactor.collections.extensions.base.LazyFluentCollectionX#materializeAsync()
+     */
+    @Override
+    public Mono<LazyPVectorX<T>> materializeAsync() {
+        return this.lazy.materializeAsync()
+                        .map(c -> this);
+    }
+
+    /**
+     * @param index Index of element to retrieve
+     * @return Mono that emits the element at the specified index, once materialized, without blocking the calling thread
+     */
+    public Mono<T> getAsync(int index) {
+        return this.lazy.materializeAsync()
+                        .map(c -> c.get(index));
+    }
 }
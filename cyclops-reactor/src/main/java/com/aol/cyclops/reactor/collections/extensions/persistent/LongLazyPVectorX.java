@@ -0,0 +1,128 @@
+package com.aol.cyclops.reactor.collections.extensions.persistent;
+
+import java.util.function.LongPredicate;
+import java.util.function.LongUnaryOperator;
+import java.util.function.Supplier;
+import java.util.stream.LongStream;
+
+import org.pcollections.PVector;
+
+import com.aol.cyclops.reactor.collections.extensions.base.LongPVector;
+import com.aol.cyclops.reactor.collections.extensions.base.NativeFlux;
+
+import reactor.core.publisher.Flux;
+
+/**
+ * A LazyPVectorX of unboxed longs, backed by an {@link LongPVector}. The long operations (getLong, longStream, sumLong,
+ * filterLong, mapLong ...) run directly against the LongPVector without boxing - filterLong and mapLong are lazy, like
+ * the other LazyPVectorX operations, and are only executed when the data is accessed.
+ *
+ * All LazyPVectorX operations remain available, results that are not longs (e.g. after mapping to a String) are held in a
+ * boxed RRBPVector.
+ *
+ * <pre>
+ * {@code
+ *    LongLazyPVectorX.range(0,1_000_000)
+ *                   .filterLong(i->i%2==0)
+ *                   .sumLong();
+ * }
+ * </pre>
+ *
+ * @author johnmcclean
+ *
+ */
+public class LongLazyPVectorX extends LazyPVectorX<Long> {
+
+    private LongLazyPVectorX(Flux<Long> flux) {
+        super(flux, LongPVector.toPVector());
+    }
+
+    public static LongLazyPVectorX fromPVector(LongPVector vector) {
+        return new LongLazyPVectorX(
+                                   NativeFlux.of(vector));
+    }
+
+    static LongLazyPVectorX defer(Supplier<LongPVector> vector) {
+        return new LongLazyPVectorX(
+                                   NativeFlux.fromSupplier(vector));
+    }
+
+    public static LongLazyPVectorX empty() {
+        return fromPVector(LongPVector.emptyPVector());
+    }
+
+    public static LongLazyPVectorX ofLongs(long... values) {
+        return fromPVector(LongPVector.fromArray(values));
+    }
+
+    public static LongLazyPVectorX fromLongStream(LongStream stream) {
+        return fromPVector(LongPVector.fromLongStream(stream));
+    }
+
+    /**
+     * Create an LongLazyPVectorX that contains the longs between start and end
+     *
+     * @param start Number of range to start from
+     * @param end Number for range to end at
+     * @return Range LongLazyPVectorX
+     */
+    public static LongLazyPVectorX range(long start, long end) {
+        return defer(() -> LongPVector.fromLongStream(LongStream.range(start, end)));
+    }
+
+    /**
+     * @return Materialized LongPVector (converted from the boxed values, if they are no longer held unboxed)
+     */
+    public LongPVector longs() {
+        PVector<Long> vector = getVector();
+        if (vector instanceof LongPVector)
+            return (LongPVector) vector;
+        return LongPVector.fromIterable(vector);
+    }
+
+    public long getLong(int index) {
+        return longs().getLong(index);
+    }
+
+    public LongStream longStream() {
+        return longs().longStream();
+    }
+
+    /**
+     * Unboxed sum, see also {@link #sum()} which returns an Optional of the boxed total
+     *
+     * @return Sum of all elements
+     */
+    public long sumLong() {
+        return longs().sum();
+    }
+
+    public long[] toLongArray() {
+        return longs().toLongArray();
+    }
+
+    public LongLazyPVectorX filterLong(LongPredicate p) {
+        return defer(() -> longs().filterLong(p));
+    }
+
+    public LongLazyPVectorX mapLong(LongUnaryOperator fn) {
+        return defer(() -> longs().mapLong(fn));
+    }
+
+    public LongLazyPVectorX plusLong(long e) {
+        return fromPVector(longs().plusLong(e));
+    }
+
+    public LongLazyPVectorX withLong(int i, long e) {
+        return fromPVector(longs().withLong(i, e));
+    }
+
+    /* (non-Javadoc)
+     * @see com.aol.cyclops.reactor.collections.extensions.persistent.LazyPVectorX#materialize()
+     */
+    @Override
+    public LongLazyPVectorX materialize() {
+        super.materialize();
+        return this;
+    }
+}
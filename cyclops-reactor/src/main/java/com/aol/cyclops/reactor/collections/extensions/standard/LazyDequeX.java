@@ -35,6 +35,7 @@ import com.aol.cyclops.data.collections.extensions.standard.DequeX;
 import com.aol.cyclops.data.collections.extensions.standard.ListX;
 import com.aol.cyclops.reactor.Fluxes;
 import com.aol.cyclops.reactor.collections.extensions.base.AbstractFluentCollectionX;
+import com.aol.cyclops.reactor.collections.extensions.base.FusedFlux;
 import com.aol.cyclops.reactor.collections.extensions.base.LazyFluentCollection;
 
 import lombok.AccessLevel;
@@ -42,6 +43,7 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.experimental.Wither;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 /**
  * An extended Deque type {@see java.util.Deque}
@@ -260,7 +262,7 @@ public class LazyDequeX<T> extends AbstractFluentCollectionX<T>implements DequeX
             return new LazyDequeX<T>(
                                      (Deque<T>) it, collector);
         return new LazyDequeX<T>(
-                                 Flux.fromIterable(it), collector);
+                                 FusedFlux.of(it), collector);
     }
 
     private LazyDequeX(Deque<T> list, Collector<T, ?, Deque<T>> collector) {
@@ -1920,4 +1922,13 @@ public class LazyDequeX<T> extends AbstractFluentCollectionX<T>implements DequeX
        return this;
     }
 
+    /* (non-Javadoc)
+     * @see com.aol.cyclops.reactor.collections.extensions.base.LazyFluentCollectionX#materializeAsync()
+     */
+    @Override
+    public Mono<LazyDequeX<T>> materializeAsync() {
+        return this.lazy.materializeAsync()
+                        .map(c -> this);
+    }
+
 }
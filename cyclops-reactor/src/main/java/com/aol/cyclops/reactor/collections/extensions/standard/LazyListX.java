@@ -34,6 +34,7 @@ import com.aol.cyclops.control.Trampoline;
 import com.aol.cyclops.data.collections.extensions.standard.ListX;
 import com.aol.cyclops.reactor.Fluxes;
 import com.aol.cyclops.reactor.collections.extensions.base.AbstractFluentCollectionX;
+import com.aol.cyclops.reactor.collections.extensions.base.FusedFlux;
 import com.aol.cyclops.reactor.collections.extensions.base.LazyFluentCollection;
 
 import lombok.AccessLevel;
@@ -41,6 +42,7 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.experimental.Wither;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 /**
  * An extended List type {@see java.util.List}
@@ -259,7 +261,7 @@ public class LazyListX<T> extends AbstractFluentCollectionX<T>implements ListX<T
             return new LazyListX<T>(
                                     (List<T>) it, collector);
         return new LazyListX<T>(
-                                Flux.fromIterable(it), collector);
+                                FusedFlux.of(it), collector);
     }
 
     private LazyListX(List<T> list, Collector<T, ?, List<T>> collector) {
@@ -1933,5 +1935,23 @@ public class LazyListX<T> extends AbstractFluentCollectionX<T>implements ListX<T
        return this;
     }
 
+    /* (non-Javadoc)
+     * @see com.aol.cyclops.reactor.collections.extensions.base.LazyFluentCollectionX#materializeAsync()
+     */
+    @Override
+    public Mono<LazyListX<T>> materializeAsync() {
+        return this.lazy.materializeAsync()
+                        .map(c -> this);
+    }
+
+    /**
+     * @param index Index of element to retrieve
+     * @return Mono that emits the element at the specified index, once materialized, without blocking the calling thread
+     */
+    public Mono<T> getAsync(int index) {
+        return this.lazy.materializeAsync()
+                        .map(c -> c.get(index));
+    }
+
 
 }
@@ -35,6 +35,7 @@ import com.aol.cyclops.data.collections.extensions.standard.ListX;
 import com.aol.cyclops.data.collections.extensions.standard.QueueX;
 import com.aol.cyclops.reactor.Fluxes;
 import com.aol.cyclops.reactor.collections.extensions.base.AbstractFluentCollectionX;
+import com.aol.cyclops.reactor.collections.extensions.base.FusedFlux;
 import com.aol.cyclops.reactor.collections.extensions.base.LazyFluentCollection;
 
 import lombok.AccessLevel;
@@ -42,6 +43,7 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.experimental.Wither;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 /**
  * An extended Queue type {@see java.util.Queue}
@@ -260,7 +262,7 @@ public class LazyQueueX<T> extends AbstractFluentCollectionX<T>implements QueueX
             return new LazyQueueX<T>(
                                      (Queue<T>) it, collector);
         return new LazyQueueX<T>(
-                                 Flux.fromIterable(it), collector);
+                                 FusedFlux.of(it), collector);
     }
 
     private LazyQueueX(Queue<T> list, Collector<T, ?, Queue<T>> collector) {
@@ -1792,4 +1794,13 @@ public class LazyQueueX<T> extends AbstractFluentCollectionX<T>implements QueueX
        return this;
     }
 
+    /* (non-Javadoc)
+     * @see com.aol.cyclops.reactor.collections.extensions.base.LazyFluentCollectionX#materializeAsync()
+     */
+    @Override
+    public Mono<LazyQueueX<T>> materializeAsync() {
+        return this.lazy.materializeAsync()
+                        .map(c -> this);
+    }
+
 }
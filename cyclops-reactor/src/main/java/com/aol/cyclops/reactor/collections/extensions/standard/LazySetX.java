@@ -35,6 +35,7 @@ import com.aol.cyclops.data.collections.extensions.standard.ListX;
 import com.aol.cyclops.data.collections.extensions.standard.SetX;
 import com.aol.cyclops.reactor.Fluxes;
 import com.aol.cyclops.reactor.collections.extensions.base.AbstractFluentCollectionX;
+import com.aol.cyclops.reactor.collections.extensions.base.FusedFlux;
 import com.aol.cyclops.reactor.collections.extensions.base.LazyFluentCollection;
 
 import lombok.AccessLevel;
@@ -42,6 +43,7 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.experimental.Wither;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 /**
  * An extended Set type {@see java.util.Set}
@@ -263,7 +265,7 @@ public class LazySetX<T> extends AbstractFluentCollectionX<T>implements SetX<T>
             return new LazySetX<T>(
                                    (Set<T>) it, collector);
         return new LazySetX<T>(
-                               Flux.fromIterable(it), collector);
+                               FusedFlux.of(it), collector);
     }
 
     private LazySetX(Set<T> list, Collector<T, ?, Set<T>> collector) {
@@ -1738,5 +1740,14 @@ public class LazySetX<T> extends AbstractFluentCollectionX<T>implements SetX<T>
        return this;
     }
 
+    /* (non-Javadoc)
+     * @see com.aol.cyclops.reactor.collections.extensions.base.LazyFluentCollectionX#materializeAsync()
+     */
+    @Override
+    public Mono<LazySetX<T>> materializeAsync() {
+        return this.lazy.materializeAsync()
+                        .map(c -> this);
+    }
+
 
 }
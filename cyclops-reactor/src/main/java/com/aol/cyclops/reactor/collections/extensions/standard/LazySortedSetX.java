@@ -39,6 +39,7 @@ import com.aol.cyclops.data.collections.extensions.standard.ListX;
 import com.aol.cyclops.data.collections.extensions.standard.SortedSetX;
 import com.aol.cyclops.reactor.Fluxes;
 import com.aol.cyclops.reactor.collections.extensions.base.AbstractFluentCollectionX;
+import com.aol.cyclops.reactor.collections.extensions.base.FusedFlux;
 import com.aol.cyclops.reactor.collections.extensions.base.LazyFluentCollection;
 
 import lombok.AccessLevel;
@@ -46,6 +47,7 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.experimental.Wither;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 /**
  * An extended SortedSet type {@see java.util.SortedSet}
@@ -268,7 +270,7 @@ public class LazySortedSetX<T> extends AbstractFluentCollectionX<T>implements So
             return new LazySortedSetX<T>(
                                          (SortedSet<T>) it, collector);
         return new LazySortedSetX<T>(
-                                     Flux.fromIterable(it), collector);
+                                     FusedFlux.of(it), collector);
     }
 
     private LazySortedSetX(SortedSet<T> list, Collector<T, ?, SortedSet<T>> collector) {
@@ -1836,4 +1838,13 @@ public class LazySortedSetX<T> extends AbstractFluentCollectionX<T>implements So
        return this;
     }
 
+    /* (non-Javadoc)
+     * @see com.aol.cyclops.reactor.collections.extensions.base.LazyFluentCollectionX#materializeAsync()
+     */
+    @Override
+    public Mono<LazySortedSetX<T>> materializeAsync() {
+        return this.lazy.materializeAsync()
+                        .map(c -> this);
+    }
+
 }
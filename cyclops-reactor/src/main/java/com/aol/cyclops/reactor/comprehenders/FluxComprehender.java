@@ -3,15 +3,20 @@ package com.aol.cyclops.reactor.comprehenders;
 import java.util.Iterator;
 import java.util.Spliterator;
 import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.BaseStream;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
+import org.reactivestreams.Publisher;
+
+import com.aol.cyclops.control.FutureW;
 import com.aol.cyclops.types.extensability.Comprehender;
 
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 public class FluxComprehender implements Comprehender<Flux> {
     public Class getTargetClass() {
@@ -53,7 +58,18 @@ public class FluxComprehender implements Comprehender<Flux> {
     }
 
     public Object resolveForCrossTypeFlatMap(Comprehender comp, Flux apply) {
-
+        //asynchronous types compose with the first element of the Flux as it arrives, rather than blocking on it
+        Class target = comp.getTargetClass();
+        if (target == null)
+            target = Object.class;
+        if (FutureW.class.isAssignableFrom(target))
+            return FutureW.of(Mono.from(apply)
+                                  .toFuture());
+        if (CompletableFuture.class.isAssignableFrom(target))
+            return Mono.from(apply)
+                       .toFuture();
+        if (target == Flux.class || target == Mono.class)
+            return apply;
         return comp.fromIterator(apply.toIterable()
                                       .iterator());
     }
@@ -61,6 +77,14 @@ public class FluxComprehender implements Comprehender<Flux> {
     public static Flux unwrapOtherMonadTypes(Comprehender<Flux> comp, Object apply) {
         if (apply instanceof Flux)
             return (Flux) apply;
+        if (apply instanceof CompletableFuture)
+            return Mono.fromFuture((CompletableFuture) apply)
+                       .flux();
+        if (apply instanceof FutureW)
+            return Mono.fromFuture(((FutureW) apply).getFuture())
+                       .flux();
+        if (apply instanceof Publisher)
+            return Flux.from((Publisher) apply);
         if (apply instanceof Iterable) {
             return Flux.fromIterable((Iterable) apply);
 
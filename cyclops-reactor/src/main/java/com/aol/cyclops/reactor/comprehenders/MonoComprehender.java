@@ -1,13 +1,17 @@
 package com.aol.cyclops.reactor.comprehenders;
 
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
 import java.util.function.Predicate;
 
+import org.reactivestreams.Publisher;
+
 import com.aol.cyclops.control.FutureW;
 import com.aol.cyclops.control.Xor;
 import com.aol.cyclops.types.extensability.Comprehender;
 import com.aol.cyclops.types.extensability.ValueComprehender;
 
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 public class MonoComprehender implements ValueComprehender<Mono> {
@@ -17,8 +21,7 @@ public class MonoComprehender implements ValueComprehender<Mono> {
 
     @Override
     public Object filter(Mono o, Predicate p) {
-        return FutureW.of(o.toFuture())
-                      .filter(p);
+        return o.filter(p);
     }
 
     @Override
@@ -26,6 +29,10 @@ public class MonoComprehender implements ValueComprehender<Mono> {
         return o.map(fn);
     }
 
+    public Mono executeflatMap(Mono t, Function fn) {
+        return flatMap(t, input -> unwrapOtherMonadTypes(this, fn.apply(input)));
+    }
+
     @Override
     public Mono flatMap(Mono o, Function fn) {
         return Mono.from(o.flatMap(fn));
@@ -48,9 +55,29 @@ public class MonoComprehender implements ValueComprehender<Mono> {
 
     @Override
     public Object resolveForCrossTypeFlatMap(Comprehender comp, Mono apply) {
+        //asynchronous types compose with the Mono as it completes, rather than blocking on it
+        Class target = comp.getTargetClass();
+        if (target == null)
+            target = Object.class;
+        if (FutureW.class.isAssignableFrom(target))
+            return FutureW.of(apply.toFuture());
+        if (CompletableFuture.class.isAssignableFrom(target))
+            return apply.toFuture();
+        if (target == Mono.class || target == Flux.class)
+            return apply;
         Xor<Throwable, ?> res = FutureW.of(apply.toFuture())
                                        .toXor();
         return res.isPrimary() ? comp.of(res.get()) : comp.empty();
     }
 
-}
\ No newline at end of file
+    public static Object unwrapOtherMonadTypes(Comprehender<Mono> comp, Object apply) {
+        if (apply instanceof CompletableFuture)
+            return Mono.fromFuture((CompletableFuture) apply);
+        if (apply instanceof FutureW)
+            return Mono.fromFuture(((FutureW) apply).getFuture());
+        if (apply instanceof Publisher)
+            return apply;
+        return Comprehender.unwrapOtherMonadTypes(comp, apply);
+    }
+
+}
@@ -0,0 +1,89 @@
+package com.aol.cyclops.reactor.flux.pushable;
+
+import java.util.stream.Stream;
+
+import com.aol.cyclops.data.async.Queue;
+import com.aol.cyclops.data.async.QueueFactory;
+import com.aol.cyclops.reactor.metrics.PipeMetrics;
+
+/**
+ * A Queue that records offers, their latency and its depth to the supplied PipeMetrics. The Queue shares the underlying
+ * storage and wait strategies of the Queue built by the supplied QueueFactory.
+ *
+ * <pre>
+ * {@code
+ *   PipeMetrics metrics = new PipeMetrics();
+ *   Queue<Integer> queue = new InstrumentedQueue<>(QueueFactories.boundedQueue(100), metrics);
+ * }
+ * </pre>
+ *
+ * @author johnmcclean
+ *
+ * @param <T> Data type of elements in the Queue
+ */
+public class InstrumentedQueue<T> extends Queue<T> {
+
+    private final PipeMetrics metrics;
+
+    public InstrumentedQueue(QueueFactory<T> factory, PipeMetrics metrics) {
+        super(factory);
+        this.metrics = metrics;
+        metrics.queueDepth(this::size);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see com.aol.cyclops.data.async.Queue#offer(java.lang.Object)
+     */
+    @Override
+    public boolean offer(T data) {
+        long start = metrics.startHandoff();
+        boolean result;
+        try {
+            result = super.offer(data);
+        } catch (RuntimeException e) {
+            metrics.recordFailure();
+            throw e;
+        }
+        metrics.endOffer(result, start);
+        return result;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see com.aol.cyclops.data.async.Queue#add(java.lang.Object)
+     */
+    @Override
+    public boolean add(T data) {
+        long start = metrics.startHandoff();
+        boolean result;
+        try {
+            result = super.add(data);
+        } catch (RuntimeException e) {
+            metrics.recordFailure();
+            throw e;
+        }
+        metrics.endOffer(result, start);
+        return result;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see com.aol.cyclops.data.async.Queue#fromStream(java.util.stream.Stream)
+     */
+    @Override
+    public boolean fromStream(Stream<T> stream) {
+        long start = metrics.startHandoff();
+        int[] count = { 0 };
+        boolean result = super.fromStream(stream.peek(t -> count[0]++));
+        metrics.endBatch(count[0], 0, start);
+        return result;
+    }
+
+    /**
+     * @return Metrics recorded by this Queue
+     */
+    public PipeMetrics getMetrics() {
+        return metrics;
+    }
+}
@@ -6,6 +6,7 @@ import com.aol.cyclops.control.LazyReact;
 import com.aol.cyclops.control.ReactiveSeq;
 import com.aol.cyclops.data.async.Queue;
 import com.aol.cyclops.data.async.Topic;
+import com.aol.cyclops.reactor.metrics.PipeMetrics;
 import com.aol.cyclops.types.futurestream.LazyFutureStream;
 
 import reactor.core.publisher.Flux;
@@ -14,10 +15,41 @@ import reactor.core.publisher.Mono;
 public class MultipleFluxSource<T> {
 
     private final Topic<T> topic;
+    private final Flux<T> shared;
 
     public MultipleFluxSource(Queue<T> q) {
         topic = new Topic(
                           q);
+        shared = null;
+    }
+
+    /**
+     * Share a single demand-driven Flux over the supplied ring buffer between all generated Streams (the ring buffer is
+     * drained by producing threads, rather than by a polling consumer per Stream)
+     * 
+     * @param q Ring buffer used as input
+     */
+    public MultipleFluxSource(RingBufferQueue<T> q) {
+        topic = new Topic(
+                          q);
+        shared = q.flux()
+                  .publish()
+                  .autoConnect();
+    }
+
+    /**
+     * Share a single demand-driven Flux over the supplied ring buffer between all generated Streams, values drained from
+     * the ring buffer are recorded as delivered to the supplied PipeMetrics
+     * 
+     * @param q Ring buffer used as input
+     * @param metrics Metrics to record deliveries to
+     */
+    public MultipleFluxSource(RingBufferQueue<T> q, PipeMetrics metrics) {
+        topic = new Topic(
+                          q);
+        shared = metrics.instrument(q.flux())
+                        .publish()
+                        .autoConnect();
     }
 
     /**
@@ -29,6 +61,8 @@ public class MultipleFluxSource<T> {
      */
     public LazyFutureStream<T> futureStream(LazyReact s) {
 
+        if (shared != null)
+            return s.fromStream(ReactiveSeq.fromPublisher(shared));
         return s.fromStream(topic.stream());
 
     }
@@ -40,7 +74,7 @@ public class MultipleFluxSource<T> {
      */
     public Stream<T> stream() {
 
-        return (Stream) topic.stream();
+        return (Stream) reactiveSeq();
 
     }
 
@@ -51,7 +85,8 @@ public class MultipleFluxSource<T> {
      * to push it to the Stream
      */
     public ReactiveSeq<T> reactiveSeq() {
-
+        if (shared != null)
+            return ReactiveSeq.fromPublisher(shared);
         return topic.stream();
     }
 
@@ -62,7 +97,8 @@ public class MultipleFluxSource<T> {
      * to push it to the Stream
      */
     public Flux<T> flux() {
-
+        if (shared != null)
+            return shared;
         return Flux.from(topic.stream());
     }
 
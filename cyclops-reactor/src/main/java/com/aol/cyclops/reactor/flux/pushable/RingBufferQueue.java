@@ -0,0 +1,306 @@
+package com.aol.cyclops.reactor.flux.pushable;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+
+import org.agrona.concurrent.ManyToOneConcurrentArrayQueue;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import com.aol.cyclops.data.async.Queue;
+import com.aol.cyclops.data.async.wait.WaitStrategy;
+import com.aol.cyclops.reactor.metrics.PipeMetrics;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Operators;
+
+/**
+ * A Queue backed by a pre-allocated, lock-free multi-producer / single-consumer ring buffer (Agrona's
+ * ManyToOneConcurrentArrayQueue, which pads its head and tail against false sharing).
+ *
+ * Any number of threads may offer data. The Flux returned by {@link #flux()} is drained on demand by whichever thread
+ * offers data or requests more, so no consumer thread is parked waiting for data. Streams created via {@link #stream()}
+ * poll the ring buffer using the consumer WaitStrategy instead.
+ *
+ * <pre>
+ * {@code
+ *   RingBufferQueue<Integer> queue = new RingBufferQueue<>(1024);
+ *   queue.flux()
+ *        .map(i->i*2)
+ *        .subscribe(System.out::println);
+ *
+ *   //on any number of threads
+ *   queue.offer(10);
+ * }
+ * </pre>
+ *
+ * @author johnmcclean
+ *
+ * @param <T> Data type of elements in the Queue
+ */
+public class RingBufferQueue<T> extends Queue<T> {
+
+    private final ManyToOneConcurrentArrayQueue<T> ring;
+    private final AtomicReference<Drain<T>> drain = new AtomicReference<>();
+    private final PipeMetrics metrics;
+    private volatile boolean closed;
+
+    /**
+     * Construct a RingBufferQueue where producers yield while the ring buffer is full
+     *
+     * @param capacity Ring buffer capacity (rounded up to the next power of 2)
+     */
+    public RingBufferQueue(int capacity) {
+        this(capacity, WaitStrategy.yieldWait());
+    }
+
+    /**
+     * Construct a RingBufferQueue
+     *
+     * @param capacity Ring buffer capacity (rounded up to the next power of 2)
+     * @param wait Strategy used by producers while the ring buffer is full, and by polling Streams while it is empty
+     *        (e.g. WaitStrategy.noWaitRetry() to busy-spin, WaitStrategy.yieldWait() to yield or WaitStrategy.spinWait() to park)
+     */
+    public RingBufferQueue(int capacity, WaitStrategy<T> wait) {
+        this(new ManyToOneConcurrentArrayQueue<>(capacity), wait, null);
+    }
+
+    /**
+     * Construct a RingBufferQueue that records offers, their latency and its depth to the supplied PipeMetrics
+     *
+     * @param capacity Ring buffer capacity (rounded up to the next power of 2)
+     * @param wait Strategy used by producers while the ring buffer is full, and by polling Streams while it is empty
+     * @param metrics Metrics to record to
+     */
+    public RingBufferQueue(int capacity, WaitStrategy<T> wait, PipeMetrics metrics) {
+        this(new ManyToOneConcurrentArrayQueue<>(capacity), wait, Objects.requireNonNull(metrics));
+        metrics.queueDepth(ring::size);
+    }
+
+    private RingBufferQueue(ManyToOneConcurrentArrayQueue<T> ring, WaitStrategy<T> wait, PipeMetrics metrics) {
+        super(ring, wait, wait);
+        this.ring = ring;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Create a Flux that is pushed data from this Queue as it is offered, within the limits of downstream demand.
+     * As the ring buffer is single-consumer, only one Subscriber at a time is supported (use Flux#publish to share it).
+     *
+     * @return Flux drained on demand from this Queue
+     */
+    public Flux<T> flux() {
+        return new Flux<T>() {
+            @Override
+            public void subscribe(Subscriber<? super T> s) {
+                Drain<T> d = new Drain<>(
+                                         RingBufferQueue.this, s);
+                if (!drain.compareAndSet(null, d)) {
+                    Operators.error(s, new IllegalStateException(
+                                                                 "A RingBufferQueue Flux supports only a single Subscriber"));
+                    return;
+                }
+                s.onSubscribe(d);
+                d.signal();
+            }
+        };
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see com.aol.cyclops.data.async.Queue#offer(java.lang.Object)
+     */
+    @Override
+    public boolean offer(T data) {
+        if (metrics == null) {
+            boolean result = super.offer(data);
+            signal();
+            return result;
+        }
+        long start = metrics.startHandoff();
+        boolean result;
+        try {
+            result = super.offer(data);
+        } catch (RuntimeException e) {
+            metrics.recordFailure();
+            throw e;
+        }
+        metrics.endOffer(result, start);
+        signal();
+        return result;
+    }
+
+    /**
+     * Offer a batch of values, the draining Subscriber is signalled once for the batch (or whenever the ring buffer fills
+     * up) rather than once per value
+     *
+     * @param values Values to offer
+     * @return Number of values accepted
+     */
+    public int offerAll(Iterable<? extends T> values) {
+        long start = metrics == null ? 0 : metrics.startHandoff();
+        //the size signal is only kept up to date via Queue#offer
+        boolean fastPath = getSizeSignal() == null;
+        int count = 0;
+        int rejected = 0;
+        try {
+            for (T next : values) {
+                if (!fastPath || closed || !ring.offer(next == null ? (T) Queue.NILL : next)) {
+                    //make room for the remainder of the batch, then fall back to the producer WaitStrategy
+                    signal();
+                    if (!super.offer(next))
+                        rejected++;
+                }
+                count++;
+            }
+        } catch (RuntimeException e) {
+            if (metrics != null)
+                metrics.recordFailure();
+            throw e;
+        } finally {
+            signal();
+            //only values whose offer completed are recorded
+            if (metrics != null)
+                metrics.endBatch(count, rejected, start);
+        }
+        return count - rejected;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see com.aol.cyclops.data.async.Queue#add(java.lang.Object)
+     */
+    @Override
+    public boolean add(T data) {
+        if (metrics == null) {
+            boolean result = super.add(data);
+            signal();
+            return result;
+        }
+        long start = metrics.startHandoff();
+        boolean result;
+        try {
+            result = super.add(data);
+        } catch (RuntimeException e) {
+            metrics.recordFailure();
+            throw e;
+        }
+        metrics.endOffer(result, start);
+        signal();
+        return result;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see com.aol.cyclops.data.async.Queue#fromStream(java.util.stream.Stream)
+     */
+    @Override
+    public boolean fromStream(Stream<T> stream) {
+        if (metrics == null) {
+            boolean result = super.fromStream(stream);
+            signal();
+            return result;
+        }
+        long start = metrics.startHandoff();
+        int[] count = { 0 };
+        boolean result = super.fromStream(stream.peek(t -> count[0]++));
+        metrics.endBatch(count[0], 0, start);
+        signal();
+        return result;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see com.aol.cyclops.data.async.Queue#close()
+     */
+    @Override
+    public boolean close() {
+        closed = true;
+        boolean result = super.close();
+        signal();
+        return result;
+    }
+
+    private void signal() {
+        Drain<T> d = drain.get();
+        if (d != null)
+            d.signal();
+    }
+
+    /**
+     * Drains the ring buffer to a single Subscriber. Producers only enter the drain loop if no other thread is draining,
+     * the draining thread re-checks for data after leaving the loop so no signal is lost.
+     */
+    static final class Drain<T> implements Subscription {
+        private final RingBufferQueue<T> queue;
+        private final Subscriber<? super T> actual;
+        private volatile boolean cancelled;
+        private boolean terminated;
+
+        private volatile long requested;
+        private static final AtomicLongFieldUpdater<Drain> REQUESTED = AtomicLongFieldUpdater.newUpdater(Drain.class, "requested");
+        private volatile int wip;
+        private static final AtomicIntegerFieldUpdater<Drain> WIP = AtomicIntegerFieldUpdater.newUpdater(Drain.class, "wip");
+
+        Drain(RingBufferQueue<T> queue, Subscriber<? super T> actual) {
+            this.queue = queue;
+            this.actual = actual;
+        }
+
+        @Override
+        public void request(long n) {
+            if (Operators.validate(n)) {
+                Operators.getAndAddCap(REQUESTED, this, n);
+                signal();
+            }
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            queue.drain.compareAndSet(this, null);
+        }
+
+        void signal() {
+            if (wip == 0 && WIP.compareAndSet(this, 0, 1))
+                drainLoop();
+        }
+
+        private boolean hasWork() {
+            if (terminated || cancelled)
+                return false;
+            boolean empty = queue.ring.isEmpty();
+            return (requested != 0 && !empty) || (queue.closed && empty);
+        }
+
+        private void drainLoop() {
+            ManyToOneConcurrentArrayQueue<T> ring = queue.ring;
+            do {
+                long r = requested;
+                long e = 0;
+                while (e != r && !cancelled) {
+                    T next = ring.poll();
+                    if (next == null)
+                        break;
+                    //Queue stores nulls as Queue.NILL, which can not be emitted via a Flux
+                    if (next == Queue.NILL)
+                        continue;
+                    actual.onNext(next);
+                    e++;
+                }
+                if (e != 0 && r != Long.MAX_VALUE)
+                    REQUESTED.addAndGet(this, -e);
+                if (!cancelled && !terminated && queue.closed && ring.isEmpty()) {
+                    terminated = true;
+                    queue.drain.compareAndSet(this, null);
+                    actual.onComplete();
+                }
+                WIP.set(this, 0);
+            } while (hasWork() && WIP.compareAndSet(this, 0, 1));
+        }
+    }
+
+}
@@ -0,0 +1,93 @@
+package com.aol.cyclops.reactor.metrics;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free latency histogram with power of 2 nanosecond buckets. Bucket i counts latencies below 2^i ns (and at least
+ * 2^(i-1) ns), so recording a value is a single striped counter increment.
+ *
+ * @author johnmcclean
+ *
+ */
+public class LatencyHistogram {
+
+    static final int BUCKETS = 64;
+
+    private final LongAdder[] buckets = new LongAdder[BUCKETS];
+    private final LongAdder total = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(
+                                                            Math::max, 0);
+
+    public LatencyHistogram() {
+        for (int i = 0; i < BUCKETS; i++)
+            buckets[i] = new LongAdder();
+    }
+
+    /**
+     * @param nanos Latency to record
+     */
+    public void record(long nanos) {
+        long value = Math.max(0, nanos);
+        buckets[bucket(value)].increment();
+        total.add(value);
+        max.accumulate(value);
+    }
+
+    static int bucket(long nanos) {
+        return Math.min(BUCKETS - 1, 64 - Long.numberOfLeadingZeros(nanos));
+    }
+
+    /**
+     * @param bucket Bucket index
+     * @return Exclusive upper bound (in nanoseconds) of latencies counted by the bucket
+     */
+    public static long upperBound(int bucket) {
+        return bucket >= BUCKETS - 1 ? Long.MAX_VALUE : 1L << bucket;
+    }
+
+    /**
+     * @return Count of recorded latencies per bucket
+     */
+    public long[] counts() {
+        long[] counts = new long[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++)
+            counts[i] = buckets[i].sum();
+        return counts;
+    }
+
+    /**
+     * @return Sum of all recorded latencies in nanoseconds
+     */
+    public long totalNanos() {
+        return total.sum();
+    }
+
+    /**
+     * @return Largest recorded latency in nanoseconds
+     */
+    public long maxNanos() {
+        return max.get();
+    }
+
+    /**
+     * @param counts Bucket counts, as returned by {@link #counts()}
+     * @param percentile Percentile to find (between 0 and 1)
+     * @return Upper bound of the bucket containing the percentile, or 0 if no latencies are recorded
+     */
+    public static long percentile(long[] counts, double percentile) {
+        long sum = 0;
+        for (long c : counts)
+            sum += c;
+        if (sum == 0)
+            return 0;
+        long target = Math.max(1, (long) Math.ceil(sum * percentile));
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= target)
+                return upperBound(i);
+        }
+        return Long.MAX_VALUE;
+    }
+}
@@ -0,0 +1,27 @@
+package com.aol.cyclops.reactor.metrics;
+
+/**
+ * Receives metrics snapshots, for export to an external metrics system
+ *
+ * <pre>
+ * {@code
+ *   ReactorPipes<String,Event> pipes = ReactorPipes.instrumented();
+ *
+ *   //periodically
+ *   pipes.reportMetrics((key,snapshot)->registry.gauge("pipes."+key+".depth",snapshot.getQueueDepth()));
+ * }
+ * </pre>
+ *
+ * @author johnmcclean
+ *
+ * @param <K> Key type identifying each pipe
+ */
+@FunctionalInterface
+public interface MetricsListener<K> {
+
+    /**
+     * @param key Pipe identifier
+     * @param snapshot Metrics recorded for the pipe
+     */
+    void onMetrics(K key, PipeMetricsSnapshot snapshot);
+}
@@ -0,0 +1,204 @@
+package com.aol.cyclops.reactor.metrics;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntSupplier;
+
+import reactor.core.publisher.Flux;
+
+/**
+ * Low overhead metrics for a single pipe : striped offer / delivery counters, a queue depth gauge and a handoff latency
+ * histogram. Recording never blocks or allocates, and by default only 1 in 16 handoffs are timed (reading the clock
+ * costs more than updating the counters), so instrumentation can be left on in production.
+ *
+ * <pre>
+ * {@code
+ *   PipeMetrics metrics = new PipeMetrics();
+ *   PushableFlux<Integer> pushable = FluxSource.ofUnbounded()
+ *                                              .withMetrics(metrics)
+ *                                              .flux();
+ *
+ *   PipeMetricsSnapshot snapshot = metrics.snapshot();
+ *   snapshot.getQueueDepth();
+ *   snapshot.offerLatencyPercentile(0.99);
+ * }
+ * </pre>
+ *
+ * @author johnmcclean
+ *
+ */
+public class PipeMetrics {
+
+    private static final long UNTIMED = Long.MIN_VALUE;
+
+    private final long blockedAfterNanos;
+    private final int sampleEvery;
+    private final LongAdder offered = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder blocked = new LongAdder();
+    private final LongAdder delivered = new LongAdder();
+    private final LatencyHistogram offerLatency = new LatencyHistogram();
+    private volatile IntSupplier queueDepth = () -> -1;
+
+    /**
+     * Construct PipeMetrics that time 1 in 16 handoffs, and treat any handoff taking 1ms or more as blocked
+     */
+    public PipeMetrics() {
+        this(1, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Construct PipeMetrics that time 1 in 16 handoffs
+     *
+     * @param blockedAfter Handoffs taking at least this long are counted as blocked
+     * @param unit Time unit
+     */
+    public PipeMetrics(long blockedAfter, TimeUnit unit) {
+        this(blockedAfter, unit, 16);
+    }
+
+    /**
+     * @param blockedAfter Handoffs taking at least this long are counted as blocked
+     * @param unit Time unit
+     * @param sampleEvery Time 1 in sampleEvery handoffs (1 to time every handoff), the blocked count is scaled accordingly
+     */
+    public PipeMetrics(long blockedAfter, TimeUnit unit, int sampleEvery) {
+        if (sampleEvery < 1)
+            throw new IllegalArgumentException(
+                                               "Sample rate must be 1 or more");
+        this.blockedAfterNanos = unit.toNanos(blockedAfter);
+        this.sampleEvery = sampleEvery;
+    }
+
+    /**
+     * Start a handoff (an offer of a single value, or a batch) to the queue
+     *
+     * @return Start time to pass to {@link #endOffer(boolean, long)} or {@link #endBatch(int, int, long)}, if this handoff is
+     *         sampled
+     */
+    public long startHandoff() {
+        if (sampleEvery == 1 || ThreadLocalRandom.current()
+                                                  .nextInt(sampleEvery) == 0)
+            return System.nanoTime();
+        return UNTIMED;
+    }
+
+    /**
+     * Record a single offer started via {@link #startHandoff()}
+     *
+     * @param accepted Whether the value was accepted
+     * @param start Value returned by startHandoff
+     */
+    public void endOffer(boolean accepted, long start) {
+        offered.increment();
+        if (!accepted)
+            rejected.increment();
+        if (start != UNTIMED)
+            recordLatency(System.nanoTime() - start, sampleEvery);
+    }
+
+    /**
+     * Record a batch handoff started via {@link #startHandoff()}
+     *
+     * @param values Number of values offered
+     * @param rejectedValues Number of values that were not accepted
+     * @param start Value returned by startHandoff
+     */
+    public void endBatch(int values, int rejectedValues, long start) {
+        offered.add(values);
+        if (rejectedValues != 0)
+            rejected.add(rejectedValues);
+        if (start != UNTIMED)
+            recordLatency(System.nanoTime() - start, sampleEvery);
+    }
+
+    /**
+     * Record a single offer
+     *
+     * @param accepted Whether the value was accepted
+     * @param nanos Time taken to offer the value
+     */
+    public void recordOffer(boolean accepted, long nanos) {
+        offered.increment();
+        if (!accepted)
+            rejected.increment();
+        recordLatency(nanos, 1);
+    }
+
+    /**
+     * Record a handoff of a batch of values
+     *
+     * @param values Number of values offered
+     * @param rejectedValues Number of values that were not accepted
+     * @param nanos Time taken to offer the batch
+     */
+    public void recordBatch(int values, int rejectedValues, long nanos) {
+        offered.add(values);
+        if (rejectedValues != 0)
+            rejected.add(rejectedValues);
+        recordLatency(nanos, 1);
+    }
+
+    private void recordLatency(long nanos, int weight) {
+        offerLatency.record(nanos);
+        if (nanos >= blockedAfterNanos)
+            blocked.add(weight);
+    }
+
+    /**
+     * Record an offer that failed with an error
+     */
+    public void recordFailure() {
+        offered.increment();
+        failed.increment();
+    }
+
+    /**
+     * Record the delivery of a value to a Subscriber
+     */
+    public void recordDelivered() {
+        delivered.increment();
+    }
+
+    /**
+     * @param gauge Supplies the current queue depth (-1 if unknown)
+     */
+    public void queueDepth(IntSupplier gauge) {
+        this.queueDepth = gauge;
+    }
+
+    /**
+     * @param flux Flux to instrument
+     * @return Flux that records each value it emits as delivered
+     */
+    public <T> Flux<T> instrument(Flux<T> flux) {
+        return flux.doOnNext(t -> delivered.increment());
+    }
+
+    /**
+     * @return Current values of all metrics
+     */
+    public PipeMetricsSnapshot snapshot() {
+        //read the delivered count first so lag is never under reported
+        long delivered = this.delivered.sum();
+        long offered = this.offered.sum();
+        long rejected = this.rejected.sum();
+        long failed = this.failed.sum();
+        long[] buckets = offerLatency.counts();
+        long handoffs = 0;
+        for (long c : buckets)
+            handoffs += c;
+        int depth;
+        try {
+            depth = queueDepth.getAsInt();
+        } catch (RuntimeException e) {
+            depth = -1;
+        }
+        return new PipeMetricsSnapshot(
+                                       offered, rejected, failed, blocked.sum(), delivered, depth,
+                                       Math.max(0, offered - rejected - failed - delivered), buckets,
+                                       handoffs == 0 ? 0 : offerLatency.totalNanos() / handoffs, offerLatency.maxNanos());
+    }
+}
@@ -0,0 +1,56 @@
+package com.aol.cyclops.reactor.metrics;
+
+import lombok.Value;
+
+/**
+ * Point in time view of the metrics recorded for a pipe (a ReactorPipes key or a FluxSource input Queue)
+ *
+ * @author johnmcclean
+ *
+ */
+@Value
+public class PipeMetricsSnapshot {
+    /**
+     * Values offered (including rejected and failed offers)
+     */
+    private final long offered;
+    /**
+     * Values the queue refused to accept (e.g. an offer timed out)
+     */
+    private final long rejected;
+    /**
+     * Values that could not be offered due to an error (e.g. the queue was closed)
+     */
+    private final long failed;
+    /**
+     * Handoffs to the queue (a single value, or a batch) that took at least the blocked threshold (estimated from the timed
+     * handoffs, if only a sample of handoffs are timed)
+     */
+    private final long blocked;
+    /**
+     * Values delivered to instrumented Fluxes
+     */
+    private final long delivered;
+    /**
+     * Current queue depth, or -1 if the Adapter does not expose its size
+     */
+    private final int queueDepth;
+    /**
+     * Accepted values that have not (yet) been delivered to an instrumented Flux
+     */
+    private final long lag;
+    /**
+     * Timed handoff latencies by power of 2 nanosecond bucket (see {@link LatencyHistogram#upperBound(int)})
+     */
+    private final long[] offerLatencyBuckets;
+    private final long meanOfferLatencyNanos;
+    private final long maxOfferLatencyNanos;
+
+    /**
+     * @param percentile Percentile to find (between 0 and 1)
+     * @return Upper bound in nanoseconds of the histogram bucket containing the percentile handoff latency
+     */
+    public long offerLatencyPercentile(double percentile) {
+        return LatencyHistogram.percentile(offerLatencyBuckets, percentile);
+    }
+}
@@ -1,14 +1,42 @@
 package com.aol.cyclops.reactor.operators;
 
 import java.util.Collection;
-import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
 import java.util.function.Supplier;
 
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
 import com.aol.cyclops.data.collections.extensions.standard.ListXImpl;
-import com.aol.cyclops.types.stream.reactive.SeqSubscriber;
 
+import reactor.core.Cancellation;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Operators;
+import reactor.core.scheduler.Schedulers;
+import reactor.core.scheduler.TimedScheduler;
 
+/**
+ * Non-blocking, backpressure aware operator that groups the elements of a Flux into collections of a fixed size.
+ *
+ * Each request for n groups from downstream is translated into a request for n * groupSize elements from the upstream Flux,
+ * no thread is blocked waiting for elements.
+ *
+ * <pre>
+ * {@code
+ *   new GroupBySize<Integer,ListX<Integer>>(Flux.just(1,2,3,4,5)).grouped(2);
+ *   //Flux[[1,2],[3,4],[5]]
+ * }
+ * </pre>
+ *
+ * @author johnmcclean
+ *
+ * @param <T> Type of elements in the upstream Flux
+ * @param <C> Type of collection used to store each group
+ */
 public class GroupBySize<T, C extends Collection<? super T>> {
 
     private final Flux<T> stream;
@@ -24,33 +52,377 @@ public class GroupBySize<T, C extends Collection<? super T>> {
         this.factory = factory2;
     }
 
+    /**
+     * @param groupSize Size of each group
+     * @return Flux of groups of groupSize elements (the last group may be smaller)
+     */
     public Flux<C> grouped(int groupSize) {
         if (groupSize < 1)
             throw new IllegalArgumentException(
                                                "Batch size must be 1 or more");
-          SeqSubscriber<T> sub = SeqSubscriber.subscriber();
-           Iterator<T> it = stream.subscribeWith(sub)
-                               .iterator();
+        return new Flux<C>() {
+            @Override
+            public void subscribe(Subscriber<? super C> s) {
+                stream.subscribe(new SizeSubscriber<>(
+                                                      s, groupSize, factory));
+            }
+        };
+    }
 
-        return Flux.fromIterable(() -> new Iterator<C>() {
+    /**
+     * Group elements into collections of groupSize, any partially populated group is emitted once the time period elapses
+     * (using the shared Reactor timer)
+     *
+     * @param groupSize Max size of each group
+     * @param time Time period after which a partially populated group is emitted
+     * @param unit Time unit
+     * @return Flux of groups of at most groupSize elements
+     */
+    public Flux<C> grouped(int groupSize, long time, TimeUnit unit) {
+        return grouped(groupSize, time, unit, Schedulers.timer());
+    }
 
+    /**
+     * Group elements into collections of groupSize, any partially populated group is emitted once the time period elapses
+     *
+     * @param groupSize Max size of each group
+     * @param time Time period after which a partially populated group is emitted
+     * @param unit Time unit
+     * @param timer Scheduler used to trigger the time based flushes
+     * @return Flux of groups of at most groupSize elements
+     */
+    public Flux<C> grouped(int groupSize, long time, TimeUnit unit, TimedScheduler timer) {
+        if (groupSize < 1)
+            throw new IllegalArgumentException(
+                                               "Batch size must be 1 or more");
+        if (time < 1)
+            throw new IllegalArgumentException(
+                                               "Time period must be 1 or more");
+        return new Flux<C>() {
             @Override
-            public boolean hasNext() {
-                return it.hasNext();
+            public void subscribe(Subscriber<? super C> s) {
+                stream.subscribe(new TimedSizeSubscriber<>(
+                                                           s, groupSize, factory, time, unit, timer.createWorker()));
             }
+        };
+    }
 
-            @Override
-            public C next() {
-                C list = factory.get();
-                for (int i = 0; i < groupSize; i++) {
-                    if (it.hasNext())
-                        list.add(it.next());
+    /**
+     * Groups elements as they arrive on the upstream thread. Demand from downstream is multiplied by the group size,
+     * so the upstream can never deliver more elements than will fit into the requested groups.
+     */
+    static final class SizeSubscriber<T, C extends Collection<? super T>> implements Subscriber<T>, Subscription {
+        private final Subscriber<? super C> actual;
+        private final int size;
+        private final Supplier<C> factory;
+
+        private Subscription s;
+        private C group;
+        private int count;
+        private boolean done;
+
+        SizeSubscriber(Subscriber<? super C> actual, int size, Supplier<C> factory) {
+            this.actual = actual;
+            this.size = size;
+            this.factory = factory;
+        }
+
+        @Override
+        public void onSubscribe(Subscription s) {
+            if (Operators.validate(this.s, s)) {
+                this.s = s;
+                actual.onSubscribe(this);
+            }
+        }
+
+        @Override
+        public void onNext(T t) {
+            if (done) {
+                Operators.onNextDropped(t);
+                return;
+            }
+            C g = group;
+            if (g == null) {
+                try {
+                    g = factory.get();
+                } catch (Throwable e) {
+                    onError(Operators.onOperatorError(s, e));
+                    return;
+                }
+                group = g;
+            }
+            g.add(t);
+            if (++count == size) {
+                group = null;
+                count = 0;
+                actual.onNext(g);
+            }
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            if (done) {
+                Operators.onErrorDropped(t);
+                return;
+            }
+            done = true;
+            group = null;
+            actual.onError(t);
+        }
+
+        @Override
+        public void onComplete() {
+            if (done)
+                return;
+            done = true;
+            C g = group;
+            group = null;
+            //fewer than n * size elements were delivered, so there is always demand for the partial group
+            if (g != null)
+                actual.onNext(g);
+            actual.onComplete();
+        }
+
+        @Override
+        public void request(long n) {
+            if (Operators.validate(n))
+                s.request(Operators.multiplyCap(n, size));
+        }
+
+        @Override
+        public void cancel() {
+            s.cancel();
+        }
+    }
+
+    /**
+     * Groups elements by size or time. Upstream elements, timer ticks and downstream requests are serialized through a
+     * lock-free drain loop (only one thread populates and emits groups at a time).
+     */
+    static final class TimedSizeSubscriber<T, C extends Collection<? super T>> implements Subscriber<T>, Subscription, Runnable {
+        private final Subscriber<? super C> actual;
+        private final int size;
+        private final Supplier<C> factory;
+        private final long time;
+        private final TimeUnit unit;
+        private final TimedScheduler.TimedWorker worker;
+        private final Queue<T> queue = new ConcurrentLinkedQueue<>();
+
+        private Subscription s;
+        private Cancellation timer;
+
+        //only accessed from within the drain loop
+        private C group;
+        private int count;
+        private long upstreamRequested;
+
+        private volatile boolean done;
+        private Throwable error;
+        private volatile boolean cancelled;
+        private volatile boolean flush;
+
+        private volatile long requested;
+        private static final AtomicLongFieldUpdater<TimedSizeSubscriber> REQUESTED = AtomicLongFieldUpdater.newUpdater(TimedSizeSubscriber.class,
+                                                                                                                    "requested");
+        private volatile int wip;
+        private static final AtomicIntegerFieldUpdater<TimedSizeSubscriber> WIP = AtomicIntegerFieldUpdater.newUpdater(TimedSizeSubscriber.class,
+                                                                                                                    "wip");
+
+        TimedSizeSubscriber(Subscriber<? super C> actual, int size, Supplier<C> factory, long time, TimeUnit unit,
+                TimedScheduler.TimedWorker worker) {
+            this.actual = actual;
+            this.size = size;
+            this.factory = factory;
+            this.time = time;
+            this.unit = unit;
+            this.worker = worker;
+        }
+
+        @Override
+        public void onSubscribe(Subscription s) {
+            if (Operators.validate(this.s, s)) {
+                this.s = s;
+                actual.onSubscribe(this);
+                timer = worker.schedulePeriodically(this, time, time, unit);
+            }
+        }
+
+        @Override
+        public void onNext(T t) {
+            if (done) {
+                Operators.onNextDropped(t);
+                return;
+            }
+            queue.offer(t);
+            drain();
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            if (done) {
+                Operators.onErrorDropped(t);
+                return;
+            }
+            error = t;
+            done = true;
+            drain();
+        }
+
+        @Override
+        public void onComplete() {
+            if (done)
+                return;
+            done = true;
+            drain();
+        }
+
+        /*
+         * Timer tick, emit any partially populated group
+         *
+         * (non-Javadoc)
+         * @see java.lang.Runnable#run()
+         */
+        @Override
+        public void run() {
+            flush = true;
+            drain();
+        }
+
+        @Override
+        public void request(long n) {
+            if (Operators.validate(n)) {
+                Operators.getAndAddCap(REQUESTED, this, n);
+                drain();
+            }
+        }
+
+        @Override
+        public void cancel() {
+            if (cancelled)
+                return;
+            cancelled = true;
+            s.cancel();
+            shutdown();
+            if (WIP.getAndIncrement(this) == 0) {
+                queue.clear();
+                group = null;
+            }
+        }
+
+        private void shutdown() {
+            Cancellation c = timer;
+            if (c != null)
+                c.dispose();
+            worker.shutdown();
+        }
+
+        private void drain() {
+            if (WIP.getAndIncrement(this) != 0)
+                return;
+            int missed = 1;
+            for (;;) {
+                long r = requested;
+                long e = 0;
+
+                while (e != r) {
+                    if (cancelled) {
+                        queue.clear();
+                        group = null;
+                        return;
+                    }
+                    T t = queue.poll();
+                    if (t == null)
+                        break;
+                    if (!add(t))
+                        return;
+                    if (count == size) {
+                        emit();
+                        e++;
+                    }
+                }
+                if (cancelled) {
+                    queue.clear();
+                    group = null;
+                    return;
+                }
+
+                if (flush) {
+                    if (group == null) {
+                        flush = false;
+                    } else if (e != r) {
+                        flush = false;
+                        emit();
+                        e++;
+                    }
+                }
+
+                if (done && queue.isEmpty()) {
+                    Throwable ex = error;
+                    if (ex != null) {
+                        group = null;
+                        shutdown();
+                        actual.onError(ex);
+                        return;
+                    }
+                    if (group != null && e != r) {
+                        emit();
+                        e++;
+                    }
+                    if (group == null) {
+                        shutdown();
+                        actual.onComplete();
+                        return;
+                    }
+                }
+
+                if (e != 0 && r != Long.MAX_VALUE)
+                    r = REQUESTED.addAndGet(this, -e);
+                else
+                    r = requested;
+
+                //keep enough elements requested upstream to populate every group requested downstream
+                if (!done && upstreamRequested != Long.MAX_VALUE) {
+                    long target = Operators.multiplyCap(r, size);
+                    if (target > upstreamRequested) {
+                        long toRequest = target == Long.MAX_VALUE ? Long.MAX_VALUE : target - upstreamRequested;
+                        upstreamRequested = target;
+                        s.request(toRequest);
+                    }
+                }
+
+                missed = WIP.addAndGet(this, -missed);
+                if (missed == 0)
+                    break;
+            }
+        }
 
+        private boolean add(T t) {
+            C g = group;
+            if (g == null) {
+                try {
+                    g = factory.get();
+                } catch (Throwable ex) {
+                    cancelled = true;
+                    queue.clear();
+                    shutdown();
+                    actual.onError(Operators.onOperatorError(s, ex));
+                    return false;
                 }
-                return list;
+                group = g;
             }
+            g.add(t);
+            count++;
+            return true;
+        }
 
-        });
+        private void emit() {
+            C g = group;
+            if (upstreamRequested != Long.MAX_VALUE)
+                upstreamRequested -= count;
+            group = null;
+            count = 0;
+            actual.onNext(g);
+        }
     }
 
-}
\ No newline at end of file
+}
@@ -1,17 +1,36 @@
 package com.aol.cyclops.reactor.operators;
 
 import java.util.Collection;
-import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+import java.util.function.BiPredicate;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
 import com.aol.cyclops.data.collections.extensions.standard.ListXImpl;
-import com.aol.cyclops.types.stream.reactive.SeqSubscriber;
 
 import reactor.core.publisher.Flux;
-
+import reactor.core.publisher.Operators;
+
+/**
+ * Non-blocking, backpressure aware operator that groups the elements of a Flux while a predicate holds. The first element
+ * that fails the predicate is added to the current group, which is then emitted. Empty groups are never emitted.
+ *
+ * <pre>
+ * {@code
+ *   new GroupedWhile<Integer,ListX<Integer>>(Flux.just(1,2,3,4,5,6)).batchWhile(i->i%3!=0);
+ *   //Flux[[1,2,3],[4,5,6]]
+ * }
+ * </pre>
+ *
+ * @author johnmcclean
+ *
+ * @param <T> Type of elements in the upstream Flux
+ * @param <C> Type of collection used to store each group
+ */
 public class GroupedWhile<T, C extends Collection<? super T>> {
-    private static final Object UNSET = new Object();
     private final Flux<T> stream;
     private final Supplier<C> factory;
 
@@ -25,43 +44,137 @@ public class GroupedWhile<T, C extends Collection<? super T>> {
         this.factory = factory;
     }
 
+    /**
+     * @param predicate Populate each group while the predicate holds
+     * @return Flux of groups
+     */
     public Flux<C> batchWhile(Predicate<? super T> predicate) {
-        SeqSubscriber<T> sub = SeqSubscriber.subscriber();
-        Iterator<T> it = stream.subscribeWith(sub)
-                               .iterator();
-
-        return Flux.fromIterable(() -> new Iterator<C>() {
-            T value = (T) UNSET;
-
+        return new Flux<C>() {
             @Override
-            public boolean hasNext() {
-                return value != UNSET || it.hasNext();
+            public void subscribe(Subscriber<? super C> s) {
+                stream.subscribe(new WhileSubscriber<T, C>(
+                                                           s, (last, t) -> predicate.test(t), factory));
             }
+        };
+    }
 
+    /**
+     * Group elements while the supplied BiPredicate holds for the previously emitted group (initially empty) and the current
+     * element. The first element that fails the predicate is added to the current group, which is then emitted.
+     *
+     * @param predicate Populate each group while the predicate holds
+     * @return Flux of groups
+     */
+    public Flux<C> batchStatefullyWhile(BiPredicate<? super C, ? super T> predicate) {
+        return new Flux<C>() {
             @Override
-            public C next() {
-
-                C list = factory.get();
-                if (value != UNSET)
-                    list.add(value);
-                T value;
-
-                label: while (it.hasNext()) {
-                    value = it.next();
-                    list.add(value);
+            public void subscribe(Subscriber<? super C> s) {
+                stream.subscribe(new WhileSubscriber<T, C>(
+                                                           s, predicate, factory));
+            }
+        };
+    }
 
-                    if (!predicate.test(value)) {
-                        value = (T) UNSET;
-                        break label;
-                    }
-                    value = (T) UNSET;
+    /**
+     * Every group contains at least one element, so a request for n groups is passed upstream as a request for n elements.
+     * Each element that does not close a group is replaced by requesting one more element, so the upstream can never deliver
+     * more elements than will fit into the requested groups (and there is always outstanding demand for a partially populated
+     * group on completion). Once the total demand is unbounded no further requests are made.
+     */
+    static final class WhileSubscriber<T, C extends Collection<? super T>> implements Subscriber<T>, Subscription {
+        private final Subscriber<? super C> actual;
+        private final BiPredicate<? super C, ? super T> predicate;
+        private final Supplier<C> factory;
+
+        private Subscription s;
+        private C group;
+        private C last;
+        private boolean done;
+
+        private volatile long requested;
+        private static final AtomicLongFieldUpdater<WhileSubscriber> REQUESTED = AtomicLongFieldUpdater.newUpdater(WhileSubscriber.class,
+                                                                                                                "requested");
+
+        WhileSubscriber(Subscriber<? super C> actual, BiPredicate<? super C, ? super T> predicate, Supplier<C> factory) {
+            this.actual = actual;
+            this.predicate = predicate;
+            this.factory = factory;
+        }
+
+        @Override
+        public void onSubscribe(Subscription s) {
+            if (Operators.validate(this.s, s)) {
+                this.s = s;
+                actual.onSubscribe(this);
+            }
+        }
 
-                }
-                return list;
+        @Override
+        public void onNext(T t) {
+            if (done) {
+                Operators.onNextDropped(t);
+                return;
+            }
+            C g = group;
+            boolean open;
+            try {
+                if (g == null)
+                    g = group = factory.get();
+                if (last == null)
+                    last = factory.get();
+                g.add(t);
+                open = predicate.test(last, t);
+            } catch (Throwable e) {
+                onError(Operators.onOperatorError(s, e, t));
+                return;
+            }
+            if (open) {
+                if (requested != Long.MAX_VALUE)
+                    s.request(1);
+                return;
+            }
+            group = null;
+            last = g;
+            actual.onNext(g);
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            if (done) {
+                Operators.onErrorDropped(t);
+                return;
+            }
+            done = true;
+            group = null;
+            last = null;
+            actual.onError(t);
+        }
+
+        @Override
+        public void onComplete() {
+            if (done)
+                return;
+            done = true;
+            C g = group;
+            group = null;
+            last = null;
+            if (g != null)
+                actual.onNext(g);
+            actual.onComplete();
+        }
+
+        @Override
+        public void request(long n) {
+            if (Operators.validate(n)) {
+                Operators.getAndAddCap(REQUESTED, this, n);
+                s.request(n);
             }
+        }
 
-        })
-                   .filter(l -> l.size() > 0);
+        @Override
+        public void cancel() {
+            s.cancel();
+        }
     }
 
 }
@@ -0,0 +1,162 @@
+package com.aol.cyclops.reactor.operators;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import com.aol.cyclops.data.collections.extensions.standard.ListX;
+import com.aol.cyclops.data.collections.extensions.standard.ListXImpl;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Operators;
+
+/**
+ * Non-blocking, backpressure aware operator that creates a sliding view over a Flux. The current window is held in a
+ * fixed size ring buffer, each emitted window is a copy of it.
+ *
+ * <pre>
+ * {@code
+ *   new Sliding<Integer>(Flux.just(1,2,3,4,5,6)).sliding(3,2);
+ *   //Flux[[1,2,3],[3,4,5],[5,6]]
+ * }
+ * </pre>
+ *
+ * @author johnmcclean
+ *
+ * @param <T> Type of elements in the upstream Flux
+ */
+public class Sliding<T> {
+
+    private final Flux<T> stream;
+
+    public Sliding(Flux<T> stream) {
+        this.stream = stream;
+    }
+
+    /**
+     * @param windowSize Number of elements in each window
+     * @param increment Number of elements to move the window by (at most windowSize)
+     * @return Flux of windows (the last window may be smaller)
+     */
+    public Flux<ListX<T>> sliding(int windowSize, int increment) {
+        if (windowSize < 1)
+            throw new IllegalArgumentException(
+                                               "Window size must be 1 or more");
+        if (increment < 1)
+            throw new IllegalArgumentException(
+                                               "Increment must be 1 or more");
+        return new Flux<ListX<T>>() {
+            @Override
+            public void subscribe(Subscriber<? super ListX<T>> s) {
+                stream.subscribe(new SlidingSubscriber<>(
+                                                         s, windowSize, Math.min(windowSize, increment)));
+            }
+        };
+    }
+
+    /**
+     * The first window needs windowSize elements, each subsequent window a further increment elements. Demand from
+     * downstream is converted accordingly, so the upstream can never deliver more elements than will fit into the requested
+     * windows (and there is always outstanding demand for a partially populated window on completion).
+     */
+    static final class SlidingSubscriber<T> implements Subscriber<T>, Subscription {
+        private final Subscriber<? super ListX<T>> actual;
+        private final int size;
+        private final int increment;
+        private final Object[] ring;
+
+        private Subscription s;
+        private int head;
+        private int count;
+        private boolean open;
+        private boolean done;
+
+        private volatile int firstRequest;
+        private static final AtomicIntegerFieldUpdater<SlidingSubscriber> FIRST_REQUEST = AtomicIntegerFieldUpdater.newUpdater(SlidingSubscriber.class,
+                                                                                                                           "firstRequest");
+
+        SlidingSubscriber(Subscriber<? super ListX<T>> actual, int size, int increment) {
+            this.actual = actual;
+            this.size = size;
+            this.increment = increment;
+            this.ring = new Object[size];
+        }
+
+        @Override
+        public void onSubscribe(Subscription s) {
+            if (Operators.validate(this.s, s)) {
+                this.s = s;
+                actual.onSubscribe(this);
+            }
+        }
+
+        @Override
+        public void onNext(T t) {
+            if (done) {
+                Operators.onNextDropped(t);
+                return;
+            }
+            if (!open) {
+                //slide the window forward, ahead of populating it with new elements
+                open = true;
+                int drop = Math.min(increment, count);
+                for (int i = 0; i < drop; i++)
+                    ring[(head + i) % size] = null;
+                head = (head + drop) % size;
+                count -= drop;
+            }
+            ring[(head + count) % size] = t;
+            if (++count == size)
+                emit();
+        }
+
+        private void emit() {
+            List<T> window = new ArrayList<>(
+                                             count);
+            for (int i = 0; i < count; i++)
+                window.add((T) ring[(head + i) % size]);
+            open = false;
+            actual.onNext(new ListXImpl<>(
+                                          window));
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            if (done) {
+                Operators.onErrorDropped(t);
+                return;
+            }
+            done = true;
+            actual.onError(t);
+        }
+
+        @Override
+        public void onComplete() {
+            if (done)
+                return;
+            done = true;
+            if (open)
+                emit();
+            actual.onComplete();
+        }
+
+        @Override
+        public void request(long n) {
+            if (Operators.validate(n)) {
+                if (firstRequest == 0 && FIRST_REQUEST.compareAndSet(this, 0, 1))
+                    s.request(Operators.addCap(size, Operators.multiplyCap(n - 1, increment)));
+                else
+                    s.request(Operators.multiplyCap(n, increment));
+            }
+        }
+
+        @Override
+        public void cancel() {
+            s.cancel();
+        }
+    }
+
+}
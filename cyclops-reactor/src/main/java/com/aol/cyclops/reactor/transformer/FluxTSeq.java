@@ -39,12 +39,39 @@ import reactor.core.publisher.Flux;
  */
 public class FluxTSeq<T> implements FluxT<T> {
 
-    private final AnyMSeq<Flux<T>> run;
+    //the outer monad and the map / filter / peek stages not yet applied to it, fused into one map on first use
+    private final AnyMSeq<Flux<Object>> source;
+    private final Function<Flux<Object>, Flux<T>> stages;
+    private volatile AnyMSeq<Flux<T>> run;
 
     private FluxTSeq(final AnyMSeq<? extends Flux<T>> run) {
+        this.source = (AnyMSeq) run;
+        this.stages = null;
         this.run = (AnyMSeq) (run);
     }
 
+    private FluxTSeq(final AnyMSeq<Flux<Object>> source, final Function<Flux<Object>, Flux<T>> stages) {
+        this.source = source;
+        this.stages = stages;
+    }
+
+    private AnyMSeq<Flux<T>> run() {
+        AnyMSeq<Flux<T>> result = run;
+        if (result == null) {
+            synchronized (this) {
+                result = run;
+                if (result == null)
+                    run = result = OuterMap.seq(source, stages);
+            }
+        }
+        return result;
+    }
+
+    private <B> FluxTSeq<B> stage(final Function<? super Flux<T>, ? extends Flux<B>> next) {
+        return new FluxTSeq<B>(
+                               source, stages == null ? (Function) next : stages.andThen(next));
+    }
+
     /*
      * (non-Javadoc)
      * 
@@ -52,14 +79,14 @@ public class FluxTSeq<T> implements FluxT<T> {
      * isSeqPresent()
      */
     public boolean isSeqPresent() {
-        return !run.isEmpty();
+        return !run().isEmpty();
     }
 
     /**
      * @return The wrapped AnyM
      */
     public AnyMSeq<Flux<T>> unwrap() {
-        return run;
+        return run();
     }
 
     /**
@@ -97,7 +124,7 @@ public class FluxTSeq<T> implements FluxT<T> {
      * @return FluxT that applies the provided filter
      */
     public FluxTSeq<T> filter(Predicate<? super T> test) {
-        return of(run.map(stream -> stream.filter(i -> test.test(i))));
+        return stage(stream -> stream.filter(i -> test.test(i)));
     }
 
     /**
@@ -117,8 +144,7 @@ public class FluxTSeq<T> implements FluxT<T> {
      * @return FluxT that applies the map function to the wrapped Stream
      */
     public <B> FluxTSeq<B> map(Function<? super T, ? extends B> f) {
-        return new FluxTSeq<B>(
-                               run.map(o -> o.map(i -> f.apply(i))));
+        return stage(o -> o.map(i -> f.apply(i)));
     }
 
     /**
@@ -136,7 +162,7 @@ public class FluxTSeq<T> implements FluxT<T> {
      * @return FluxT that applies the flatMap function to the wrapped Stream
      */
     public <B> FluxTSeq<B> flatMapT(Function<? super T, FluxTSeq<? extends B>> f) {
-        return of(run.map(stream -> stream.flatMap(a -> Flux.from(f.apply(a).run.stream()))
+        return of(run().map(stream -> stream.flatMap(a -> Flux.from(f.apply(a).run().stream()))
                                           .<B> flatMap(a -> a)));
     }
 
@@ -150,7 +176,7 @@ public class FluxTSeq<T> implements FluxT<T> {
     public <B> FluxTSeq<B> flatMap(Function<? super T, ? extends Flux<? extends B>> f) {
 
         return new FluxTSeq<B>(
-                               run.map(o -> o.flatMap(f)));
+                               run().map(o -> o.flatMap(f)));
 
     }
 
@@ -196,7 +222,7 @@ public class FluxTSeq<T> implements FluxT<T> {
      * @see java.lang.Object#toString()
      */
     public String toString() {
-        return String.format("FluxTSeq[%s]", run);
+        return String.format("FluxTSeq[%s]", run());
     }
 
     /*
@@ -206,7 +232,7 @@ public class FluxTSeq<T> implements FluxT<T> {
      */
     @Override
     public <T> FluxTSeq<T> unit(T unit) {
-        return of(run.unit(Flux.just(unit)));
+        return of(run().unit(Flux.just(unit)));
     }
 
     /*
@@ -218,7 +244,7 @@ public class FluxTSeq<T> implements FluxT<T> {
      */
     @Override
     public ReactiveSeq<T> stream() {
-        return run.map(i -> ReactiveSeq.fromPublisher(i))
+        return run().map(i -> ReactiveSeq.fromPublisher(i))
                   .stream()
                   .flatMap(e -> e);
     }
@@ -250,7 +276,7 @@ public class FluxTSeq<T> implements FluxT<T> {
      * Iterator)
      */
     public <R> FluxTSeq<R> unitIterator(Iterator<R> it) {
-        return of(run.unitIterator(it)
+        return of(run().unitIterator(it)
                      .map(i -> Flux.just(i)));
     }
 
@@ -261,7 +287,7 @@ public class FluxTSeq<T> implements FluxT<T> {
      */
     @Override
     public <R> FluxT<R> empty() {
-        return of(run.empty());
+        return of(run().empty());
     }
 
     /*
@@ -271,7 +297,7 @@ public class FluxTSeq<T> implements FluxT<T> {
      */
     @Override
     public AnyM<? extends IterableFoldable<T>> nestedFoldables() {
-        return run.map(i -> ReactiveSeq.fromPublisher(i));
+        return run().map(i -> ReactiveSeq.fromPublisher(i));
 
     }
 
@@ -282,7 +308,7 @@ public class FluxTSeq<T> implements FluxT<T> {
      */
     @Override
     public AnyM<? extends CyclopsCollectable<T>> nestedCollectables() {
-        return run.map(i -> ReactiveSeq.fromPublisher(i));
+        return run().map(i -> ReactiveSeq.fromPublisher(i));
 
     }
 
@@ -306,7 +332,7 @@ public class FluxTSeq<T> implements FluxT<T> {
      */
     @Override
     public AnyMSeq<? extends Traversable<T>> transformerStream() {
-        return run.map(i -> ReactiveSeq.fromPublisher(i));
+        return run().map(i -> ReactiveSeq.fromPublisher(i));
     }
 
     /*
@@ -959,7 +985,7 @@ public class FluxTSeq<T> implements FluxT<T> {
      */
     @Override
     public int hashCode() {
-        return run.hashCode();
+        return run().hashCode();
     }
 
     /*
@@ -970,7 +996,7 @@ public class FluxTSeq<T> implements FluxT<T> {
     @Override
     public boolean equals(Object o) {
         if (o instanceof FluxTSeq) {
-            return run.equals(((FluxTSeq) o).run);
+            return run().equals(((FluxTSeq) o).run());
         }
         return false;
     }
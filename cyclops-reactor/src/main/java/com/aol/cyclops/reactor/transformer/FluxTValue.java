@@ -25,17 +25,44 @@ import reactor.core.publisher.Flux;
  */
 public class FluxTValue<T> implements FluxT<T> {
 
-    private final AnyMValue<Flux<T>> run;
+    //the outer monad and the map / filter / peek stages not yet applied to it, fused into one map on first use
+    private final AnyMValue<Flux<Object>> source;
+    private final Function<Flux<Object>, Flux<T>> stages;
+    private volatile AnyMValue<Flux<T>> run;
 
     private FluxTValue(final AnyMValue<? extends Flux<T>> in) {
+        this.source = (AnyMValue) in;
+        this.stages = null;
         this.run = (AnyMValue) in;
     }
 
+    private FluxTValue(final AnyMValue<Flux<Object>> source, final Function<Flux<Object>, Flux<T>> stages) {
+        this.source = source;
+        this.stages = stages;
+    }
+
+    private AnyMValue<Flux<T>> run() {
+        AnyMValue<Flux<T>> result = run;
+        if (result == null) {
+            synchronized (this) {
+                result = run;
+                if (result == null)
+                    run = result = OuterMap.value(source, stages);
+            }
+        }
+        return result;
+    }
+
+    private <B> FluxTValue<B> stage(final Function<? super Flux<T>, ? extends Flux<B>> next) {
+        return new FluxTValue<B>(
+                                 source, stages == null ? (Function) next : stages.andThen(next));
+    }
+
     /**
      * @return The wrapped AnyM
      */
     public AnyMValue<Flux<T>> unwrap() {
-        return run;
+        return run();
     }
 
     /*
@@ -46,7 +73,7 @@ public class FluxTValue<T> implements FluxT<T> {
      */
     @Override
     public boolean isSeqPresent() {
-        return !run.isEmpty();
+        return !run().isEmpty();
     }
 
     /**
@@ -84,7 +111,7 @@ public class FluxTValue<T> implements FluxT<T> {
      */
     public FluxTValue<T> filter(Predicate<? super T> test) {
 
-        return of(run.map(stream -> stream.filter(i -> test.test(i))));
+        return stage(stream -> stream.filter(i -> test.test(i)));
     }
 
     /**
@@ -103,8 +130,7 @@ public class FluxTValue<T> implements FluxT<T> {
      * @return FluxT that applies the map function to the wrapped Stream
      */
     public <B> FluxTValue<B> map(Function<? super T, ? extends B> f) {
-        return new FluxTValue<B>(
-                                 run.map(o -> o.map(f)));
+        return stage(o -> o.map(f));
     }
 
     /**
@@ -121,7 +147,7 @@ public class FluxTValue<T> implements FluxT<T> {
      * @return FluxT that applies the flatMap function to the wrapped Flux
      */
     public <B> FluxTValue<B> flatMapT(Function<? super T, FluxTValue<? extends B>> f) {
-        return of(run.map(stream -> stream.flatMap(a -> Flux.from(f.apply(a).run.stream()))
+        return of(run().map(stream -> stream.flatMap(a -> Flux.from(f.apply(a).run().stream()))
                                           .<B> flatMap(a -> a)));
     }
 
@@ -135,7 +161,7 @@ public class FluxTValue<T> implements FluxT<T> {
     public <B> FluxTValue<B> flatMap(Function<? super T, ? extends Flux<? extends B>> f) {
 
         return new FluxTValue<B>(
-                                 run.map(o -> o.flatMap(f)));
+                                 run().map(o -> o.flatMap(f)));
 
     }
 
@@ -180,14 +206,14 @@ public class FluxTValue<T> implements FluxT<T> {
      * @return True if Flux is present
      */
     public boolean isStreamPresent() {
-        return !run.isEmpty();
+        return !run().isEmpty();
     }
 
     /**
      * @return Get wrapped Flux
      */
     public Flux<T> get() {
-        return run.get();
+        return run().get();
     }
 
     /*
@@ -196,7 +222,7 @@ public class FluxTValue<T> implements FluxT<T> {
      * @see java.lang.Object#toString()
      */
     public String toString() {
-        return String.format("FluxTValue[%s]", run);
+        return String.format("FluxTValue[%s]", run());
     }
 
     /*
@@ -217,7 +243,7 @@ public class FluxTValue<T> implements FluxT<T> {
      */
     @Override
     public <U> FluxTValue<U> unitIterator(Iterator<U> u) {
-        return of(run.unit(Flux.fromIterable(() -> u)));
+        return of(run().unit(Flux.fromIterable(() -> u)));
     }
 
     /*
@@ -227,7 +253,7 @@ public class FluxTValue<T> implements FluxT<T> {
      */
     @Override
     public <T> FluxTValue<T> unit(T unit) {
-        return of(run.unit(Flux.just(unit)));
+        return of(run().unit(Flux.just(unit)));
     }
 
     /*
@@ -239,7 +265,7 @@ public class FluxTValue<T> implements FluxT<T> {
      */
     @Override
     public ReactiveSeq<T> stream() {
-        return run.map(i -> ReactiveSeq.fromPublisher(i))
+        return run().map(i -> ReactiveSeq.fromPublisher(i))
                   .stream()
                   .flatMap(e -> e);
     }
@@ -261,7 +287,7 @@ public class FluxTValue<T> implements FluxT<T> {
      */
     @Override
     public <R> FluxTValue<R> empty() {
-        return of(run.empty());
+        return of(run().empty());
     }
 
     /*
@@ -271,7 +297,7 @@ public class FluxTValue<T> implements FluxT<T> {
      */
     @Override
     public AnyM<? extends IterableFoldable<T>> nestedFoldables() {
-        return run.map(i -> ReactiveSeq.fromPublisher(i));
+        return run().map(i -> ReactiveSeq.fromPublisher(i));
 
     }
 
@@ -282,7 +308,7 @@ public class FluxTValue<T> implements FluxT<T> {
      */
     @Override
     public AnyM<? extends CyclopsCollectable<T>> nestedCollectables() {
-        return run.map(i -> ReactiveSeq.fromPublisher(i));
+        return run().map(i -> ReactiveSeq.fromPublisher(i));
 
     }
 
@@ -306,7 +332,7 @@ public class FluxTValue<T> implements FluxT<T> {
      */
     @Override
     public AnyM<? extends Traversable<T>> transformerStream() {
-        return run.map(i -> ReactiveSeq.fromPublisher(i));
+        return run().map(i -> ReactiveSeq.fromPublisher(i));
     }
 
     /*
@@ -316,7 +342,7 @@ public class FluxTValue<T> implements FluxT<T> {
      */
     @Override
     public int hashCode() {
-        return run.hashCode();
+        return run().hashCode();
     }
 
     /*
@@ -327,7 +353,7 @@ public class FluxTValue<T> implements FluxT<T> {
     @Override
     public boolean equals(Object o) {
         if (o instanceof FluxTValue) {
-            return run.equals(((FluxTValue) o).run);
+            return run().equals(((FluxTValue) o).run());
         }
         return false;
     }
@@ -45,20 +45,47 @@ import reactor.core.publisher.Mono;
 public class MonoTSeq<A> implements MonoT<A>, ValueTransformerSeq<A>, IterableFoldable<A>, ConvertableSequence<A>,
         CyclopsCollectable<A>, Sequential<A> {
 
-    private final AnyMSeq<Mono<A>> run;
+    //the outer monad and the map / filter / peek stages not yet applied to it, fused into one map on first use
+    private final AnyMSeq<Mono<Object>> source;
+    private final Function<Mono<Object>, Mono<A>> stages;
+    private volatile AnyMSeq<Mono<A>> run;
 
     /**
      * @return The wrapped AnyM
      */
     @Override
     public AnyMSeq<Mono<A>> unwrap() {
-        return run;
+        return run();
     }
 
     private MonoTSeq(final AnyMSeq<Mono<A>> run) {
+        this.source = (AnyMSeq) run;
+        this.stages = null;
         this.run = run;
     }
 
+    private MonoTSeq(final AnyMSeq<Mono<Object>> source, final Function<Mono<Object>, Mono<A>> stages) {
+        this.source = source;
+        this.stages = stages;
+    }
+
+    private AnyMSeq<Mono<A>> run() {
+        AnyMSeq<Mono<A>> result = run;
+        if (result == null) {
+            synchronized (this) {
+                result = run;
+                if (result == null)
+                    run = result = OuterMap.seq(source, stages);
+            }
+        }
+        return result;
+    }
+
+    private <B> MonoTSeq<B> stage(final Function<? super Mono<A>, ? extends Mono<B>> next) {
+        return new MonoTSeq<B>(
+                               source, stages == null ? (Function) next : stages.andThen(next));
+    }
+
     /*
      * (non-Javadoc)
      * 
@@ -93,7 +120,7 @@ public class MonoTSeq<A> implements MonoT<A>, ValueTransformerSeq<A>, IterableFo
     @Override
     public AnyMSeq<? extends Traversable<A>> transformerStream() {
 
-        return run.map(f -> ListX.of(f.block()));
+        return run().map(f -> ListX.of(f.block()));
     }
 
     /*
@@ -104,7 +131,7 @@ public class MonoTSeq<A> implements MonoT<A>, ValueTransformerSeq<A>, IterableFo
      */
     @Override
     public MonoTSeq<A> filter(final Predicate<? super A> test) {
-        return MonoTSeq.of(run.map(opt -> opt.filter(test)));
+        return stage(opt -> opt.filter(test));
     }
 
     /*
@@ -115,10 +142,10 @@ public class MonoTSeq<A> implements MonoT<A>, ValueTransformerSeq<A>, IterableFo
      */
     @Override
     public MonoTSeq<A> peek(final Consumer<? super A> peek) {
-        return of(run.peek(future -> future.map(a -> {
+        return map(a -> {
             peek.accept(a);
             return a;
-        })));
+        });
     }
 
     /*
@@ -129,8 +156,7 @@ public class MonoTSeq<A> implements MonoT<A>, ValueTransformerSeq<A>, IterableFo
      */
     @Override
     public <B> MonoTSeq<B> map(final Function<? super A, ? extends B> f) {
-        return new MonoTSeq<B>(
-                               run.map(o -> o.map(f)));
+        return stage(o -> o.map(f));
     }
 
     /**
@@ -149,7 +175,7 @@ public class MonoTSeq<A> implements MonoT<A>, ValueTransformerSeq<A>, IterableFo
      */
 
     public <B> MonoTSeq<B> flatMapT(final Function<? super A, MonoTSeq<B>> f) {
-        return of(run.map(future -> Mono.from(future.flatMap(a -> f.apply(a).run.stream()
+        return of(run().map(future -> Mono.from(future.flatMap(a -> f.apply(a).run().stream()
                                                                                 .toList()
                                                                                 .get(0)))));
     }
@@ -168,7 +194,7 @@ public class MonoTSeq<A> implements MonoT<A>, ValueTransformerSeq<A>, IterableFo
     @Override
     public <B> MonoTSeq<B> flatMap(final Function<? super A, ? extends MonadicValue<? extends B>> f) {
 
-        final AnyMSeq<Mono<? extends B>> mapped = run.map(o -> Mono.from(o.flatMap(f)));
+        final AnyMSeq<Mono<? extends B>> mapped = run().map(o -> Mono.from(o.flatMap(f)));
         return of(narrow(mapped));
 
     }
@@ -242,7 +268,7 @@ public class MonoTSeq<A> implements MonoT<A>, ValueTransformerSeq<A>, IterableFo
      */
     @Override
     public String toString() {
-        return String.format("FutureTSeq[%s]", run);
+        return String.format("FutureTSeq[%s]", run());
     }
 
     /*
@@ -252,7 +278,7 @@ public class MonoTSeq<A> implements MonoT<A>, ValueTransformerSeq<A>, IterableFo
      */
     @Override
     public ReactiveSeq<A> stream() {
-        return run.stream()
+        return run().stream()
                   .map(cf -> cf.block());
     }
 
@@ -267,7 +293,7 @@ public class MonoTSeq<A> implements MonoT<A>, ValueTransformerSeq<A>, IterableFo
     }
 
     public <R> MonoTSeq<R> unitIterator(final Iterator<R> it) {
-        return of(run.unitIterator(it)
+        return of(run().unitIterator(it)
                      .map(i -> Mono.just(i)));
     }
 
@@ -278,7 +304,7 @@ public class MonoTSeq<A> implements MonoT<A>, ValueTransformerSeq<A>, IterableFo
      */
     @Override
     public <R> MonoTSeq<R> unit(final R value) {
-        return of(run.unit(Mono.just(value)));
+        return of(run().unit(Mono.just(value)));
     }
 
     /*
@@ -288,7 +314,7 @@ public class MonoTSeq<A> implements MonoT<A>, ValueTransformerSeq<A>, IterableFo
      */
     @Override
     public <R> MonoTSeq<R> empty() {
-        return of(run.unit(Mono.empty()));
+        return of(run().unit(Mono.empty()));
     }
 
     /*
@@ -309,7 +335,7 @@ public class MonoTSeq<A> implements MonoT<A>, ValueTransformerSeq<A>, IterableFo
      */
     @Override
     public boolean isSeqPresent() {
-        return !run.isEmpty();
+        return !run().isEmpty();
     }
 
     /*
@@ -1026,7 +1052,7 @@ public class MonoTSeq<A> implements MonoT<A>, ValueTransformerSeq<A>, IterableFo
      */
     @Override
     public int hashCode() {
-        return run.hashCode();
+        return run().hashCode();
     }
 
     /*
@@ -1037,7 +1063,7 @@ public class MonoTSeq<A> implements MonoT<A>, ValueTransformerSeq<A>, IterableFo
     @Override
     public boolean equals(final Object o) {
         if (o instanceof MonoTSeq) {
-            return run.equals(((MonoTSeq) o).run);
+            return run().equals(((MonoTSeq) o).run());
         }
         return false;
     }
@@ -37,20 +37,47 @@ import reactor.core.publisher.Mono;
 public class MonoTValue<A> implements MonoT<A>, TransformerValue<A>, MonadicValue<A>, Supplier<A>,
         ConvertableFunctor<A>, Filterable<A>, ApplicativeFunctor<A>, Matchable.ValueAndOptionalMatcher<A> {
 
-    private final AnyMValue<Mono<A>> run;
+    //the outer monad and the map / filter / peek stages not yet applied to it, fused into one map on first use
+    private final AnyMValue<Mono<Object>> source;
+    private final Function<Mono<Object>, Mono<A>> stages;
+    private volatile AnyMValue<Mono<A>> run;
 
     /**
      * @return The wrapped AnyM
      */
     @Override
     public AnyMValue<Mono<A>> unwrap() {
-        return run;
+        return run();
     }
 
     private MonoTValue(final AnyMValue<Mono<A>> run) {
+        this.source = (AnyMValue) run;
+        this.stages = null;
         this.run = run;
     }
 
+    private MonoTValue(final AnyMValue<Mono<Object>> source, final Function<Mono<Object>, Mono<A>> stages) {
+        this.source = source;
+        this.stages = stages;
+    }
+
+    private AnyMValue<Mono<A>> run() {
+        AnyMValue<Mono<A>> result = run;
+        if (result == null) {
+            synchronized (this) {
+                result = run;
+                if (result == null)
+                    run = result = OuterMap.value(source, stages);
+            }
+        }
+        return result;
+    }
+
+    private <B> MonoTValue<B> stage(final Function<? super Mono<A>, ? extends Mono<B>> next) {
+        return new MonoTValue<B>(
+                                 source, stages == null ? (Function) next : stages.andThen(next));
+    }
+
     /*
      * (non-Javadoc)
      * 
@@ -60,7 +87,7 @@ public class MonoTValue<A> implements MonoT<A>, TransformerValue<A>, MonadicValu
      */
     @Override
     public FutureW<A> value() {
-        return FutureW.of(run.get()
+        return FutureW.of(run().get()
                              .toFuture());
     }
 
@@ -74,7 +101,7 @@ public class MonoTValue<A> implements MonoT<A>, TransformerValue<A>, MonadicValu
      */
     @Override
     public boolean isPresent() {
-        final Mono<A> val = run.orElse(Mono.empty());
+        final Mono<A> val = run().orElse(Mono.empty());
         return val.block() != null;
     }
 
@@ -86,7 +113,7 @@ public class MonoTValue<A> implements MonoT<A>, TransformerValue<A>, MonadicValu
      */
     @Override
     public boolean isValuePresent() {
-        return !run.isEmpty();
+        return !run().isEmpty();
     }
 
     /*
@@ -98,8 +125,7 @@ public class MonoTValue<A> implements MonoT<A>, TransformerValue<A>, MonadicValu
     @Override
     public MonoTValue<A> filter(final Predicate<? super A> test) {
 
-        final AnyMValue<Mono<A>> x = run.map(opt -> opt.filter(test));
-        return MonoTValue.of(x);
+        return stage(opt -> opt.filter(test));
     }
 
     /*
@@ -125,8 +151,7 @@ public class MonoTValue<A> implements MonoT<A>, TransformerValue<A>, MonadicValu
      */
     @Override
     public <B> MonoTValue<B> map(final Function<? super A, ? extends B> f) {
-        return new MonoTValue<B>(
-                                 run.map(o -> o.map(f)));
+        return stage(o -> o.map(f));
     }
 
     /*
@@ -140,7 +165,7 @@ public class MonoTValue<A> implements MonoT<A>, TransformerValue<A>, MonadicValu
     public <T2, R> MonoTValue<R> combine(final Value<? extends T2> app,
             final BiFunction<? super A, ? super T2, ? extends R> fn) {
         return new MonoTValue<R>(
-                                 run.map(o -> Monos.combine(o, app, fn)));
+                                 run().map(o -> Monos.combine(o, app, fn)));
     }
 
     /*
@@ -154,7 +179,7 @@ public class MonoTValue<A> implements MonoT<A>, TransformerValue<A>, MonadicValu
             final BiFunction<? super A, ? super T2, ? extends R> fn) {
 
         return new MonoTValue<R>(
-                                 run.map(o -> Monos.zip(o, app, fn)));
+                                 run().map(o -> Monos.zip(o, app, fn)));
     }
 
     /*
@@ -167,7 +192,7 @@ public class MonoTValue<A> implements MonoT<A>, TransformerValue<A>, MonadicValu
     public <T2, R> MonoTValue<R> zip(final BiFunction<? super A, ? super T2, ? extends R> fn,
             final Publisher<? extends T2> app) {
         return new MonoTValue<>(
-                                run.map(o -> Monos.zip(o, fn, app)));
+                                run().map(o -> Monos.zip(o, fn, app)));
     }
 
     /*
@@ -244,7 +269,7 @@ public class MonoTValue<A> implements MonoT<A>, TransformerValue<A>, MonadicValu
      * @return MonoT that applies the flatMap function to the wrapped CompletableFuture
      */
     public <B> MonoTValue<B> flatMapT(final Function<? super A, MonoTValue<B>> f) {
-        return of(run.map(future -> Mono.from(future.flatMap(a -> f.apply(a).run.stream()
+        return of(run().map(future -> Mono.from(future.flatMap(a -> f.apply(a).run().stream()
                                                                                 .toList()
                                                                                 .get(0)))));
     }
@@ -263,7 +288,7 @@ public class MonoTValue<A> implements MonoT<A>, TransformerValue<A>, MonadicValu
     @Override
     public <B> MonoTValue<B> flatMap(final Function<? super A, ? extends MonadicValue<? extends B>> f) {
 
-        final AnyMValue<Mono<? extends B>> mapped = run.map(o -> Mono.from(o.flatMap(f)));
+        final AnyMValue<Mono<? extends B>> mapped = run().map(o -> Mono.from(o.flatMap(f)));
         return of(narrow(mapped));
 
     }
@@ -329,7 +354,7 @@ public class MonoTValue<A> implements MonoT<A>, TransformerValue<A>, MonadicValu
      */
     @Override
     public String toString() {
-        return String.format("MonoTValue[%s]", run);
+        return String.format("MonoTValue[%s]", run());
     }
 
     /*
@@ -339,7 +364,7 @@ public class MonoTValue<A> implements MonoT<A>, TransformerValue<A>, MonadicValu
      */
     @Override
     public A get() {
-        return run.get()
+        return run().get()
                   .block();
     }
 
@@ -350,7 +375,7 @@ public class MonoTValue<A> implements MonoT<A>, TransformerValue<A>, MonadicValu
      */
     @Override
     public ReactiveSeq<A> stream() {
-        val maybeEval = run.toMaybe();
+        val maybeEval = run().toMaybe();
         return maybeEval.isPresent() ? Publishers.stream(maybeEval.get())
 
                 : ReactiveSeq.of();
@@ -363,7 +388,7 @@ public class MonoTValue<A> implements MonoT<A>, TransformerValue<A>, MonadicValu
      */
     @Override
     public Iterator<A> iterator() {
-        val maybeEval = run.toMaybe();
+        val maybeEval = run().toMaybe();
         return maybeEval.isPresent() ? Monos.iterator(maybeEval.get())
 
                 : Arrays.<A> asList()
@@ -378,7 +403,7 @@ public class MonoTValue<A> implements MonoT<A>, TransformerValue<A>, MonadicValu
      */
     @Override
     public void subscribe(final Subscriber<? super A> s) {
-        run.toMaybe()
+        run().toMaybe()
            .forEach(e -> e.subscribe(s));
 
     }
@@ -390,7 +415,7 @@ public class MonoTValue<A> implements MonoT<A>, TransformerValue<A>, MonadicValu
      */
     @Override
     public boolean test(final A t) {
-        val maybeEval = run.toMaybe();
+        val maybeEval = run().toMaybe();
         return maybeEval.isPresent() ? Monos.test(maybeEval.get(), t) : false;
 
     }
@@ -402,7 +427,7 @@ public class MonoTValue<A> implements MonoT<A>, TransformerValue<A>, MonadicValu
      */
     @Override
     public <R> MonoTValue<R> unit(final R value) {
-        return of(run.unit(Mono.just(value)));
+        return of(run().unit(Mono.just(value)));
     }
 
     /*
@@ -412,7 +437,7 @@ public class MonoTValue<A> implements MonoT<A>, TransformerValue<A>, MonadicValu
      */
     @Override
     public <R> MonoTValue<R> empty() {
-        return of(run.unit(Mono.empty()));
+        return of(run().unit(Mono.empty()));
     }
 
     /*
@@ -535,7 +560,7 @@ public class MonoTValue<A> implements MonoT<A>, TransformerValue<A>, MonadicValu
      */
     @Override
     public int hashCode() {
-        return run.hashCode();
+        return run().hashCode();
     }
 
     /*
@@ -546,7 +571,7 @@ public class MonoTValue<A> implements MonoT<A>, TransformerValue<A>, MonadicValu
     @Override
     public boolean equals(final Object o) {
         if (o instanceof MonoTValue) {
-            return run.equals(((MonoTValue) o).run);
+            return run().equals(((MonoTValue) o).run());
         }
         return false;
     }
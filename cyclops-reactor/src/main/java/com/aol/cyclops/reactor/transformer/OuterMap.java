@@ -0,0 +1,52 @@
+package com.aol.cyclops.reactor.transformer;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+import com.aol.cyclops.control.AnyM;
+import com.aol.cyclops.data.collections.extensions.standard.ListX;
+import com.aol.cyclops.reactor.Fluxes;
+import com.aol.cyclops.reactor.Monos;
+import com.aol.cyclops.types.anyM.AnyMSeq;
+import com.aol.cyclops.types.anyM.AnyMValue;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Applies the fused map / filter / peek stages of a monad transformer to its outer monad in a single map. The common
+ * outer types (ListX, Optional, CompletableFuture, Flux and Mono) are mapped directly, rather than via AnyM.map and
+ * Comprehender dispatch, producing the same types AnyM.map would.
+ *
+ * @author johnmcclean
+ *
+ */
+final class OuterMap {
+
+    private OuterMap() {
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T, R> AnyMSeq<R> seq(AnyMSeq<T> outer, Function<? super T, ? extends R> fn) {
+        Object monad = outer.unwrap();
+        //other List types (PVectorX, PStackX..) keep their type via AnyM.map
+        if (monad instanceof ListX)
+            return AnyM.fromList(((ListX<T>) monad).map(fn));
+        if (monad instanceof Flux)
+            return Fluxes.anyM(((Flux<T>) monad).map(fn));
+        return outer.map(fn);
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T, R> AnyMValue<R> value(AnyMValue<T> outer, Function<? super T, ? extends R> fn) {
+        Object monad = outer.unwrap();
+        if (monad instanceof Optional)
+            return AnyM.fromOptional(((Optional<T>) monad).map(fn));
+        if (monad instanceof CompletableFuture)
+            return AnyM.fromCompletableFuture(((CompletableFuture<T>) monad).thenApply(fn));
+        if (monad instanceof Mono)
+            return Monos.anyM(((Mono<T>) monad).map(fn));
+        return outer.map(fn);
+    }
+}
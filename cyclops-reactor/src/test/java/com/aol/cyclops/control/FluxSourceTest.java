@@ -31,6 +31,7 @@ import com.aol.cyclops.react.threads.SequentialElasticPools;
 import com.aol.cyclops.reactor.collections.extensions.standard.LazyListX;
 import com.aol.cyclops.reactor.flux.pushable.MultipleFluxSource;
 import com.aol.cyclops.reactor.flux.pushable.PushableFlux;
+import com.aol.cyclops.reactor.metrics.PipeMetrics;
 import com.aol.cyclops.types.futurestream.LazyFutureStream;
 import com.aol.cyclops.util.ExceptionSoftener;
 import com.aol.cyclops.util.stream.pushable.PushableLazyFutureStream;
@@ -304,4 +305,32 @@ public class FluxSourceTest {
         assertThat(pushable.getStream().collect(Collectors.toList()),
                 hasItem(100));
     }
-}
\ No newline at end of file
+    @Test
+    public void testFluxMetrics() {
+        PipeMetrics metrics = new PipeMetrics();
+        PushableFlux<Integer> pushable = FluxSource.ofUnbounded()
+                                                   .withMetrics(metrics)
+                                                   .flux();
+        pushable.getInput().offer(100);
+        pushable.getInput().offer(200);
+        assertThat(metrics.snapshot().getQueueDepth(),is(2));
+        pushable.getInput().close();
+        assertThat(pushable.getFlux().collectList().block(),is(ListX.of(100,200)));
+        assertThat(metrics.snapshot().getOffered(),is(2L));
+        assertThat(metrics.snapshot().getDelivered(),is(2L));
+    }
+    @Test
+    public void testRingBufferMetrics() {
+        PipeMetrics metrics = new PipeMetrics();
+        PushableFlux<Integer> pushable = FluxSource.ofRingBuffer(16)
+                                                   .withMetrics(metrics)
+                                                   .flux();
+        List<Integer> received = new ArrayList<>();
+        pushable.getFlux().subscribe(received::add);
+        pushable.getInput().offer(100);
+        pushable.getInput().close();
+        assertThat(received,is(ListX.of(100)));
+        assertThat(metrics.snapshot().getOffered(),is(1L));
+        assertThat(metrics.snapshot().getLag(),is(0L));
+    }
+}
@@ -11,6 +11,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.concurrent.Executor;
 import java.util.concurrent.Executors;
@@ -22,6 +23,8 @@ import org.junit.Test;
 import com.aol.cyclops.data.async.Queue;
 import com.aol.cyclops.data.async.QueueFactories;
 import com.aol.cyclops.data.collections.extensions.standard.ListX;
+import com.aol.cyclops.reactor.flux.pushable.RingBufferQueue;
+import com.aol.cyclops.reactor.metrics.PipeMetricsSnapshot;
 import com.aol.cyclops.types.futurestream.LazyFutureStream;
 import com.aol.cyclops.types.stream.reactive.SeqSubscriber;
 
@@ -364,4 +367,150 @@ public class ReactorPipesTest {
         queue.close();
         assertThat(queue.stream().toList(),equalTo(Arrays.asList(1,2,3,4)));
     }
+    @Test
+    public void pushAll(){
+        ReactorPipes<String,Integer> bus = ReactorPipes.of();
+        Queue<Integer> queue = new Queue<>();
+        bus.register("hello", queue);
+        bus.pushAll("hello", ListX.of(1,2,3));
+        bus.pushAll("absent", ListX.of(4));
+        queue.close();
+        assertThat(queue.stream().toList(),equalTo(Arrays.asList(1,2,3)));
+    }
+    @Test
+    public void pushAllMap(){
+        ReactorPipes<String,Integer> bus = ReactorPipes.of();
+        Queue<Integer> q1 = new Queue<>();
+        Queue<Integer> q2 = new Queue<>();
+        bus.register("one", q1);
+        bus.register("two", q2);
+        Map<String,List<Integer>> batches = new HashMap<>();
+        batches.put("one", ListX.of(1,2));
+        batches.put("two", ListX.of(3));
+        bus.pushAll(batches);
+        q1.close();
+        q2.close();
+        assertThat(q1.stream().toList(),equalTo(Arrays.asList(1,2)));
+        assertThat(q2.stream().toList(),equalTo(Arrays.asList(3)));
+    }
+    @Test
+    public void pushAllRingBuffer(){
+        ReactorPipes<String,Integer> bus = ReactorPipes.of();
+        RingBufferQueue<Integer> queue = new RingBufferQueue<>(4);
+        bus.register("hello", queue);
+        List<Integer> received = new ArrayList<>();
+        queue.flux().subscribe(received::add);
+        bus.pushAll("hello", ListX.range(0,100));
+        queue.close();
+        assertThat(received,equalTo(ListX.range(0,100)));
+    }
+    @Test
+    public void batchedRegistration(){
+        ReactorPipes<String,Integer> bus = ReactorPipes.of();
+        Queue<Integer> queue = new Queue<>();
+        bus.register("hello", queue, 3);
+        bus.push("hello", 1);
+        bus.pushAll("hello", ListX.of(2,3,4));
+        assertThat(queue.size(),equalTo(3));
+        bus.push("hello", 5);
+        assertThat(queue.size(),equalTo(3));
+        bus.flush("hello");
+        assertThat(queue.size(),equalTo(5));
+        bus.push("hello", 6);
+        bus.close("hello");
+        assertThat(queue.stream().toList(),equalTo(Arrays.asList(1,2,3,4,5,6)));
+    }
+    @Test
+    public void batchedFlux(){
+        ReactorPipes<String,Integer> bus = ReactorPipes.of();
+        bus.register("hello", new RingBufferQueue<>(16), 10);
+        List<Integer> received = new ArrayList<>();
+        bus.flux("hello").get().subscribe(received::add);
+        bus.pushAll("hello", ListX.range(0,25));
+        assertThat(received,equalTo(ListX.range(0,20)));
+        bus.close("hello");
+        assertThat(received,equalTo(ListX.range(0,25)));
+    }
+    @Test(expected=IllegalArgumentException.class)
+    public void batchedRegistrationInvalidSize(){
+        ReactorPipes.<String,Integer>of().register("hello", new Queue<>(), 0);
+    }
+    @Test
+    public void metrics(){
+        ReactorPipes<String,Integer> bus = ReactorPipes.instrumented();
+        Queue<Integer> queue = new Queue<>();
+        bus.register("hello", queue);
+        bus.push("hello", 1);
+        bus.pushAll("hello", ListX.of(2,3));
+        PipeMetricsSnapshot snapshot = bus.metrics("hello").get();
+        assertThat(snapshot.getOffered(),equalTo(3L));
+        assertThat(snapshot.getQueueDepth(),equalTo(3));
+        assertThat(snapshot.getLag(),equalTo(3L));
+        assertThat(bus.metrics().size(),equalTo(1));
+        
+        queue.close();
+        bus.flux("hello").get().blockLast();
+        assertThat(bus.metrics("hello").get().getDelivered(),equalTo(3L));
+        assertThat(bus.metrics("hello").get().getLag(),equalTo(0L));
+        
+        try{
+            bus.push("hello", 4);
+        }catch(Queue.ClosedQueueException e){
+            
+        }
+        assertThat(bus.metrics("hello").get().getFailed(),equalTo(1L));
+    }
+    @Test
+    public void metricsBatched(){
+        ReactorPipes<String,Integer> bus = ReactorPipes.instrumented();
+        bus.register("hello", new Queue<>(), 2);
+        bus.pushAll("hello", ListX.of(1,2,3));
+        assertThat(bus.metrics("hello").get().getOffered(),equalTo(2L));
+        bus.flush("hello");
+        assertThat(bus.metrics("hello").get().getOffered(),equalTo(3L));
+    }
+    @Test
+    public void metricsRingBufferOneShotIterable(){
+        ReactorPipes<String,Integer> bus = ReactorPipes.instrumented();
+        RingBufferQueue<Integer> queue = new RingBufferQueue<>(16);
+        bus.register("hello", queue);
+        bus.pushAll("hello", ListX.of(1,2,3).stream()::iterator);
+        assertThat(bus.metrics("hello").get().getOffered(),equalTo(3L));
+        assertThat(bus.metrics("hello").get().getRejected(),equalTo(0L));
+        queue.close();
+        assertThat(queue.flux().collectList().block(),equalTo(Arrays.asList(1,2,3)));
+    }
+    @Test(timeout=5000)
+    public void batchedPushDoesNotWaitForBlockedWriter() throws InterruptedException{
+        ReactorPipes<String,Integer> bus = ReactorPipes.of();
+        Queue<Integer> queue = QueueFactories.<Integer>boundedQueue(1).build();
+        bus.register("hello", queue, 2);
+        Thread writer = new Thread(()->bus.pushAll("hello", ListX.of(1,2)));
+        writer.start();
+        while(queue.size()<1)
+            Thread.yield();
+        //the writer is blocked offering 2, this batch is queued behind it
+        bus.pushAll("hello", ListX.of(3,4));
+        assertThat(queue.stream().limit(4).toList(),equalTo(Arrays.asList(1,2,3,4)));
+        writer.join();
+    }
+    @Test
+    public void metricsNotInstrumented(){
+        ReactorPipes<String,Integer> bus = ReactorPipes.of();
+        bus.register("hello", new Queue<>());
+        bus.push("hello", 1);
+        assertFalse(bus.metrics("hello").isPresent());
+        assertThat(bus.metrics().size(),equalTo(0));
+    }
+    @Test
+    public void reportMetrics(){
+        ReactorPipes<String,Integer> bus = ReactorPipes.instrumented();
+        bus.register("one", new Queue<>());
+        bus.register("two", new Queue<>());
+        bus.push("one", 1);
+        Map<String,Long> offered = new HashMap<>();
+        bus.reportMetrics((k,snapshot)->offered.put(k,snapshot.getOffered()));
+        assertThat(offered.get("one"),equalTo(1L));
+        assertThat(offered.get("two"),equalTo(0L));
+    }
 }
@@ -3,6 +3,9 @@ package com.aol.cyclops.reactor;
 import static org.hamcrest.Matchers.equalTo;
 import static org.junit.Assert.assertThat;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.jooq.lambda.tuple.Tuple;
 import org.jooq.lambda.tuple.Tuple2;
 import org.junit.Test;
@@ -41,4 +44,24 @@ public class FluxesTest {
     public void groupedUntil(){
         Fluxes.groupedUntil(Flux.just(1,2,3,4,5,6),i->i%3!=0).subscribe(System.out::println);
     }
+    @Test
+    public void removeAllReadsIterableOnSubscribe(){
+        List<Integer> toRemove = new ArrayList<>();
+        Flux<Integer> flux = Fluxes.removeAll(Flux.range(1, 6), toRemove);
+        toRemove.add(2);
+        toRemove.add(5);
+        assertThat(flux.collectList()
+                       .block(),
+                   equalTo(ListX.of(1, 3, 4, 6)));
+    }
+    @Test
+    public void retainAllReadsIterableOnSubscribe(){
+        List<Integer> toRetain = new ArrayList<>();
+        Flux<Integer> flux = Fluxes.retainAll(Flux.range(1, 6), toRetain);
+        toRetain.add(2);
+        toRetain.add(5);
+        assertThat(flux.collectList()
+                       .block(),
+                   equalTo(ListX.of(2, 5)));
+    }
 }
@@ -3,10 +3,13 @@ package com.aol.cyclops.reactor;
 import static com.aol.cyclops.control.Streamable.fromStream;
 import static java.util.stream.Stream.concat;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
 import static org.junit.Assert.assertThat;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Stream;
 
 import org.jooq.lambda.tuple.Tuple;
@@ -15,12 +18,16 @@ import org.jooq.lambda.tuple.Tuple3;
 import org.jooq.lambda.tuple.Tuple4;
 import org.junit.Test;
 
+import com.aol.cyclops.control.AnyM;
 import com.aol.cyclops.control.FutureW;
+import com.aol.cyclops.control.Maybe;
 import com.aol.cyclops.control.ReactiveSeq;
 import com.aol.cyclops.data.collections.extensions.standard.ListX;
 import com.aol.cyclops.data.collections.extensions.standard.SetX;
+import com.aol.cyclops.types.anyM.AnyMValue;
 import com.aol.cyclops.reactor.transformer.FluxT;
 import com.aol.cyclops.reactor.transformer.MonoT;
+import com.aol.cyclops.reactor.transformer.MonoTValue;
 
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -174,4 +181,80 @@ public class ReactorTest {
         Mono<Integer> result = Monos.forEach(Mono.just(10), a -> Mono.<Integer> just(a + 10), (a, b) -> a + b);
         assertThat(result.block(), equalTo(30));
     }
+
+    @Test
+    public void monoFilterIsLazy() {
+        AtomicInteger calls = new AtomicInteger(0);
+        AnyMValue<Integer> filtered = Monos.anyM(Mono.fromCallable(() -> calls.incrementAndGet()))
+                                           .filter(i -> i > 0);
+        assertThat(filtered.unwrap(), instanceOf(Mono.class));
+        assertThat(calls.get(), equalTo(0));
+        assertThat(filtered.<Mono<Integer>> unwrap()
+                           .block(),
+                   equalTo(1));
+        assertThat(calls.get(), equalTo(1));
+    }
+
+    @Test
+    public void futureWFlatMapMonoDoesNotBlock() {
+        CompletableFuture<Integer> pending = new CompletableFuture<>();
+        AnyMValue<Integer> result = AnyM.fromFutureW(FutureW.ofResult(10))
+                                        .flatMap(a -> Monos.anyM(Mono.fromFuture(pending)
+                                                                     .map(b -> a + b)));
+        FutureW<Integer> future = result.unwrap();
+        assertThat(future.isDone(), equalTo(false));
+        pending.complete(20);
+        assertThat(future.get(), equalTo(30));
+    }
+
+    @Test
+    public void completableFutureFlatMapMonoDoesNotBlock() {
+        CompletableFuture<Integer> pending = new CompletableFuture<>();
+        AnyMValue<Integer> result = AnyM.fromCompletableFuture(CompletableFuture.completedFuture(10))
+                                        .flatMap(a -> Monos.anyM(Mono.fromFuture(pending)
+                                                                     .map(b -> a + b)));
+        CompletableFuture<Integer> future = result.unwrap();
+        assertThat(future.isDone(), equalTo(false));
+        pending.complete(20);
+        assertThat(future.join(), equalTo(30));
+    }
+
+    @Test
+    public void monoFlatMapFutureIsLazy() {
+        CompletableFuture<Integer> pending = new CompletableFuture<>();
+        AnyMValue<Integer> result = Monos.anyM(Mono.just(10))
+                                         .flatMap(a -> AnyM.fromFutureW(FutureW.of(pending)
+                                                                               .map(b -> a + b)));
+        Mono<Integer> mono = result.unwrap();
+        pending.complete(20);
+        assertThat(mono.block(), equalTo(30));
+        assertThat(Monos.anyM(Mono.just(10))
+                        .flatMap(a -> AnyM.fromCompletableFuture(CompletableFuture.completedFuture(a + 1)))
+                        .get(),
+                   equalTo(11));
+    }
+
+    @Test
+    public void fluxFlatMapMono() {
+        assertThat(Fluxes.anyM(Flux.just(1, 2, 3))
+                         .flatMap(a -> Monos.anyM(Mono.just(a * 10)))
+                         .toListX(),
+                   equalTo(ListX.of(10, 20, 30)));
+    }
+
+    @Test
+    public void maybeFlatMapMono() {
+        AnyMValue<Integer> result = AnyM.fromMaybe(Maybe.of(10))
+                                        .flatMap(a -> Monos.anyM(Mono.just(a + 1)));
+        assertThat(result.unwrap(), instanceOf(Maybe.class));
+        assertThat(result.get(), equalTo(11));
+    }
+
+    @Test
+    public void monoTValueFlatMapMono() {
+        AnyMValue<Integer> result = AnyM.<Integer> ofValue(MonoTValue.of(Mono.just(10)))
+                                        .flatMap(a -> Monos.anyM(Mono.just(a + 1)));
+        assertThat(result.unwrap(), instanceOf(MonoTValue.class));
+        assertThat(result.get(), equalTo(11));
+    }
 }
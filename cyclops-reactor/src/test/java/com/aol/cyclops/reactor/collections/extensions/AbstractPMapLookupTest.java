@@ -0,0 +1,58 @@
+package com.aol.cyclops.reactor.collections.extensions;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Map;
+
+import org.junit.Test;
+import org.pcollections.HashTreePMap;
+import org.pcollections.PMap;
+
+/**
+ * containsKey / containsValue / get / getOrDefault / equals / hashCode checks shared by the PMap adapters
+ */
+public abstract class AbstractPMapLookupTest {
+
+    public abstract PMap<Integer, String> singleton(Integer key, String value);
+
+    @Test
+    public void lookups(){
+        Map<Integer,String> map = singleton(1,"hello").plus(2,"world");
+        assertTrue(map.containsKey(2));
+        assertFalse(map.containsKey(3));
+        assertThat(map.get(2),equalTo("world"));
+        assertThat(map.get(3),nullValue());
+        assertThat(map.getOrDefault(1,"none"),equalTo("hello"));
+        assertThat(map.getOrDefault(3,"none"),equalTo("none"));
+        assertTrue(map.containsValue("world"));
+        assertFalse(map.containsValue("none"));
+        assertThat(map,equalTo(HashTreePMap.singleton(1,"hello").plus(2,"world")));
+        assertThat(map,not(equalTo(HashTreePMap.singleton(1,"hello").plus(2,"bye"))));
+        assertThat(map,not(equalTo(HashTreePMap.singleton(1,"hello").plus(3,"world"))));
+        assertThat(map.hashCode(),equalTo(HashTreePMap.singleton(1,"hello").plus(2,"world").hashCode()));
+    }
+    @Test
+    public void lookupsLarge(){
+        PMap<Integer,String> map = singleton(0,"v0");
+        PMap<Integer,String> org = HashTreePMap.singleton(0,"v0");
+        for(int i=1;i<1000;i++){
+            map = map.plus(i,"v"+i);
+            org = org.plus(i,"v"+i);
+        }
+        assertTrue(map.containsKey(999));
+        assertFalse(map.containsKey(1000));
+        assertThat(map.get(500),equalTo("v500"));
+        assertThat(map.get(1000),nullValue());
+        assertThat(map.getOrDefault(1000,"none"),equalTo("none"));
+        assertTrue(map.containsValue("v999"));
+        assertFalse(map.containsValue("v1000"));
+        assertThat(map,equalTo(org));
+        assertThat(map,not(equalTo(org.plus(999,"bye"))));
+        assertThat(map.hashCode(),equalTo(org.hashCode()));
+    }
+}
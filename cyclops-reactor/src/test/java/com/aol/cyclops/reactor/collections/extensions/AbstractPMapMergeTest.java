@@ -0,0 +1,90 @@
+package com.aol.cyclops.reactor.collections.extensions;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertThat;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Test;
+import org.pcollections.HashTreePMap;
+import org.pcollections.PMap;
+
+import com.aol.cyclops.reactor.collections.extensions.base.NativeMerge;
+
+/**
+ * plusAll / merge checks shared by the PMap adapters, for small maps and for maps large enough to take the bulk (HAMT,
+ * transient and Clojure array map promotion) paths
+ */
+public abstract class AbstractPMapMergeTest extends AbstractPMapLookupTest {
+
+    /**
+     * @return A singleton PMap from another backend of the same library (if it has one), used to check plusAll across
+     *         backends
+     */
+    public PMap<Integer, String> otherBackendSingleton(Integer key, String value) {
+        return HashTreePMap.singleton(key, value);
+    }
+
+    private PMap<Integer, String> range(int start, int end, String prefix) {
+        PMap<Integer, String> map = singleton(start, prefix + start);
+        for (int i = start + 1; i < end; i++)
+            map = map.plus(i, prefix + i);
+        return map;
+    }
+
+    private PMap<Integer, String> expected(int start, int end, String prefix) {
+        PMap<Integer, String> map = HashTreePMap.empty();
+        for (int i = start; i < end; i++)
+            map = map.plus(i, prefix + i);
+        return map;
+    }
+
+    @Test
+    public void plusAllSameBackend(){
+        PMap<Integer,String> base = singleton(1,"hello");
+        PMap<Integer,String> org = HashTreePMap.singleton(1,"hello");
+        Map<Integer,String> map = base.plusAll(singleton(1,"bye").plus(2,"world"));
+        assertThat(map,equalTo(org.plus(1,"bye").plus(2,"world")));
+        assertThat(base.plusAll(org.plus(2,"world")),equalTo(org.plus(2,"world")));
+    }
+    @Test
+    public void plusAllOtherBackend(){
+        PMap<Integer,String> base = singleton(1,"hello");
+        assertThat(base.plusAll(otherBackendSingleton(1,"bye")),equalTo(HashTreePMap.singleton(1,"bye")));
+        assertThat(base.plusAll(otherBackendSingleton(2,"world")),equalTo(HashTreePMap.singleton(1,"hello").plus(2,"world")));
+    }
+    @Test
+    public void merge(){
+        PMap<Integer,String> base = singleton(1,"hello");
+        PMap<Integer,String> org = HashTreePMap.singleton(1,"hello");
+        PMap<Integer,String> other = singleton(1," world").plus(2,"!");
+        Map<Integer,String> merged = NativeMerge.merge(base,other,(a,b)->a+b);
+        assertThat(merged,equalTo(org.plus(1,"hello world").plus(2,"!")));
+        assertThat(NativeMerge.merge(base,other.plus(3,"?"),(a,b)->a+b),equalTo(org.plus(1,"hello world").plus(2,"!").plus(3,"?")));
+        assertThat(NativeMerge.merge(base,org.plus(2,"!"),(a,b)->b+a),equalTo(org.plus(1,"hellohello").plus(2,"!")));
+    }
+    @Test
+    public void plusAllLarge(){
+        for(int size : new int[]{9,1000}){
+            PMap<Integer,String> base = range(0,size,"v");
+            PMap<Integer,String> expected = expected(0,size,"v").plusAll(expected(size/2,size/2+size,"w"));
+            assertThat(base.plusAll(range(size/2,size/2+size,"w")),equalTo(expected));
+            assertThat(base.plusAll(new HashMap<>(expected(size/2,size/2+size,"w"))),equalTo(expected));
+            assertThat(singleton(0,"v0").plusAll(range(0,size,"v")),equalTo(expected(0,size,"v")));
+            assertThat(base.plusAll(range(size/2,size/2+size,"w")).hashCode(),equalTo(expected.hashCode()));
+        }
+    }
+    @Test
+    public void mergeLarge(){
+        for(int size : new int[]{9,1000}){
+            PMap<Integer,String> base = range(0,size,"v");
+            PMap<Integer,String> expected = expected(0,size,"v").plusAll(expected(size,size/2+size,"w"));
+            for(int i=size/2;i<size;i++)
+                expected = expected.plus(i,"v"+i+"w"+i);
+            assertThat(NativeMerge.merge(base,range(size/2,size/2+size,"w"),(a,b)->a+b),equalTo(expected));
+            assertThat(NativeMerge.merge(base,new HashMap<>(expected(size/2,size/2+size,"w")),(a,b)->a+b),equalTo(expected));
+            assertThat(NativeMerge.merge(singleton(0,"v0"),range(1,size,"v"),(a,b)->a+b),equalTo(expected(0,size,"v")));
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.aol.cyclops.reactor.collections.extensions;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+import org.pcollections.HashTreePSet;
+import org.pcollections.PSet;
+
+import com.aol.cyclops.data.collections.extensions.standard.ListX;
+
+/**
+ * contains / containsAll / equals checks shared by the PSet and POrderedSet adapters
+ */
+public abstract class AbstractPSetLookupTest {
+
+    public abstract PSet<Integer> emptyPSet();
+
+    @Test
+    public void contains(){
+        PSet<Integer> large = emptyPSet().plusAll(ListX.range(0,100_000));
+        assertTrue(large.contains(0));
+        assertTrue(large.contains(99_999));
+        assertFalse(large.contains(100_000));
+        assertTrue(large.containsAll(ListX.of(1,500,99_999)));
+        assertFalse(large.containsAll(ListX.of(1,500,100_000)));
+        assertThat(large,equalTo(HashTreePSet.<Integer>empty().plusAll(ListX.range(0,100_000))));
+        assertThat(large,not(equalTo(HashTreePSet.<Integer>empty().plusAll(ListX.range(1,100_001)))));
+    }
+    @Test
+    public void containsSmall(){
+        PSet<Integer> small = emptyPSet().plusAll(ListX.of(1,2,3));
+        assertTrue(small.contains(2));
+        assertFalse(small.contains(4));
+        assertThat(small,equalTo(HashTreePSet.<Integer>empty().plusAll(ListX.of(3,2,1))));
+    }
+}
@@ -0,0 +1,51 @@
+package com.aol.cyclops.reactor.collections.extensions;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+import org.pcollections.ConsPStack;
+import org.pcollections.PStack;
+
+import com.aol.cyclops.data.collections.extensions.standard.ListX;
+
+/**
+ * Iteration, Spliterator and parallel Stream checks shared by the linked PStack adapters
+ */
+public abstract class AbstractPStackTraversalTest {
+
+    public abstract <T> PStack<T> emptyPStack();
+
+    @Test
+    public void iterateLarge(){
+        PStack<Integer> large = this.<Integer>emptyPStack().plusAll(ListX.range(0,100_000));
+        int expected = 99_999;
+        for(Integer next : large)
+            assertThat(next,equalTo(expected--));
+        assertThat(expected,equalTo(-1));
+        assertThat(large.indexOf(0),equalTo(99_999));
+        assertThat(large.indexOf(-1),equalTo(-1));
+        assertThat(large.plus(0).lastIndexOf(0),equalTo(100_000));
+        assertThat(large,equalTo(ConsPStack.<Integer>empty().plusAll(ListX.range(0,100_000))));
+        assertThat(large.hashCode(),equalTo(ConsPStack.<Integer>empty().plusAll(ListX.range(0,100_000)).hashCode()));
+    }
+    @Test
+    public void spliterator(){
+        Spliterator<Integer> split = this.<Integer>emptyPStack().plusAll(Arrays.asList(1,2,3)).spliterator();
+        assertTrue(split.hasCharacteristics(Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.IMMUTABLE));
+        assertThat(split.getExactSizeIfKnown(),equalTo(3l));
+    }
+    @Test
+    public void parallelStream(){
+        PStack<Integer> large = this.<Integer>emptyPStack().plusAll(ListX.range(0,100_000));
+        assertThat(large.spliterator().trySplit(),notNullValue());
+        assertThat(large.parallelStream().mapToLong(i->i).sum(),equalTo(4_999_950_000l));
+        assertThat(large.parallelStream().collect(Collectors.toList()),equalTo(ListX.range(0,100_000).reverse()));
+    }
+}
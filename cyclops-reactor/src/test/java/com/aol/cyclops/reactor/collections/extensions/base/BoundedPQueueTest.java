@@ -0,0 +1,133 @@
+package com.aol.cyclops.reactor.collections.extensions.base;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import org.junit.Test;
+import org.pcollections.AmortizedPQueue;
+import org.pcollections.PQueue;
+
+import com.aol.cyclops.reactor.collections.extensions.persistent.LazyPQueueX;
+
+public class BoundedPQueueTest {
+
+    @Test
+    public void evictsOldest() {
+        BoundedPQueue<Integer> queue = BoundedPQueue.of(AmortizedPQueue.<Integer> empty(), 3);
+        for (int i = 0; i < 10; i++)
+            queue = queue.plus(i);
+        assertThat(queue.size(), equalTo(3));
+        assertThat(queue.peek(), equalTo(7));
+        assertThat(new ArrayList<>(
+                                   queue),
+                   equalTo(Arrays.asList(7, 8, 9)));
+        assertThat(new ArrayList<>(
+                                   queue.minus()),
+                   equalTo(Arrays.asList(8, 9)));
+    }
+
+    @Test
+    public void plusAll() {
+        BoundedPQueue<Integer> queue = BoundedPQueue.of(AmortizedPQueue.<Integer> empty()
+                                                                       .plusAll(Arrays.asList(1, 2, 3, 4)),
+                                                        3);
+        assertThat(new ArrayList<>(
+                                   queue),
+                   equalTo(Arrays.asList(2, 3, 4)));
+        assertThat(new ArrayList<>(
+                                   queue.plusAll(Arrays.asList(5))),
+                   equalTo(Arrays.asList(3, 4, 5)));
+        assertThat(new ArrayList<>(
+                                   queue.plusAll(Arrays.asList(5, 6, 7, 8, 9))),
+                   equalTo(Arrays.asList(7, 8, 9)));
+    }
+
+    @Test
+    public void minus() {
+        BoundedPQueue<Integer> queue = BoundedPQueue.of(AmortizedPQueue.<Integer> empty(), 5)
+                                                    .plusAll(Arrays.asList(1, 2, 3));
+        assertThat(queue.minus((Object) 10), sameInstance(queue));
+        BoundedPQueue<Integer> removed = queue.minus((Object) 2);
+        assertThat(new ArrayList<>(
+                                   removed),
+                   equalTo(Arrays.asList(1, 3)));
+        assertThat(removed.size(), equalTo(2));
+        assertThat(removed.maxSize(), equalTo(5));
+        assertThat(BoundedPQueue.of(AmortizedPQueue.<Integer> empty(), 2)
+                                .minus()
+                                .size(),
+                   equalTo(0));
+    }
+
+    @Test
+    public void minusDuplicates() {
+        BoundedPQueue<Integer> queue = BoundedPQueue.of(AmortizedPQueue.<Integer> empty(), 5)
+                                                    .plusAll(Arrays.asList(1, 2, 3, 2));
+        BoundedPQueue<Integer> removed = queue.minus((Object) 2);
+        assertThat(new ArrayList<>(
+                                   removed),
+                   equalTo(Arrays.asList(1, 3, 2)));
+        assertThat(removed.size(), equalTo(3));
+        BoundedPQueue<Integer> removedAll = queue.minusAll(Arrays.asList(2, 10));
+        assertThat(new ArrayList<>(
+                                   removedAll),
+                   equalTo(Arrays.asList(1, 3)));
+        assertThat(removedAll.size(), equalTo(2));
+        assertThat(removedAll.plus(4)
+                             .plus(5)
+                             .plus(6)
+                             .plus(7)
+                             .size(),
+                   equalTo(5));
+        assertThat(queue.minusAll(Arrays.asList(10, 11)), sameInstance(queue));
+    }
+
+    @Test
+    public void randomChurnMatchesDeque() {
+        Random random = new Random(
+                                   7);
+        PQueue<Integer> queue = BoundedPQueue.of(AmortizedPQueue.<Integer> empty(), 50);
+        ArrayDeque<Integer> expected = new ArrayDeque<>();
+        for (int i = 0; i < 10_000; i++) {
+            if (random.nextInt(4) == 0) {
+                queue = queue.minus();
+                expected.pollFirst();
+            } else {
+                queue = queue.plus(i);
+                expected.addLast(i);
+                if (expected.size() > 50)
+                    expected.pollFirst();
+            }
+            assertThat(queue.size(), equalTo(expected.size()));
+        }
+        assertThat(new ArrayList<>(
+                                   queue),
+                   equalTo(new ArrayList<>(
+                                           expected)));
+    }
+
+    @Test
+    public void reducer() {
+        PQueue<Integer> queue = BoundedPQueue.toPQueue(AmortizedPQueue.<Integer> empty(), 2)
+                                             .mapReduce(Stream.of(1, 2, 3, 4));
+        assertThat(new ArrayList<>(
+                                   queue),
+                   equalTo(Arrays.asList(3, 4)));
+        LazyPQueueX<Integer> lazy = BoundedPQueue.<Integer> lazyQueue(AmortizedPQueue.empty(), 3)
+                                                 .plusAll(Arrays.asList(1, 2, 3, 4));
+        assertThat(new ArrayList<>(
+                                   lazy),
+                   equalTo(Arrays.asList(2, 3, 4)));
+        assertThat(new ArrayList<>(
+                                   lazy.plus(5)
+                                       .minus()),
+                   equalTo(Arrays.asList(4, 5)));
+    }
+}
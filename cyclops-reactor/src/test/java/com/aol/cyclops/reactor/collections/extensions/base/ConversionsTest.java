@@ -0,0 +1,45 @@
+package com.aol.cyclops.reactor.collections.extensions.base;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+import org.pcollections.PVector;
+import org.pcollections.TreePVector;
+
+import com.aol.cyclops.data.collections.extensions.standard.ListX;
+import com.aol.cyclops.reactor.collections.extensions.persistent.LazyPVectorX;
+
+public class ConversionsTest {
+
+    @Test
+    public void sameTypeIsShared() {
+        RRBPVector<Integer> vector = RRBPVector.fromIterable(ListX.range(0, 100));
+        assertThat(Conversions.toRRBPVector(vector), sameInstance(vector));
+        assertThat(Conversions.toRRBPVector(RRBPVector.lazyVector(vector)), sameInstance(vector));
+        PVector<Integer> tree = TreePVector.from(Arrays.asList(1, 2, 3));
+        assertThat(Conversions.toTreePVector(tree), sameInstance(tree));
+    }
+
+    @Test
+    public void crossLibrary() {
+        PVector<Integer> tree = Conversions.toTreePVector(RRBPVector.fromIterable(ListX.range(0, 5_000)));
+        assertThat(tree, instanceOf(TreePVector.class));
+        assertThat(tree, equalTo(ListX.range(0, 5_000)));
+        RRBPVector<Integer> rrb = Conversions.toRRBPVector(tree);
+        assertThat(rrb, equalTo(tree));
+        assertThat(Conversions.toRRBPVector(LazyPVectorX.of(1, 2, 3)), equalTo(Arrays.asList(1, 2, 3)));
+    }
+
+    @Test
+    public void empty() {
+        assertThat(Conversions.toRRBPVector(Arrays.asList()), sameInstance(RRBPVector.emptyPVector()));
+        assertThat(Conversions.toTreePVector(RRBPVector.emptyPVector())
+                              .size(),
+                   equalTo(0));
+    }
+}
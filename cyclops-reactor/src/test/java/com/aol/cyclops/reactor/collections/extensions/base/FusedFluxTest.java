@@ -0,0 +1,118 @@
+package com.aol.cyclops.reactor.collections.extensions.base;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.junit.Assert.assertThat;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+
+import com.aol.cyclops.data.collections.extensions.standard.ListX;
+import com.aol.cyclops.reactor.collections.extensions.persistent.LazyPVectorX;
+import com.aol.cyclops.reactor.collections.extensions.standard.LazyListX;
+
+import reactor.core.publisher.Flux;
+
+public class FusedFluxTest {
+
+    List<Integer> source = Arrays.asList(1, 2, 3, 4, 5, 6, 7, 8, 9, 10);
+
+    @Test
+    public void fusedChainMatchesFlux() {
+        Flux<Integer> fused = FusedFlux.limit(FusedFlux.skip(FusedFlux.filter(FusedFlux.map(FusedFlux.of(source), i -> i * 2), i -> i % 3 != 0),
+                                                             1),
+                                              4);
+        Flux<Integer> plain = Flux.fromIterable(source)
+                                  .map(i -> i * 2)
+                                  .filter(i -> i % 3 != 0)
+                                  .skip(1)
+                                  .take(4);
+        assertThat(fused, instanceOf(FusedFlux.class));
+        assertThat(((FusedFlux<Integer>) fused).stream()
+                                               .collect(Collectors.toList()),
+                   equalTo(plain.collectList()
+                                .block()));
+        assertThat(fused.collectList()
+                        .block(),
+                   equalTo(plain.collectList()
+                                .block()));
+    }
+
+    @Test
+    public void consecutiveMapsCompose() {
+        FusedFlux<String> fused = FusedFlux.of(source)
+                                           .fuseMap(i -> i + 1)
+                                           .fuseMap(i -> i * 10)
+                                           .fuseMap(i -> "" + i);
+        assertThat(fused.stream()
+                        .collect(Collectors.toList()),
+                   equalTo(Arrays.asList("20", "30", "40", "50", "60", "70", "80", "90", "100", "110")));
+    }
+
+    @Test
+    public void limitZero() {
+        assertThat(FusedFlux.of(source)
+                            .fuseLimit(0)
+                            .stream()
+                            .count(),
+                   equalTo(0l));
+    }
+
+    @Test
+    public void skipAll() {
+        assertThat(FusedFlux.of(source)
+                            .fuseSkip(100)
+                            .collectList()
+                            .block(),
+                   equalTo(Arrays.asList()));
+    }
+
+    @Test
+    public void reiterable() {
+        FusedFlux<Integer> fused = FusedFlux.of(source)
+                                            .fuseFilter(i -> i > 8);
+        assertThat(fused.collectList()
+                        .block(),
+                   equalTo(Arrays.asList(9, 10)));
+        assertThat(fused.collectList()
+                        .block(),
+                   equalTo(Arrays.asList(9, 10)));
+    }
+
+    @Test
+    public void nonFusedFluxFallsBack() {
+        Flux<Integer> flux = FusedFlux.map(Flux.just(1, 2, 3), i -> i + 1);
+        assertThat(flux instanceof FusedFlux, equalTo(false));
+        assertThat(flux.collectList()
+                       .block(),
+                   equalTo(Arrays.asList(2, 3, 4)));
+    }
+
+    @Test
+    public void lazyListXChainIsFused() {
+        LazyListX<Integer> list = LazyListX.of(1, 2, 3, 4, 5, 6)
+                                           .map(i -> i * 2)
+                                           .filter(i -> i > 4)
+                                           .skip(1)
+                                           .limit(2);
+        assertThat(list.flux(), instanceOf(FusedFlux.class));
+        assertThat(list, equalTo(ListX.of(8, 10)));
+    }
+
+    @Test
+    public void lazyPVectorXChainIsFused() {
+        AtomicInteger peeked = new AtomicInteger(0);
+        LazyPVectorX<Integer> vec = LazyPVectorX.of(1, 2, 3, 4, 5, 6)
+                                                .peek(i -> peeked.incrementAndGet())
+                                                .map(i -> i * 2)
+                                                .filter(i -> i > 4);
+        assertThat(vec.flux(), instanceOf(FusedFlux.class));
+        assertThat(peeked.get(), equalTo(0));
+        assertThat(vec, equalTo(ListX.of(6, 8, 10, 12)));
+        assertThat(peeked.get(), equalTo(6));
+    }
+}
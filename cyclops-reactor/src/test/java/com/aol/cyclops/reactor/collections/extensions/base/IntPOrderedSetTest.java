@@ -0,0 +1,135 @@
+package com.aol.cyclops.reactor.collections.extensions.base;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.Test;
+import org.pcollections.POrderedSet;
+
+import com.aol.cyclops.reactor.collections.extensions.persistent.LazyPOrderedSetX;
+
+public class IntPOrderedSetTest {
+
+    @Test
+    public void sortedAndDistinct() {
+        IntPOrderedSet set = IntPOrderedSet.fromArray(30, 10, 20, 10);
+        assertThat(new ArrayList<>(
+                                   set),
+                   equalTo(Arrays.asList(10, 20, 30)));
+        assertThat(set.get(1), equalTo(20));
+        assertThat(set.indexOf(30), equalTo(2));
+        assertThat(set.indexOf(25), equalTo(-1));
+        assertThat(set.contains(10), equalTo(true));
+        assertThat(set.contains("10"), equalTo(false));
+    }
+
+    @Test
+    public void plusMinus() {
+        IntPOrderedSet set = IntPOrderedSet.fromArray(10, 20, 30);
+        assertThat(set.plusInt(20), sameInstance(set));
+        assertThat(set.minusInt(25), sameInstance(set));
+        assertThat(set.plusInt(15)
+                      .indexOfInt(15),
+                   equalTo(1));
+        assertThat(set.minus((Object) 20)
+                      .toIntArray(),
+                   equalTo(new int[] { 10, 30 }));
+    }
+
+    @Test
+    public void bulkOps() {
+        IntPOrderedSet evens = IntPOrderedSet.fromIntStream(IntStream.range(0, 1000)
+                                                                     .map(i -> i * 2));
+        IntPOrderedSet threes = IntPOrderedSet.fromIntStream(IntStream.range(0, 700)
+                                                                      .map(i -> i * 3));
+        TreeSet<Integer> union = new TreeSet<>(
+                                               evens);
+        union.addAll(threes);
+        assertThat(evens.plusAll(threes), equalTo(union));
+        assertThat(evens.plusAll(new ArrayList<>(
+                                                 threes)),
+                   equalTo(union));
+        TreeSet<Integer> difference = new TreeSet<>(
+                                                    evens);
+        difference.removeAll(threes);
+        assertThat(evens.minusAll(threes), equalTo(difference));
+        assertThat(new ArrayList<>(
+                                   evens.minusAll(new HashSet<>(
+                                                                threes))),
+                   equalTo(new ArrayList<>(
+                                           difference)));
+        assertThat(evens.plusAll(Arrays.asList(3, 5)), equalTo(evens.plusInt(3)
+                                                                    .plusInt(5)));
+        assertThat(evens.minusAll(Arrays.asList(1, 3)), sameInstance(evens));
+    }
+
+    @Test
+    public void randomOperationsMatchTreeSet() {
+        Random random = new Random(
+                                   11);
+        IntPOrderedSet set = IntPOrderedSet.emptyPOrderedSet();
+        TreeSet<Integer> expected = new TreeSet<>();
+        for (int step = 0; step < 5000; step++) {
+            int value = random.nextInt(2000);
+            if (random.nextBoolean()) {
+                set = set.plusInt(value);
+                expected.add(value);
+            } else {
+                set = set.minusInt(value);
+                expected.remove(value);
+            }
+        }
+        assertThat(new ArrayList<>(
+                                   set),
+                   equalTo(new ArrayList<>(
+                                           expected)));
+        assertThat(set, equalTo(expected));
+        assertThat(set.hashCode(), equalTo(expected.hashCode()));
+        assertThat(set.sum(), equalTo(expected.stream()
+                                             .mapToLong(i -> i)
+                                             .sum()));
+    }
+
+    @Test
+    public void reducer() {
+        POrderedSet<Integer> set = IntPOrderedSet.toPOrderedSet()
+                                                 .mapReduce(Stream.of(3, 1, 2, 1));
+        assertThat(set, instanceOf(IntPOrderedSet.class));
+        assertThat(new ArrayList<>(
+                                   set),
+                   equalTo(Arrays.asList(1, 2, 3)));
+        List<Integer> parallel = new ArrayList<>(
+                                                 IntStream.range(0, 10_000)
+                                                          .map(i -> 9_999 - i)
+                                                          .boxed()
+                                                          .parallel()
+                                                          .collect(IntPOrderedSet.collector()));
+        assertThat(parallel, equalTo(IntStream.range(0, 10_000)
+                                              .boxed()
+                                              .collect(Collectors.toList())));
+    }
+
+    @Test
+    public void lazyOrderedSet() {
+        LazyPOrderedSetX<Integer> set = IntPOrderedSet.of(5, 3, 1)
+                                                      .plus(4);
+        assertThat(new ArrayList<>(
+                                   set),
+                   equalTo(Arrays.asList(1, 3, 4, 5)));
+        assertThat(IntPOrderedSet.range(0, 10)
+                                 .size(),
+                   equalTo(10));
+    }
+}
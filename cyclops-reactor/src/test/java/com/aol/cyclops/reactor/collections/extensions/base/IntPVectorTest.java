@@ -0,0 +1,146 @@
+package com.aol.cyclops.reactor.collections.extensions.base;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.Test;
+import org.pcollections.PVector;
+
+import com.aol.cyclops.data.collections.extensions.standard.ListX;
+
+public class IntPVectorTest {
+
+    @Test
+    public void plusIntGetInt() {
+        IntPVector vector = IntPVector.emptyPVector();
+        for (int i = 0; i < 10_000; i++)
+            vector = vector.plusInt(i);
+        assertThat(vector.size(), equalTo(10_000));
+        for (int i = 0; i < 10_000; i++)
+            assertThat(vector.getInt(i), equalTo(i));
+        assertThat(vector, equalTo(ListX.range(0, 10_000)));
+        assertThat(vector.hashCode(), equalTo(new ArrayList<>(
+                                                              ListX.range(0, 10_000)).hashCode()));
+    }
+
+    @Test
+    public void randomOperationsMatchArrayList() {
+        Random random = new Random(
+                                   7);
+        IntPVector vector = IntPVector.emptyPVector();
+        List<Integer> expected = new ArrayList<>();
+        for (int step = 0; step < 3000; step++) {
+            int op = random.nextInt(3);
+            if (op == 0 || expected.isEmpty()) {
+                int index = random.nextInt(expected.size() + 1);
+                vector = vector.plusInt(index, step);
+                expected.add(index, step);
+            } else if (op == 1) {
+                int index = random.nextInt(expected.size());
+                vector = vector.minus(index);
+                expected.remove(index);
+            } else {
+                int index = random.nextInt(expected.size());
+                vector = vector.withInt(index, -step);
+                expected.set(index, -step);
+            }
+        }
+        assertThat(vector, equalTo(expected));
+    }
+
+    @Test
+    public void unboxedOps() {
+        IntPVector vector = IntPVector.fromIntStream(IntStream.range(0, 100));
+        assertThat(vector.sum(), equalTo(4950L));
+        assertThat(vector.filterInt(i -> i % 2 == 0)
+                         .size(),
+                   equalTo(50));
+        assertThat(vector.filterInt(i -> true), sameInstance(vector));
+        assertThat(vector.mapInt(i -> i * 2)
+                         .getInt(99),
+                   equalTo(198));
+        assertThat(vector.mapToLong(i -> i * 10_000_000_000L)
+                         .getLong(1),
+                   equalTo(10_000_000_000L));
+        assertThat(vector.foldInt(0, Integer::max), equalTo(99));
+        assertThat(vector.intStream()
+                         .max()
+                         .getAsInt(),
+                   equalTo(99));
+        assertThat(vector.toIntArray().length, equalTo(100));
+        assertThat(vector.indexOfInt(42), equalTo(42));
+        assertThat(vector.containsInt(100), equalTo(false));
+    }
+
+    @Test
+    public void splitAndConcat() {
+        IntPVector vector = IntPVector.fromIntStream(IntStream.range(0, 5000));
+        assertThat(vector.subList(100, 4000), equalTo(ListX.range(100, 4000)));
+        assertThat(vector.take(10)
+                         .concat(vector.drop(10)),
+                   equalTo(vector));
+        assertThat(vector.plusAll(2500, Arrays.asList(-1, -2))
+                         .subList(2499, 2503),
+                   equalTo(Arrays.asList(2499, -1, -2, 2500)));
+    }
+
+    @Test
+    public void minus() {
+        IntPVector vector = IntPVector.fromArray(1, 2, 3, 2);
+        assertThat(vector.minus((Object) 2), equalTo(Arrays.asList(1, 3, 2)));
+        assertThat(vector.minus("2"), sameInstance(vector));
+        assertThat(vector.minusAll(Arrays.asList(2, 3)), equalTo(Arrays.asList(1)));
+        assertThat(vector.minusAll(IntPOrderedSet.fromArray(1, 2)), equalTo(Arrays.asList(3)));
+    }
+
+    @Test
+    public void boxedFallback() {
+        IntPVector vector = IntPVector.fromArray(1, 2, 3);
+        PVector<Integer> withNull = vector.plus((Integer) null);
+        assertThat(withNull, instanceOf(RRBPVector.class));
+        assertThat(withNull, equalTo(Arrays.asList(1, 2, 3, null)));
+        assertThat(vector.plusAll(Arrays.asList(4, null)), equalTo(Arrays.asList(1, 2, 3, 4, null)));
+        Collection<String> strings = vector.map(i -> "x" + i);
+        assertThat(strings, instanceOf(RRBPVector.class));
+        assertThat(strings, equalTo(Arrays.asList("x1", "x2", "x3")));
+        assertThat(vector.map(i -> i * 2), instanceOf(IntPVector.class));
+        assertThat(vector.flatMap(i -> Arrays.asList(i, i)), equalTo(Arrays.asList(1, 1, 2, 2, 3, 3)));
+    }
+
+    @Test
+    public void reducer() {
+        PVector<Integer> ints = IntPVector.toPVector()
+                                          .mapReduce(Stream.of(1, 2, 3));
+        assertThat(ints, instanceOf(IntPVector.class));
+        assertThat(ints, equalTo(Arrays.asList(1, 2, 3)));
+        PVector<Integer> mixed = IntPVector.toPVector()
+                                           .mapReduce(Stream.of(1, "a", 3));
+        assertThat(mixed, instanceOf(RRBPVector.class));
+        assertThat(new ArrayList<Object>(
+                               mixed), equalTo(Arrays.<Object> asList(1, "a", 3)));
+        PVector<Integer> mapped = IntPVector.toPVector()
+                                            .reduce(IntPVector.toPVector()
+                                                              .mapToType(Stream.of(1, "a", null)));
+        assertThat(mapped, instanceOf(RRBPVector.class));
+        assertThat(new ArrayList<Object>(
+                               mapped), equalTo(Arrays.<Object> asList(1, "a", null)));
+        PVector<Integer> parallel = IntStream.range(0, 10_000)
+                                             .boxed()
+                                             .parallel()
+                                             .collect(IntPVector.collector());
+        assertThat(parallel, instanceOf(IntPVector.class));
+        assertThat(parallel, equalTo(IntStream.range(0, 10_000)
+                                              .boxed()
+                                              .collect(Collectors.toList())));
+    }
+}
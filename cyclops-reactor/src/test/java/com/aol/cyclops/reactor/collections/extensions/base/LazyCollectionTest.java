@@ -0,0 +1,176 @@
+package com.aol.cyclops.reactor.collections.extensions.base;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+import org.pcollections.PVector;
+import org.pcollections.TreePVector;
+
+import com.aol.cyclops.data.collections.extensions.standard.ListX;
+import com.aol.cyclops.reactor.collections.extensions.base.AbstractFluentCollectionX.LazyCollection;
+import com.aol.cyclops.reactor.collections.extensions.base.AbstractFluentCollectionX.PersistentLazyCollection;
+import com.aol.cyclops.reactor.collections.extensions.persistent.LazyPVectorX;
+import com.aol.cyclops.reactor.collections.extensions.standard.LazyListX;
+
+import reactor.core.publisher.DirectProcessor;
+import reactor.core.publisher.Flux;
+
+public class LazyCollectionTest {
+
+    @Test
+    public void materializesOnceUnderContention() throws Exception {
+        ExecutorService exec = Executors.newFixedThreadPool(16);
+        try {
+            for (int run = 0; run < 50; run++) {
+                AtomicInteger subscriptions = new AtomicInteger(0);
+                LazyCollection<Integer, List<Integer>> lazy = new LazyCollection<>(
+                                                                                  null, Flux.range(0, 1000)
+                                                                                            .doOnSubscribe(s -> subscriptions.incrementAndGet()),
+                                                                                  ListX.defaultCollector());
+                CountDownLatch start = new CountDownLatch(1);
+                List<Future<List<Integer>>> results = new ArrayList<>();
+                for (int i = 0; i < 16; i++) {
+                    results.add(exec.submit(() -> {
+                        start.await();
+                        return lazy.get();
+                    }));
+                }
+                start.countDown();
+                List<Integer> first = results.get(0)
+                                             .get(5, TimeUnit.SECONDS);
+                for (Future<List<Integer>> next : results)
+                    assertThat(next.get(5, TimeUnit.SECONDS), sameInstance(first));
+                assertThat(first.size(), equalTo(1000));
+                assertThat(subscriptions.get(), equalTo(1));
+            }
+        } finally {
+            exec.shutdown();
+        }
+    }
+
+    @Test
+    public void errorPropagatesToEveryReader() {
+        LazyCollection<Integer, List<Integer>> lazy = new LazyCollection<>(
+                                                                          null, Flux.error(new IllegalStateException("boom")),
+                                                                          ListX.defaultCollector());
+        for (int i = 0; i < 2; i++) {
+            try {
+                lazy.get();
+                fail("exception expected");
+            } catch (IllegalStateException e) {
+                assertThat(e.getMessage(), equalTo("boom"));
+            }
+        }
+    }
+
+    @Test
+    public void materializeAsyncSharesInFlightCollection() {
+        AtomicInteger subscriptions = new AtomicInteger(0);
+        DirectProcessor<Integer> source = DirectProcessor.create();
+        LazyCollection<Integer, List<Integer>> lazy = new LazyCollection<>(
+                                                                          null, source.doOnSubscribe(s -> subscriptions.incrementAndGet()),
+                                                                          ListX.defaultCollector());
+        AtomicReference<List<Integer>> first = new AtomicReference<>();
+        AtomicReference<List<Integer>> second = new AtomicReference<>();
+        lazy.materializeAsync()
+            .subscribe(first::set);
+        lazy.materializeAsync()
+            .subscribe(second::set);
+        assertThat(first.get(), nullValue());
+
+        source.onNext(1);
+        source.onNext(2);
+        source.onComplete();
+
+        assertThat(first.get(), equalTo(ListX.of(1, 2)));
+        assertThat(second.get(), sameInstance(first.get()));
+        assertThat(lazy.get(), sameInstance(first.get()));
+        assertThat(subscriptions.get(), equalTo(1));
+    }
+
+    @Test
+    public void materializeAsyncError() {
+        AtomicReference<Throwable> error = new AtomicReference<>();
+        LazyCollection<Integer, List<Integer>> lazy = new LazyCollection<>(
+                                                                          null, Flux.error(new IllegalStateException("boom")),
+                                                                          ListX.defaultCollector());
+        lazy.materializeAsync()
+            .subscribe(l -> fail("error expected"), error::set);
+        assertThat(error.get()
+                        .getMessage(),
+                   equalTo("boom"));
+    }
+
+    @Test
+    public void asyncAccessors() {
+        LazyListX<Integer> list = LazyListX.of(1, 2, 3)
+                                           .map(i -> i * 2);
+        assertThat(list.sizeAsync()
+                       .block(),
+                   equalTo(3));
+        assertThat(list.containsAsync(4)
+                       .block(),
+                   equalTo(true));
+        assertThat(list.containsAllAsync(ListX.of(2, 6))
+                       .block(),
+                   equalTo(true));
+        assertThat(list.isEmptyAsync()
+                       .block(),
+                   equalTo(false));
+        assertThat(list.getAsync(2)
+                       .block(),
+                   equalTo(6));
+        assertThat(LazyPVectorX.of(1, 2, 3)
+                               .filter(i -> i > 1)
+                               .materializeAsync()
+                               .block(),
+                   equalTo(ListX.of(2, 3)));
+    }
+
+    @Test
+    public void fluxAfterMaterialization() {
+        LazyCollection<Integer, List<Integer>> lazy = new LazyCollection<>(
+                                                                          null, Flux.just(1, 2, 3), ListX.defaultCollector());
+        lazy.get();
+        assertThat(lazy.flux()
+                       .collectList()
+                       .block(),
+                   equalTo(ListX.of(1, 2, 3)));
+    }
+
+    @Test
+    public void persistentCollectionUsesBuilder() {
+        AtomicInteger singletons = new AtomicInteger(0);
+        BuilderReducer<Integer, PVector<Integer>> reducer = BuilderReducer.<Integer, PVector<Integer>> of(TreePVector.empty(), a -> b -> a.plusAll(b), x -> {
+            singletons.incrementAndGet();
+            return TreePVector.singleton(x);
+        } , Collectors.collectingAndThen(Collectors.toList(), TreePVector::from));
+        PersistentLazyCollection<Integer, PVector<Integer>> lazy = new PersistentLazyCollection<>(
+                                                                                                  null, Flux.range(0, 100), reducer);
+        assertThat(lazy.get()
+                       .size(),
+                   equalTo(100));
+        PersistentLazyCollection<Integer, PVector<Integer>> async = new PersistentLazyCollection<>(
+                                                                                                   null, Flux.range(0, 100), reducer);
+        assertThat(async.materializeAsync()
+                        .block()
+                        .get(99),
+                   equalTo(99));
+        assertThat(singletons.get(), equalTo(0));
+    }
+}
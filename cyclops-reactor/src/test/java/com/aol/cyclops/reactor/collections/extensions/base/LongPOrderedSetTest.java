@@ -0,0 +1,48 @@
+package com.aol.cyclops.reactor.collections.extensions.base;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.TreeSet;
+import java.util.stream.LongStream;
+
+import org.junit.Test;
+
+public class LongPOrderedSetTest {
+
+    @Test
+    public void sortedAndDistinct() {
+        LongPOrderedSet set = LongPOrderedSet.fromArray(3_000_000_000L, 1L, 2L, 1L);
+        assertThat(new ArrayList<>(
+                                   set),
+                   equalTo(Arrays.asList(1L, 2L, 3_000_000_000L)));
+        assertThat(set.containsLong(3_000_000_000L), equalTo(true));
+        assertThat(set.indexOf(2L), equalTo(1));
+        assertThat(set.plusLong(2L), sameInstance(set));
+        assertThat(set.minusLong(2L)
+                      .toLongArray(),
+                   equalTo(new long[] { 1L, 3_000_000_000L }));
+    }
+
+    @Test
+    public void bulkOps() {
+        LongPOrderedSet evens = LongPOrderedSet.fromLongStream(LongStream.range(0, 1000)
+                                                                         .map(i -> i * 2));
+        LongPOrderedSet threes = LongPOrderedSet.fromLongStream(LongStream.range(0, 700)
+                                                                          .map(i -> i * 3));
+        TreeSet<Long> union = new TreeSet<>(
+                                            evens);
+        union.addAll(threes);
+        assertThat(evens.plusAll(threes), equalTo(union));
+        assertThat(evens.plusAll(threes)
+                        .hashCode(),
+                   equalTo(union.hashCode()));
+        TreeSet<Long> difference = new TreeSet<>(
+                                                 evens);
+        difference.removeAll(threes);
+        assertThat(evens.minusAll(threes), equalTo(difference));
+    }
+}
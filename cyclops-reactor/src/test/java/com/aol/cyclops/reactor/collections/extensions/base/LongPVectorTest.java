@@ -0,0 +1,63 @@
+package com.aol.cyclops.reactor.collections.extensions.base;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.junit.Assert.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import org.junit.Test;
+import org.pcollections.PVector;
+
+public class LongPVectorTest {
+
+    @Test
+    public void plusLongGetLong() {
+        LongPVector vector = LongPVector.emptyPVector();
+        for (long i = 0; i < 5000; i++)
+            vector = vector.plusLong(i * 1_000_000_000L);
+        assertThat(vector.size(), equalTo(5000));
+        for (int i = 0; i < 5000; i++)
+            assertThat(vector.getLong(i), equalTo(i * 1_000_000_000L));
+    }
+
+    @Test
+    public void unboxedOps() {
+        LongPVector vector = LongPVector.fromLongStream(LongStream.range(0, 100));
+        assertThat(vector.sum(), equalTo(4950L));
+        assertThat(vector.filterLong(i -> i % 2 == 0)
+                         .size(),
+                   equalTo(50));
+        assertThat(vector.mapLong(i -> i * 2)
+                         .getLong(99),
+                   equalTo(198L));
+        assertThat(vector.plusLong(50, -1L)
+                         .minus(51)
+                         .getLong(50),
+                   equalTo(-1L));
+        assertThat(vector.withLong(3, 7L)
+                         .getLong(3),
+                   equalTo(7L));
+        assertThat(vector.subList(10, 13), equalTo(Arrays.asList(10L, 11L, 12L)));
+    }
+
+    @Test
+    public void boxedFallback() {
+        LongPVector vector = LongPVector.fromArray(1, 2, 3);
+        assertThat(vector.plus((Long) null), instanceOf(RRBPVector.class));
+        assertThat(vector.map(i -> "x" + i), equalTo(Arrays.asList("x1", "x2", "x3")));
+        PVector<Long> longs = LongPVector.toPVector()
+                                         .mapReduce(Stream.of(1L, 2L));
+        assertThat(longs, instanceOf(LongPVector.class));
+        assertThat(longs, equalTo(Arrays.asList(1L, 2L)));
+        PVector<Long> mapped = LongPVector.toPVector()
+                                          .reduce(LongPVector.toPVector()
+                                                             .mapToType(Stream.of(1L, "a", null)));
+        assertThat(mapped, instanceOf(RRBPVector.class));
+        assertThat(new ArrayList<Object>(
+                               mapped), equalTo(Arrays.<Object> asList(1L, "a", null)));
+    }
+}
@@ -0,0 +1,193 @@
+package com.aol.cyclops.reactor.collections.extensions.base;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import org.junit.Test;
+import org.pcollections.PVector;
+
+import com.aol.cyclops.data.collections.extensions.standard.ListX;
+import com.aol.cyclops.reactor.collections.extensions.persistent.LazyPVectorX;
+
+public class RRBPVectorTest {
+
+    @Test
+    public void plusGet() {
+        RRBPVector<Integer> vector = RRBPVector.emptyPVector();
+        for (int i = 0; i < 10_000; i++)
+            vector = vector.plus(i);
+        assertThat(vector.size(), equalTo(10_000));
+        for (int i = 0; i < 10_000; i++)
+            assertThat(vector.get(i), equalTo(i));
+        assertThat(vector, equalTo(ListX.range(0, 10_000)));
+    }
+
+    @Test
+    public void concat() {
+        RRBPVector<Integer> a = RRBPVector.fromIterable(ListX.range(0, 1000));
+        RRBPVector<Integer> b = RRBPVector.fromIterable(ListX.range(1000, 5000));
+        assertThat(a.concat(b), equalTo(ListX.range(0, 5000)));
+        assertThat(a.concat(RRBPVector.emptyPVector()), sameInstance(a));
+        assertThat(RRBPVector.<Integer> emptyPVector()
+                             .concat(a),
+                   sameInstance(a));
+    }
+
+    @Test
+    public void repeatedConcatStaysShallow() {
+        RRBPVector<Integer> vector = RRBPVector.emptyPVector();
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            RRBPVector<Integer> part = RRBPVector.fromIterable(ListX.range(0, i % 50));
+            vector = vector.concat(part);
+            expected.addAll(part);
+        }
+        assertThat(vector, equalTo(expected));
+        assertThat(vector.height(), lessThanOrEqualTo(4));
+    }
+
+    @Test
+    public void takeDropSubList() {
+        RRBPVector<Integer> vector = RRBPVector.fromIterable(ListX.range(0, 5000));
+        assertThat(vector.take(1234), equalTo(ListX.range(0, 1234)));
+        assertThat(vector.drop(1234), equalTo(ListX.range(1234, 5000)));
+        assertThat(vector.subList(33, 1057), equalTo(ListX.range(33, 1057)));
+        assertThat(vector.take(0)
+                         .size(),
+                   equalTo(0));
+        assertThat(vector.drop(0), sameInstance(vector));
+        assertThat(vector.take(5000), sameInstance(vector));
+    }
+
+    @Test
+    public void insertAndRemoveAt() {
+        RRBPVector<Integer> vector = RRBPVector.fromIterable(ListX.range(0, 100));
+        assertThat(vector.plus(50, -1)
+                         .get(50),
+                   equalTo(-1));
+        assertThat(vector.plus(50, -1)
+                         .minus(50),
+                   equalTo(vector));
+        assertThat(vector.plusAll(10, Arrays.asList(-1, -2))
+                         .subList(9, 13),
+                   equalTo(Arrays.asList(9, -1, -2, 10)));
+        assertThat(vector.minus((Object) 5)
+                         .size(),
+                   equalTo(99));
+        assertThat(vector.minus((Object) 500), sameInstance(vector));
+        assertThat(vector.minusAll(Arrays.asList(500)), sameInstance(vector));
+        assertThat(vector.minusAll(Arrays.asList(1, 2, 3))
+                         .size(),
+                   equalTo(97));
+    }
+
+    @Test
+    public void with() {
+        RRBPVector<Integer> vector = RRBPVector.fromIterable(ListX.range(0, 2000));
+        RRBPVector<Integer> updated = vector.with(1500, -1);
+        assertThat(updated.get(1500), equalTo(-1));
+        assertThat(vector.get(1500), equalTo(1500));
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void withOutOfBounds() {
+        RRBPVector.fromIterable(ListX.range(0, 10))
+                  .with(10, -1);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void plusAtOutOfBounds() {
+        RRBPVector.fromIterable(ListX.range(0, 10))
+                  .plus(11, -1);
+    }
+
+    @Test
+    public void randomOperationsMatchArrayList() {
+        Random random = new Random(
+                                   42);
+        RRBPVector<Integer> vector = RRBPVector.emptyPVector();
+        List<Integer> expected = new ArrayList<>();
+        for (int step = 0; step < 5000; step++) {
+            int op = random.nextInt(5);
+            if (op == 0 || expected.isEmpty()) {
+                int index = random.nextInt(expected.size() + 1);
+                vector = vector.plus(index, step);
+                expected.add(index, step);
+            } else if (op == 1) {
+                int index = random.nextInt(expected.size());
+                vector = vector.minus(index);
+                expected.remove(index);
+            } else if (op == 2) {
+                List<Integer> part = ListX.range(0, random.nextInt(100));
+                int index = random.nextInt(expected.size() + 1);
+                vector = vector.plusAll(index, part);
+                expected.addAll(index, part);
+            } else if (op == 3) {
+                int from = random.nextInt(expected.size());
+                int to = from + random.nextInt(expected.size() - from + 1);
+                vector = vector.subList(from, to)
+                               .concat(vector.take(from));
+                List<Integer> next = new ArrayList<>(
+                                                     expected.subList(from, to));
+                next.addAll(expected.subList(0, from));
+                expected = next;
+            } else {
+                int index = random.nextInt(expected.size());
+                vector = vector.with(index, -step);
+                expected.set(index, -step);
+            }
+            assertThat(vector.size(), equalTo(expected.size()));
+        }
+        assertThat(vector, equalTo(expected));
+        for (int i = 0; i < expected.size(); i++)
+            assertThat(vector.get(i), equalTo(expected.get(i)));
+    }
+
+    @Test
+    public void collector() {
+        PVector<Integer> vector = RRBPVector.<Integer> toPVector()
+                                            .mapReduce(Stream.of(1, 2, 3, 4));
+        assertThat(vector, instanceOf(RRBPVector.class));
+        assertThat(vector, equalTo(Arrays.asList(1, 2, 3, 4)));
+        PVector<Integer> parallel = ListX.range(0, 10_000)
+                                         .stream()
+                                         .parallel()
+                                         .collect(RRBPVector.collector());
+        assertThat(parallel, equalTo(ListX.range(0, 10_000)));
+    }
+
+    @Test
+    public void nativeBulkOps() {
+        RRBPVector<Integer> vector = RRBPVector.fromIterable(ListX.range(0, 100));
+        assertThat(vector.map(i -> i * 2)
+                         .get(99),
+                   equalTo(198));
+        assertThat(vector.filter(i -> i % 2 == 0)
+                         .size(),
+                   equalTo(50));
+        assertThat(vector.flatMap(i -> Arrays.asList(i, i))
+                         .size(),
+                   equalTo(200));
+        assertThat(vector.foldLeft(0, (a, b) -> a + b), equalTo(4950));
+    }
+
+    @Test
+    public void lazyVector() {
+        LazyPVectorX<Integer> vector = RRBPVector.of(1, 2, 3)
+                                                 .plus(1, 10)
+                                                 .map(i -> i + 1);
+        assertThat(vector, equalTo(Arrays.asList(2, 11, 3, 4)));
+        assertThat(vector.getCollector()
+                         .zero(),
+                   instanceOf(RRBPVector.class));
+    }
+}
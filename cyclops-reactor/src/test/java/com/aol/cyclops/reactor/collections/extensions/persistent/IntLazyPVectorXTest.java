@@ -0,0 +1,92 @@
+package com.aol.cyclops.reactor.collections.extensions.persistent;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.junit.Assert.assertThat;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import com.aol.cyclops.reactor.collections.extensions.base.IntPVector;
+import com.aol.cyclops.reactor.collections.extensions.base.RRBPVector;
+
+public class IntLazyPVectorXTest {
+
+    @Test
+    public void rangeIsUnboxed() {
+        IntLazyPVectorX range = LazyPVectorX.intRange(0, 1000);
+        assertThat(range.getVector(), instanceOf(IntPVector.class));
+        assertThat(range.sumInt(), equalTo(499_500L));
+        assertThat(range.size(), equalTo(1000));
+        assertThat(range.getInt(999), equalTo(999));
+    }
+
+    @Test
+    public void filterIntIsLazy() {
+        AtomicInteger calls = new AtomicInteger(0);
+        IntLazyPVectorX evens = IntLazyPVectorX.ofInts(1, 2, 3, 4)
+                                               .filterInt(i -> {
+                                                   calls.incrementAndGet();
+                                                   return i % 2 == 0;
+                                               });
+        assertThat(calls.get(), equalTo(0));
+        assertThat(evens, equalTo(Arrays.asList(2, 4)));
+        assertThat(evens.getVector(), instanceOf(IntPVector.class));
+        assertThat(evens.size(), equalTo(2));
+        assertThat(calls.get(), equalTo(4));
+    }
+
+    @Test
+    public void mapIntMapToLong() {
+        IntLazyPVectorX vector = IntLazyPVectorX.range(0, 10)
+                                                .mapInt(i -> i * 2);
+        assertThat(vector.toIntArray(), equalTo(new int[] { 0, 2, 4, 6, 8, 10, 12, 14, 16, 18 }));
+        assertThat(vector.mapToLong(i -> i * 1_000_000_000L)
+                         .sumLong(),
+                   equalTo(90_000_000_000L));
+        assertThat(vector.intStream()
+                         .max()
+                         .getAsInt(),
+                   equalTo(18));
+    }
+
+    @Test
+    public void mapToInt() {
+        IntLazyPVectorX lengths = LazyPVectorX.of("a", "bb", "ccc")
+                                              .mapToInt(String::length);
+        assertThat(lengths, equalTo(Arrays.asList(1, 2, 3)));
+        assertThat(lengths.sumInt(), equalTo(6L));
+    }
+
+    @Test
+    public void boxedOperations() {
+        IntLazyPVectorX vector = IntLazyPVectorX.ofInts(1, 2, 3);
+        LazyPVectorX<Integer> doubled = vector.map(i -> i * 2);
+        assertThat(doubled, equalTo(Arrays.asList(2, 4, 6)));
+        assertThat(doubled.getVector(), instanceOf(IntPVector.class));
+        LazyPVectorX<String> strings = vector.map(i -> "x" + i);
+        assertThat(strings, equalTo(Arrays.asList("x1", "x2", "x3")));
+        assertThat(strings.getVector(), instanceOf(RRBPVector.class));
+        assertThat(strings.plus("y"), equalTo(Arrays.asList("x1", "x2", "x3", "y")));
+        assertThat(IntLazyPVectorX.empty()
+                                  .map(i -> "x" + i)
+                                  .plus("y"),
+                   equalTo(Arrays.asList("y")));
+        assertThat(vector.plus(0, 10)
+                         .minus(3),
+                   equalTo(Arrays.asList(10, 1, 2)));
+        assertThat(vector.reduce(0, Integer::sum), equalTo(6));
+    }
+
+    @Test
+    public void plusIntWithInt() {
+        IntLazyPVectorX vector = IntLazyPVectorX.ofInts(1, 2, 3)
+                                                .plusInt(4)
+                                                .withInt(0, 0);
+        assertThat(vector.ints()
+                         .toIntArray(),
+                   equalTo(new int[] { 0, 2, 3, 4 }));
+    }
+}
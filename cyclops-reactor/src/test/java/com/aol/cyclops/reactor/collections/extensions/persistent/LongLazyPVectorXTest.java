@@ -0,0 +1,42 @@
+package com.aol.cyclops.reactor.collections.extensions.persistent;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.junit.Assert.assertThat;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import com.aol.cyclops.reactor.collections.extensions.base.LongPVector;
+
+public class LongLazyPVectorXTest {
+
+    @Test
+    public void rangeLongIsUnboxed() {
+        LongLazyPVectorX range = LazyPVectorX.longRange(0, 1000);
+        assertThat(range.getVector(), instanceOf(LongPVector.class));
+        assertThat(range.sumLong(), equalTo(499_500L));
+        assertThat(range.getLong(999), equalTo(999L));
+    }
+
+    @Test
+    public void unboxedOps() {
+        LongLazyPVectorX vector = LongLazyPVectorX.ofLongs(1, 2, 3, 4)
+                                                  .filterLong(i -> i % 2 == 0)
+                                                  .mapLong(i -> i * 3_000_000_000L);
+        assertThat(vector, equalTo(Arrays.asList(6_000_000_000L, 12_000_000_000L)));
+        assertThat(vector.getVector(), instanceOf(LongPVector.class));
+        assertThat(vector.plusLong(1L)
+                         .toLongArray(),
+                   equalTo(new long[] { 6_000_000_000L, 12_000_000_000L, 1L }));
+    }
+
+    @Test
+    public void mapToLong() {
+        LongLazyPVectorX lengths = LazyPVectorX.of("a", "bb")
+                                               .mapToLong(String::length);
+        assertThat(lengths.sumLong(), equalTo(3L));
+        assertThat(lengths.map(i -> "x" + i), equalTo(Arrays.asList("x1", "x2")));
+    }
+}
@@ -0,0 +1,233 @@
+package com.aol.cyclops.reactor.flux.pushable;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import com.aol.cyclops.control.FluxSource;
+import com.aol.cyclops.data.async.wait.WaitStrategy;
+import com.aol.cyclops.data.collections.extensions.standard.ListX;
+
+public class RingBufferQueueTest {
+
+    @Test
+    public void offerThenSubscribe() {
+        RingBufferQueue<Integer> queue = new RingBufferQueue<>(
+                                                               16);
+        queue.offer(1);
+        queue.offer(2);
+        queue.close();
+        assertThat(queue.flux()
+                        .collectList()
+                        .block(),
+                   equalTo(ListX.of(1, 2)));
+    }
+
+    @Test
+    public void pushedOnOffer() {
+        RingBufferQueue<Integer> queue = new RingBufferQueue<>(
+                                                               16);
+        RecordingSubscriber<Integer> sub = new RecordingSubscriber<>();
+        queue.flux()
+             .subscribe(sub);
+        sub.s.request(Long.MAX_VALUE);
+
+        queue.offer(1);
+        assertThat(sub.values, equalTo(ListX.of(1)));
+        queue.offer(2);
+        assertThat(sub.values, equalTo(ListX.of(1, 2)));
+        assertFalse(sub.complete);
+        queue.close();
+        assertTrue(sub.complete);
+    }
+
+    @Test
+    public void backpressure() {
+        RingBufferQueue<Integer> queue = new RingBufferQueue<>(
+                                                               16);
+        RecordingSubscriber<Integer> sub = new RecordingSubscriber<>();
+        queue.flux()
+             .subscribe(sub);
+        for (int i = 0; i < 5; i++)
+            queue.offer(i);
+        queue.close();
+        assertThat(sub.values, equalTo(ListX.empty()));
+
+        sub.s.request(2);
+        assertThat(sub.values, equalTo(ListX.of(0, 1)));
+        assertFalse(sub.complete);
+
+        sub.s.request(3);
+        assertThat(sub.values, equalTo(ListX.of(0, 1, 2, 3, 4)));
+        assertTrue(sub.complete);
+    }
+
+    @Test
+    public void completesWhenClosedEmpty() {
+        RingBufferQueue<Integer> queue = new RingBufferQueue<>(
+                                                               16);
+        RecordingSubscriber<Integer> sub = new RecordingSubscriber<>();
+        queue.flux()
+             .subscribe(sub);
+        queue.close();
+        assertTrue(sub.complete);
+    }
+
+    @Test
+    public void singleSubscriber() {
+        RingBufferQueue<Integer> queue = new RingBufferQueue<>(
+                                                               16);
+        queue.flux()
+             .subscribe(new RecordingSubscriber<>());
+        RecordingSubscriber<Integer> second = new RecordingSubscriber<>();
+        queue.flux()
+             .subscribe(second);
+        assertThat(second.error, instanceOf(IllegalStateException.class));
+    }
+
+    @Test
+    public void resubscribeAfterCancel() {
+        RingBufferQueue<Integer> queue = new RingBufferQueue<>(
+                                                               16);
+        RecordingSubscriber<Integer> first = new RecordingSubscriber<>();
+        queue.flux()
+             .subscribe(first);
+        first.s.request(1);
+        queue.offer(1);
+        first.s.cancel();
+        queue.offer(2);
+        queue.close();
+
+        assertThat(first.values, equalTo(ListX.of(1)));
+        assertThat(queue.flux()
+                        .collectList()
+                        .block(),
+                   equalTo(ListX.of(2)));
+    }
+
+    @Test
+    public void multipleProducers() throws InterruptedException {
+        int producers = 4;
+        int perProducer = 10_000;
+        RingBufferQueue<int[]> queue = new RingBufferQueue<>(
+                                                             64, WaitStrategy.yieldWait());
+        List<int[]> received = new ArrayList<>();
+        CountDownLatch done = new CountDownLatch(
+                                                 1);
+        queue.flux()
+             .doOnComplete(done::countDown)
+             .subscribe(received::add);
+
+        ExecutorService exec = Executors.newFixedThreadPool(producers);
+        CountDownLatch produced = new CountDownLatch(
+                                                     producers);
+        for (int p = 0; p < producers; p++) {
+            int producer = p;
+            exec.submit(() -> {
+                for (int i = 0; i < perProducer; i++)
+                    queue.offer(new int[] { producer, i });
+                produced.countDown();
+            });
+        }
+        assertTrue(produced.await(30, TimeUnit.SECONDS));
+        queue.close();
+        assertTrue(done.await(30, TimeUnit.SECONDS));
+        exec.shutdown();
+
+        assertThat(received.size(), equalTo(producers * perProducer));
+        //elements from each producer arrive in the order they were offered
+        Map<Integer, List<Integer>> byProducer = received.stream()
+                                                         .collect(Collectors.groupingBy(a -> a[0],
+                                                                                        Collectors.mapping(a -> a[1], Collectors.toList())));
+        for (List<Integer> seq : byProducer.values()) {
+            for (int i = 0; i < perProducer; i++)
+                assertThat(seq.get(i), equalTo(i));
+        }
+    }
+
+    @Test
+    public void fluxSource() {
+        PushableFlux<Integer> pushable = FluxSource.ofRingBuffer(16)
+                                                   .flux();
+        pushable.getInput()
+                .offer(100);
+        pushable.getInput()
+                .close();
+        assertThat(pushable.getFlux()
+                           .collectList()
+                           .block(),
+                   equalTo(ListX.of(100)));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void fluxSourceInvalidCapacity() {
+        FluxSource.ofRingBuffer(0);
+    }
+
+    @Test
+    public void multipleRingBuffer() {
+        MultipleFluxSource<Integer> multi = FluxSource.ofMultipleRingBuffer(16);
+        RecordingSubscriber<Integer> first = new RecordingSubscriber<>();
+        RecordingSubscriber<Integer> second = new RecordingSubscriber<>();
+        multi.flux()
+             .subscribe(first);
+        multi.flux()
+             .subscribe(second);
+        first.s.request(Long.MAX_VALUE);
+        second.s.request(Long.MAX_VALUE);
+
+        multi.getInput()
+             .offer(1);
+        multi.getInput()
+             .offer(2);
+        multi.getInput()
+             .close();
+
+        assertThat(first.values, equalTo(ListX.of(1, 2)));
+        assertThat(second.values, equalTo(ListX.of(1, 2)));
+        assertTrue(first.complete);
+        assertTrue(second.complete);
+    }
+
+    static class RecordingSubscriber<T> implements Subscriber<T> {
+        final List<T> values = new ArrayList<>();
+        volatile Throwable error;
+        volatile boolean complete;
+        Subscription s;
+
+        @Override
+        public void onSubscribe(Subscription s) {
+            this.s = s;
+        }
+
+        @Override
+        public void onNext(T t) {
+            values.add(t);
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            error = t;
+        }
+
+        @Override
+        public void onComplete() {
+            complete = true;
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package com.aol.cyclops.reactor.metrics;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertThat;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import com.aol.cyclops.data.async.QueueFactories;
+import com.aol.cyclops.data.async.wait.WaitStrategy;
+import com.aol.cyclops.data.collections.extensions.standard.ListX;
+import com.aol.cyclops.reactor.flux.pushable.InstrumentedQueue;
+import com.aol.cyclops.reactor.flux.pushable.RingBufferQueue;
+
+import reactor.core.publisher.Flux;
+
+public class PipeMetricsTest {
+
+    @Test
+    public void histogramBuckets() {
+        assertThat(LatencyHistogram.bucket(0), equalTo(0));
+        assertThat(LatencyHistogram.bucket(1), equalTo(1));
+        assertThat(LatencyHistogram.bucket(1023), equalTo(10));
+        assertThat(LatencyHistogram.bucket(1024), equalTo(11));
+        assertThat(LatencyHistogram.bucket(Long.MAX_VALUE), equalTo(63));
+    }
+
+    @Test
+    public void histogramPercentiles() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 0; i < 99; i++)
+            histogram.record(100);
+        histogram.record(5000);
+        long[] counts = histogram.counts();
+        assertThat(LatencyHistogram.percentile(counts, 0.5), equalTo(128L));
+        assertThat(LatencyHistogram.percentile(counts, 0.99), equalTo(128L));
+        assertThat(LatencyHistogram.percentile(counts, 1.0), equalTo(8192L));
+        assertThat(histogram.maxNanos(), equalTo(5000L));
+        assertThat(histogram.totalNanos(), equalTo(99 * 100L + 5000));
+    }
+
+    @Test
+    public void emptySnapshot() {
+        PipeMetricsSnapshot snapshot = new PipeMetrics().snapshot();
+        assertThat(snapshot.getOffered(), equalTo(0L));
+        assertThat(snapshot.getQueueDepth(), equalTo(-1));
+        assertThat(snapshot.offerLatencyPercentile(0.99), equalTo(0L));
+        assertThat(snapshot.getMeanOfferLatencyNanos(), equalTo(0L));
+    }
+
+    @Test
+    public void counters() {
+        PipeMetrics metrics = new PipeMetrics(
+                                              1, TimeUnit.MICROSECONDS);
+        metrics.recordOffer(true, 10);
+        metrics.recordOffer(false, 2000);
+        metrics.recordBatch(10, 1, 500);
+        metrics.recordFailure();
+        metrics.instrument(Flux.just(1, 2, 3))
+               .blockLast();
+
+        PipeMetricsSnapshot snapshot = metrics.snapshot();
+        assertThat(snapshot.getOffered(), equalTo(13L));
+        assertThat(snapshot.getRejected(), equalTo(2L));
+        assertThat(snapshot.getFailed(), equalTo(1L));
+        assertThat(snapshot.getBlocked(), equalTo(1L));
+        assertThat(snapshot.getDelivered(), equalTo(3L));
+        assertThat(snapshot.getLag(), equalTo(7L));
+        assertThat(snapshot.getMaxOfferLatencyNanos(), equalTo(2000L));
+        assertThat(snapshot.getMeanOfferLatencyNanos(), equalTo(2510L / 3));
+    }
+
+    @Test
+    public void sampledHandoffs() {
+        PipeMetrics everyHandoff = new PipeMetrics(
+                                                   1, TimeUnit.HOURS, 1);
+        PipeMetrics sampled = new PipeMetrics(
+                                              1, TimeUnit.HOURS, 1000);
+        for (int i = 0; i < 100; i++) {
+            everyHandoff.endOffer(true, everyHandoff.startHandoff());
+            sampled.endOffer(true, sampled.startHandoff());
+        }
+        long timed = 0;
+        for (long c : everyHandoff.snapshot()
+                                  .getOfferLatencyBuckets())
+            timed += c;
+        assertThat(timed, equalTo(100L));
+        assertThat(sampled.snapshot()
+                          .getOffered(),
+                   equalTo(100L));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void invalidSampleRate() {
+        new PipeMetrics(
+                        1, TimeUnit.MILLISECONDS, 0);
+    }
+
+    @Test
+    public void instrumentedQueue() {
+        PipeMetrics metrics = new PipeMetrics();
+        InstrumentedQueue<Integer> queue = new InstrumentedQueue<>(
+                                                                   QueueFactories.boundedQueue(10), metrics);
+        queue.offer(1);
+        queue.add(2);
+        assertThat(metrics.snapshot()
+                          .getQueueDepth(),
+                   equalTo(2));
+        queue.close();
+        assertThat(queue.stream()
+                        .toList(),
+                   equalTo(ListX.of(1, 2)));
+        assertThat(metrics.snapshot()
+                          .getOffered(),
+                   equalTo(2L));
+    }
+
+    @Test
+    public void instrumentedQueueClosed() {
+        PipeMetrics metrics = new PipeMetrics();
+        InstrumentedQueue<Integer> queue = new InstrumentedQueue<>(
+                                                                   QueueFactories.unboundedQueue(), metrics);
+        queue.close();
+        try {
+            queue.offer(1);
+        } catch (RuntimeException e) {
+
+        }
+        assertThat(metrics.snapshot()
+                          .getFailed(),
+                   equalTo(1L));
+    }
+
+    @Test
+    public void ringBuffer() {
+        PipeMetrics metrics = new PipeMetrics();
+        RingBufferQueue<Integer> queue = new RingBufferQueue<>(
+                                                               16, WaitStrategy.yieldWait(), metrics);
+        queue.offer(1);
+        queue.offerAll(ListX.of(2, 3, 4));
+        PipeMetricsSnapshot snapshot = metrics.snapshot();
+        assertThat(snapshot.getOffered(), equalTo(4L));
+        assertThat(snapshot.getQueueDepth(), equalTo(4));
+        assertThat(snapshot.getLag(), equalTo(4L));
+    }
+}
@@ -0,0 +1,162 @@
+package com.aol.cyclops.reactor.operators;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Test;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import com.aol.cyclops.data.collections.extensions.standard.ListX;
+import com.aol.cyclops.data.collections.extensions.standard.SetX;
+
+import reactor.core.publisher.Flux;
+
+public class GroupBySizeTest {
+
+    @Test
+    public void grouped() {
+        assertThat(new GroupBySize<Integer, ListX<Integer>>(
+                                                            Flux.range(1, 5)).grouped(2)
+                                                                             .collectList()
+                                                                             .block(),
+                   equalTo(ListX.of(ListX.of(1, 2), ListX.of(3, 4), ListX.of(5))));
+    }
+
+    @Test
+    public void groupedEmpty() {
+        assertThat(new GroupBySize<Integer, ListX<Integer>>(
+                                                            Flux.empty()).grouped(2)
+                                                                         .collectList()
+                                                                         .block(),
+                   equalTo(ListX.empty()));
+    }
+
+    @Test
+    public void groupedFactory() {
+        assertThat(new GroupBySize<Integer, TreeSet<Integer>>(
+                                                              Flux.just(3, 2, 1, 1), () -> new TreeSet<>()).grouped(3)
+                                                                                                           .collectList()
+                                                                                                           .block(),
+                   equalTo(ListX.of(SetX.of(1, 2, 3), SetX.of(1))));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void invalidSize() {
+        new GroupBySize<Integer, ListX<Integer>>(
+                                                 Flux.range(1, 5)).grouped(0);
+    }
+
+    @Test
+    public void doesNotBlock() {
+        List<ListX<Integer>> result = new ArrayList<>();
+        new GroupBySize<Integer, ListX<Integer>>(
+                                                 Flux.<Integer> never()).grouped(2)
+                                                                        .subscribe(result::add);
+        assertTrue(result.isEmpty());
+    }
+
+    @Test
+    public void backpressure() {
+        AtomicLong upstream = new AtomicLong();
+        RequestingSubscriber<ListX<Integer>> sub = new RequestingSubscriber<>();
+        new GroupBySize<Integer, ListX<Integer>>(
+                                                 Flux.range(1, 100)
+                                                     .doOnRequest(upstream::addAndGet)).grouped(3)
+                                                                                       .subscribe(sub);
+        sub.request(1);
+        assertThat(upstream.get(), equalTo(3l));
+        assertThat(sub.values, equalTo(ListX.of(ListX.of(1, 2, 3))));
+        sub.request(2);
+        assertThat(upstream.get(), equalTo(9l));
+        assertThat(sub.values.size(), equalTo(3));
+        assertThat(sub.values.get(2), equalTo(ListX.of(7, 8, 9)));
+    }
+
+    @Test
+    public void error() {
+        RequestingSubscriber<ListX<Integer>> sub = new RequestingSubscriber<>();
+        new GroupBySize<Integer, ListX<Integer>>(
+                                                 Flux.range(1, 3)
+                                                     .concatWith(Flux.error(new IllegalStateException()))).grouped(2)
+                                                                                                          .subscribe(sub);
+        sub.request(Long.MAX_VALUE);
+        assertThat(sub.values, equalTo(ListX.of(ListX.of(1, 2))));
+        assertTrue(sub.error instanceof IllegalStateException);
+    }
+
+    @Test
+    public void groupedBySizeAndTime() {
+        assertThat(new GroupBySize<Integer, ListX<Integer>>(
+                                                            Flux.range(1, 5)).grouped(2, 10, TimeUnit.SECONDS)
+                                                                             .collectList()
+                                                                             .block(),
+                   equalTo(ListX.of(ListX.of(1, 2), ListX.of(3, 4), ListX.of(5))));
+    }
+
+    @Test
+    public void groupedBySizeAndTimeFlushesPartialGroup() {
+        assertThat(new GroupBySize<Integer, ListX<Integer>>(
+                                                            Flux.just(1, 2, 3)
+                                                                .concatWith(Flux.never())).grouped(10, 50, TimeUnit.MILLISECONDS)
+                                                                                          .next()
+                                                                                          .block(),
+                   equalTo(ListX.of(1, 2, 3)));
+    }
+
+    @Test
+    public void groupedBySizeAndTimeBackpressure() {
+        AtomicLong upstream = new AtomicLong();
+        RequestingSubscriber<ListX<Integer>> sub = new RequestingSubscriber<>();
+        new GroupBySize<Integer, ListX<Integer>>(
+                                                 Flux.range(1, 100)
+                                                     .doOnRequest(upstream::addAndGet)).grouped(3, 10, TimeUnit.SECONDS)
+                                                                                       .subscribe(sub);
+        sub.request(2);
+        assertThat(upstream.get(), equalTo(6l));
+        assertThat(sub.values, equalTo(ListX.of(ListX.of(1, 2, 3), ListX.of(4, 5, 6))));
+        sub.cancel();
+    }
+
+    static class RequestingSubscriber<T> implements Subscriber<T> {
+        final List<T> values = new ArrayList<>();
+        volatile Throwable error;
+        volatile boolean complete;
+        Subscription s;
+
+        @Override
+        public void onSubscribe(Subscription s) {
+            this.s = s;
+        }
+
+        @Override
+        public void onNext(T t) {
+            values.add(t);
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            error = t;
+        }
+
+        @Override
+        public void onComplete() {
+            complete = true;
+        }
+
+        void request(long n) {
+            s.request(n);
+        }
+
+        void cancel() {
+            s.cancel();
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.aol.cyclops.reactor.operators;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Test;
+
+import com.aol.cyclops.data.collections.extensions.standard.ListX;
+import com.aol.cyclops.data.collections.extensions.standard.SetX;
+import com.aol.cyclops.reactor.operators.GroupBySizeTest.RequestingSubscriber;
+
+import reactor.core.publisher.Flux;
+
+public class GroupedWhileTest {
+
+    @Test
+    public void batchWhile() {
+        assertThat(new GroupedWhile<Integer, ListX<Integer>>(
+                                                             Flux.just(1, 2, 3, 4, 5, 6)).batchWhile(i -> i % 3 != 0)
+                                                                                         .collectList()
+                                                                                         .block(),
+                   equalTo(ListX.of(ListX.of(1, 2, 3), ListX.of(4, 5, 6))));
+    }
+
+    @Test
+    public void batchWhilePartial() {
+        assertThat(new GroupedWhile<Integer, ListX<Integer>>(
+                                                             Flux.just(1, 2, 3, 4)).batchWhile(i -> i % 3 != 0)
+                                                                                   .collectList()
+                                                                                   .block(),
+                   equalTo(ListX.of(ListX.of(1, 2, 3), ListX.of(4))));
+    }
+
+    @Test
+    public void batchWhileEmpty() {
+        assertThat(new GroupedWhile<Integer, ListX<Integer>>(
+                                                             Flux.empty()).batchWhile(i -> i % 3 != 0)
+                                                                          .collectList()
+                                                                          .block(),
+                   equalTo(ListX.empty()));
+    }
+
+    @Test
+    public void batchWhileFactory() {
+        assertThat(new GroupedWhile<Integer, SetX<Integer>>(
+                                                            Flux.just(1, 1, 3, 4), () -> SetX.empty()).batchWhile(i -> i % 3 != 0)
+                                                                                                      .collectList()
+                                                                                                      .block(),
+                   equalTo(ListX.of(SetX.of(1, 3), SetX.of(4))));
+    }
+
+    @Test
+    public void doesNotBlock() {
+        List<ListX<Integer>> result = new ArrayList<>();
+        new GroupedWhile<Integer, ListX<Integer>>(
+                                                  Flux.<Integer> never()).batchWhile(i -> true)
+                                                                         .subscribe(result::add);
+        assertTrue(result.isEmpty());
+    }
+
+    @Test
+    public void backpressure() {
+        AtomicLong upstream = new AtomicLong();
+        RequestingSubscriber<ListX<Integer>> sub = new RequestingSubscriber<>();
+        new GroupedWhile<Integer, ListX<Integer>>(
+                                                  Flux.range(1, 100)
+                                                      .doOnRequest(upstream::addAndGet)).batchWhile(i -> i % 3 != 0)
+                                                                                        .subscribe(sub);
+        sub.request(1);
+        assertThat(sub.values, equalTo(ListX.of(ListX.of(1, 2, 3))));
+        assertThat(upstream.get(), equalTo(3l));
+        sub.request(1);
+        assertThat(sub.values.size(), equalTo(2));
+        assertThat(upstream.get(), equalTo(6l));
+    }
+
+    @Test
+    public void batchStatefullyWhile() {
+        assertThat(new GroupedWhile<Integer, ListX<Integer>>(
+                                                             Flux.range(1, 6)).batchStatefullyWhile((last, i) -> last.contains(4))
+                                                                              .collectList()
+                                                                              .block(),
+                   equalTo(ListX.of(ListX.of(1), ListX.of(2), ListX.of(3), ListX.of(4), ListX.of(5, 6))));
+    }
+
+    @Test
+    public void batchStatefullyWhileBackpressure() {
+        AtomicLong upstream = new AtomicLong();
+        RequestingSubscriber<ListX<Integer>> sub = new RequestingSubscriber<>();
+        new GroupedWhile<Integer, ListX<Integer>>(
+                                                  Flux.range(1, 100)
+                                                      .doOnRequest(upstream::addAndGet)).batchStatefullyWhile((last, i) -> last.isEmpty() ? i < 3
+                                                                                                : i % 2 != 0)
+                                                                                        .subscribe(sub);
+        sub.request(2);
+        assertThat(sub.values, equalTo(ListX.of(ListX.of(1, 2, 3), ListX.of(4))));
+        assertThat(upstream.get(), equalTo(4l));
+    }
+
+    @Test
+    public void predicateError() {
+        RequestingSubscriber<ListX<Integer>> sub = new RequestingSubscriber<>();
+        new GroupedWhile<Integer, ListX<Integer>>(
+                                                  Flux.range(1, 10)).batchWhile(i -> {
+                                                      if (i == 5)
+                                                          throw new IllegalStateException();
+                                                      return i % 3 != 0;
+                                                  })
+                                                                    .subscribe(sub);
+        sub.request(Long.MAX_VALUE);
+        assertThat(sub.values, equalTo(ListX.of(ListX.of(1, 2, 3))));
+        assertTrue(sub.error instanceof IllegalStateException);
+    }
+}
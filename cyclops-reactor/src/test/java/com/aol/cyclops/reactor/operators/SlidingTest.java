@@ -0,0 +1,96 @@
+package com.aol.cyclops.reactor.operators;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Test;
+
+import com.aol.cyclops.data.collections.extensions.standard.ListX;
+import com.aol.cyclops.reactor.operators.GroupBySizeTest.RequestingSubscriber;
+
+import reactor.core.publisher.Flux;
+
+public class SlidingTest {
+
+    @Test
+    public void sliding() {
+        assertThat(new Sliding<Integer>(
+                                        Flux.range(1, 6)).sliding(3, 2)
+                                                         .collectList()
+                                                         .block(),
+                   equalTo(ListX.of(ListX.of(1, 2, 3), ListX.of(3, 4, 5), ListX.of(5, 6))));
+    }
+
+    @Test
+    public void slidingByOne() {
+        assertThat(new Sliding<Integer>(
+                                        Flux.range(1, 4)).sliding(2, 1)
+                                                         .collectList()
+                                                         .block(),
+                   equalTo(ListX.of(ListX.of(1, 2), ListX.of(2, 3), ListX.of(3, 4))));
+    }
+
+    @Test
+    public void slidingIncrementLargerThanWindow() {
+        assertThat(new Sliding<Integer>(
+                                        Flux.range(1, 7)).sliding(2, 3)
+                                                         .collectList()
+                                                         .block(),
+                   equalTo(ListX.of(ListX.of(1, 2), ListX.of(3, 4), ListX.of(5, 6), ListX.of(7))));
+    }
+
+    @Test
+    public void slidingShorterThanWindow() {
+        assertThat(new Sliding<Integer>(
+                                        Flux.range(1, 2)).sliding(3, 1)
+                                                         .collectList()
+                                                         .block(),
+                   equalTo(ListX.of(ListX.of(1, 2))));
+    }
+
+    @Test
+    public void slidingEmpty() {
+        assertThat(new Sliding<Integer>(
+                                        Flux.empty()).sliding(3, 1)
+                                                     .collectList()
+                                                     .block(),
+                   equalTo(ListX.empty()));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void invalidIncrement() {
+        new Sliding<Integer>(
+                             Flux.range(1, 5)).sliding(2, 0);
+    }
+
+    @Test
+    public void windowsAreCopies() {
+        ListX<ListX<Integer>> windows = ListX.fromIterable(new Sliding<Integer>(
+                                                                                Flux.range(1, 5)).sliding(2, 1)
+                                                                                                 .collectList()
+                                                                                                 .block());
+        windows.get(0)
+               .add(100);
+        assertThat(windows.get(1), equalTo(ListX.of(2, 3)));
+    }
+
+    @Test
+    public void backpressure() {
+        AtomicLong upstream = new AtomicLong();
+        RequestingSubscriber<ListX<Integer>> sub = new RequestingSubscriber<>();
+        new Sliding<Integer>(
+                             Flux.range(1, 100)
+                                 .doOnRequest(upstream::addAndGet)).sliding(3, 1)
+                                                                   .subscribe(sub);
+        sub.request(1);
+        assertThat(upstream.get(), equalTo(3l));
+        assertThat(sub.values, equalTo(ListX.of(ListX.of(1, 2, 3))));
+        sub.request(2);
+        assertThat(upstream.get(), equalTo(5l));
+        assertThat(sub.values.get(2), equalTo(ListX.of(3, 4, 5)));
+        assertTrue(!sub.complete);
+    }
+}
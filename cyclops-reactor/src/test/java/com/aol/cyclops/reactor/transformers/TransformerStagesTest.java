@@ -0,0 +1,127 @@
+package com.aol.cyclops.reactor.transformers;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThat;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import com.aol.cyclops.control.AnyM;
+import com.aol.cyclops.control.ReactiveSeq;
+import com.aol.cyclops.data.collections.extensions.persistent.PVectorX;
+import com.aol.cyclops.data.collections.extensions.standard.ListX;
+import com.aol.cyclops.reactor.Fluxes;
+import com.aol.cyclops.reactor.transformer.FluxT;
+import com.aol.cyclops.reactor.transformer.FluxTSeq;
+import com.aol.cyclops.reactor.transformer.FluxTValue;
+import com.aol.cyclops.reactor.transformer.MonoT;
+import com.aol.cyclops.reactor.transformer.MonoTValue;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public class TransformerStagesTest {
+
+    private ListX<Integer> values(FluxTSeq<Integer> flux) {
+        return flux.unwrap()
+                   .stream()
+                   .flatMap(f -> ReactiveSeq.fromPublisher(f))
+                   .toListX();
+    }
+
+    private FluxTSeq<Integer> fiveStages(FluxTSeq<Integer> flux, AtomicInteger peeked) {
+        return flux.map(i -> i + 1)
+                   .filter(i -> i % 2 == 0)
+                   .peek(i -> peeked.incrementAndGet())
+                   .map(i -> i * 10)
+                   .filter(i -> i > 20);
+    }
+
+    @Test
+    public void listOuter() {
+        AtomicInteger peeked = new AtomicInteger(0);
+        FluxTSeq<Integer> result = fiveStages(FluxT.fromIterable(ListX.of(Flux.just(1, 2, 3), Flux.just(4, 5))), peeked);
+        assertThat(peeked.get(), equalTo(0));
+        assertThat(result.unwrap()
+                         .unwrap(),
+                   instanceOf(ListX.class));
+        assertThat(result.unwrap(), sameInstance(result.unwrap()));
+        assertThat(values(result), equalTo(ListX.of(40, 60)));
+        assertThat(peeked.get(), equalTo(3));
+    }
+
+    @Test
+    public void otherListOuterKeepsItsType() {
+        PVectorX<Flux<Integer>> outer = PVectorX.of(Flux.just(1, 2, 3), Flux.just(4, 5));
+        FluxTSeq<Integer> result = fiveStages(FluxTSeq.of(AnyM.<Flux<Integer>> ofSeq(outer)), new AtomicInteger(0));
+        assertEquals(AnyM.ofSeq(outer)
+                         .map(f -> f)
+                         .unwrap()
+                         .getClass(),
+                     result.unwrap()
+                           .unwrap()
+                           .getClass());
+        assertThat(values(result), equalTo(ListX.of(40, 60)));
+    }
+
+    @Test
+    public void fluxOuter() {
+        AtomicInteger peeked = new AtomicInteger(0);
+        FluxTSeq<Integer> result = fiveStages(FluxTSeq.of(Fluxes.anyM(Flux.just(Flux.just(1, 2, 3), Flux.just(4, 5)))),
+                                              peeked);
+        assertThat(result.unwrap()
+                         .unwrap(),
+                   instanceOf(Flux.class));
+        assertThat(values(result), equalTo(ListX.of(40, 60)));
+    }
+
+    @Test
+    public void optionalOuter() {
+        FluxTValue<Integer> result = FluxT.fromOptional(Optional.of(Flux.just(1, 2, 3)))
+                                          .map(i -> i + 1)
+                                          .filter(i -> i % 2 == 0)
+                                          .map(i -> i * 10);
+        assertThat(result.unwrap()
+                         .unwrap(),
+                   instanceOf(Optional.class));
+        assertThat(ReactiveSeq.fromPublisher(result.unwrap()
+                                                   .get())
+                              .toListX(),
+                   equalTo(ListX.of(20, 40)));
+        assertThat(FluxT.fromOptional(Optional.<Flux<Integer>> empty())
+                        .map(i -> i + 1)
+                        .isSeqPresent(),
+                   equalTo(false));
+    }
+
+    @Test
+    public void futureOuter() {
+        CompletableFuture<Mono<Integer>> future = new CompletableFuture<>();
+        MonoTValue<Integer> result = MonoT.fromFuture(future)
+                                          .map(i -> i + 1)
+                                          .filter(i -> i > 0)
+                                          .peek(i -> {
+                                          })
+                                          .map(i -> i * 10);
+        assertThat(result.unwrap()
+                         .unwrap(),
+                   instanceOf(CompletableFuture.class));
+        future.complete(Mono.just(1));
+        assertThat(result.get(), equalTo(20));
+    }
+
+    @Test
+    public void stagesAfterOtherOperations() {
+        FluxTSeq<Integer> result = FluxT.fromIterable(ListX.of(Flux.just(1, 2)))
+                                        .map(i -> i + 1)
+                                        .flatMap(i -> Flux.just(i, i))
+                                        .map(i -> i * 10);
+        assertThat(values(result), equalTo(ListX.of(20, 20, 30, 30)));
+    }
+}
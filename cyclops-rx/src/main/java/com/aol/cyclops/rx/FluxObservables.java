@@ -0,0 +1,310 @@
+package com.aol.cyclops.rx;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import lombok.experimental.UtilityClass;
+import reactor.core.Fuseable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Operators;
+import rx.Observable;
+import rx.Producer;
+import rx.internal.operators.BackpressureUtils;
+import rx.internal.util.ScalarSynchronousObservable;
+
+/**
+ * Direct bridge between Reactor Flux and RxJava Observable. Reactor demand is mapped straight onto the RxJava Producer
+ * (and vice versa) without the intermediate reactive-streams adapters of RxReactiveStreams.
+ *
+ * <ul>
+ * <li>Flux sources that support synchronous fusion (e.g. Flux.range, Flux.fromIterable) are drained by polling
+ * directly on the requesting thread</li>
+ * <li>Scalar sources (Flux.just, Mono.just, Observable.just) are converted to their scalar equivalent</li>
+ * <li>request(n) calls made while an element is being emitted, or while a previous request is being forwarded, are
+ * batched into a single request upstream</li>
+ * </ul>
+ *
+ * <pre>
+ * {@code
+ *   Observable<Integer> observable = FluxObservables.observable(Flux.range(0,10));
+ *   Flux<Integer> flux = FluxObservables.flux(Observable.range(0,10));
+ * }
+ * </pre>
+ *
+ * @author johnmcclean
+ *
+ */
+@UtilityClass
+public class FluxObservables {
+
+    /**
+     * Convert a Publisher (e.g. a Flux or Mono) to an Observable
+     *
+     * @param publisher To convert
+     * @return Observable
+     */
+    public static <T> Observable<T> observable(Publisher<T> publisher) {
+        if (publisher instanceof Fuseable.ScalarCallable) {
+            T value = ((Fuseable.ScalarCallable<T>) publisher).call();
+            return value == null ? Observable.empty() : Observable.just(value);
+        }
+        return Observable.create(new FluxOnSubscribe<>(
+                                                       publisher));
+    }
+
+    /**
+     * Convert an Observable to a Flux
+     *
+     * @param observable To convert
+     * @return Flux
+     */
+    public static <T> Flux<T> flux(Observable<T> observable) {
+        if (observable instanceof ScalarSynchronousObservable) {
+            T value = ((ScalarSynchronousObservable<T>) observable).get();
+            if (value != null)
+                return Flux.just(value);
+        }
+        return new ObservableFlux<>(
+                                    observable);
+    }
+
+    /**
+     * Adds n to requested and returns true if the calling thread now owns the drain loop
+     */
+    private static boolean addRequest(AtomicLong requested, AtomicInteger wip, long n) {
+        BackpressureUtils.getAndAddRequest(requested, n);
+        return wip.getAndIncrement() == 0;
+    }
+
+    private static final class FluxOnSubscribe<T> implements Observable.OnSubscribe<T> {
+        private final Publisher<T> source;
+
+        FluxOnSubscribe(Publisher<T> source) {
+            this.source = source;
+        }
+
+        @Override
+        public void call(rx.Subscriber<? super T> child) {
+            FluxProducer<T> parent = new FluxProducer<>(
+                                                        child);
+            child.add(parent);
+            child.setProducer(parent);
+            source.subscribe(parent);
+        }
+    }
+
+    /**
+     * Subscribes to the Flux on behalf of an RxJava Subscriber, RxJava requests are forwarded upstream or, for a
+     * synchronously fused source, used to poll the source directly
+     */
+    private static final class FluxProducer<T> implements Subscriber<T>, Producer, rx.Subscription {
+        @SuppressWarnings("rawtypes")
+        private static final AtomicReferenceFieldUpdater<FluxProducer, Subscription> UPSTREAM = AtomicReferenceFieldUpdater.newUpdater(FluxProducer.class,
+                                                                                                                                      Subscription.class,
+                                                                                                                                      "upstream");
+        private final rx.Subscriber<? super T> child;
+        private final AtomicLong requested = new AtomicLong();
+        private final AtomicInteger wip = new AtomicInteger();
+        private volatile Subscription upstream;
+        private Fuseable.QueueSubscription<T> fused;
+        private volatile boolean done;
+
+        FluxProducer(rx.Subscriber<? super T> child) {
+            this.child = child;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public void onSubscribe(Subscription s) {
+            if (s instanceof Fuseable.QueueSubscription) {
+                Fuseable.QueueSubscription<T> qs = (Fuseable.QueueSubscription<T>) s;
+                if (qs.requestFusion(Fuseable.SYNC) == Fuseable.SYNC)
+                    fused = qs;
+            }
+            //requests made before (or during) the first drain are picked up by the owner of the drain loop
+            if (Operators.setOnce(UPSTREAM, this, s) && wip.getAndIncrement() == 0)
+                drain();
+        }
+
+        @Override
+        public void request(long n) {
+            if (n < 0)
+                throw new IllegalArgumentException(
+                                                   "n >= 0 required but it was " + n);
+            if (n > 0 && addRequest(requested, wip, n))
+                drain();
+        }
+
+        private void drain() {
+            int missed = 1;
+            do {
+                Subscription s = upstream;
+                if (s != null && s != Operators.cancelledSubscription()) {
+                    if (fused != null)
+                        poll();
+                    else {
+                        long r = requested.getAndSet(0);
+                        if (r != 0)
+                            s.request(r);
+                    }
+                }
+                missed = wip.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private void poll() {
+            long r = requested.get();
+            long e = 0;
+            while (e != r) {
+                if (done)
+                    return;
+                T next;
+                try {
+                    next = fused.poll();
+                } catch (Throwable t) {
+                    done = true;
+                    child.onError(t);
+                    return;
+                }
+                if (next == null) {
+                    done = true;
+                    child.onCompleted();
+                    return;
+                }
+                child.onNext(next);
+                e++;
+            }
+            if (done)
+                return;
+            if (fused.isEmpty()) {
+                done = true;
+                child.onCompleted();
+                return;
+            }
+            if (e != 0)
+                BackpressureUtils.produced(requested, e);
+        }
+
+        @Override
+        public void onNext(T t) {
+            //requests made by the child during onNext are forwarded as one once it returns
+            boolean owner = wip.getAndIncrement() == 0;
+            child.onNext(t);
+            if (owner)
+                drain();
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            done = true;
+            child.onError(t);
+        }
+
+        @Override
+        public void onComplete() {
+            done = true;
+            child.onCompleted();
+        }
+
+        @Override
+        public void unsubscribe() {
+            done = true;
+            Operators.terminate(UPSTREAM, this);
+        }
+
+        @Override
+        public boolean isUnsubscribed() {
+            return upstream == Operators.cancelledSubscription();
+        }
+    }
+
+    private static final class ObservableFlux<T> extends Flux<T> {
+        private final Observable<T> source;
+
+        ObservableFlux(Observable<T> source) {
+            this.source = source;
+        }
+
+        @Override
+        public void subscribe(Subscriber<? super T> s) {
+            ObservableSubscriber<T> parent = new ObservableSubscriber<>(
+                                                                        s);
+            s.onSubscribe(parent.subscription);
+            if (!parent.isUnsubscribed())
+                source.unsafeSubscribe(parent);
+        }
+    }
+
+    /**
+     * Subscribes to the Observable on behalf of a reactive-streams Subscriber, reactive-streams requests are forwarded
+     * to the RxJava Producer
+     */
+    private static final class ObservableSubscriber<T> extends rx.Subscriber<T> {
+        private final Subscriber<? super T> actual;
+        private final AtomicLong requested = new AtomicLong();
+        private final AtomicInteger wip = new AtomicInteger();
+        private final Subscription subscription = new Subscription() {
+
+            @Override
+            public void request(long n) {
+                requestMore(n);
+            }
+
+            @Override
+            public void cancel() {
+                unsubscribe();
+            }
+        };
+
+        ObservableSubscriber(Subscriber<? super T> actual) {
+            this.actual = actual;
+            //no demand until the reactive-streams Subscriber requests it
+            request(0);
+        }
+
+        private void requestMore(long n) {
+            if (n <= 0) {
+                unsubscribe();
+                actual.onError(new IllegalArgumentException(
+                                                            "§3.9 violated: positive request amount required but it was " + n));
+                return;
+            }
+            if (addRequest(requested, wip, n))
+                drain();
+        }
+
+        private void drain() {
+            int missed = 1;
+            do {
+                long r = requested.getAndSet(0);
+                if (r != 0)
+                    request(r);
+                missed = wip.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        @Override
+        public void onNext(T t) {
+            //requests made by the Subscriber during onNext are forwarded as one once it returns
+            boolean owner = wip.getAndIncrement() == 0;
+            actual.onNext(t);
+            if (owner)
+                drain();
+        }
+
+        @Override
+        public void onError(Throwable e) {
+            actual.onError(e);
+        }
+
+        @Override
+        public void onCompleted() {
+            actual.onComplete();
+        }
+    }
+}
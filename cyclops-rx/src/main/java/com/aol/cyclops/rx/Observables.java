@@ -14,7 +14,6 @@ import com.aol.cyclops.util.function.TriFunction;
 
 import lombok.experimental.UtilityClass;
 import rx.Observable;
-import rx.RxReactiveStreams;
 
 /**
  * Companion class for working with RxJava Observable types
@@ -25,13 +24,13 @@ import rx.RxReactiveStreams;
 @UtilityClass
 public class Observables {
     /**
-     * Convert an Observable to a reactive-streams Publisher
+     * Convert an Observable to a reactive-streams Publisher (a Flux)
      * 
      * @param observable To convert
      * @return reactive-streams Publisher
      */
     public static <T> Publisher<T> publisher(Observable<T> observable) {
-        return RxReactiveStreams.toPublisher(observable);
+        return FluxObservables.flux(observable);
     }
 
     /**
@@ -51,7 +50,7 @@ public class Observables {
      * @return Observable
      */
     public static <T> Observable<T> observable(Publisher<T> publisher) {
-        return RxReactiveStreams.toObservable(publisher);
+        return FluxObservables.observable(publisher);
     }
 
     /**
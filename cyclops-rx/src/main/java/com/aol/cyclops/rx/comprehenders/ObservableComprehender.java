@@ -1,16 +1,22 @@
 package com.aol.cyclops.rx.comprehenders;
 
 import java.util.Iterator;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.BaseStream;
 import java.util.stream.Stream;
 
+import org.reactivestreams.Publisher;
+
+import com.aol.cyclops.control.FutureW;
+import com.aol.cyclops.rx.Observables;
 import com.aol.cyclops.types.extensability.Comprehender;
 import com.aol.cyclops.types.stream.reactive.SeqSubscriber;
 
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 import rx.Observable;
-import rx.RxReactiveStreams;
 
 public class ObservableComprehender implements Comprehender<Observable> {
     public Class getTargetClass() {
@@ -52,15 +58,47 @@ public class ObservableComprehender implements Comprehender<Observable> {
     }
 
     public Object resolveForCrossTypeFlatMap(Comprehender comp, Observable apply) {
+        //asynchronous types compose with the Observable as it emits, rather than draining it on the calling thread
+        Class target = comp.getTargetClass();
+        if (target == null)
+            target = Object.class;
+        if (FutureW.class.isAssignableFrom(target))
+            return FutureW.of(toFuture(apply));
+        if (CompletableFuture.class.isAssignableFrom(target))
+            return toFuture(apply);
+        if (target == Flux.class || target == Mono.class)
+            return Observables.publisher(apply);
         SeqSubscriber sub = SeqSubscriber.subscriber();
-        RxReactiveStreams.toPublisher(apply)
+        Observables.publisher(apply)
                          .subscribe(sub);
         return comp.fromIterator(sub.iterator());
     }
 
+    private static CompletableFuture toFuture(Observable apply) {
+        CompletableFuture future = new CompletableFuture();
+        apply.firstOrDefault(null)
+             .subscribe(value -> future.complete(value), error -> future.completeExceptionally((Throwable) error));
+        return future;
+    }
+
+    private static Observable fromFuture(CompletableFuture future) {
+        return Observable.create(subscriber -> future.whenComplete((value, error) -> {
+            if (error != null) {
+                subscriber.onError((Throwable) error);
+                return;
+            }
+            subscriber.onNext(value);
+            subscriber.onCompleted();
+        }));
+    }
+
     public static Observable unwrapOtherMonadTypes(Comprehender<Observable> comp, Object apply) {
         if (apply instanceof Observable)
             return (Observable) apply;
+        if (apply instanceof CompletableFuture)
+            return fromFuture((CompletableFuture) apply);
+        if (apply instanceof FutureW)
+            return fromFuture(((FutureW) apply).getFuture());
         if (apply instanceof Iterable) {
             return Observable.from((Iterable) apply);
 
@@ -68,6 +106,8 @@ public class ObservableComprehender implements Comprehender<Observable> {
         if (apply instanceof BaseStream) {
             return Observable.from(() -> ((BaseStream) apply).iterator());
         }
+        if (apply instanceof Publisher)
+            return Observables.observable((Publisher) apply);
         return Comprehender.unwrapOtherMonadTypes(comp, apply);
 
     }
@@ -163,9 +163,9 @@ public interface ObservableT<T> extends FoldableTransformerSeq<T> {
      * @return ObservableT that applies the flatMap function to the wrapped Observable
      */
     default <B> ObservableT<B> bind(Function<? super T, ObservableT<? extends B>> f) {
-        return of(unwrap().map(observable -> observable.flatMap(a -> Observables.observable(f.apply(a)
-                                                                                             .unwrap()
-                                                                                             .stream()))
+        return of(unwrap().map(observable -> observable.flatMap(a -> Observable.from(f.apply(a)
+                                                                                        .unwrap()
+                                                                                        .stream()))
                                                        .<B> flatMap(a -> a)));
     }
 
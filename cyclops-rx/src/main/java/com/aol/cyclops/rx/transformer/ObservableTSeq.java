@@ -45,18 +45,45 @@ import rx.Observable;
  */
 public class ObservableTSeq<T> implements ObservableT<T> {
 
-    private final AnyMSeq<Observable<T>> run;
+    //the outer monad and the map / filter / peek stages not yet applied to it, fused into one map on first use
+    private final AnyMSeq<Observable<Object>> source;
+    private final Function<Observable<Object>, Observable<T>> stages;
+    private volatile AnyMSeq<Observable<T>> run;
 
     private ObservableTSeq(final AnyMSeq<? extends Observable<T>> run) {
+        this.source = (AnyMSeq) run;
+        this.stages = null;
         this.run = (AnyMSeq) run;
     }
 
+    private ObservableTSeq(final AnyMSeq<Observable<Object>> source, final Function<Observable<Object>, Observable<T>> stages) {
+        this.source = source;
+        this.stages = stages;
+    }
+
+    private AnyMSeq<Observable<T>> run() {
+        AnyMSeq<Observable<T>> result = run;
+        if (result == null) {
+            synchronized (this) {
+                result = run;
+                if (result == null)
+                    run = result = OuterMap.seq(source, stages);
+            }
+        }
+        return result;
+    }
+
+    private <B> ObservableTSeq<B> stage(final Function<? super Observable<T>, ? extends Observable<B>> next) {
+        return new ObservableTSeq<B>(
+                                     source, stages == null ? (Function) next : stages.andThen(next));
+    }
+
     /* (non-Javadoc)
      * @see com.aol.cyclops.control.monads.transformers.values.TransformerSeq#isSeqPresent()
      */
     @Override
     public boolean isSeqPresent() {
-        return !run.isEmpty();
+        return !run().isEmpty();
     }
 
     /**
@@ -64,7 +91,7 @@ public class ObservableTSeq<T> implements ObservableT<T> {
      */
     @Override
     public AnyMSeq<Observable<T>> unwrap() {
-        return run;
+        return run();
     }
 
     /**
@@ -104,7 +131,7 @@ public class ObservableTSeq<T> implements ObservableT<T> {
      */
     @Override
     public ObservableTSeq<T> filter(final Predicate<? super T> test) {
-        return of(run.map(stream -> stream.filter(i -> test.test(i))));
+        return stage(stream -> stream.filter(i -> test.test(i)));
     }
 
     /**
@@ -126,8 +153,7 @@ public class ObservableTSeq<T> implements ObservableT<T> {
     @Override
     public <B> ObservableTSeq<B> map(final Function<? super T, ? extends B> f) {
         
-        return new ObservableTSeq<B>(
-                                     run.map(o -> o.map(i -> f.apply(i))));
+        return stage(o -> o.map(i -> f.apply(i)));
     }
 
     /**
@@ -144,7 +170,7 @@ public class ObservableTSeq<T> implements ObservableT<T> {
      * @return ObservableT that applies the flatMap function to the wrapped Stream
      */
     public <B> ObservableTSeq<B> flatMapT(final Function<? super T, ObservableTSeq<? extends B>> f) {
-        return of(run.map(stream -> stream.flatMap(a -> Observables.observable(f.apply(a).run.stream()))
+        return of(run().map(stream -> stream.flatMap(a -> Observable.from(f.apply(a).run().stream()))
                                           .<B> flatMap(a -> a)));
     }
 
@@ -155,7 +181,7 @@ public class ObservableTSeq<T> implements ObservableT<T> {
     public <B> ObservableTSeq<B> flatMap(final Function<? super T, ? extends Observable<? extends B>> f) {
 
         return new ObservableTSeq<B>(
-                                     run.map(o -> o.flatMap(i -> f.apply(i))));
+                                     run().map(o -> o.flatMap(i -> f.apply(i))));
 
     }
 
@@ -212,7 +238,7 @@ public class ObservableTSeq<T> implements ObservableT<T> {
      */
     @Override
     public String toString() {
-        return String.format("ObservableTSeq[%s]", run);
+        return String.format("ObservableTSeq[%s]", run());
     }
 
     /*
@@ -222,7 +248,7 @@ public class ObservableTSeq<T> implements ObservableT<T> {
      */
     @Override
     public <T> ObservableTSeq<T> unit(final T unit) {
-        return of(run.unit(Observable.just(unit)));
+        return of(run().unit(Observable.just(unit)));
     }
 
     /*
@@ -234,7 +260,7 @@ public class ObservableTSeq<T> implements ObservableT<T> {
      */
     @Override
     public ReactiveSeq<T> stream() {
-        return run.map(i -> Observables.reactiveSeq(i))
+        return run().map(i -> Observables.reactiveSeq(i))
                   .stream()
                   .flatMap(e -> e);
     }
@@ -267,7 +293,7 @@ public class ObservableTSeq<T> implements ObservableT<T> {
      */
     @Override
     public <R> ObservableTSeq<R> unitIterator(final Iterator<R> it) {
-        return of(run.unitIterator(it)
+        return of(run().unitIterator(it)
                      .map(i -> Observable.just(i)));
     }
 
@@ -278,7 +304,7 @@ public class ObservableTSeq<T> implements ObservableT<T> {
      */
     @Override
     public <R> ObservableT<R> empty() {
-        return of(run.empty());
+        return of(run().empty());
     }
 
     /*
@@ -288,7 +314,7 @@ public class ObservableTSeq<T> implements ObservableT<T> {
      */
     @Override
     public AnyM<? extends IterableFoldable<T>> nestedFoldables() {
-        return run.map(i -> Observables.reactiveSeq(i));
+        return run().map(i -> Observables.reactiveSeq(i));
 
     }
 
@@ -299,7 +325,7 @@ public class ObservableTSeq<T> implements ObservableT<T> {
      */
     @Override
     public AnyM<? extends CyclopsCollectable<T>> nestedCollectables() {
-        return run.map(i -> Observables.reactiveSeq(i));
+        return run().map(i -> Observables.reactiveSeq(i));
 
     }
 
@@ -323,7 +349,7 @@ public class ObservableTSeq<T> implements ObservableT<T> {
      */
     @Override
     public AnyMSeq<? extends Traversable<T>> transformerStream() {
-        return run.map(i -> Observables.reactiveSeq(i));
+        return run().map(i -> Observables.reactiveSeq(i));
     }
 
     public static <T> ObservableTSeq<T> emptyStream() {
@@ -992,7 +1018,7 @@ public class ObservableTSeq<T> implements ObservableT<T> {
      */
     @Override
     public int hashCode() {
-        return run.hashCode();
+        return run().hashCode();
     }
 
     /*
@@ -1003,7 +1029,7 @@ public class ObservableTSeq<T> implements ObservableT<T> {
     @Override
     public boolean equals(final Object o) {
         if (o instanceof ObservableTSeq) {
-            return run.equals(((ObservableTSeq) o).run);
+            return run().equals(((ObservableTSeq) o).run());
         }
         return false;
     }
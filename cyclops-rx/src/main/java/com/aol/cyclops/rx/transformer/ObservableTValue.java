@@ -27,18 +27,45 @@ import rx.Observable;
  */
 public class ObservableTValue<T> implements ObservableT<T> {
 
-    private final AnyMValue<Observable<T>> run;
+    //the outer monad and the map / filter / peek stages not yet applied to it, fused into one map on first use
+    private final AnyMValue<Observable<Object>> source;
+    private final Function<Observable<Object>, Observable<T>> stages;
+    private volatile AnyMValue<Observable<T>> run;
 
     private ObservableTValue(final AnyMValue<? extends Observable<T>> run) {
+        this.source = (AnyMValue) run;
+        this.stages = null;
         this.run = (AnyMValue) run;
     }
 
+    private ObservableTValue(final AnyMValue<Observable<Object>> source, final Function<Observable<Object>, Observable<T>> stages) {
+        this.source = source;
+        this.stages = stages;
+    }
+
+    private AnyMValue<Observable<T>> run() {
+        AnyMValue<Observable<T>> result = run;
+        if (result == null) {
+            synchronized (this) {
+                result = run;
+                if (result == null)
+                    run = result = OuterMap.value(source, stages);
+            }
+        }
+        return result;
+    }
+
+    private <B> ObservableTValue<B> stage(final Function<? super Observable<T>, ? extends Observable<B>> next) {
+        return new ObservableTValue<B>(
+                                       source, stages == null ? (Function) next : stages.andThen(next));
+    }
+
     /**
      * @return The wrapped AnyM
      */
     @Override
     public AnyMValue<Observable<T>> unwrap() {
-        return run;
+        return run();
     }
 
     /*
@@ -49,7 +76,7 @@ public class ObservableTValue<T> implements ObservableT<T> {
      */
     @Override
     public boolean isSeqPresent() {
-        return !run.isEmpty();
+        return !run().isEmpty();
     }
 
     /**
@@ -90,7 +117,7 @@ public class ObservableTValue<T> implements ObservableT<T> {
     @Override
     public ObservableTValue<T> filter(final Predicate<? super T> test) {
 
-        return of(run.map(stream -> stream.filter(i -> test.test(i))));
+        return stage(stream -> stream.filter(i -> test.test(i)));
     }
 
     /**
@@ -111,8 +138,7 @@ public class ObservableTValue<T> implements ObservableT<T> {
      */
     @Override
     public <B> ObservableTValue<B> map(final Function<? super T, ? extends B> f) {
-        return new ObservableTValue<B>(
-                                       run.map(o -> o.map(i -> f.apply(i))));
+        return stage(o -> o.map(i -> f.apply(i)));
     }
 
     /**
@@ -131,7 +157,7 @@ public class ObservableTValue<T> implements ObservableT<T> {
      */
     public <B> ObservableTValue<B> flatMapT(final Function<? super T, ObservableTValue<? extends B>> f) {
         
-        return of(run.map(stream -> stream.flatMap(a -> Observables.observable(f.apply(a).run.stream()))
+        return of(run().map(stream -> stream.flatMap(a -> Observable.from(f.apply(a).run().stream()))
                                           .<B> flatMap(a -> a)));
     }
 
@@ -142,7 +168,7 @@ public class ObservableTValue<T> implements ObservableT<T> {
     public <B> ObservableTValue<B> flatMap(final Function<? super T, ? extends Observable<? extends B>> f) {
 
         return new ObservableTValue<B>(
-                                       run.map(o -> o.flatMap(i -> f.apply(i))));
+                                       run().map(o -> o.flatMap(i -> f.apply(i))));
 
     }
 
@@ -207,14 +233,14 @@ public class ObservableTValue<T> implements ObservableT<T> {
      * @return True if Observable is present, otherwise false
      */
     public boolean isObservablePresent() {
-        return !run.isEmpty();
+        return !run().isEmpty();
     }
 
     /**
      * @return Get nested Observable
      */
     public Observable<T> get() {
-        return run.get();
+        return run().get();
     }
 
     /*
@@ -224,7 +250,7 @@ public class ObservableTValue<T> implements ObservableT<T> {
      */
     @Override
     public String toString() {
-        return String.format("ObservableTValue[%s]", run);
+        return String.format("ObservableTValue[%s]", run());
     }
 
     /*
@@ -245,7 +271,7 @@ public class ObservableTValue<T> implements ObservableT<T> {
      */
     @Override
     public <U> ObservableTValue<U> unitIterator(final Iterator<U> u) {
-        return of(run.unit(Observable.from(() -> u)));
+        return of(run().unit(Observable.from(() -> u)));
     }
 
     /*
@@ -255,7 +281,7 @@ public class ObservableTValue<T> implements ObservableT<T> {
      */
     @Override
     public <T> ObservableTValue<T> unit(final T unit) {
-        return of(run.unit(Observable.just(unit)));
+        return of(run().unit(Observable.just(unit)));
     }
 
     /* (non-Javadoc)
@@ -263,7 +289,7 @@ public class ObservableTValue<T> implements ObservableT<T> {
      */
     @Override
     public ReactiveSeq<T> stream() {
-        return run.map(i -> Observables.reactiveSeq(i))
+        return run().map(i -> Observables.reactiveSeq(i))
                   .stream()
                   .flatMap(e -> e);
     }
@@ -281,7 +307,7 @@ public class ObservableTValue<T> implements ObservableT<T> {
      */
     @Override
     public <R> ObservableTValue<R> empty() {
-        return of(run.empty());
+        return of(run().empty());
     }
 
     /**
@@ -296,7 +322,7 @@ public class ObservableTValue<T> implements ObservableT<T> {
      */
     @Override
     public AnyM<? extends IterableFoldable<T>> nestedFoldables() {
-        return run.map(i -> Observables.reactiveSeq(i));
+        return run().map(i -> Observables.reactiveSeq(i));
 
     }
 
@@ -305,7 +331,7 @@ public class ObservableTValue<T> implements ObservableT<T> {
      */
     @Override
     public AnyM<? extends CyclopsCollectable<T>> nestedCollectables() {
-        return run.map(i -> Observables.reactiveSeq(i));
+        return run().map(i -> Observables.reactiveSeq(i));
 
     }
 
@@ -323,7 +349,7 @@ public class ObservableTValue<T> implements ObservableT<T> {
      */
     @Override
     public AnyM<? extends Traversable<T>> transformerStream() {
-        return run.map(i -> Observables.reactiveSeq(i));
+        return run().map(i -> Observables.reactiveSeq(i));
     }
 
     /* (non-Javadoc)
@@ -331,7 +357,7 @@ public class ObservableTValue<T> implements ObservableT<T> {
      */
     @Override
     public int hashCode() {
-        return run.hashCode();
+        return run().hashCode();
     }
 
     /* (non-Javadoc)
@@ -340,7 +366,7 @@ public class ObservableTValue<T> implements ObservableT<T> {
     @Override
     public boolean equals(final Object o) {
         if (o instanceof ObservableTValue) {
-            return run.equals(((ObservableTValue) o).run);
+            return run().equals(((ObservableTValue) o).run());
         }
         return false;
     }
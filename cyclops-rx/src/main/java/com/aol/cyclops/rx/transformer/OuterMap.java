@@ -0,0 +1,48 @@
+package com.aol.cyclops.rx.transformer;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+import com.aol.cyclops.control.AnyM;
+import com.aol.cyclops.data.collections.extensions.standard.ListX;
+import com.aol.cyclops.rx.Observables;
+import com.aol.cyclops.types.anyM.AnyMSeq;
+import com.aol.cyclops.types.anyM.AnyMValue;
+
+import rx.Observable;
+
+/**
+ * Applies the fused map / filter / peek stages of a monad transformer to its outer monad in a single map. The common
+ * outer types (ListX, Optional, CompletableFuture and Observable) are mapped directly, rather than via AnyM.map and
+ * Comprehender dispatch, producing the same types AnyM.map would.
+ *
+ * @author johnmcclean
+ *
+ */
+final class OuterMap {
+
+    private OuterMap() {
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T, R> AnyMSeq<R> seq(AnyMSeq<T> outer, Function<? super T, ? extends R> fn) {
+        Object monad = outer.unwrap();
+        //other List types (PVectorX, PStackX..) keep their type via AnyM.map
+        if (monad instanceof ListX)
+            return AnyM.fromList(((ListX<T>) monad).map(fn));
+        if (monad instanceof Observable)
+            return Observables.anyM(((Observable<T>) monad).map(fn::apply));
+        return outer.map(fn);
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T, R> AnyMValue<R> value(AnyMValue<T> outer, Function<? super T, ? extends R> fn) {
+        Object monad = outer.unwrap();
+        if (monad instanceof Optional)
+            return AnyM.fromOptional(((Optional<T>) monad).map(fn));
+        if (monad instanceof CompletableFuture)
+            return AnyM.fromCompletableFuture(((CompletableFuture<T>) monad).thenApply(fn));
+        return outer.map(fn);
+    }
+}
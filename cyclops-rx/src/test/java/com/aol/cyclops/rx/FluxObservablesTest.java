@@ -0,0 +1,218 @@
+package com.aol.cyclops.rx;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.everyItem;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.junit.Assert.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Test;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import com.aol.cyclops.data.collections.extensions.standard.ListX;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import rx.Observable;
+import rx.internal.util.ScalarSynchronousObservable;
+import rx.observers.TestSubscriber;
+
+public class FluxObservablesTest {
+
+    @Test
+    public void fluxToObservable() {
+        assertThat(FluxObservables.observable(Flux.just(1, 2, 3)
+                                                  .map(i -> i * 10))
+                                  .toList()
+                                  .toBlocking()
+                                  .single(),
+                   equalTo(Arrays.asList(10, 20, 30)));
+    }
+
+    @Test
+    public void observableToFlux() {
+        assertThat(FluxObservables.flux(Observable.range(1, 3)
+                                                  .map(i -> i * 10))
+                                  .collectList()
+                                  .block(),
+                   equalTo(Arrays.asList(10, 20, 30)));
+    }
+
+    @Test
+    public void scalars() {
+        assertThat(FluxObservables.observable(Mono.just(1)), instanceOf(ScalarSynchronousObservable.class));
+        assertThat(FluxObservables.observable(Mono.<Integer> empty())
+                                  .isEmpty()
+                                  .toBlocking()
+                                  .single(),
+                   equalTo(true));
+        assertThat(FluxObservables.flux(Observable.just(1))
+                                  .blockLast(),
+                   equalTo(1));
+    }
+
+    @Test
+    public void fusedSyncSourceBackpressure() {
+        AtomicInteger requests = new AtomicInteger(0);
+        TestSubscriber<Integer> sub = TestSubscriber.create(0);
+        FluxObservables.observable(Flux.range(0, 10))
+                       .subscribe(sub);
+        sub.assertNoValues();
+        sub.requestMore(3);
+        sub.assertValues(0, 1, 2);
+        sub.requestMore(7);
+        sub.assertValues(0, 1, 2, 3, 4, 5, 6, 7, 8, 9);
+        sub.assertCompleted();
+
+        TestSubscriber<Integer> unfused = TestSubscriber.create(0);
+        FluxObservables.observable(Flux.range(0, 10)
+                                       .hide()
+                                       .doOnRequest(n -> requests.incrementAndGet()))
+                       .subscribe(unfused);
+        unfused.requestMore(4);
+        unfused.assertValues(0, 1, 2, 3);
+        unfused.assertNotCompleted();
+        assertThat(requests.get(), equalTo(1));
+    }
+
+    @Test
+    public void observableBackpressure() {
+        List<Integer> received = new ArrayList<>();
+        AtomicReference<Subscription> subscription = new AtomicReference<>();
+        FluxObservables.flux(Observable.range(0, 100))
+                       .subscribe(new Subscriber<Integer>() {
+
+                           @Override
+                           public void onSubscribe(Subscription s) {
+                               subscription.set(s);
+                               s.request(2);
+                           }
+
+                           @Override
+                           public void onNext(Integer t) {
+                               received.add(t);
+                           }
+
+                           @Override
+                           public void onError(Throwable t) {
+                           }
+
+                           @Override
+                           public void onComplete() {
+                           }
+                       });
+        assertThat(received, equalTo(Arrays.asList(0, 1)));
+        subscription.get()
+                    .request(1);
+        assertThat(received, equalTo(Arrays.asList(0, 1, 2)));
+        subscription.get()
+                    .cancel();
+        subscription.get()
+                    .request(10);
+        assertThat(received.size(), equalTo(3));
+    }
+
+    @Test
+    public void reentrantRequestsAreBatched() {
+        List<Long> upstream = new ArrayList<>();
+        List<Integer> received = new ArrayList<>();
+        FluxObservables.flux(Observable.range(0, 5)
+                                       .doOnRequest(upstream::add))
+                       .subscribe(new Subscriber<Integer>() {
+                           Subscription s;
+
+                           @Override
+                           public void onSubscribe(Subscription s) {
+                               this.s = s;
+                               s.request(1);
+                           }
+
+                           @Override
+                           public void onNext(Integer t) {
+                               received.add(t);
+                               s.request(1);
+                               s.request(1);
+                           }
+
+                           @Override
+                           public void onError(Throwable t) {
+                           }
+
+                           @Override
+                           public void onComplete() {
+                           }
+                       });
+        assertThat(received, equalTo(Arrays.asList(0, 1, 2, 3, 4)));
+        assertThat(upstream.subList(1, upstream.size()), everyItem(equalTo(2L)));
+    }
+
+    @Test
+    public void reentrantRequestsOverFusedSource() {
+        List<Integer> received = new ArrayList<>();
+        List<Throwable> errors = new ArrayList<>();
+        FluxObservables.observable(Flux.range(1, 5))
+                       .subscribe(new rx.Subscriber<Integer>() {
+
+                           @Override
+                           public void onStart() {
+                               request(1);
+                           }
+
+                           @Override
+                           public void onNext(Integer t) {
+                               received.add(t);
+                               if (received.size() < 3)
+                                   request(1);
+                           }
+
+                           @Override
+                           public void onError(Throwable t) {
+                               errors.add(t);
+                           }
+
+                           @Override
+                           public void onCompleted() {
+                           }
+                       });
+        assertThat(received, equalTo(Arrays.asList(1, 2, 3)));
+        assertThat(errors.size(), equalTo(0));
+    }
+
+    @Test
+    public void cancelAndErrors() {
+        AtomicInteger cancelled = new AtomicInteger(0);
+        TestSubscriber<Integer> sub = TestSubscriber.create(1);
+        FluxObservables.observable(Flux.<Integer> never()
+                                       .doOnCancel(cancelled::incrementAndGet))
+                       .subscribe(sub);
+        sub.unsubscribe();
+        assertThat(cancelled.get(), equalTo(1));
+
+        TestSubscriber<Integer> error = TestSubscriber.create();
+        FluxObservables.observable(Flux.<Integer> error(new IllegalStateException()))
+                       .subscribe(error);
+        error.assertError(IllegalStateException.class);
+        assertThat(FluxObservables.flux(Observable.<Integer> error(new IllegalStateException()))
+                                  .onErrorReturn(-1)
+                                  .blockLast(),
+                   equalTo(-1));
+    }
+
+    @Test
+    public void observablesUsesBridge() {
+        assertThat(Observables.reactiveSeq(Observable.range(0, 3))
+                              .toListX(),
+                   equalTo(ListX.of(0, 1, 2)));
+        assertThat(Observables.observable(Observables.publisher(Observable.just(1, 2)))
+                              .toList()
+                              .toBlocking()
+                              .single(),
+                   equalTo(Arrays.asList(1, 2)));
+    }
+}
@@ -3,15 +3,21 @@ package com.aol.cyclops.rx;
 import static org.hamcrest.Matchers.equalTo;
 import static org.junit.Assert.assertThat;
 
+import java.util.concurrent.CompletableFuture;
+
 import org.jooq.lambda.tuple.Tuple;
 import org.jooq.lambda.tuple.Tuple2;
 import org.junit.Test;
 
+import com.aol.cyclops.control.AnyM;
+import com.aol.cyclops.control.FutureW;
 import com.aol.cyclops.control.ReactiveSeq;
 import com.aol.cyclops.data.collections.extensions.standard.ListX;
 import com.aol.cyclops.rx.transformer.ObservableT;
+import com.aol.cyclops.types.anyM.AnyMValue;
 
 import rx.Observable;
+import rx.subjects.PublishSubject;
 
 public class RxTest {
 
@@ -64,4 +70,36 @@ public class RxTest {
                    equalTo(100));
     }
 
+    @Test
+    public void futureWFlatMapObservableDoesNotBlock() {
+        PublishSubject<Integer> pending = PublishSubject.create();
+        AnyMValue<Integer> result = AnyM.fromFutureW(FutureW.ofResult(10))
+                                        .bind(a -> pending.map(b -> a + b));
+        FutureW<Integer> future = result.unwrap();
+        assertThat(future.isDone(), equalTo(false));
+        pending.onNext(20);
+        assertThat(future.get(), equalTo(30));
+    }
+
+    @Test
+    public void observableFlatMapFuture() {
+        CompletableFuture<Integer> pending = new CompletableFuture<>();
+        Observable<Integer> result = Observables.anyM(Observable.just(1, 2))
+                                                .flatMap(a -> AnyM.fromCompletableFuture(pending.thenApply(b -> a + b)))
+                                                .unwrap();
+        pending.complete(10);
+        assertThat(result.toList()
+                         .toBlocking()
+                         .single(),
+                   equalTo(ListX.of(11, 12)));
+    }
+
+    @Test
+    public void observableFlatMapPublisher() {
+        assertThat(Observables.anyM(Observable.just(1, 2))
+                              .flatMap(a -> AnyM.fromPublisher(ReactiveSeq.of(a, a * 10)))
+                              .toListX(),
+                   equalTo(ListX.of(1, 10, 2, 20)));
+    }
+
 }
@@ -0,0 +1,130 @@
+package com.aol.cyclops.rx.transformers;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThat;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import com.aol.cyclops.control.AnyM;
+import com.aol.cyclops.data.collections.extensions.persistent.PVectorX;
+import com.aol.cyclops.data.collections.extensions.standard.ListX;
+import com.aol.cyclops.rx.Observables;
+import com.aol.cyclops.rx.transformer.ObservableT;
+import com.aol.cyclops.rx.transformer.ObservableTSeq;
+import com.aol.cyclops.rx.transformer.ObservableTValue;
+
+import rx.Observable;
+
+public class ObservableTStagesTest {
+
+    private ListX<Integer> values(ObservableTSeq<Integer> obs) {
+        return obs.unwrap()
+                  .stream()
+                  .flatMap(o -> Observables.reactiveSeq(o))
+                  .toListX();
+    }
+
+    private ListX<Integer> values(ObservableTValue<Integer> obs) {
+        return Observables.reactiveSeq(obs.unwrap()
+                                          .get())
+                          .toListX();
+    }
+
+    private ObservableTSeq<Integer> fiveStages(ObservableTSeq<Integer> obs, AtomicInteger peeked) {
+        return obs.map(i -> i + 1)
+                  .filter(i -> i % 2 == 0)
+                  .peek(i -> peeked.incrementAndGet())
+                  .map(i -> i * 10)
+                  .filter(i -> i > 20);
+    }
+
+    @Test
+    public void listOuter() {
+        AtomicInteger peeked = new AtomicInteger(0);
+        ObservableTSeq<Integer> result = fiveStages(ObservableT.fromIterable(ListX.of(Observable.just(1, 2, 3), Observable.just(4, 5))),
+                                                    peeked);
+        assertThat(peeked.get(), equalTo(0));
+        assertThat(result.unwrap()
+                         .unwrap(),
+                   instanceOf(ListX.class));
+        assertThat(result.unwrap(), sameInstance(result.unwrap()));
+        assertThat(values(result), equalTo(ListX.of(40, 60)));
+        assertThat(peeked.get(), equalTo(3));
+    }
+
+    @Test
+    public void otherListOuterKeepsItsType() {
+        PVectorX<Observable<Integer>> outer = PVectorX.of(Observable.just(1, 2, 3), Observable.just(4, 5));
+        ObservableTSeq<Integer> result = fiveStages(ObservableTSeq.of(AnyM.<Observable<Integer>> ofSeq(outer)), new AtomicInteger(0));
+        assertEquals(AnyM.ofSeq(outer)
+                         .map(o -> o)
+                         .unwrap()
+                         .getClass(),
+                     result.unwrap()
+                           .unwrap()
+                           .getClass());
+        assertThat(values(result), equalTo(ListX.of(40, 60)));
+    }
+
+    @Test
+    public void observableOuter() {
+        AtomicInteger peeked = new AtomicInteger(0);
+        ObservableTSeq<Integer> result = fiveStages(ObservableT.fromObservable(Observable.just(Observable.just(1, 2, 3),
+                                                                                               Observable.just(4, 5))),
+                                                    peeked);
+        assertThat(result.unwrap()
+                         .unwrap(),
+                   instanceOf(Observable.class));
+        assertThat(values(result), equalTo(ListX.of(40, 60)));
+        assertThat(peeked.get(), equalTo(3));
+    }
+
+    @Test
+    public void optionalOuter() {
+        ObservableTValue<Integer> result = ObservableT.fromOptional(Optional.of(Observable.just(1, 2, 3)))
+                                                      .map(i -> i + 1)
+                                                      .filter(i -> i % 2 == 0)
+                                                      .map(i -> i * 10);
+        assertThat(result.unwrap()
+                         .unwrap(),
+                   instanceOf(Optional.class));
+        assertThat(values(result), equalTo(ListX.of(20, 40)));
+        assertThat(ObservableT.fromOptional(Optional.<Observable<Integer>> empty())
+                              .map(i -> i + 1)
+                              .isSeqPresent(),
+                   equalTo(false));
+    }
+
+    @Test
+    public void futureOuter() {
+        CompletableFuture<Observable<Integer>> future = new CompletableFuture<>();
+        AtomicInteger peeked = new AtomicInteger(0);
+        ObservableTValue<Integer> result = ObservableT.fromFuture(future)
+                                                      .map(i -> i + 1)
+                                                      .filter(i -> i > 2)
+                                                      .peek(i -> peeked.incrementAndGet())
+                                                      .map(i -> i * 10);
+        assertThat(result.unwrap()
+                         .unwrap(),
+                   instanceOf(CompletableFuture.class));
+        future.complete(Observable.just(1, 2));
+        assertThat(values(result), equalTo(ListX.of(30)));
+        assertThat(peeked.get(), equalTo(1));
+    }
+
+    @Test
+    public void stagesAfterOtherOperations() {
+        ObservableTSeq<Integer> result = ObservableT.fromIterable(ListX.of(Observable.just(1, 2)))
+                                                    .map(i -> i + 1)
+                                                    .flatMap(i -> Observable.just(i, i))
+                                                    .map(i -> i * 10);
+        assertThat(values(result), equalTo(ListX.of(20, 20, 30, 30)));
+    }
+}
@@ -1,7 +1,12 @@
 package com.aol.cyclops.scala.collections;
 
 import java.util.Comparator;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collector;
 
+import scala.collection.TraversableOnce;
+import scala.collection.mutable.Builder;
 import scala.math.Ordering;
 import scala.math.Ordering$;
 
@@ -10,4 +15,29 @@ public class Converters {
         return  Ordering$.MODULE$.comparatorToOrdering(cmp);
         
     }
+    /**
+     * Create a Collector that populates a Scala collection Builder, and converts the result of the Builder once all elements have been added
+     *
+     * @param builder Supplier of a new Scala Builder
+     * @param fn Function that converts the built Scala collection
+     * @return Collector backed by a Scala Builder
+     */
+    public static <T, R, C> Collector<T, ?, C> builderCollector(Supplier<? extends Builder<T, R>> builder, Function<? super R, ? extends C> fn) {
+        return builderCollector(builder, Function.identity(), fn);
+    }
+    /**
+     * Create a Collector that converts each element before adding it to a Scala collection Builder (e.g. to a scala.Tuple2 for Map builders)
+     *
+     * @param builder Supplier of a new Scala Builder
+     * @param element Function that converts each element to the type accepted by the Builder
+     * @param fn Function that converts the built Scala collection
+     * @return Collector backed by a Scala Builder
+     */
+    public static <T, E, R, C> Collector<T, ?, C> builderCollector(Supplier<? extends Builder<E, R>> builder, Function<? super T, ? extends E> element,
+            Function<? super R, ? extends C> fn) {
+        return Collector.<T, Builder<E, R>, C> of(builder::get, (b, next) -> b.$plus$eq(element.apply(next)), (a, b) -> {
+            a.$plus$plus$eq((TraversableOnce<E>) b.result());
+            return a;
+        } , b -> fn.apply(b.result()));
+    }
 }
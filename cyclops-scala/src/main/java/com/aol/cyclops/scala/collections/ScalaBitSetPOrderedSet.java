@@ -14,6 +14,7 @@ import org.pcollections.POrderedSet;
 
 import com.aol.cyclops.Reducer;
 import com.aol.cyclops.control.ReactiveSeq;
+import com.aol.cyclops.reactor.collections.extensions.base.BuilderReducer;
 import com.aol.cyclops.reactor.collections.extensions.persistent.LazyPOrderedSetX;
 
 import lombok.AccessLevel;
@@ -117,9 +118,11 @@ class ScalaBitSetPOrderedSet extends AbstractSet<Integer>implements POrderedSet<
      * @return Reducer for POrderedSet
      */
     public static  Reducer<POrderedSet<Integer>> toPOrderedSet() {
-        return Reducer.<POrderedSet<Integer>> of(ScalaBitSetPOrderedSet.emptyPOrderedSet(), 
-                                                 (final POrderedSet<Integer> a) -> b -> a.plusAll(b),
-                                      (final Integer x) -> ScalaBitSetPOrderedSet.singleton(x));
+        return BuilderReducer.<Integer, POrderedSet<Integer>> of(ScalaBitSetPOrderedSet.emptyPOrderedSet(), 
+                                                                 (final POrderedSet<Integer> a) -> b -> a.plusAll(b),
+                                                                 (final Integer x) -> ScalaBitSetPOrderedSet.singleton(x),
+                                                                 Converters.<Integer, BitSet, POrderedSet<Integer>> builderCollector(() -> (Builder) BitSet$.MODULE$.newBuilder(),
+                                                                                                                                     ScalaBitSetPOrderedSet::fromSet));
     }
     
   
@@ -223,6 +226,11 @@ class ScalaBitSetPOrderedSet extends AbstractSet<Integer>implements POrderedSet<
   
    
 
+    @Override
+    public boolean contains(Object o) {
+        return o instanceof Integer && set.contains((Integer) o);
+    }
+
     @Override
     public int size() {
         return set.size();
@@ -15,6 +15,7 @@ import org.pcollections.PSet;
 
 import com.aol.cyclops.Reducer;
 import com.aol.cyclops.control.ReactiveSeq;
+import com.aol.cyclops.reactor.collections.extensions.base.BuilderReducer;
 import com.aol.cyclops.reactor.collections.extensions.base.NativePlusLoop;
 import com.aol.cyclops.reactor.collections.extensions.persistent.LazyPSetX;
 
@@ -144,8 +145,10 @@ public class ScalaHashPSet<T> extends AbstractSet<T>implements PSet<T>, HasScala
      * @return Reducer for PSet
      */
     public static <T> Reducer<PSet<T>> toPSet() {
-        return Reducer.<PSet<T>> of(ScalaHashPSet.emptyPSet(), (final PSet<T> a) -> b -> a.plusAll(b),
-                                      (final T x) -> ScalaHashPSet.singleton(x));
+        return BuilderReducer.<T, PSet<T>> of(ScalaHashPSet.emptyPSet(), (final PSet<T> a) -> b -> a.plusAll(b),
+                                              (final T x) -> ScalaHashPSet.singleton(x),
+                                              Converters.<T, HashSet<T>, PSet<T>> builderCollector(() -> (Builder) HashSet$.MODULE$.newBuilder(),
+                                                                                                    ScalaHashPSet::fromSet));
     }
     public static <T> LazyPSetX<T> lazySet(HashSet<T> set){
         return LazyPSetX.fromPSet(fromSet(set), toPSet());
@@ -240,6 +243,11 @@ public class ScalaHashPSet<T> extends AbstractSet<T>implements PSet<T>, HasScala
   
    
 
+    @Override
+    public boolean contains(Object o) {
+        return set.contains((T) o);
+    }
+
     @Override
     public int size() {
         return set.size();
@@ -0,0 +1,109 @@
+package com.aol.cyclops.scala.collections;
+
+import java.util.AbstractCollection;
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import scala.Option;
+import scala.Tuple2;
+import scala.collection.GenMap;
+
+/**
+ * Immutable java.util views over a Scala Map, each backed directly by the Scala Map (no copying). Iteration walks the
+ * Scala Map's own iterators, and size / contains use its native size and lookups.
+ *
+ * @author johnmcclean
+ *
+ */
+class ScalaMapViews {
+
+    static <K, V> Set<Map.Entry<K, V>> entrySet(GenMap<K, V> map) {
+        return new AbstractSet<Map.Entry<K, V>>() {
+
+            @Override
+            public Iterator<Map.Entry<K, V>> iterator() {
+                return ScalaMapViews.iterator(map.iterator(), t -> new SimpleImmutableEntry<>(
+                                                                                              t._1(), t._2()));
+            }
+
+            @Override
+            public int size() {
+                return map.size();
+            }
+
+            @Override
+            public boolean contains(Object o) {
+                if (!(o instanceof Map.Entry))
+                    return false;
+                Map.Entry<?, ?> entry = (Map.Entry<?, ?>) o;
+                Option<V> value = map.get((K) entry.getKey());
+                return value.isDefined() && Objects.equals(value.get(), entry.getValue());
+            }
+        };
+    }
+
+    static <K, V> Set<K> keySet(GenMap<K, V> map) {
+        return new AbstractSet<K>() {
+
+            @Override
+            public Iterator<K> iterator() {
+                return ScalaMapViews.iterator(map.keysIterator(), Function.identity());
+            }
+
+            @Override
+            public int size() {
+                return map.size();
+            }
+
+            @Override
+            public boolean contains(Object o) {
+                return map.contains((K) o);
+            }
+        };
+    }
+
+    static <K, V> Collection<V> values(GenMap<K, V> map) {
+        return new AbstractCollection<V>() {
+
+            @Override
+            public Iterator<V> iterator() {
+                return ScalaMapViews.iterator(map.valuesIterator(), Function.identity());
+            }
+
+            @Override
+            public int size() {
+                return map.size();
+            }
+        };
+    }
+
+    static <K, V> void forEach(GenMap<K, V> map, BiConsumer<? super K, ? super V> action) {
+        scala.collection.Iterator<Tuple2<K, V>> it = map.iterator();
+        while (it.hasNext()) {
+            Tuple2<K, V> next = it.next();
+            action.accept(next._1(), next._2());
+        }
+    }
+
+    private static <T, R> Iterator<R> iterator(scala.collection.Iterator<T> it, Function<? super T, ? extends R> fn) {
+        return new Iterator<R>() {
+
+            @Override
+            public boolean hasNext() {
+                return it.hasNext();
+            }
+
+            @Override
+            public R next() {
+                return fn.apply(it.next());
+            }
+        };
+    }
+}
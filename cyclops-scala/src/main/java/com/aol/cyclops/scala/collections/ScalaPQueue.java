@@ -7,6 +7,7 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Function;
 import java.util.function.IntFunction;
+import java.util.function.Predicate;
 import java.util.function.Supplier;
 import java.util.function.UnaryOperator;
 import java.util.stream.Stream;
@@ -16,7 +17,10 @@ import org.pcollections.PQueue;
 
 import com.aol.cyclops.Reducer;
 import com.aol.cyclops.control.ReactiveSeq;
+import com.aol.cyclops.reactor.collections.extensions.base.BoundedPQueue;
+import com.aol.cyclops.reactor.collections.extensions.base.BuilderReducer;
 import com.aol.cyclops.reactor.collections.extensions.base.NativePlusLoop;
+import com.aol.cyclops.reactor.collections.extensions.base.Removals;
 import com.aol.cyclops.reactor.collections.extensions.persistent.LazyPQueueX;
 import com.aol.cyclops.reactor.collections.extensions.persistent.LazyPSetX;
 
@@ -151,8 +155,9 @@ public class ScalaPQueue<T> extends AbstractQueue<T> implements PQueue<T>, HasSc
      * @return Reducer for PQueue
      */
     public static <T> Reducer<PQueue<T>> toPQueue() {
-        return Reducer.<PQueue<T>> of(ScalaPQueue.emptyPQueue(), (final PQueue<T> a) -> b -> a.plusAll(b),
-                                      (final T x) -> ScalaPQueue.singleton(x));
+        return BuilderReducer.<T, PQueue<T>> of(ScalaPQueue.emptyPQueue(), (final PQueue<T> a) -> b -> a.plusAll(b),
+                                                (final T x) -> ScalaPQueue.singleton(x),
+                                                Converters.builderCollector(() -> Queue$.MODULE$.<T> newBuilder(), ScalaPQueue::fromQueue));
     }
 
     public static <T> ScalaPQueue<T> fromQueue(Queue<T> queue) {
@@ -174,6 +179,30 @@ public class ScalaPQueue<T> extends AbstractQueue<T> implements PQueue<T>, HasSc
                                       toPQueue());
     }
 
+    /**
+     * @param maxSize Maximum number of elements to retain
+     * @return An empty PQueue that evicts its oldest elements once it holds more than maxSize
+     */
+    public static <T> BoundedPQueue<T> emptyBoundedPQueue(int maxSize) {
+        return BoundedPQueue.of(ScalaPQueue.<T> emptyPQueue(), maxSize);
+    }
+
+    /**
+     * <pre>
+     * {@code
+     *  ScalaPQueue.<Integer>bounded(3)
+     *             .plusAll(Arrays.asList(1,2,3,4,5));
+     *  //[3,4,5]
+     * }
+     * </pre>
+     *
+     * @param maxSize Maximum number of elements to retain
+     * @return An empty LazyPQueueX that evicts its oldest elements once it holds more than maxSize
+     */
+    public static <T> LazyPQueueX<T> bounded(int maxSize) {
+        return BoundedPQueue.lazyQueue(ScalaPQueue.<T> emptyPQueue(), maxSize);
+    }
+
     public static <T> LazyPQueueX<T> singleton(T t) {
         return of(t);
     }
@@ -235,15 +264,28 @@ public class ScalaPQueue<T> extends AbstractQueue<T> implements PQueue<T>, HasSc
    
 
     @Override
-    public PQueue<T> minus(Object e) {
-        return LazyPQueueX.fromPQueue(this, toPQueue())
-                          .filter(i -> !Objects.equals(i, e));
+    public ScalaPQueue<T> minus(Object e) {
+        return removeWhere(next -> Objects.equals(next, e));
     }
 
     @Override
-    public PQueue<T> minusAll(Collection<?> queue) {
-        return LazyPQueueX.fromPQueue(this, toPQueue())
-                          .removeAll((Iterable<T>) queue);
+    public ScalaPQueue<T> minusAll(Collection<?> queue) {
+        Collection<?> toRemove = Removals.lookup(queue);
+        return removeWhere(toRemove::contains);
+    }
+
+    private ScalaPQueue<T> removeWhere(Predicate<? super T> remove) {
+        Builder<T, Queue<T>> lb = Queue$.MODULE$.newBuilder();
+        boolean removed = false;
+        scala.collection.Iterator<T> it = queue.iterator();
+        while (it.hasNext()) {
+            T next = it.next();
+            if (remove.test(next))
+                removed = true;
+            else
+                lb.$plus$eq(next);
+        }
+        return removed ? withQueue(lb.result()) : this;
     }
 
     public ScalaPQueue<T> tail() {
@@ -3,12 +3,16 @@ package com.aol.cyclops.scala.collections;
 import java.util.AbstractList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Spliterator;
 import java.util.function.Function;
 import java.util.function.IntFunction;
 import java.util.function.Supplier;
 import java.util.function.UnaryOperator;
+import java.util.stream.Collector;
 import java.util.stream.Stream;
 
 import org.jooq.lambda.tuple.Tuple2;
@@ -16,7 +20,9 @@ import org.pcollections.PStack;
 
 import com.aol.cyclops.Reducer;
 import com.aol.cyclops.control.ReactiveSeq;
+import com.aol.cyclops.reactor.collections.extensions.base.BuilderReducer;
 import com.aol.cyclops.reactor.collections.extensions.base.NativePlusLoop;
+import com.aol.cyclops.reactor.collections.extensions.base.LinkedLists;
 import com.aol.cyclops.reactor.collections.extensions.persistent.LazyPStackX;
 import com.aol.cyclops.reactor.collections.extensions.persistent.LazyPVectorX;
 
@@ -32,6 +38,7 @@ import scala.collection.immutable.List;
 import scala.collection.immutable.List$;
 import scala.collection.immutable.Vector;
 import scala.collection.mutable.Builder;
+import scala.collection.mutable.ListBuffer;
 
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 public class ScalaPStack<T> extends AbstractList<T>implements PStack<T>, HasScalaCollection<T>,NativePlusLoop<T> {
@@ -148,8 +155,13 @@ public class ScalaPStack<T> extends AbstractList<T>implements PStack<T>, HasScal
      * @return Reducer for PStack
      */
     public static <T> Reducer<PStack<T>> toPStack() {
-        return Reducer.<PStack<T>> of(ScalaPStack.emptyPStack(), (final PStack<T> a) -> b -> a.plusAll(b),
-                                      (final T x) -> ScalaPStack.singleton(x));
+        //each element is pushed onto the front of the stack, as with plusAll
+        return BuilderReducer.<T, PStack<T>> of(ScalaPStack.emptyPStack(), (final PStack<T> a) -> b -> a.plusAll(b),
+                                                (final T x) -> ScalaPStack.singleton(x),
+                                                Collector.<T, ListBuffer<T>, PStack<T>> of(ListBuffer::new, ListBuffer::$plus$eq$colon, (a, b) -> {
+                                                    b.$plus$plus$eq(a);
+                                                    return b;
+                                                } , b -> ScalaPStack.fromList(b.toList())));
     }
 
     public static <T> ScalaPStack<T> fromList(List<T> list) {
@@ -396,4 +408,52 @@ public class ScalaPStack<T> extends AbstractList<T>implements PStack<T>, HasScal
        return List.canBuildFrom();
     }
 
+    /*
+     * Cursor over the Scala List, each step is O(1) (rather than the O(n) get(int) AbstractList iterates with)
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<T>() {
+            List<T> current = list;
+
+            @Override
+            public boolean hasNext() {
+                return !current.isEmpty();
+            }
+
+            @Override
+            public T next() {
+                if (current.isEmpty())
+                    throw new NoSuchElementException();
+                T head = current.head();
+                current = (List<T>) current.tail();
+                return head;
+            }
+        };
+    }
+
+    @Override
+    public Spliterator<T> spliterator() {
+        return LinkedLists.spliterator(iterator(), size());
+    }
+
+    @Override
+    public int indexOf(Object o) {
+        return LinkedLists.indexOf(iterator(), o);
+    }
+
+    @Override
+    public int lastIndexOf(Object o) {
+        return LinkedLists.lastIndexOf(iterator(), o);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return LinkedLists.equals(this, o);
+    }
+
+    @Override
+    public int hashCode() {
+        return super.hashCode();
+    }
 }
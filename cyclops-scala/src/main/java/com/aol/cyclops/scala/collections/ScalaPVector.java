@@ -4,8 +4,10 @@ import java.util.AbstractList;
 import java.util.Collection;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.IntFunction;
+import java.util.function.Predicate;
 import java.util.function.Supplier;
 import java.util.function.UnaryOperator;
 import java.util.stream.Stream;
@@ -17,6 +19,9 @@ import com.aol.cyclops.Reducer;
 import com.aol.cyclops.control.ReactiveSeq;
 import com.aol.cyclops.data.collections.extensions.FluentCollectionX;
 import com.aol.cyclops.data.collections.extensions.persistent.PVectorX;
+import com.aol.cyclops.reactor.collections.extensions.base.BuilderReducer;
+import com.aol.cyclops.reactor.collections.extensions.base.Conversions;
+import com.aol.cyclops.reactor.collections.extensions.base.NativeBulkOps;
 import com.aol.cyclops.reactor.collections.extensions.base.NativePlusLoop;
 import com.aol.cyclops.reactor.collections.extensions.persistent.LazyPVectorX;
 
@@ -25,13 +30,15 @@ import lombok.AllArgsConstructor;
 import lombok.val;
 import lombok.experimental.Wither;
 import reactor.core.publisher.Flux;
+import scala.Function1;
 import scala.collection.GenTraversableOnce;
+import scala.collection.JavaConverters;
 import scala.collection.generic.CanBuildFrom;
 import scala.collection.immutable.Vector;
 import scala.collection.immutable.Vector$;
 import scala.collection.immutable.VectorBuilder;
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
-public class ScalaPVector<T> extends AbstractList<T> implements PVector<T>, HasScalaCollection<T>, NativePlusLoop<T> {
+public class ScalaPVector<T> extends AbstractList<T> implements PVector<T>, HasScalaCollection<T>, NativePlusLoop<T>, NativeBulkOps<T> {
     
     public LazyPVectorX<T> plusLoop(int max, IntFunction<T> value){
         
@@ -145,7 +152,9 @@ public class ScalaPVector<T> extends AbstractList<T> implements PVector<T>, HasS
      * @return Reducer for PVector
      */
     public static <T> Reducer<PVector<T>> toPVector() {
-        return Reducer.<PVector<T>> of(ScalaPVector.emptyPVector(), (final PVector<T> a) -> b -> a.plusAll(b), (final T x) -> ScalaPVector.singleton(x));
+        return BuilderReducer.<T, PVector<T>> of(ScalaPVector.emptyPVector(), (final PVector<T> a) -> b -> a.plusAll(b),
+                                                 (final T x) -> ScalaPVector.singleton(x),
+                                                 Converters.builderCollector(ScalaPVector::builder, ScalaPVector::fromVector));
     }
     
     public static <T> VectorBuilder<T> builder(){
@@ -158,6 +167,22 @@ public class ScalaPVector<T> extends AbstractList<T> implements PVector<T>, HasS
         return LazyPVectorX.fromPVector(fromVector(vector), toPVector());
     }
     
+    /**
+     * Convert a Collection (e.g. a PVector from another library) into a ScalaPVector, via a single VectorBuilder pass over
+     * an array snapshot of the Collection
+     *
+     * @see Conversions#convert(Collection, Collection, Function)
+     * @param source Collection to convert
+     * @return source if it is (or is a LazyPVectorX backed by) a ScalaPVector, otherwise a new ScalaPVector
+     */
+    public static <T> ScalaPVector<T> fromCollection(Collection<? extends T> source){
+        return Conversions.convert(source, ScalaPVector.<T>emptyPVector(), array -> {
+            VectorBuilder<T> vb = new VectorBuilder<T>();
+            for(Object next : array)
+                vb.$plus$eq((T)next);
+            return fromVector(vb.result());
+        });
+    }
     public static <T> ScalaPVector<T> emptyPVector(){
         return new ScalaPVector<>(Vector$.MODULE$.empty());
     }
@@ -325,5 +350,28 @@ public class ScalaPVector<T> extends AbstractList<T> implements PVector<T>, HasS
         return Vector.canBuildFrom();
     }
 
-   
+    @Override
+    public <R> ScalaPVector<R> map(Function<? super T, ? extends R> fn) {
+        Function1<T, R> scalaFn = t -> fn.apply(t);
+        return new ScalaPVector<R>(
+                                   (Vector<R>) vector.map(scalaFn, canBuildFrom()));
+    }
+
+    @Override
+    public ScalaPVector<T> filter(Predicate<? super T> p) {
+        Function1<T, Object> scalaP = t -> p.test(t);
+        return withVector((Vector<T>) vector.filter(scalaP));
+    }
+
+    @Override
+    public <R> ScalaPVector<R> flatMap(Function<? super T, ? extends Iterable<? extends R>> fn) {
+        Function1<T, GenTraversableOnce<R>> scalaFn = t -> JavaConverters.iterableAsScalaIterable((Iterable<R>) fn.apply(t));
+        return new ScalaPVector<R>(
+                                   (Vector<R>) vector.flatMap(scalaFn, canBuildFrom()));
+    }
+
+    @Override
+    public <U> U foldLeft(U identity, BiFunction<U, ? super T, U> fn) {
+        return vector.foldLeft(identity, (a, b) -> fn.apply(a, b));
+    }
 }
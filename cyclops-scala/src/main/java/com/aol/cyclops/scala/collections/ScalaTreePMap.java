@@ -4,7 +4,10 @@ import java.util.AbstractMap;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Objects;
 import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
 
 import org.pcollections.PMap;
 
@@ -12,15 +15,19 @@ import com.aol.cyclops.Reducer;
 import com.aol.cyclops.control.Eval;
 import com.aol.cyclops.control.ReactiveSeq;
 import com.aol.cyclops.data.collections.extensions.persistent.PMapX;
+import com.aol.cyclops.reactor.collections.extensions.base.BuilderReducer;
 import com.aol.cyclops.reactor.collections.extensions.base.ExtensiblePMapX;
+import com.aol.cyclops.reactor.collections.extensions.base.NativeLookups;
+import com.aol.cyclops.reactor.collections.extensions.base.NativeMerge;
 import com.aol.cyclops.types.mixins.TupleWrapper;
 
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.experimental.Wither;
+import scala.Option;
 import scala.Tuple2;
 import scala.collection.GenTraversableOnce;
-import scala.collection.JavaConverters;
+import scala.collection.Iterator;
 import scala.collection.generic.CanBuildFrom;
 import scala.collection.immutable.HashMap;
 import scala.collection.immutable.MapLike;
@@ -28,15 +35,23 @@ import scala.collection.immutable.TreeMap;
 import scala.collection.immutable.TreeMap$;
 import scala.collection.mutable.Builder;
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
-public class ScalaTreePMap<K,V> extends AbstractMap<K,V> implements PMap<K,V>, HasScalaCollection {
+public class ScalaTreePMap<K,V> extends AbstractMap<K,V> implements PMap<K,V>, HasScalaCollection, NativeMerge<K,V> {
     
     @Wither
     TreeMap<K,V> map;
     public static <K, V> Reducer<PMapX<K, V>> toPMapX(Comparator<? super K> c) {
-        return Reducer.<PMapX<K, V>> of(empty(c), (final PMapX<K, V> a) -> b -> a.plusAll(b), (in) -> {
+        Comparator<K> comp = (Comparator<K>)c;
+        return BuilderReducer.<Object, PMapX<K, V>> of(empty(c), (final PMapX<K, V> a) -> b -> a.plusAll(b), (in) -> {
             final List w = ((TupleWrapper) () -> in).values();
             return singleton(c,(K) w.get(0), (V) w.get(1));
-        });
+        } , Converters.<Object, Tuple2<K, V>, TreeMap<K, V>, PMapX<K, V>> builderCollector(() -> (Builder) TreeMap$.MODULE$.newBuilder(Converters.ordering(comp)),
+                                                                                            ScalaTreePMap::tuple,
+                                                                                            map -> new ExtensiblePMapX<K, V>(fromMap(map),
+                                                                                                    Eval.later(() -> ScalaTreePMap.<K, V> toPMapX(c)))));
+    }
+    private static <K, V> Tuple2<K, V> tuple(Object in) {
+        final List w = ((TupleWrapper) () -> in).values();
+        return Tuple2.apply((K) w.get(0), (V) w.get(1));
     }
     public static <K,V> ScalaTreePMap<K,V> fromMap(TreeMap<K,V> map){
         return new ScalaTreePMap<>(map);
@@ -74,21 +89,31 @@ public class ScalaTreePMap<K,V> extends AbstractMap<K,V> implements PMap<K,V>, H
     }
     @Override
     public PMap<K, V> plusAll(java.util.Map<? extends K, ? extends V> m) {
-         TreeMap<K,V> use = map;
-         
-         if(m instanceof ScalaTreePMap){
-             TreeMap<K,V> add = ((ScalaTreePMap)m).map;
-             use = (TreeMap<K, V>) use.$plus$plus(map);
-         }
-         if(m instanceof ScalaHashPMap){
-             HashMap<K,V> add = ((ScalaHashPMap)m).map;
-             use = (TreeMap<K, V>) use.$plus$plus(map);
-         }
-         else{
-             for(java.util.Map.Entry<? extends K, ? extends V> next : m.entrySet()){
-                 use = use.$plus(Tuple2.apply(next.getKey(),next.getValue()));
-             }
-         }
+        java.util.Map<? extends K, ? extends V> other = NativeMerge.unwrap(m);
+        if (other instanceof ScalaTreePMap) {
+            TreeMap<K, V> add = ((ScalaTreePMap<K, V>) other).map;
+            return withMap((TreeMap<K, V>) map.$plus$plus(add));
+        }
+        if (other instanceof ScalaHashPMap) {
+            HashMap<K, V> add = ((ScalaHashPMap<K, V>) other).map;
+            return withMap((TreeMap<K, V>) map.$plus$plus(add));
+        }
+        TreeMap<K, V> use = map;
+        for (java.util.Map.Entry<? extends K, ? extends V> next : other.entrySet()) {
+            use = use.$plus(Tuple2.apply(next.getKey(), next.getValue()));
+        }
+        return withMap(use);
+    }
+
+    @Override
+    public PMap<K, V> merge(java.util.Map<? extends K, ? extends V> m, BiFunction<? super V, ? super V, ? extends V> mergeFn) {
+        java.util.Map<? extends K, ? extends V> other = NativeMerge.unwrap(m);
+        TreeMap<K, V> use = map;
+        for (java.util.Map.Entry<? extends K, ? extends V> next : other.entrySet()) {
+            Option<V> current = map.get(next.getKey());
+            V value = current.isEmpty() ? next.getValue() : mergeFn.apply(current.get(), next.getValue());
+            use = use.$plus(Tuple2.apply(next.getKey(), value));
+        }
         return withMap(use);
     }
     @Override
@@ -108,9 +133,32 @@ public class ScalaTreePMap<K,V> extends AbstractMap<K,V> implements PMap<K,V>, H
     }
     @Override
     public Set<java.util.Map.Entry<K, V>> entrySet() {
-        return ReactiveSeq.fromIterable(JavaConverters.asJavaIterable(map))
-                        .map(t->(java.util.Map.Entry<K,V>)new SimpleEntry<K,V>(t._1,t._2))
-                        .toSet();
+        return ScalaMapViews.entrySet(map);
+    }
+
+    @Override
+    public Set<K> keySet() {
+        return ScalaMapViews.keySet(map);
+    }
+
+    @Override
+    public Collection<V> values() {
+        return ScalaMapViews.values(map);
+    }
+
+    @Override
+    public int size() {
+        return map.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return map.isEmpty();
+    }
+
+    @Override
+    public void forEach(BiConsumer<? super K, ? super V> action) {
+        ScalaMapViews.forEach(map, action);
     }
     @Override
     public GenTraversableOnce traversable() {
@@ -125,8 +173,39 @@ public class ScalaTreePMap<K,V> extends AbstractMap<K,V> implements PMap<K,V>, H
      */
     @Override
     public V get(Object key) {
-        
-        return map.apply((K)key);
+        Option<V> value = map.get((K) key);
+        return value.isEmpty() ? null : value.get();
+    }
+
+    @Override
+    public V getOrDefault(Object key, V defaultValue) {
+        Option<V> value = map.get((K) key);
+        return value.isEmpty() ? defaultValue : value.get();
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return map.contains((K) key);
+    }
+
+    @Override
+    public boolean containsValue(Object value) {
+        Iterator<V> it = map.valuesIterator();
+        while (it.hasNext()) {
+            if (Objects.equals(value, it.next()))
+                return true;
+        }
+        return false;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return NativeLookups.equals(this, o);
+    }
+
+    @Override
+    public int hashCode() {
+        return NativeLookups.hashCode(this);
     }
    
 }
@@ -18,6 +18,7 @@ import org.pcollections.POrderedSet;
 
 import com.aol.cyclops.Reducer;
 import com.aol.cyclops.control.ReactiveSeq;
+import com.aol.cyclops.reactor.collections.extensions.base.BuilderReducer;
 import com.aol.cyclops.reactor.collections.extensions.persistent.LazyPOrderedSetX;
 import com.aol.cyclops.reactor.collections.extensions.persistent.LazyPSetX;
 
@@ -147,14 +148,15 @@ public class ScalaTreePOrderedSet<T> extends AbstractSet<T>implements POrderedSe
      * @return Reducer for POrderedSet
      */
     public static <T extends Comparable<? super T>>  Reducer<POrderedSet<T>> toPOrderedSet() {
-        return Reducer.<POrderedSet<T>> of(ScalaTreePOrderedSet.emptyPOrderedSet(), (final POrderedSet<T> a) -> b -> a.plusAll(b),
-                                      (final T x) -> ScalaTreePOrderedSet.singleton(x));
+        return toPOrderedSet(Comparator.<T> naturalOrder());
     }
     
     public static <T>  Reducer<POrderedSet<T>> toPOrderedSet(Comparator<T> ordering) {
-        return Reducer.<POrderedSet<T>> of(ScalaTreePOrderedSet.emptyPOrderedSet(ordering), 
-                                           (final POrderedSet<T> a) -> b -> a.plusAll(b),
-                                      (final T x) -> ScalaTreePOrderedSet.singleton(ordering,x));
+        return BuilderReducer.<T, POrderedSet<T>> of(ScalaTreePOrderedSet.emptyPOrderedSet(ordering), 
+                                                     (final POrderedSet<T> a) -> b -> a.plusAll(b),
+                                                     (final T x) -> ScalaTreePOrderedSet.singleton(ordering,x),
+                                                     Converters.<T, TreeSet<T>, POrderedSet<T>> builderCollector(() -> TreeSet$.MODULE$.newBuilder(ordering(ordering)),
+                                                                                                                 ScalaTreePOrderedSet::fromSet));
     }
 
     public static <T> ScalaTreePOrderedSet<T> fromSet(TreeSet<T> set) {
@@ -269,6 +271,11 @@ public class ScalaTreePOrderedSet<T> extends AbstractSet<T>implements POrderedSe
   
    
 
+    @Override
+    public boolean contains(Object o) {
+        return set.contains((T) o);
+    }
+
     @Override
     public int size() {
         return set.size();
@@ -10,7 +10,11 @@ import org.junit.Test;
 import org.pcollections.HashTreePSet;
 import org.pcollections.OrderedPSet;
 import org.pcollections.POrderedSet;
-public class POrderedSetTest {
+import org.pcollections.PSet;
+
+import com.aol.cyclops.reactor.collections.extensions.AbstractPSetLookupTest;
+
+public class POrderedSetTest extends AbstractPSetLookupTest {
 
     OrderedPSet<Integer> org = null;
     POrderedSet<Integer> test=null;
@@ -21,6 +25,11 @@ public class POrderedSetTest {
        test = ScalaTreePOrderedSet.empty();
      
     }
+
+    @Override
+    public PSet<Integer> emptyPSet() {
+        return ScalaTreePOrderedSet.empty();
+    }
     
     @Test
     public void empty(){
@@ -54,6 +63,4 @@ public class POrderedSetTest {
         assertThat(org.plusAll(Arrays.asList(1,2,3)).plusAll(Arrays.asList(5,6,7)).toArray(),
                    equalTo(test.plusAll(ScalaTreePOrderedSet.of(1,2,3)).plusAll(Arrays.asList(5,6,7)).toArray()));
     }
-    
-   
 }
@@ -1,6 +1,7 @@
 package com.aol.cyclops.scala.collections;
 
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.Assert.assertThat;
 
 import java.util.Arrays;
@@ -10,6 +11,7 @@ import org.junit.Test;
 import org.pcollections.AmortizedPQueue;
 import org.pcollections.PQueue;
 import org.pcollections.TreePVector;
+
 public class PQueueTest {
 
     AmortizedPQueue<Integer> org = null;
@@ -59,5 +61,20 @@ public class PQueueTest {
         assertThat(org.plusAll(Arrays.asList(1,2,3)).plusAll(Arrays.asList(5,6,7)).toArray(),
                    equalTo(test.plusAll(ScalaPQueue.of(1,2,3)).plusAll(Arrays.asList(5,6,7)).toArray()));
     }
-   
+    @Test
+    public void minusDirect(){
+        ScalaPQueue<Integer> queue = ScalaPQueue.<Integer>emptyPQueue().plusAll(Arrays.asList(1,2,3,2));
+        assertThat(queue.minus((Object)2).toArray(),equalTo(new Object[]{1,3}));
+        assertThat(queue.minus((Object)5),sameInstance(queue));
+        assertThat(queue.minusAll(Arrays.asList(1,3)).toArray(),equalTo(new Object[]{2,2}));
+    }
+    @Test
+    public void bounded(){
+        PQueue<Integer> queue = ScalaPQueue.<Integer>emptyBoundedPQueue(3);
+        for(int i=0;i<100;i++)
+            queue = queue.plus(i);
+        assertThat(queue.toArray(),equalTo(new Object[]{97,98,99}));
+        assertThat(queue.minus().toArray(),equalTo(new Object[]{98,99}));
+        assertThat(ScalaPQueue.<Integer>bounded(2).plusAll(Arrays.asList(1,2,3)).toArray(),equalTo(new Object[]{2,3}));
+    }
 }
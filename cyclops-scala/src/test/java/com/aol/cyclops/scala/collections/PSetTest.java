@@ -10,7 +10,10 @@ import org.junit.Test;
 import org.pcollections.HashTreePSet;
 import org.pcollections.MapPSet;
 import org.pcollections.PSet;
-public class PSetTest {
+
+import com.aol.cyclops.reactor.collections.extensions.AbstractPSetLookupTest;
+
+public class PSetTest extends AbstractPSetLookupTest {
 
     MapPSet<Integer> org = null;
     PSet<Integer> test=null;
@@ -21,6 +24,11 @@ public class PSetTest {
        test = ScalaHashPSet.empty();
      
     }
+
+    @Override
+    public PSet<Integer> emptyPSet() {
+        return ScalaHashPSet.empty();
+    }
     
     @Test
     public void empty(){
@@ -54,5 +62,4 @@ public class PSetTest {
         assertThat(org.plusAll(Arrays.asList(1,2,3)).plusAll(Arrays.asList(5,6,7)),
                    equalTo(test.plusAll(ScalaHashPSet.of(1,2,3)).plusAll(Arrays.asList(5,6,7))));
     }
-   
 }
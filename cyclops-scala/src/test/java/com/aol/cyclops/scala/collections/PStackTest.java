@@ -9,7 +9,10 @@ import org.junit.Before;
 import org.junit.Test;
 import org.pcollections.ConsPStack;
 import org.pcollections.PStack;
-public class PStackTest {
+
+import com.aol.cyclops.reactor.collections.extensions.AbstractPStackTraversalTest;
+
+public class PStackTest extends AbstractPStackTraversalTest {
 
     ConsPStack<Integer> org = null;
     PStack<Integer> test=null;
@@ -20,6 +23,11 @@ public class PStackTest {
        test = ScalaPStack.empty();
      
     }
+
+    @Override
+    public <T> PStack<T> emptyPStack() {
+        return ScalaPStack.emptyPStack();
+    }
     
     @Test
     public void empty(){
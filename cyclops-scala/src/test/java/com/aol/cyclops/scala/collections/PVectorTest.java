@@ -1,6 +1,8 @@
 package com.aol.cyclops.scala.collections;
 
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.hamcrest.Matchers.instanceOf;
 import static org.junit.Assert.assertThat;
 
 import java.util.Arrays;
@@ -9,6 +11,12 @@ import org.junit.Before;
 import org.junit.Test;
 import org.pcollections.PVector;
 import org.pcollections.TreePVector;
+
+import com.aol.cyclops.reactor.collections.extensions.base.RRBPVector;
+import com.aol.cyclops.data.collections.extensions.standard.ListX;
+import com.aol.cyclops.reactor.collections.extensions.base.NativeFlux;
+import com.aol.cyclops.reactor.collections.extensions.persistent.LazyPVectorX;
+
 public class PVectorTest {
 
     TreePVector<Integer> org = null;
@@ -128,4 +136,39 @@ public class PVectorTest {
                    equalTo(test.plusAll(Arrays.asList(1,2,3,4,5,6,7)).subList(0,6)));
         
     }
+
+    @Test
+    public void nativeBulkOps(){
+        ScalaPVector<Integer> vector = ScalaPVector.<Integer>emptyPVector().plusAll(Arrays.asList(1,2,3));
+        assertThat(vector.map(i->i*2),equalTo(org.plusAll(Arrays.asList(2,4,6))));
+        assertThat(vector.filter(i->i>1),equalTo(org.plusAll(Arrays.asList(2,3))));
+        assertThat(vector.flatMap(i->Arrays.asList(i,i)),equalTo(org.plusAll(Arrays.asList(1,1,2,2,3,3))));
+        assertThat(vector.foldLeft("",(a,b)->a+b),equalTo("123"));
+    }
+
+    @Test
+    public void lazyBulkOpsRunNatively(){
+        LazyPVectorX<Integer> mapped = ScalaPVector.of(1,2,3)
+                                                .map(i->i*2)
+                                                .filter(i->i<5)
+                                                .flatMap(i->Arrays.asList(i,i+1));
+        assertThat(mapped.flux(),instanceOf(NativeFlux.class));
+        assertThat(mapped.getCollector().zero(),instanceOf(ScalaPVector.class));
+        assertThat(mapped,equalTo(org.plusAll(Arrays.asList(2,3,4,5))));
+        assertThat(mapped.map(i->i+1).limit(2),equalTo(org.plusAll(Arrays.asList(3,4))));
+        assertThat(mapped.reduce("",(a,b)->a+b),equalTo("2345"));
+        assertThat(mapped.reduce(0,(a,b)->a+b),equalTo(14));
+    }
+    @Test
+    public void fromCollection(){
+        PVector<Integer> source = TreePVector.from(Arrays.asList(1,2,3,4,5));
+        ScalaPVector<Integer> vector = ScalaPVector.fromCollection(source);
+        assertThat(vector,equalTo(source));
+        assertThat(ScalaPVector.fromCollection(vector),sameInstance(vector));
+        LazyPVectorX<Integer> lazy = LazyPVectorX.fromPVector(vector, ScalaPVector.toPVector());
+        assertThat(ScalaPVector.fromCollection(lazy),sameInstance(vector));
+        assertThat(ScalaPVector.fromCollection(Arrays.asList()),equalTo(ScalaPVector.emptyPVector()));
+        PVector<Integer> large = RRBPVector.fromIterable(ListX.range(0,10_000));
+        assertThat(ScalaPVector.fromCollection(large),equalTo(large));
+    }
 }
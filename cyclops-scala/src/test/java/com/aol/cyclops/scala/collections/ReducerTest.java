@@ -0,0 +1,92 @@
+package com.aol.cyclops.scala.collections;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertThat;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.jooq.lambda.tuple.Tuple;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameter;
+import org.junit.runners.Parameterized.Parameters;
+
+import com.aol.cyclops.Reducer;
+import com.aol.cyclops.data.collections.extensions.standard.ListX;
+
+/**
+ * mapReduce on each adapter Reducer must produce the same collection as folding singletons together via zero / combiner
+ */
+@RunWith(Parameterized.class)
+public class ReducerTest {
+
+    @Parameters(name = "{0}")
+    public static Collection<Object[]> reducers() {
+        return Arrays.asList(
+                             collection("PVector", ScalaPVector.<Integer> toPVector()),
+                             collection("PStack", ScalaPStack.<Integer> toPStack()),
+                             ordered("PQueue", ScalaPQueue.<Integer> toPQueue()),
+                             collection("HashPSet", ScalaHashPSet.<Integer> toPSet()),
+                             ordered("TreePOrderedSet", ScalaTreePOrderedSet.<Integer> toPOrderedSet()),
+                             ordered("BitSetPOrderedSet", ScalaBitSetPOrderedSet.toPOrderedSet()),
+                             map("HashPMap", ScalaHashPMap.<Integer, String> toPMapX()),
+                             map("TreePMap", ScalaTreePMap.<Integer, String> toPMapX(Comparator.naturalOrder())));
+    }
+
+    static Object[] collection(String name, Reducer<?> reducer) {
+        return new Object[] { name, reducer, (Function<List<Integer>, Stream<?>>) List::stream, Function.identity() };
+    }
+
+    //queues and ordered sets do not implement equals, compare their elements in iteration order
+    static Object[] ordered(String name, Reducer<?> reducer) {
+        return new Object[] { name, reducer, (Function<List<Integer>, Stream<?>>) List::stream,
+                              (Function<Object, Object>) c -> ListX.fromIterable((Iterable<?>) c) };
+    }
+
+    //duplicate keys get a different value each time, so the fold and mapReduce must agree on which one wins
+    static Object[] map(String name, Reducer<?> reducer) {
+        return new Object[] { name, reducer,
+                              (Function<List<Integer>, Stream<?>>) values -> IntStream.range(0, values.size())
+                                                                                      .mapToObj(i -> Tuple.tuple(values.get(i), "v" + i)),
+                              (Function<Object, Object>) m -> new HashMap<Object, Object>((Map<?, ?>) m) };
+    }
+
+    @Parameter(0)
+    public String name;
+    @Parameter(1)
+    public Reducer<Object> reducer;
+    @Parameter(2)
+    public Function<List<Integer>, Stream<?>> input;
+    @Parameter(3)
+    public Function<Object, Object> view;
+
+    private void check(List<Integer> values) {
+        assertThat(view.apply(reducer.mapReduce(input.apply(values))),
+                   equalTo(view.apply(reducer.reduce(reducer.mapToType(input.apply(values))))));
+    }
+
+    @Test
+    public void fixture() {
+        check(Arrays.asList(5, 1, 4, 2, 3, 1));
+    }
+
+    @Test
+    public void medium() {
+        check(Arrays.asList(0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 3, 9, 11));
+    }
+
+    @Test
+    public void large() {
+        check(ListX.range(0, 1000)
+                   .map(i -> (i * 31) % 700));
+    }
+}
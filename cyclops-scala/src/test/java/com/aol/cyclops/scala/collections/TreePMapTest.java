@@ -1,18 +1,26 @@
 package com.aol.cyclops.scala.collections;
 
 import static org.hamcrest.Matchers.equalTo;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 
+import java.util.AbstractMap.SimpleImmutableEntry;
 import java.util.Arrays;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
 
 import org.junit.Before;
 import org.junit.Test;
+import org.pcollections.PMap;
 
 import com.aol.cyclops.data.collections.extensions.persistent.PMapX;
+import com.aol.cyclops.data.collections.extensions.standard.ListX;
 import com.aol.cyclops.data.collections.extensions.standard.MapXs;
+import com.aol.cyclops.reactor.collections.extensions.AbstractPMapMergeTest;
 
-public class TreePMapTest {
+public class TreePMapTest extends AbstractPMapMergeTest {
     PMapX<Integer,String> org;
     PMapX<Integer,String> test;
     
@@ -22,6 +30,17 @@ public class TreePMapTest {
        test = ScalaTreePMap.singleton(Comparator.naturalOrder(),1, "hello");
      
     }
+
+    @Override
+    public PMap<Integer, String> singleton(Integer key, String value) {
+        return ScalaTreePMap.singleton(Comparator.naturalOrder(),key,value);
+    }
+
+    @Override
+    public PMap<Integer, String> otherBackendSingleton(Integer key, String value) {
+        return ScalaHashPMap.singleton(key,value);
+    }
+
     @Test
     public void same(){
         assertThat(org,equalTo(test));
@@ -44,4 +63,30 @@ public class TreePMapTest {
     public void map(){
         assertThat(test.map(s->s+" world").toListX(t->t.v2).get(0),equalTo("hello world"));
     }
+
+    @Test
+    public void views(){
+        Map<Integer,String> map = ScalaTreePMap.<Integer,String>singletonPMap(Comparator.naturalOrder(),1,"hello").plus(2,"world");
+        Map<Integer,String> expected = MapXs.of(1,"hello",2,"world");
+        assertThat(map.size(),equalTo(2));
+        assertFalse(map.isEmpty());
+        assertThat(map.entrySet(),equalTo(expected.entrySet()));
+        assertTrue(map.entrySet().contains(new SimpleImmutableEntry<>(2,"world")));
+        assertFalse(map.entrySet().contains(new SimpleImmutableEntry<>(2,"bye")));
+        assertThat(map.keySet(),equalTo(expected.keySet()));
+        assertTrue(map.keySet().contains(1));
+        assertFalse(map.keySet().contains(3));
+        assertThat(ListX.fromIterable(map.values()).sorted(),equalTo(ListX.of("hello","world")));
+        Map<Integer,String> visited = new HashMap<>();
+        map.forEach(visited::put);
+        assertThat(visited,equalTo(expected));
+    }
+    @Test(expected=UnsupportedOperationException.class)
+    public void entriesAreImmutable(){
+        ScalaTreePMap.<Integer,String>singletonPMap(Comparator.naturalOrder(),1,"hello").entrySet().iterator().next().setValue("bye");
+    }
+    @Test(expected=UnsupportedOperationException.class)
+    public void viewsAreImmutable(){
+        ScalaTreePMap.<Integer,String>singletonPMap(Comparator.naturalOrder(),1,"hello").keySet().remove(1);
+    }
 }
@@ -4,6 +4,7 @@ import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 import com.aol.cyclops.Monoid;
 import com.aol.cyclops.hkt.alias.Higher;
@@ -113,12 +114,16 @@ public interface General {
        
         Applicative<CRE> applicative;
         BiFunction<? extends Higher<CRE,A>,Function<? super A,? extends Higher<CRE,B>>,? extends Higher<CRE,B>> bindRef; //reference to bind / flatMap method
-       
+        Function<? extends Stream<? extends Higher<CRE,A>>,? extends Higher<CRE,Stream<A>>> sequenceRef; //optional reference to a specialized sequence method
         
         <T,R> BiFunction<Higher<CRE,T>,Function<? super T,? extends Higher<CRE,R>>,Higher<CRE,R>> bindRef(){
             return (BiFunction)bindRef;
         }
         
+        <T> Function<Stream<Higher<CRE,T>>,Higher<CRE,Stream<T>>> sequenceRef(){
+            return (Function)sequenceRef;
+        }
+        
        
         @Override
         public <T,R> Higher<CRE,R> flatMap(Function<? super T,? extends Higher<CRE,R>> fn,Higher<CRE,T> ds){
@@ -143,11 +148,25 @@ public interface General {
         public <T,R> Higher<CRE,R> ap(Higher<CRE, Function< T,R>> fn,  Higher<CRE,T> apply){
             return applicative.ap(fn, apply);
         }
+        
+        @Override
+        public <T> Higher<CRE,Stream<T>> sequence(Stream<Higher<CRE,T>> stream){
+            if(sequenceRef==null)
+                return Monad.super.sequence(stream);
+            return this.<T>sequenceRef().apply(stream);
+        }
     }
     static  <CRE,A,B> GeneralMonad<CRE,A,B> monad(Applicative<CRE> applicative,
             BiFunction<? extends Higher<CRE,A>,Function<? super A,? extends Higher<CRE,B>>,? extends Higher<CRE,B>> bindRef) {
    
-        return new GeneralMonad<CRE,A,B>(applicative,bindRef);
+        return new GeneralMonad<CRE,A,B>(applicative,bindRef,null);
+        
+    }
+    static  <CRE,A,B> GeneralMonad<CRE,A,B> monad(Applicative<CRE> applicative,
+            BiFunction<? extends Higher<CRE,A>,Function<? super A,? extends Higher<CRE,B>>,? extends Higher<CRE,B>> bindRef,
+            Function<? extends Stream<? extends Higher<CRE,A>>,? extends Higher<CRE,Stream<A>>> sequenceRef) {
+   
+        return new GeneralMonad<CRE,A,B>(applicative,bindRef,sequenceRef);
         
     }
     @AllArgsConstructor
@@ -177,6 +196,11 @@ public interface General {
             return monad.map(fn, ds);
         }
 
+        @Override
+        public <T> Higher<CRE, Stream<T>> sequence(Stream<Higher<CRE, T>> stream) {
+            return monad.sequence(stream);
+        }
+
         @Override
         public <T> Higher<CRE, T> unit(T value) {
             return monad.unit(value);
@@ -215,6 +239,11 @@ public interface General {
             return monad.map(fn, ds);
         }
 
+        @Override
+        public <T> Higher<CRE, Stream<T>> sequence(Stream<Higher<CRE, T>> stream) {
+            return monad.sequence(stream);
+        }
+
         @Override
         public <T> Higher<CRE, T> unit(T value) {
             return monad.unit(value);
@@ -260,6 +289,11 @@ public interface General {
             return monad.map(fn,ds);
         }
 
+        @Override
+        public <T> Higher<CRE, Stream<T>> sequence(Stream<Higher<CRE, T>> stream) {
+            return monad.sequence(stream);
+        }
+
         @Override
         public <T> Higher<CRE, T> unit(T value) {
             return monad.unit(value);
@@ -294,6 +328,11 @@ public interface General {
             return monad.map(fn,ds);
         }
 
+        @Override
+        public <T> Higher<CRE, Stream<T>> sequence(Stream<Higher<CRE, T>> stream) {
+            return monad.sequence(stream);
+        }
+
         @Override
         public <T> Higher<CRE, T> unit(T value) {
             return monad.unit(value);
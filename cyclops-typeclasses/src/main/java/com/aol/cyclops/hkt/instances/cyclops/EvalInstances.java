@@ -1,7 +1,10 @@
 package com.aol.cyclops.hkt.instances.cyclops;
 
+import java.util.ArrayList;
 import java.util.function.BiFunction;
 import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import com.aol.cyclops.Monoid;
 import com.aol.cyclops.control.Eval;
@@ -145,12 +148,16 @@ public class EvalInstances {
      * }
      * </pre>
      * 
+     * sequence / traverse / replicate evaluate each Eval in a single loop when the result is first accessed, rather than
+     * through a nested chain of combined Evals
+     * 
      * @return Type class with monad functions for Evals
      */
     public static <T,R> Monad<EvalType.µ> monad(){
   
         BiFunction<Higher<EvalType.µ,T>,Function<? super T, ? extends Higher<EvalType.µ,R>>,Higher<EvalType.µ,R>> flatMap = EvalInstances::flatMap;
-        return General.monad(applicative(), flatMap);
+        Function<Stream<Higher<EvalType.µ,T>>,Higher<EvalType.µ,Stream<T>>> sequence = EvalInstances::sequence;
+        return General.monad(applicative(), flatMap, sequence);
     }
     /**
      * 
@@ -260,6 +267,16 @@ public class EvalInstances {
     private static <T,R> EvalType<R> map(EvalType<T> lt, Function<? super T, ? extends R> fn){
         return EvalType.widen(EvalType.narrow(lt).map(fn));
     }
+    private static <T> Higher<EvalType.µ,Stream<T>> sequence(Stream<Higher<EvalType.µ,T>> stream){
+        ArrayList<Eval<T>> evals = stream.map(EvalType::narrow)
+                                         .collect(Collectors.toCollection(ArrayList::new));
+        return EvalType.later(()->{
+            ArrayList<T> values = new ArrayList<>(evals.size());
+            for(Eval<T> next : evals)
+                values.add(next.get());
+            return values.stream();
+        });
+    }
   
  
     private static <C2,T,R> Higher<C2, Higher<EvalType.µ, R>> traverseA(Applicative<C2> applicative, Function<? super T, ? extends Higher<C2, R>> fn, 
@@ -1,7 +1,10 @@
 package com.aol.cyclops.hkt.instances.cyclops;
 
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.function.BiFunction;
 import java.util.function.Function;
+import java.util.stream.Stream;
 
 import com.aol.cyclops.Monoid;
 import com.aol.cyclops.Monoids;
@@ -146,12 +149,15 @@ public class MaybeInstances {
      * }
      * </pre>
      * 
+     * sequence / traverse / replicate collect the values in a single loop, stopping at the first empty Maybe
+     * 
      * @return Type class with monad functions for Maybes
      */
     public static <T,R> Monad<MaybeType.µ> monad(){
   
         BiFunction<Higher<MaybeType.µ,T>,Function<? super T, ? extends Higher<MaybeType.µ,R>>,Higher<MaybeType.µ,R>> flatMap = MaybeInstances::flatMap;
-        return General.monad(applicative(), flatMap);
+        Function<Stream<Higher<MaybeType.µ,T>>,Higher<MaybeType.µ,Stream<T>>> sequence = MaybeInstances::sequence;
+        return General.monad(applicative(), flatMap, sequence);
     }
     /**
      * 
@@ -263,6 +269,17 @@ public class MaybeInstances {
     private static <T,R> MaybeType<R> map(MaybeType<T> lt, Function<? super T, ? extends R> fn){
         return MaybeType.widen(MaybeType.narrow(lt).map(fn));
     }
+    private static <T> Higher<MaybeType.µ,Stream<T>> sequence(Stream<Higher<MaybeType.µ,T>> stream){
+        ArrayList<T> values = new ArrayList<>();
+        Iterator<Higher<MaybeType.µ,T>> it = stream.iterator();
+        while(it.hasNext()){
+            Maybe<T> next = MaybeType.narrow(it.next());
+            if(!next.isPresent())
+                return MaybeType.none();
+            values.add(next.get());
+        }
+        return MaybeType.just(values.stream());
+    }
   
  
     private static <C2,T,R> Higher<C2, Higher<MaybeType.µ, R>> traverseA(Applicative<C2> applicative, Function<? super T, ? extends Higher<C2, R>> fn, 
@@ -1,11 +1,13 @@
 package com.aol.cyclops.hkt.instances.jdk;
 
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 
 import com.aol.cyclops.Monoid;
 import com.aol.cyclops.Monoids;
+import com.aol.cyclops.data.collections.extensions.standard.ListX;
 import com.aol.cyclops.hkt.alias.Higher;
 import com.aol.cyclops.hkt.cyclops.MaybeType;
 import com.aol.cyclops.hkt.instances.General;
@@ -215,6 +217,9 @@ public class CompletableFutureInstances {
     }
  
     /**
+     * Traversing a CompletableFuture with the CompletableFuture Applicative composes the futures without blocking,
+     * other Applicatives require the value and will wait for the future to complete.
+     * 
      * @return Type class for traversables with traverse / sequence operations
      */
     public static <C2,T> Traverse<CompletableFutureType.µ> traverse(){
@@ -222,6 +227,67 @@ public class CompletableFutureInstances {
         return General.traverseByTraverse(applicative(), CompletableFutureInstances::traverseA);
     }
     
+    /**
+     * Combine a collection of futures into a single future of a List of their results, in O(N) without building a
+     * chain of nested Applicative ap / thenCombine calls. The returned future completes exceptionally as soon as any of
+     * the supplied futures do, without waiting for the others.
+     * 
+     * <pre>
+     * {@code 
+     * CompletableFutureType<ListX<Integer>> all = CompletableFutureInstances.sequence(ListX.of(CompletableFutureType.completedFuture(1),
+     *                                                                                         CompletableFutureType.completedFuture(2)));
+     * 
+     * //[1,2]
+     * }
+     * </pre>
+     * 
+     * @param futures HKT encoded CompletableFutures to combine
+     * @return CompletableFuture with the results of the supplied futures, in order
+     */
+    public static <T> CompletableFutureType<ListX<T>> sequence(Iterable<? extends Higher<CompletableFutureType.µ, T>> futures){
+        ListX<CompletableFuture<T>> list = ListX.fromIterable(futures)
+                                                .map(f->CompletableFutureType.narrowK(f).toCompletableFuture());
+        CompletableFuture<ListX<T>> result = new CompletableFuture<>();
+        if(list.isEmpty()){
+            result.complete(ListX.empty());
+            return CompletableFutureType.widen(result);
+        }
+        AtomicInteger remaining = new AtomicInteger(list.size());
+        list.forEach(f->f.whenComplete((r,t)->{
+            if(t!=null)
+                result.completeExceptionally(t);
+            else if(remaining.decrementAndGet()==0)
+                result.complete(list.map(CompletableFuture::join));
+        }));
+        return CompletableFutureType.widen(result);
+    }
+    
+    /**
+     * Apply an asynchronous function to each value, with at most maxConcurrency of the resulting futures in flight at
+     * any one time. The next value is only passed to the function when a previous future completes. The first failure
+     * completes the returned future exceptionally and no further values are started.
+     * 
+     * <pre>
+     * {@code 
+     * CompletableFutureType<ListX<Integer>> all = CompletableFutureInstances.traverse(2, ListX.of(1,2,3), 
+     *                                                                          i->CompletableFutureType.widen(CompletableFuture.supplyAsync(()->i*2)));
+     * 
+     * //[2,4,6], with no more than 2 running at once
+     * }
+     * </pre>
+     * 
+     * @param maxConcurrency Maximum number of incomplete futures at any one time
+     * @param values Values to traverse
+     * @param fn Function to create a future for each value
+     * @return CompletableFuture with the results, in the order of the supplied values
+     */
+    public static <T,R> CompletableFutureType<ListX<R>> traverse(int maxConcurrency, Iterable<? extends T> values, 
+            Function<? super T, ? extends Higher<CompletableFutureType.µ, R>> fn){
+        if(maxConcurrency<1)
+            throw new IllegalArgumentException("maxConcurrency must be greater than 0 : " + maxConcurrency);
+        return CompletableFutureType.widen(new BoundedTraverse<T,R>(maxConcurrency,ListX.fromIterable(values),fn).start());
+    }
+    
     /**
      * 
      * <pre>
@@ -235,6 +301,8 @@ public class CompletableFutureInstances {
      * </pre>
      * 
      * 
+     * Folding requires the value and will wait for the future to complete.
+     * 
      * @return Type class for folding / reduction operations
      */
     public static <T> Foldable<CompletableFutureType.µ> foldable(){
@@ -242,6 +310,9 @@ public class CompletableFutureInstances {
         BiFunction<Monoid<T>,Higher<CompletableFutureType.µ,T>,T> foldLeftFn = (m,l)->  m.apply(m.zero(), CompletableFutureType.narrow(l).join());
         return General.foldable(foldRightFn, foldLeftFn);
     }
+    /**
+     * @return Type class for extracting values, extract will wait for the future to complete
+     */
     public static <T> Comonad<CompletableFutureType.µ> comonad(){
         Function<? super Higher<CompletableFutureType.µ, T>, ? extends T> extractFn = maybe -> maybe.convert(CompletableFutureType::narrow).join();
         return General.comonad(functor(), unit(), extractFn);
@@ -265,7 +336,78 @@ public class CompletableFutureInstances {
     private static <C2,T,R> Higher<C2, Higher<CompletableFutureType.µ, R>> traverseA(Applicative<C2> applicative, Function<? super T, ? extends Higher<C2, R>> fn, 
             Higher<CompletableFutureType.µ, T> ds){
         CompletableFuture<T> future = CompletableFutureType.narrow(ds);
+        if(!future.isDone() && applicative.unit(Boolean.TRUE) instanceof CompletableFutureType){
+            //the target Applicative is a CompletableFuture, compose rather than wait for the value
+            Function<? super T, ? extends Higher<CompletableFutureType.µ, R>> futureFn = (Function)fn;
+            CompletableFuture<Higher<CompletableFutureType.µ, R>> composed = future.thenCompose(t->CompletableFutureType.narrow(futureFn.apply(t)))
+                                                                                 .thenApply(CompletableFutureType::completedFuture);
+            return (Higher)CompletableFutureType.widen(composed);
+        }
         return applicative.map(CompletableFutureType::completedFuture, fn.apply(future.join()));
     }
+    
+    private static final class BoundedTraverse<T,R>{
+        private final int maxConcurrency;
+        private final ListX<? extends T> values;
+        private final Function<? super T, ? extends Higher<CompletableFutureType.µ, R>> fn;
+        private final Object[] results;
+        private final CompletableFuture<ListX<R>> result = new CompletableFuture<>();
+        private final AtomicInteger wip = new AtomicInteger(0);
+        private final AtomicInteger inFlight = new AtomicInteger(0);
+        private final AtomicInteger remaining;
+        private int next;
+        
+        BoundedTraverse(int maxConcurrency, ListX<? extends T> values, Function<? super T, ? extends Higher<CompletableFutureType.µ, R>> fn){
+            this.maxConcurrency = maxConcurrency;
+            this.values = values;
+            this.fn = fn;
+            this.results = new Object[values.size()];
+            this.remaining = new AtomicInteger(values.size());
+        }
+        
+        CompletableFuture<ListX<R>> start(){
+            if(results.length==0)
+                result.complete(ListX.empty());
+            else
+                drain();
+            return result;
+        }
+        
+        //futures that complete synchronously re-enter drain, the wip counter turns that into another pass of the loop
+        private void drain(){
+            if(wip.getAndIncrement()!=0)
+                return;
+            do{
+                while(next<results.length && inFlight.get()<maxConcurrency && !result.isDone()){
+                    int index = next++;
+                    inFlight.incrementAndGet();
+                    CompletableFuture<R> future;
+                    try{
+                        future = CompletableFutureType.narrowK(fn.apply(values.get(index))).toCompletableFuture();
+                    }catch(Throwable t){
+                        //stops the loop, wip is still released below
+                        result.completeExceptionally(t);
+                        break;
+                    }
+                    future.whenComplete((r,t)->onComplete(index,r,t));
+                }
+            }while(wip.decrementAndGet()!=0);
+        }
+        
+        @SuppressWarnings("unchecked")
+        private void onComplete(int index, R value, Throwable t){
+            if(t!=null){
+                result.completeExceptionally(t);
+                return;
+            }
+            results[index]=value;
+            if(remaining.decrementAndGet()==0){
+                result.complete((ListX<R>)ListX.of(results));
+                return;
+            }
+            inFlight.decrementAndGet();
+            drain();
+        }
+    }
    
 }
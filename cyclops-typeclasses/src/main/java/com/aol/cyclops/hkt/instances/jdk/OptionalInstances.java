@@ -1,8 +1,11 @@
 package com.aol.cyclops.hkt.instances.jdk;
 
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.Optional;
 import java.util.function.BiFunction;
 import java.util.function.Function;
+import java.util.stream.Stream;
 
 import com.aol.cyclops.Monoid;
 import com.aol.cyclops.Monoids;
@@ -146,12 +149,15 @@ public class OptionalInstances {
      * }
      * </pre>
      * 
+     * sequence / traverse / replicate collect the values in a single loop, stopping at the first empty Optional
+     * 
      * @return Type class with monad functions for Optionals
      */
     public static <T,R> Monad<OptionalType.µ> monad(){
   
         BiFunction<Higher<OptionalType.µ,T>,Function<? super T, ? extends Higher<OptionalType.µ,R>>,Higher<OptionalType.µ,R>> flatMap = OptionalInstances::flatMap;
-        return General.monad(applicative(), flatMap);
+        Function<Stream<Higher<OptionalType.µ,T>>,Higher<OptionalType.µ,Stream<T>>> sequence = OptionalInstances::sequence;
+        return General.monad(applicative(), flatMap, sequence);
     }
     /**
      * 
@@ -261,6 +267,17 @@ public class OptionalInstances {
     private static <T,R> OptionalType<R> map(OptionalType<T> lt, Function<? super T, ? extends R> fn){
         return OptionalType.widen(OptionalType.narrow(lt).map(fn));
     }
+    private static <T> Higher<OptionalType.µ,Stream<T>> sequence(Stream<Higher<OptionalType.µ,T>> stream){
+        ArrayList<T> values = new ArrayList<>();
+        Iterator<Higher<OptionalType.µ,T>> it = stream.iterator();
+        while(it.hasNext()){
+            Optional<T> next = OptionalType.narrow(it.next());
+            if(!next.isPresent())
+                return OptionalType.empty();
+            values.add(next.get());
+        }
+        return OptionalType.of(values.stream());
+    }
   
  
     private static <C2,T,R> Higher<C2, Higher<OptionalType.µ, R>> traverseA(Applicative<C2> applicative, Function<? super T, ? extends Higher<C2, R>> fn, 
@@ -1,10 +1,14 @@
 package com.aol.cyclops.hkt.typeclasses.monad;
 
-import java.util.function.BiFunction;
-import java.util.function.BinaryOperator;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.function.Function;
 import java.util.stream.Stream;
 
+import org.pcollections.ConsPStack;
+import org.pcollections.PStack;
+
 import com.aol.cyclops.hkt.alias.Higher;
 import com.aol.cyclops.hkt.typeclasses.Unit;
 import com.aol.cyclops.hkt.typeclasses.functor.Functor;
@@ -25,14 +29,26 @@ public interface Monad<CRE> extends Applicative<CRE>,Functor<CRE>, Unit<CRE>{
         return stream -> sequence(stream.map(fn));
     }
     
+    /**
+     * Values are accumulated (in reverse) onto a persistent stack, each step is constant time and no nested Streams
+     * are built. Instances can override this with a specialized implementation.
+     * 
+     * @param stream Stream of monads to sequence
+     * @return Monad of a Stream of values
+     */
     default <T> Higher<CRE,Stream<T>> sequence(Stream<Higher<CRE,T>> stream) {
-        Higher<CRE,Stream<T>> identity = unit(Stream.empty());
+        Higher<CRE,PStack<T>> acc = unit(ConsPStack.empty());
+        Higher<CRE,Function<PStack<T>,Function<T,PStack<T>>>> prepend = unit(a->b->a.plus(b));
         
-        BiFunction<Higher<CRE,Stream<T>>,Higher<CRE,T>,Higher<CRE,Stream<T>>> combineToStream = (acc,next) -> ap2(unit(a->b->Stream.concat(a,Stream.of(b))),acc,next);
-
-        BinaryOperator<Higher<CRE,Stream<T>>> combineStreams = (a,b)->a.apply(b, (s1,s2)->s1);  
-
-        return stream.reduce(identity,combineToStream,combineStreams);
+        Iterator<Higher<CRE,T>> it = stream.iterator();
+        while(it.hasNext())
+            acc = ap2(prepend,acc,it.next());
+        
+        return map(reversed->{
+            ArrayList<T> list = new ArrayList<>(reversed);
+            Collections.reverse(list);
+            return list.stream();
+        },acc);
     }
     default <T,R> Higher<CRE,Stream<R>> traverse(Function<T,R> fn,Stream<Higher<CRE,T>> stream) {
        return sequence(stream.map(h->map(fn,h)));
@@ -4,7 +4,10 @@ import static com.aol.cyclops.util.function.Lambda.l1;
 import static org.hamcrest.Matchers.equalTo;
 import static org.junit.Assert.assertThat;
 
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import org.junit.Test;
 
@@ -136,5 +139,17 @@ public class EvalsTest {
        assertThat(res.map(h->h.convert(EvalType::narrow).get()),
                   equalTo(Maybe.just(Eval.now(2).get())));
     }
-    
+    @Test
+    public void sequence(){
+        AtomicInteger evaluated = new AtomicInteger(0);
+        Eval<Stream<Integer>> res = EvalInstances.monad()
+                                                 .sequence(IntStream.range(0, 1_000_000).mapToObj(i->EvalType.later(()->{
+                                                     evaluated.incrementAndGet();
+                                                     return i;
+                                                 })))
+                                                 .convert(EvalType::narrow);
+        assertThat(evaluated.get(),equalTo(0));
+        assertThat(res.get().count(),equalTo(1_000_000l));
+        assertThat(evaluated.get(),equalTo(1_000_000));
+    }
 }
@@ -5,6 +5,8 @@ import static org.hamcrest.Matchers.equalTo;
 import static org.junit.Assert.assertThat;
 
 import java.util.function.Function;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import org.junit.Test;
 
@@ -135,5 +137,23 @@ public class MaybesTest {
        assertThat(res.map(h->h.convert(MaybeType::narrow).get()),
                   equalTo(Maybe.just(Maybe.just(2).get())));
     }
-    
+    @Test
+    public void sequence(){
+        Maybe<Stream<Integer>> res = MaybeInstances.monad()
+                                                   .sequence(IntStream.range(0, 1_000_000).mapToObj(i->MaybeType.just(i)))
+                                                   .convert(MaybeType::narrow);
+        assertThat(res.get().count(),equalTo(1_000_000l));
+        assertThat(MaybeInstances.monad()
+                                 .traverse((Integer i)->i*2,Stream.of(MaybeType.just(1),MaybeType.<Integer>none()))
+                                 .convert(MaybeType::narrow)
+                                 .isPresent(),equalTo(false));
+    }
+    @Test
+    public void replicate(){
+        assertThat(MaybeInstances.monadPlus()
+                                 .replicate(1_000_000, MaybeType.just(1))
+                                 .convert(MaybeType::narrow)
+                                 .get()
+                                 .count(),equalTo(1_000_000l));
+    }
 }
@@ -4,15 +4,19 @@ import static com.aol.cyclops.util.function.Lambda.l1;
 import static org.hamcrest.Matchers.equalTo;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 
 import org.junit.Test;
 
 import com.aol.cyclops.Monoid;
 import com.aol.cyclops.control.Maybe;
+import com.aol.cyclops.data.collections.extensions.standard.ListX;
 import com.aol.cyclops.hkt.alias.Higher;
 import com.aol.cyclops.hkt.cyclops.MaybeType;
 import com.aol.cyclops.hkt.instances.cyclops.MaybeInstances;
@@ -140,4 +144,105 @@ public class CompletableFuturesTest {
        assertThat(res.get().convert(CompletableFutureType::narrow).join(),equalTo(2));
     }
     
+    @Test
+    public void traverseFutureApplicativeDoesNotBlock(){
+        CompletableFuture<Integer> future = new CompletableFuture<>();
+        CompletableFutureType<Higher<CompletableFutureType.µ, Integer>> res = CompletableFutureInstances.traverse()
+                                                                          .traverseA(CompletableFutureInstances.applicative(), (Integer a)->CompletableFutureType.completedFuture(a*2), CompletableFutureType.widen(future))
+                                                                          .convert(CompletableFutureType::narrowK);
+        assertFalse(res.toCompletableFuture().isDone());
+        future.complete(1);
+        assertThat(res.toCompletableFuture().join().convert(CompletableFutureType::narrow).join(),equalTo(2));
+    }
+    @Test
+    public void sequence(){
+        CompletableFuture<Integer> pending = new CompletableFuture<>();
+        CompletableFutureType<ListX<Integer>> res = CompletableFutureInstances.sequence(ListX.of(CompletableFutureType.completedFuture(1),
+                                                                                                 CompletableFutureType.widen(pending),
+                                                                                                 CompletableFutureType.completedFuture(3)));
+        assertFalse(res.toCompletableFuture().isDone());
+        pending.complete(2);
+        assertThat(res.toCompletableFuture().join(),equalTo(ListX.of(1,2,3)));
+        
+        assertThat(CompletableFutureInstances.sequence(ListX.range(0, 100_000).map(CompletableFutureType::completedFuture))
+                                             .toCompletableFuture().join().size(),equalTo(100_000));
+        assertThat(CompletableFutureInstances.sequence(ListX.<CompletableFutureType<Integer>>empty())
+                                             .toCompletableFuture().join(),equalTo(ListX.empty()));
+    }
+    @Test(expected=CompletionException.class)
+    public void sequenceFailure(){
+        CompletableFuture<Integer> failed = new CompletableFuture<>();
+        failed.completeExceptionally(new IllegalStateException());
+        CompletableFutureInstances.sequence(ListX.of(CompletableFutureType.completedFuture(1),CompletableFutureType.widen(failed)))
+                                  .toCompletableFuture().join();
+    }
+    @Test
+    public void sequenceFailsFast(){
+        CompletableFuture<Integer> pending = new CompletableFuture<>();
+        CompletableFuture<Integer> failed = new CompletableFuture<>();
+        CompletableFutureType<ListX<Integer>> res = CompletableFutureInstances.sequence(ListX.of(CompletableFutureType.widen(pending),
+                                                                                                 CompletableFutureType.widen(failed)));
+        failed.completeExceptionally(new IllegalStateException());
+        assertTrue(res.toCompletableFuture().isCompletedExceptionally());
+        assertFalse(pending.isDone());
+    }
+    @Test
+    public void boundedTraverse(){
+        ListX<CompletableFuture<Integer>> started = ListX.empty();
+        CompletableFutureType<ListX<Integer>> res = CompletableFutureInstances.traverse(2, ListX.of(1,2,3,4), i->{
+            CompletableFuture<Integer> f = new CompletableFuture<>();
+            started.add(f);
+            return CompletableFutureType.widen(f.thenApply(v->v*i));
+        });
+        assertThat(started.size(),equalTo(2));
+        started.get(1).complete(10);
+        assertThat(started.size(),equalTo(3));
+        started.get(0).complete(10);
+        started.get(2).complete(10);
+        assertThat(started.size(),equalTo(4));
+        assertFalse(res.toCompletableFuture().isDone());
+        started.get(3).complete(10);
+        assertThat(res.toCompletableFuture().join(),equalTo(ListX.of(10,20,30,40)));
+    }
+    @Test
+    public void boundedTraverseCompletedFuturesIsStackSafe(){
+        AtomicInteger maxInFlight = new AtomicInteger(0);
+        assertThat(CompletableFutureInstances.traverse(4, ListX.range(0, 100_000), i->CompletableFutureType.completedFuture(i+1))
+                                             .toCompletableFuture().join().size(),equalTo(100_000));
+        AtomicInteger inFlight = new AtomicInteger(0);
+        assertThat(CompletableFutureInstances.traverse(3, ListX.range(0, 200), i->{
+                                                    return CompletableFutureType.widen(CompletableFuture.supplyAsync(()->{
+                                                        maxInFlight.accumulateAndGet(inFlight.incrementAndGet(),Math::max);
+                                                        inFlight.decrementAndGet();
+                                                        return i;
+                                                    }));
+                                                })
+                                             .toCompletableFuture().join(),equalTo(ListX.range(0, 200)));
+        assertTrue(maxInFlight.get()<=3);
+    }
+    @Test
+    public void boundedTraverseStopsOnFailure(){
+        ListX<Integer> started = ListX.empty();
+        CompletableFuture<Integer> failed = new CompletableFuture<>();
+        failed.completeExceptionally(new IllegalStateException());
+        CompletableFutureType<ListX<Integer>> res = CompletableFutureInstances.traverse(1, ListX.of(1,2,3), i->{
+            started.add(i);
+            return i==1 ? CompletableFutureType.widen(failed) : CompletableFutureType.completedFuture(i);
+        });
+        assertTrue(res.toCompletableFuture().isCompletedExceptionally());
+        assertThat(started,equalTo(ListX.of(1)));
+    }
+    @Test
+    public void boundedTraverseFunctionThrows(){
+        ListX<Integer> started = ListX.empty();
+        CompletableFutureType<ListX<Integer>> res = CompletableFutureInstances.traverse(1, ListX.of(1,2,3), i->{
+            started.add(i);
+            if(i==2)
+                throw new IllegalStateException();
+            return CompletableFutureType.completedFuture(i);
+        });
+        assertTrue(res.toCompletableFuture().isCompletedExceptionally());
+        assertThat(started,equalTo(ListX.of(1,2)));
+    }
+    
 }
@@ -8,6 +8,9 @@ import static org.junit.Assert.assertThat;
 import java.util.Arrays;
 import java.util.List;
 import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import org.junit.Test;
 
@@ -140,5 +143,17 @@ public class ListsTest {
        
        assertThat(res,equalTo(Maybe.just(ListX.of(2,4,6))));
     }
-    
+    @Test
+    public void sequence(){
+        ListType<Stream<Integer>> res = ListInstances.monad()
+                                                     .sequence(IntStream.range(0, 1_000_000).mapToObj(i->ListType.of(i)))
+                                                     .convert(ListType::narrowK);
+        assertThat(res.size(),equalTo(1));
+        assertThat(res.get(0).count(),equalTo(1_000_000l));
+        assertThat(ListInstances.monad()
+                                .sequence(Stream.of(ListType.of(1),ListType.of(2),ListType.of(3)))
+                                .convert(ListType::narrowK)
+                                .get(0)
+                                .collect(Collectors.toList()),equalTo(ListX.of(1,2,3)));
+    }
 }
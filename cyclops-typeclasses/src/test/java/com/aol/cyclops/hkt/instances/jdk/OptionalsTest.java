@@ -5,7 +5,11 @@ import static org.hamcrest.Matchers.equalTo;
 import static org.junit.Assert.assertThat;
 
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import org.junit.Test;
 
@@ -139,5 +143,37 @@ public class OptionalsTest {
        
        assertThat(res,equalTo(Maybe.just(Optional.of(2))));
     }
-    
+    @Test
+    public void sequence(){
+        Stream<Integer> res = OptionalInstances.monad()
+                                               .sequence(IntStream.range(0, 1_000_000).mapToObj(i->OptionalType.of(i)))
+                                               .convert(OptionalType::narrow)
+                                               .get();
+        assertThat(res.count(),equalTo(1_000_000l));
+    }
+    @Test
+    public void sequenceShortCircuits(){
+        AtomicInteger visited = new AtomicInteger(0);
+        Optional<Stream<Integer>> res = OptionalInstances.monad()
+                                                         .sequence(IntStream.range(0, 1_000_000)
+                                                                            .peek(i->visited.incrementAndGet())
+                                                                            .mapToObj(i->i==10 ? OptionalType.<Integer>empty() : OptionalType.of(i)))
+                                                         .convert(OptionalType::narrow);
+        assertThat(res.isPresent(),equalTo(false));
+        assertThat(visited.get(),equalTo(11));
+    }
+    @Test
+    public void replicateAndMapM(){
+        assertThat(OptionalInstances.monadZero()
+                                    .replicate(1_000_000, OptionalType.of(1))
+                                    .convert(OptionalType::narrow)
+                                    .get()
+                                    .count(),equalTo(1_000_000l));
+        assertThat(OptionalInstances.monad()
+                                    .mapM((Integer i)->OptionalType.of(i*2))
+                                    .apply(Stream.of(1,2,3))
+                                    .convert(OptionalType::narrow)
+                                    .get()
+                                    .collect(Collectors.toList()),equalTo(ListX.of(2,4,6)));
+    }
 }